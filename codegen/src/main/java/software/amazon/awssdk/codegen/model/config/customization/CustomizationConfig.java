@@ -239,6 +239,12 @@ public class CustomizationConfig {
      */
     private MultipartCustomization multipartCustomization;
 
+    /**
+     * Whether the async client has a {@code batchManager()} method that returns an instance of the hand-written
+     * {@code <Service>AsyncBatchManager} of the {@code batchmanager} package.
+     */
+    private boolean batchManagerSupported;
+
     /**
      * Whether to skip generating endpoint tests from endpoint-tests.json
      */
@@ -249,6 +255,12 @@ public class CustomizationConfig {
      */
     private boolean generateEndpointClientTests;
 
+    /**
+     * Whether to compile the endpoint rule set into Java code instead of interpreting it at runtime. When enabled, the
+     * generated default endpoint provider evaluates the rules as plain Java branches.
+     */
+    private boolean enableGenerateCompiledEndpointRules;
+
     /**
      * A mapping from the skipped test's description to the reason why it's being skipped.
      */
@@ -654,6 +666,14 @@ public class CustomizationConfig {
         this.generateEndpointClientTests = generateEndpointClientTests;
     }
 
+    public boolean isEnableGenerateCompiledEndpointRules() {
+        return enableGenerateCompiledEndpointRules;
+    }
+
+    public void setEnableGenerateCompiledEndpointRules(boolean enableGenerateCompiledEndpointRules) {
+        this.enableGenerateCompiledEndpointRules = enableGenerateCompiledEndpointRules;
+    }
+
     public boolean useGlobalEndpoint() {
         return useGlobalEndpoint;
     }
@@ -701,4 +721,12 @@ public class CustomizationConfig {
     public void setMultipartCustomization(MultipartCustomization multipartCustomization) {
         this.multipartCustomization = multipartCustomization;
     }
+
+    public boolean isBatchManagerSupported() {
+        return batchManagerSupported;
+    }
+
+    public void setBatchManagerSupported(boolean batchManagerSupported) {
+        this.batchManagerSupported = batchManagerSupported;
+    }
 }
@@ -107,6 +107,11 @@ public class PoetExtension {
                                                                               "AsyncWaiter");
     }
 
+    public ClassName getBatchManagerAsyncInterface() {
+        return ClassName.get(model.getMetadata().getFullClientPackageName() + ".batchmanager",
+                             model.getMetadata().getServiceName() + "AsyncBatchManager");
+    }
+
     public ClassName getEndpointProviderInterfaceName() {
         return ClassName.get(model.getMetadata().getFullEndpointRulesPackageName(), model.getMetadata().getServiceName() +
                                                                                     "EndpointProvider");
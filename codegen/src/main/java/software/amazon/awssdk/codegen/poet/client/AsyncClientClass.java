@@ -180,6 +180,26 @@ public final class AsyncClientClass extends AsyncClientInterface {
         type.addMethod(waiter);
     }
 
+    @Override
+    protected void addBatchManagerMethod(TypeSpec.Builder type) {
+        if (!model.hasWaiters()) {
+            type.addField(FieldSpec.builder(ClassName.get(ScheduledExecutorService.class), "executorService")
+                                   .addModifiers(PRIVATE, FINAL)
+                                   .build());
+        }
+
+        MethodSpec batchManager = MethodSpec.methodBuilder("batchManager")
+                                            .addModifiers(PUBLIC)
+                                            .addAnnotation(Override.class)
+                                            .addStatement("return $T.builder().client(this)"
+                                                          + ".scheduledExecutor(executorService).build()",
+                                                          poetExtensions.getBatchManagerAsyncInterface())
+                                            .returns(poetExtensions.getBatchManagerAsyncInterface())
+                                            .build();
+
+        type.addMethod(batchManager);
+    }
+
     @Override
     protected List<MethodSpec> operations() {
         return model.getOperations().values().stream()
@@ -240,7 +260,7 @@ public final class AsyncClientClass extends AsyncClientInterface {
             builder.endControlFlow();
         }
 
-        if (model.hasWaiters()) {
+        if (model.hasWaiters() || model.getCustomizationConfig().isBatchManagerSupported()) {
             builder.addStatement("this.executorService = clientConfiguration.option($T.SCHEDULED_EXECUTOR_SERVICE)",
                                  SdkClientOption.class);
         }
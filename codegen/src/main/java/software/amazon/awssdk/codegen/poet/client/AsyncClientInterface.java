@@ -96,6 +96,9 @@ public class AsyncClientInterface implements ClassSpec {
         if (model.hasWaiters()) {
             addWaiterMethod(result);
         }
+        if (model.getCustomizationConfig().isBatchManagerSupported()) {
+            addBatchManagerMethod(result);
+        }
         result.addMethod(serviceClientConfigMethod());
         addAdditionalMethods(result);
         addCloseMethod(result);
@@ -162,6 +165,18 @@ public class AsyncClientInterface implements ClassSpec {
         type.addMethod(waiterOperationBody(builder).build());
     }
 
+    protected void addBatchManagerMethod(TypeSpec.Builder type) {
+        ClassName returnType = poetExtensions.getBatchManagerAsyncInterface();
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("batchManager")
+                                               .addModifiers(PUBLIC)
+                                               .returns(returnType)
+                                               .addJavadoc("Creates an instance of {@link $T} object that batches the requests "
+                                                           + "sent through it with this client. The batch manager should be "
+                                                           + "closed once it is no longer used.", returnType);
+
+        type.addMethod(batchManagerOperationBody(builder).build());
+    }
+
     @Override
     public ClassName className() {
         return className;
@@ -526,4 +541,9 @@ public class AsyncClientInterface implements ClassSpec {
         return builder.addModifiers(DEFAULT, PUBLIC)
                       .addStatement("throw new $T()", UnsupportedOperationException.class);
     }
+
+    protected MethodSpec.Builder batchManagerOperationBody(MethodSpec.Builder builder) {
+        return builder.addModifiers(DEFAULT, PUBLIC)
+                      .addStatement("throw new $T()", UnsupportedOperationException.class);
+    }
 }
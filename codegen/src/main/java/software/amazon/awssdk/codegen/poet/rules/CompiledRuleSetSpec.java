@@ -0,0 +1,802 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.rules;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.jr.stree.JrsArray;
+import com.fasterxml.jackson.jr.stree.JrsBoolean;
+import com.fasterxml.jackson.jr.stree.JrsNumber;
+import com.fasterxml.jackson.jr.stree.JrsObject;
+import com.fasterxml.jackson.jr.stree.JrsString;
+import com.fasterxml.jackson.jr.stree.JrsValue;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
+import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4AuthScheme;
+import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.rules.endpoints.BuiltInParameter;
+import software.amazon.awssdk.codegen.model.rules.endpoints.ConditionModel;
+import software.amazon.awssdk.codegen.model.rules.endpoints.EndpointModel;
+import software.amazon.awssdk.codegen.model.rules.endpoints.RuleModel;
+import software.amazon.awssdk.codegen.model.service.EndpointRuleSetModel;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.utils.internal.CodegenNamingUtils;
+
+/**
+ * Compiles an endpoint rule set into Java code. Conditions become plain {@code if} statements over local variables, and
+ * every rule of type {@code tree} becomes a static helper method that receives the variables in scope as arguments.
+ * Unlike {@link RuleSetCreationSpec}, the generated code does not need the rules engine at runtime; it only relies on the
+ * static functions in {@code RulesFunctions}.
+ */
+public class CompiledRuleSetSpec {
+    private static final String RULE_METHOD_PREFIX = "endpointRule_";
+    private static final String PARAMS_NAME = "params";
+
+    private final EndpointRulesSpecUtils endpointRulesSpecUtils;
+    private final EndpointRuleSetModel ruleSetModel;
+
+    private final List<MethodSpec> helperMethods = new ArrayList<>();
+
+    private int ruleCounter = 0;
+
+    public CompiledRuleSetSpec(IntermediateModel intermediateModel) {
+        this.endpointRulesSpecUtils = new EndpointRulesSpecUtils(intermediateModel);
+        this.ruleSetModel = intermediateModel.getEndpointRuleSetModel();
+    }
+
+    /**
+     * The method that evaluates the rule set for the given parameters object, returning the resolved {@link Endpoint} or
+     * throwing if an error rule matched.
+     */
+    public MethodSpec resolveMethod(String methodName) {
+        MethodSpec.Builder b = MethodSpec.methodBuilder(methodName)
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(Endpoint.class)
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), PARAMS_NAME);
+
+        LocalScope scope = new LocalScope(null, new HashSet<>());
+        scope.reserve(PARAMS_NAME);
+
+        ruleSetModel.getParameters().forEach((name, model) -> {
+            String accessor = endpointRulesSpecUtils.paramMethodName(name);
+            Variable var = scope.declare(name, RuleType.fromParameterType(model.getType()), true);
+            // Region is generated as the Region type, so we need to call id() to convert it back to string
+            if (model.getBuiltInEnum() == BuiltInParameter.AWS_REGION) {
+                b.addStatement("$T $N = $N.$N() == null ? null : $N.$N().id()",
+                               var.javaType(), var.javaName, PARAMS_NAME, accessor, PARAMS_NAME, accessor);
+            } else {
+                b.addStatement("$T $N = $N.$N()", var.javaType(), var.javaName, PARAMS_NAME, accessor);
+            }
+        });
+
+        b.addCode(rules(ruleSetModel.getRules(), scope, "No rules in ruleset matched"));
+        return b.build();
+    }
+
+    public List<MethodSpec> helperMethods() {
+        return helperMethods;
+    }
+
+    /**
+     * Evaluates the rules in order, throwing if none of them matched. Rules following a rule whose conditions always pass
+     * are unreachable, and are not generated.
+     */
+    private CodeBlock rules(List<RuleModel> rules, LocalScope scope, String noMatchMessage) {
+        CodeBlock.Builder b = CodeBlock.builder();
+        for (RuleModel r : rules) {
+            if (rule(b, r, scope)) {
+                return b.build();
+            }
+        }
+        b.addStatement("throw new $T($S)", IllegalStateException.class, noMatchMessage);
+        return b.build();
+    }
+
+    /**
+     * Returns {@code true} if the conditions of the rule always pass.
+     */
+    private boolean rule(CodeBlock.Builder b, RuleModel model, LocalScope parentScope) {
+        LocalScope scope = parentScope.child();
+        boolean unconditional = conditions(b, model.getConditions(), 0, scope, () -> ruleBody(b, model, scope));
+        scope.release();
+        return unconditional;
+    }
+
+    /**
+     * Generates the conditions starting at {@code idx} as nested {@code if} statements around the rule body. A variable
+     * assignment starts a new {@code if}, and the conditions following it are combined into that {@code if} until the next
+     * assignment. Returns {@code true} if all of the conditions always pass.
+     */
+    private boolean conditions(CodeBlock.Builder b, List<ConditionModel> conditions, int idx, LocalScope scope,
+                               Runnable body) {
+        if (conditions == null || idx == conditions.size()) {
+            body.run();
+            return true;
+        }
+
+        List<CodeBlock> tests = new ArrayList<>();
+        int next = idx;
+        while (next < conditions.size()) {
+            ConditionModel condition = conditions.get(next);
+            if (condition.getAssign() != null) {
+                if (!tests.isEmpty()) {
+                    break;
+                }
+                CompiledExpr fn = fn(condition.getFn(), condition.getArgv(), scope);
+                Variable var = scope.declare(condition.getAssign(), fn.type, fn.nullable);
+                b.addStatement("$T $N = $L", var.javaType(), var.javaName, fn.code);
+                addTest(tests, var.asExpr());
+                scope.markSet(condition.getAssign());
+                next++;
+                continue;
+            }
+            addTest(tests, fn(condition.getFn(), condition.getArgv(), scope));
+            next++;
+        }
+
+        if (tests.isEmpty()) {
+            return conditions(b, conditions, next, scope, body);
+        }
+
+        b.beginControlFlow("if ($L)", CodeBlock.join(tests, " && "));
+        conditions(b, conditions, next, scope, body);
+        b.endControlFlow();
+        return false;
+    }
+
+    private void addTest(List<CodeBlock> tests, CompiledExpr expr) {
+        CodeBlock test = test(expr);
+        if (test != null) {
+            tests.add(test);
+        }
+    }
+
+    /**
+     * A condition fails if its value is absent or {@code false}. Returns {@code null} if the condition always passes.
+     */
+    private CodeBlock test(CompiledExpr expr) {
+        if (Boolean.TRUE.equals(expr.booleanLiteral)) {
+            return null;
+        }
+        if (expr.type == RuleType.BOOLEAN) {
+            return asPrimitiveBoolean(expr);
+        }
+        if (!expr.nullable) {
+            return null;
+        }
+        return CodeBlock.of("$L != null", expr.code);
+    }
+
+    private void ruleBody(CodeBlock.Builder b, RuleModel model, LocalScope scope) {
+        switch (model.getType()) {
+            case "endpoint":
+                b.addStatement("return $L", endpoint(model.getEndpoint(), scope));
+                break;
+            case "error":
+                b.addStatement("throw $T.endpointResolutionError($L)",
+                               endpointRulesSpecUtils.rulesRuntimeClassName("AwsEndpointProviderUtils"),
+                               template(model.getError(), scope).code);
+                break;
+            case "tree":
+                b.addStatement("return $L", treeRule(model, scope));
+                break;
+            default:
+                throw new RuntimeException("Unknown rule type " + model.getType());
+        }
+    }
+
+    /**
+     * Generates the helper method for the children of a tree rule, and returns the expression that invokes it with the
+     * variables that are currently in scope. The conditions of the tree rule itself are evaluated by the caller.
+     */
+    private CodeBlock treeRule(RuleModel model, LocalScope callerScope) {
+        String methodName = nextRuleMethodName();
+        // Keep the helper methods in the same order as the rules in the rule set
+        int methodIndex = helperMethods.size();
+        MethodSpec.Builder m = MethodSpec.methodBuilder(methodName)
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(Endpoint.class);
+
+        LocalScope methodScope = new LocalScope(null, new HashSet<>());
+        CodeBlock.Builder args = CodeBlock.builder();
+        List<Variable> visible = callerScope.visibleVariables();
+        for (int i = 0; i < visible.size(); ++i) {
+            Variable var = visible.get(i);
+            Variable param = methodScope.declare(var.ruleName, var.type, var.nullable);
+            m.addParameter(param.javaType(), param.javaName);
+            args.add(i == 0 ? "$N" : ", $N", var.javaName);
+        }
+
+        m.addCode(rules(model.getRules(), methodScope, "No rules inside of tree rule matched"));
+        helperMethods.add(methodIndex, m.build());
+        return CodeBlock.of("$N($L)", methodName, args.build());
+    }
+
+    private CodeBlock endpoint(EndpointModel model, LocalScope scope) {
+        CodeBlock.Builder b = CodeBlock.builder();
+
+        b.add("$T.builder().url($T.create($L))", Endpoint.class, URI.class, expr(model.getUrl(), scope).code);
+
+        if (model.getHeaders() != null) {
+            model.getHeaders().forEach((name, valueList) -> {
+                valueList.forEach(value -> b.add(".putHeader($S, $L)", name, expr(value, scope).code));
+            });
+        }
+
+        if (model.getProperties() != null) {
+            // Explicitly only support authSchemes property, like the rules engine
+            TreeNode authSchemes = model.getProperties().get("authSchemes");
+            if (authSchemes != null) {
+                b.add(".putAttribute($T.AUTH_SCHEMES, $L)", AwsEndpointAttribute.class,
+                      authSchemes((JrsArray) authSchemes, scope));
+            }
+        }
+
+        b.add(".build()");
+        return b.build();
+    }
+
+    private CodeBlock authSchemes(JrsArray authSchemes, LocalScope scope) {
+        List<CodeBlock> schemes = new ArrayList<>();
+
+        Iterator<JrsValue> authSchemesIter = authSchemes.elements();
+        while (authSchemesIter.hasNext()) {
+            JrsObject authScheme = (JrsObject) authSchemesIter.next();
+            String name = ((JrsString) authScheme.get("name")).getValue();
+
+            ClassName schemeClass;
+            switch (name) {
+                case "sigv4":
+                    schemeClass = ClassName.get(SigV4AuthScheme.class);
+                    break;
+                case "sigv4a":
+                    schemeClass = ClassName.get(SigV4aAuthScheme.class);
+                    break;
+                default:
+                    // Unknown auth schemes are ignored at runtime, so there's no need to generate them
+                    continue;
+            }
+
+            CodeBlock.Builder scheme = CodeBlock.builder().add("$T.builder()", schemeClass);
+            Iterator<String> fieldsIter = authScheme.fieldNames();
+            while (fieldsIter.hasNext()) {
+                String field = fieldsIter.next();
+                JrsValue value = authScheme.get(field);
+                switch (field) {
+                    case "signingName":
+                        scheme.add(".signingName($L)", expr(value, scope).code);
+                        break;
+                    case "signingRegion":
+                        scheme.add(".signingRegion($L)", expr(value, scope).code);
+                        break;
+                    case "signingRegionSet":
+                        ((JrsArray) value).elements()
+                                          .forEachRemaining(r -> scheme.add(".addSigningRegion($L)", expr(r, scope).code));
+                        break;
+                    case "disableDoubleEncoding":
+                        scheme.add(".disableDoubleEncoding($L)", asPrimitiveBoolean(expr(value, scope)));
+                        break;
+                    default:
+                        break;
+                }
+            }
+            schemes.add(scheme.add(".build()").build());
+        }
+
+        if (schemes.isEmpty()) {
+            return CodeBlock.of("$T.emptyList()", Collections.class);
+        }
+        return CodeBlock.of("$T.asList($L)", Arrays.class, CodeBlock.join(schemes, ", "));
+    }
+
+    private CompiledExpr expr(TreeNode n, LocalScope scope) {
+        if (n.isValueNode()) {
+            return valueExpr((JrsValue) n, scope);
+        }
+
+        if (n.isObject()) {
+            return objectExpr((JrsObject) n, scope);
+        }
+
+        throw new RuntimeException("Don't know how to compile expression from " + n);
+    }
+
+    private CompiledExpr valueExpr(JrsValue n, LocalScope scope) {
+        JsonToken token = n.asToken();
+        switch (token) {
+            case VALUE_STRING:
+                return template(((JrsString) n).getValue(), scope);
+            case VALUE_NUMBER_INT:
+                return new CompiledExpr(CodeBlock.of("$L", ((JrsNumber) n).getValue().intValue()), RuleType.INT, false);
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                boolean value = ((JrsBoolean) n).booleanValue();
+                return CompiledExpr.booleanLiteral(value);
+            default:
+                throw new RuntimeException("Don't know how to compile expression JSON type " + token);
+        }
+    }
+
+    private CompiledExpr objectExpr(JrsObject n, LocalScope scope) {
+        JrsValue ref = n.get("ref");
+        if (ref != null) {
+            return scope.lookup(ref.asText()).asExpr();
+        }
+
+        JrsValue fn = n.get("fn");
+        if (fn != null) {
+            List<TreeNode> argv = new ArrayList<>();
+            ((JrsArray) n.get("argv")).elements().forEachRemaining(argv::add);
+            return fn(fn.asText(), argv, scope);
+        }
+
+        throw new RuntimeException("Expected exactly one of `ref` or `fn` to be set: " + n);
+    }
+
+    private CompiledExpr fn(String name, List<TreeNode> argv, LocalScope scope) {
+        List<CompiledExpr> args = new ArrayList<>();
+        if (!"getAttr".equals(name)) {
+            argv.forEach(a -> args.add(expr(a, scope)));
+        }
+
+        switch (name) {
+            case "isSet":
+                CompiledExpr target = expectArgs(name, args, 1).get(0);
+                if (!target.nullable) {
+                    return CompiledExpr.booleanLiteral(true);
+                }
+                return CompiledExpr.compound(CodeBlock.of("$L != null", target.code), CodeBlock.of("$L == null", target.code));
+            case "not":
+                return not(expectArgs(name, args, 1).get(0));
+            case "booleanEquals":
+                expectArgs(name, args, 2);
+                return booleanEquals(args.get(0), args.get(1));
+            case "stringEquals":
+                expectArgs(name, args, 2);
+                return stringEquals(args.get(0), args.get(1));
+            case "isValidHostLabel":
+                expectArgs(name, args, 2);
+                return functionCall("isValidHostLabel", RuleType.BOOLEAN, false,
+                                    args.get(0).code, asPrimitiveBoolean(args.get(1)));
+            case "aws.isVirtualHostableS3Bucket":
+                expectArgs(name, args, 2);
+                return functionCall("awsIsVirtualHostableS3Bucket", RuleType.BOOLEAN, false,
+                                    args.get(0).code, asPrimitiveBoolean(args.get(1)));
+            case "substring":
+                expectArgs(name, args, 4);
+                return functionCall("substring", RuleType.STRING, true,
+                                    args.get(0).code, args.get(1).code, args.get(2).code, asPrimitiveBoolean(args.get(3)));
+            case "uriEncode":
+                return functionCall("uriEncode", RuleType.STRING, true, expectArgs(name, args, 1).get(0).code);
+            case "parseURL":
+                return functionCall("parseUrl", RuleType.URL, true, expectArgs(name, args, 1).get(0).code);
+            case "aws.parseArn":
+                return functionCall("awsParseArn", RuleType.ARN, true, expectArgs(name, args, 1).get(0).code);
+            case "aws.partition":
+                return functionCall("awsPartition", RuleType.PARTITION, true, expectArgs(name, args, 1).get(0).code);
+            case "getAttr":
+                if (argv.size() != 2 || !argv.get(1).isValueNode()) {
+                    throw new RuntimeException("getAttr expects a target and a string literal path");
+                }
+                return getAttr(expr(argv.get(0), scope), ((JrsString) argv.get(1)).getValue());
+            default:
+                throw new RuntimeException("Unknown endpoint rules function: " + name);
+        }
+    }
+
+    private CompiledExpr not(CompiledExpr expr) {
+        if (expr.booleanLiteral != null) {
+            return CompiledExpr.booleanLiteral(!expr.booleanLiteral);
+        }
+        if (expr.negated != null) {
+            return CompiledExpr.compound(expr.negated, expr.code);
+        }
+        CodeBlock value = asPrimitiveBoolean(expr);
+        if (expr.compound) {
+            return CompiledExpr.compound(CodeBlock.of("!($L)", value));
+        }
+        return CompiledExpr.compound(CodeBlock.of("!$L", value));
+    }
+
+    private CompiledExpr booleanEquals(CompiledExpr left, CompiledExpr right) {
+        if (left.booleanLiteral != null && right.booleanLiteral == null) {
+            return booleanEquals(right, left);
+        }
+
+        if (right.booleanLiteral != null) {
+            if (left.nullable) {
+                return new CompiledExpr(CodeBlock.of("$T.$L.equals($L)", Boolean.class,
+                                                     right.booleanLiteral ? "TRUE" : "FALSE", left.code),
+                                        RuleType.BOOLEAN, false);
+            }
+            return right.booleanLiteral ? left : not(left);
+        }
+
+        if (!left.nullable && !right.nullable) {
+            return CompiledExpr.compound(CodeBlock.of("$L == $L", left.code, right.code));
+        }
+
+        return functionCall("booleanEquals", RuleType.BOOLEAN, false, left.code, right.code);
+    }
+
+    private CompiledExpr stringEquals(CompiledExpr left, CompiledExpr right) {
+        if (right.stringLiteral != null) {
+            return new CompiledExpr(CodeBlock.of("$S.equals($L)", right.stringLiteral, left.code), RuleType.BOOLEAN, false);
+        }
+        if (left.stringLiteral != null) {
+            return new CompiledExpr(CodeBlock.of("$S.equals($L)", left.stringLiteral, right.code), RuleType.BOOLEAN, false);
+        }
+        return functionCall("stringEquals", RuleType.BOOLEAN, false, left.code, right.code);
+    }
+
+    private CompiledExpr getAttr(CompiledExpr target, String path) {
+        if (target.nullable) {
+            throw new RuntimeException("getAttr target must be a variable that is known to be set: " + target.code);
+        }
+
+        String key = path;
+        Integer index = null;
+        int indexStart = path.indexOf('[');
+        if (indexStart >= 0) {
+            if (!path.endsWith("]")) {
+                throw new RuntimeException("Invalid getAttr path: " + path);
+            }
+            key = path.substring(0, indexStart);
+            index = Integer.parseInt(path.substring(indexStart + 1, path.length() - 1));
+        }
+        if (key.contains(".")) {
+            throw new RuntimeException("Nested getAttr paths are not supported: " + path);
+        }
+
+        CompiledExpr attr = target.type.attribute(target.code, key);
+        if (index == null) {
+            return attr;
+        }
+
+        if (attr.type != RuleType.STRING_LIST) {
+            throw new RuntimeException("Cannot index into non-array attribute: " + path);
+        }
+        return functionCall("listAccess", RuleType.STRING, true, attr.code, CodeBlock.of("$L", index));
+    }
+
+    private CompiledExpr functionCall(String name, RuleType type, boolean nullable, CodeBlock... args) {
+        CodeBlock call = CodeBlock.of("$T.$N($L)", endpointRulesSpecUtils.rulesRuntimeClassName("RulesFunctions"), name,
+                                      CodeBlock.join(Arrays.asList(args), ", "));
+        return new CompiledExpr(call, type, nullable);
+    }
+
+    /**
+     * Compiles a template string such as {@code https://{Region}.{PartitionResult#dnsSuffix}} into a string
+     * concatenation.
+     */
+    private CompiledExpr template(String template, LocalScope scope) {
+        List<CodeBlock> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if ((c == '{' || c == '}') && i + 1 < template.length() && template.charAt(i + 1) == c) {
+                literal.append(c);
+                i += 2;
+                continue;
+            }
+            if (c == '}') {
+                throw new RuntimeException("Unmatched `}` in template: " + template);
+            }
+            if (c == '{') {
+                int end = template.indexOf('}', i);
+                if (end < 0) {
+                    throw new RuntimeException("Unmatched `{` in template: " + template);
+                }
+                if (literal.length() > 0) {
+                    parts.add(CodeBlock.of("$S", literal.toString()));
+                    literal.setLength(0);
+                }
+                parts.add(shortForm(template.substring(i + 1, end), scope).code);
+                i = end + 1;
+                continue;
+            }
+            literal.append(c);
+            i++;
+        }
+
+        if (parts.isEmpty()) {
+            return CompiledExpr.stringLiteral(literal.toString());
+        }
+        if (literal.length() > 0) {
+            parts.add(CodeBlock.of("$S", literal.toString()));
+        }
+        return new CompiledExpr(CodeBlock.join(parts, " + "), RuleType.STRING, false);
+    }
+
+    private CompiledExpr shortForm(String shortForm, LocalScope scope) {
+        int hash = shortForm.indexOf('#');
+        if (hash < 0) {
+            return scope.lookup(shortForm).asExpr();
+        }
+        return getAttr(scope.lookup(shortForm.substring(0, hash)).asExpr(), shortForm.substring(hash + 1));
+    }
+
+    private static List<CompiledExpr> expectArgs(String fn, List<CompiledExpr> args, int n) {
+        if (args.size() != n) {
+            throw new RuntimeException(String.format("%s expects %d arguments but got %d", fn, n, args.size()));
+        }
+        return args;
+    }
+
+    private static CodeBlock asPrimitiveBoolean(CompiledExpr expr) {
+        if (expr.type != RuleType.BOOLEAN) {
+            throw new RuntimeException("Expected a boolean expression: " + expr.code);
+        }
+        if (expr.nullable) {
+            return CodeBlock.of("$T.TRUE.equals($L)", Boolean.class, expr.code);
+        }
+        return expr.code;
+    }
+
+    private String nextRuleMethodName() {
+        String n = String.format("%s%d", RULE_METHOD_PREFIX, ruleCounter);
+        ruleCounter += 1;
+        return n;
+    }
+
+    private enum RuleType {
+        STRING(ClassName.get(String.class)),
+        BOOLEAN(ClassName.get(Boolean.class)),
+        INT(TypeName.INT),
+        URL(null),
+        ARN(null),
+        PARTITION(null),
+        STRING_LIST(ParameterizedTypeName.get(List.class, String.class));
+
+        private final TypeName javaType;
+
+        RuleType(TypeName javaType) {
+            this.javaType = javaType;
+        }
+
+        static RuleType fromParameterType(String type) {
+            switch (type.toLowerCase(Locale.ENGLISH)) {
+                case "string":
+                    return STRING;
+                case "boolean":
+                    return BOOLEAN;
+                default:
+                    throw new RuntimeException("Unknown parameter type: " + type);
+            }
+        }
+
+        CompiledExpr attribute(CodeBlock target, String key) {
+            switch (this) {
+                case URL:
+                    switch (key) {
+                        case "scheme":
+                        case "authority":
+                        case "path":
+                        case "normalizedPath":
+                            return new CompiledExpr(CodeBlock.of("$L.$N()", target, key), STRING, false);
+                        case "isIp":
+                            return new CompiledExpr(CodeBlock.of("$L.isIp()", target), BOOLEAN, false);
+                        default:
+                            break;
+                    }
+                    break;
+                case ARN:
+                    switch (key) {
+                        case "partition":
+                        case "service":
+                        case "region":
+                        case "accountId":
+                            return new CompiledExpr(CodeBlock.of("$L.$N()", target, key), STRING, false);
+                        case "resourceId":
+                            return new CompiledExpr(CodeBlock.of("$L.resource()", target), STRING_LIST, false);
+                        default:
+                            break;
+                    }
+                    break;
+                case PARTITION:
+                    switch (key) {
+                        case "name":
+                        case "dnsSuffix":
+                        case "dualStackDnsSuffix":
+                            return new CompiledExpr(CodeBlock.of("$L.$N()", target, key), STRING, false);
+                        case "supportsFIPS":
+                            return new CompiledExpr(CodeBlock.of("$L.supportsFips()", target), BOOLEAN, false);
+                        case "supportsDualStack":
+                        case "inferred":
+                            return new CompiledExpr(CodeBlock.of("$L.$N()", target, key), BOOLEAN, false);
+                        default:
+                            break;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            throw new RuntimeException(String.format("Unknown attribute `%s` for type %s", key, this));
+        }
+    }
+
+    private static final class CompiledExpr {
+        private final CodeBlock code;
+        private final RuleType type;
+        private final boolean nullable;
+        private final Boolean booleanLiteral;
+        private final String stringLiteral;
+        private final boolean compound;
+        private final CodeBlock negated;
+
+        private CompiledExpr(CodeBlock code, RuleType type, boolean nullable) {
+            this(code, type, nullable, null, null, false, null);
+        }
+
+        private CompiledExpr(CodeBlock code, RuleType type, boolean nullable, Boolean booleanLiteral, String stringLiteral,
+                             boolean compound, CodeBlock negated) {
+            this.code = code;
+            this.type = type;
+            this.nullable = nullable;
+            this.booleanLiteral = booleanLiteral;
+            this.stringLiteral = stringLiteral;
+            this.compound = compound;
+            this.negated = negated;
+        }
+
+        static CompiledExpr booleanLiteral(boolean value) {
+            return new CompiledExpr(CodeBlock.of("$L", value), RuleType.BOOLEAN, false, value, null, false, null);
+        }
+
+        static CompiledExpr stringLiteral(String value) {
+            return new CompiledExpr(CodeBlock.of("$S", value), RuleType.STRING, false, null, value, false, null);
+        }
+
+        /**
+         * A boolean expression using an operator, which needs to be parenthesized when negated.
+         */
+        static CompiledExpr compound(CodeBlock code) {
+            return compound(code, null);
+        }
+
+        /**
+         * A boolean expression using an operator, along with the simplest form of its negation if known.
+         */
+        static CompiledExpr compound(CodeBlock code, CodeBlock negated) {
+            return new CompiledExpr(code, RuleType.BOOLEAN, false, null, null, true, negated);
+        }
+    }
+
+    private final class Variable {
+        private final String ruleName;
+        private final String javaName;
+        private final RuleType type;
+        private boolean nullable;
+
+        private Variable(String ruleName, String javaName, RuleType type, boolean nullable) {
+            this.ruleName = ruleName;
+            this.javaName = javaName;
+            this.type = type;
+            this.nullable = nullable;
+        }
+
+        TypeName javaType() {
+            switch (type) {
+                case BOOLEAN:
+                    return nullable ? type.javaType : TypeName.BOOLEAN;
+                case URL:
+                    return endpointRulesSpecUtils.rulesRuntimeClassName("RuleUrl");
+                case ARN:
+                    return endpointRulesSpecUtils.rulesRuntimeClassName("Arn");
+                case PARTITION:
+                    return endpointRulesSpecUtils.rulesRuntimeClassName("RulePartition");
+                default:
+                    return type.javaType;
+            }
+        }
+
+        CompiledExpr asExpr() {
+            return new CompiledExpr(CodeBlock.of("$N", javaName), type, nullable);
+        }
+    }
+
+    /**
+     * Tracks the rule variables visible at a point in the generated code. Java names are unique per generated method
+     * because Java does not allow a local variable to shadow another local variable of an enclosing block.
+     */
+    private final class LocalScope {
+        private final LocalScope parent;
+        private final Set<String> methodJavaNames;
+        private final Map<String, Variable> variables = new LinkedHashMap<>();
+
+        private LocalScope(LocalScope parent, Set<String> methodJavaNames) {
+            this.parent = parent;
+            this.methodJavaNames = methodJavaNames;
+        }
+
+        LocalScope child() {
+            return new LocalScope(this, methodJavaNames);
+        }
+
+        void reserve(String javaName) {
+            methodJavaNames.add(javaName);
+        }
+
+        Variable declare(String ruleName, RuleType type, boolean nullable) {
+            String base = Utils.unCapitalize(CodegenNamingUtils.pascalCase(ruleName));
+            String javaName = base;
+            int suffix = 1;
+            while (SourceVersion.isKeyword(javaName) || methodJavaNames.contains(javaName)) {
+                javaName = base + suffix++;
+            }
+            methodJavaNames.add(javaName);
+
+            Variable var = new Variable(ruleName, javaName, type, nullable);
+            variables.put(ruleName, var);
+            return var;
+        }
+
+        /**
+         * Called once the condition assigning the variable has passed, at which point the value is known to be set.
+         */
+        void markSet(String ruleName) {
+            variables.get(ruleName).nullable = false;
+        }
+
+        /**
+         * Called once the block the variables were declared in is closed, so that sibling blocks can reuse the names.
+         */
+        void release() {
+            variables.values().forEach(v -> methodJavaNames.remove(v.javaName));
+        }
+
+        Variable lookup(String ruleName) {
+            for (LocalScope s = this; s != null; s = s.parent) {
+                Variable var = s.variables.get(ruleName);
+                if (var != null) {
+                    return var;
+                }
+            }
+            throw new RuntimeException(String.format("Invalid ruleset: %s was not in scope", ruleName));
+        }
+
+        List<Variable> visibleVariables() {
+            Map<String, Variable> visible = new LinkedHashMap<>();
+            List<LocalScope> chain = new ArrayList<>();
+            for (LocalScope s = this; s != null; s = s.parent) {
+                chain.add(0, s);
+            }
+            chain.forEach(s -> visible.putAll(s.variables));
+            return new ArrayList<>(visible.values());
+        }
+    }
+}
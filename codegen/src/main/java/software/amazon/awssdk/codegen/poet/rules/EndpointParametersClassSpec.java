@@ -27,12 +27,14 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.Map;
+import java.util.Objects;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.rules.endpoints.BuiltInParameter;
 import software.amazon.awssdk.codegen.model.rules.endpoints.ParameterModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetCollectors;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -66,6 +68,8 @@ public class EndpointParametersClassSpec implements ClassSpec {
         });
 
         b.addMethod(toBuilderMethod());
+        b.addMethod(equalsMethod());
+        b.addMethod(hashCodeMethod());
 
         return b.build();
     }
@@ -204,6 +208,47 @@ public class EndpointParametersClassSpec implements ClassSpec {
                          .build();
     }
 
+    private MethodSpec equalsMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("equals")
+                                         .returns(boolean.class)
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .addParameter(Object.class, "obj")
+                                         .beginControlFlow("if (this == obj)")
+                                         .addStatement("return true")
+                                         .endControlFlow()
+                                         .beginControlFlow("if (!(obj instanceof $T))", className())
+                                         .addStatement("return false")
+                                         .endControlFlow();
+
+        if (parameters().isEmpty()) {
+            return b.addStatement("return true").build();
+        }
+
+        b.addStatement("$1T other = ($1T) obj", className());
+        b.addCode("return ");
+        b.addCode(parameters().keySet()
+                              .stream()
+                              .map(name -> CodeBlock.of("$T.equals($N, other.$N)", Objects.class, variableName(name),
+                                                        variableName(name)))
+                              .collect(PoetCollectors.toDelimitedCodeBlock("&&")));
+        b.addCode(";");
+        return b.build();
+    }
+
+    private MethodSpec hashCodeMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("hashCode")
+                                         .returns(int.class)
+                                         .addAnnotation(Override.class)
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .addStatement("int hashCode = 1");
+
+        parameters().keySet().forEach(name -> b.addStatement("hashCode = 31 * hashCode + $T.hashCode($N)", Objects.class,
+                                                             variableName(name)));
+
+        return b.addStatement("return hashCode").build();
+    }
+
     private String variableName(String name) {
         return intermediateModel.getNamingStrategy().getVariableName(name);
     }
@@ -37,6 +37,7 @@ import software.amazon.awssdk.utils.Validate;
 
 public class EndpointProviderSpec implements ClassSpec {
     private static final String RULE_SET_FIELD_NAME = "ENDPOINT_RULE_SET";
+    private static final String COMPILED_RESOLVE_METHOD_NAME = "resolve";
 
     private final IntermediateModel intermediateModel;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
@@ -49,6 +50,10 @@ public class EndpointProviderSpec implements ClassSpec {
 
     @Override
     public TypeSpec poetSpec() {
+        if (intermediateModel.getCustomizationConfig().isEnableGenerateCompiledEndpointRules()) {
+            return compiledPoetSpec();
+        }
+
         TypeSpec.Builder b = PoetUtils.createClassBuilder(className())
                                       .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                                       .addSuperinterface(endpointRulesSpecUtils.providerInterfaceName())
@@ -64,6 +69,24 @@ public class EndpointProviderSpec implements ClassSpec {
         return b.build();
     }
 
+    /**
+     * A provider that evaluates the rule set as compiled Java code, without going through the {@code DefaultRuleEngine}.
+     */
+    private TypeSpec compiledPoetSpec() {
+        CompiledRuleSetSpec compiledRuleSetSpec = new CompiledRuleSetSpec(intermediateModel);
+
+        TypeSpec.Builder b = PoetUtils.createClassBuilder(className())
+                                      .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                                      .addSuperinterface(endpointRulesSpecUtils.providerInterfaceName())
+                                      .addMethod(compiledResolveEndpointMethod())
+                                      .addMethod(compiledRuleSetSpec.resolveMethod(COMPILED_RESOLVE_METHOD_NAME))
+                                      .addAnnotation(SdkInternalApi.class);
+
+        compiledRuleSetSpec.helperMethods().forEach(b::addMethod);
+
+        return b.build();
+    }
+
     @Override
     public ClassName className() {
         Metadata md = intermediateModel.getMetadata();
@@ -154,6 +177,27 @@ public class EndpointProviderSpec implements ClassSpec {
         return b.build();
     }
 
+    private MethodSpec compiledResolveEndpointMethod() {
+        String paramsName = "endpointParams";
+
+        MethodSpec.Builder b = MethodSpec.methodBuilder("resolveEndpoint")
+                                         .addModifiers(Modifier.PUBLIC)
+                                         .returns(endpointRulesSpecUtils.resolverReturnType())
+                                         .addAnnotation(Override.class)
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), paramsName);
+
+        b.addCode(validateRequiredParams());
+
+        b.beginControlFlow("try");
+        b.addStatement("return $T.completedFuture($N($N))", CompletableFuture.class, COMPILED_RESOLVE_METHOD_NAME, paramsName);
+        b.endControlFlow();
+        b.beginControlFlow("catch ($T error)", Exception.class);
+        b.addStatement("return $T.failedFuture(error)", CompletableFutureUtils.class);
+        b.endControlFlow();
+
+        return b.build();
+    }
+
     private MethodSpec ruleSetBuildMethod(TypeSpec.Builder classBuilder) {
         RuleSetCreationSpec ruleSetCreationSpec = new RuleSetCreationSpec(intermediateModel);
         MethodSpec.Builder b = MethodSpec.methodBuilder("ruleSet")
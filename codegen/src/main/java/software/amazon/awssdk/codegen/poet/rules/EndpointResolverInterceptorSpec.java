@@ -47,6 +47,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.HostnameValidator;
@@ -71,6 +72,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                                       .addSuperinterface(ExecutionInterceptor.class);
 
         b.addMethod(modifyRequestMethod());
+        b.addMethod(resolveEndpointMethod());
         b.addMethod(ruleParams());
 
         b.addMethod(setContextParams());
@@ -113,8 +115,8 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addStatement("$1T $2N = ($1T) executionAttributes.getAttribute($3T.ENDPOINT_PROVIDER)",
                        endpointRulesSpecUtils.providerInterfaceName(), providerVar, SdkInternalExecutionAttribute.class);
         b.beginControlFlow("try");
-        b.addStatement("$T result = $N.resolveEndpoint(ruleParams(context, executionAttributes)).join()", Endpoint.class,
-                       providerVar);
+        b.addStatement("$T result = resolveEndpoint($N, ruleParams(context, executionAttributes), executionAttributes)",
+                       Endpoint.class, providerVar);
         b.beginControlFlow("if (!$T.disableHostPrefixInjection(executionAttributes))",
                            endpointRulesSpecUtils.rulesRuntimeClassName("AwsEndpointProviderUtils"));
         b.addStatement("$T hostPrefix = hostPrefix(executionAttributes.getAttribute($T.OPERATION_NAME), context.request())",
@@ -139,6 +141,25 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    private MethodSpec resolveEndpointMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("resolveEndpoint")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(Endpoint.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), "params")
+                                         .addParameter(ExecutionAttributes.class, "executionAttributes");
+
+        b.addStatement("$T cache = executionAttributes.getAttribute($T.ENDPOINT_RESOLUTION_CACHE)",
+                       EndpointResolutionCache.class, SdkInternalExecutionAttribute.class);
+        b.beginControlFlow("if (cache == null)");
+        b.addStatement("return provider.resolveEndpoint(params).join()");
+        b.endControlFlow();
+        b.addStatement("return cache.resolveEndpoint(provider, params, () -> provider.resolveEndpoint(params).join(), "
+                       + "executionAttributes.getAttribute($T.API_CALL_METRIC_COLLECTOR))",
+                       SdkInternalExecutionAttribute.class);
+        return b.build();
+    }
+
     private MethodSpec ruleParams() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("ruleParams")
                                          .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
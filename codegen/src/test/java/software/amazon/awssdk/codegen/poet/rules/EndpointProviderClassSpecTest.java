@@ -19,6 +19,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.ClientTestModels;
 
@@ -28,4 +29,12 @@ public class EndpointProviderClassSpecTest {
         ClassSpec endpointProviderSpec = new EndpointProviderSpec(ClientTestModels.queryServiceModels());
         assertThat(endpointProviderSpec, generatesTo("endpoint-provider-class.java"));
     }
+
+    @Test
+    public void compiledEndpointProviderClass() {
+        IntermediateModel model = ClientTestModels.queryServiceModels();
+        model.getCustomizationConfig().setEnableGenerateCompiledEndpointRules(true);
+        ClassSpec endpointProviderSpec = new EndpointProviderSpec(model);
+        assertThat(endpointProviderSpec, generatesTo("endpoint-provider-compiled-class.java"));
+    }
 }
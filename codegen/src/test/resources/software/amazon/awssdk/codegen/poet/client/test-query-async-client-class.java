@@ -38,6 +38,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.services.query.batchmanager.QueryAsyncBatchManager;
 import software.amazon.awssdk.services.query.model.APostOperationRequest;
 import software.amazon.awssdk.services.query.model.APostOperationResponse;
 import software.amazon.awssdk.services.query.model.APostOperationWithOutputRequest;
@@ -848,6 +849,11 @@ final class DefaultQueryAsyncClient implements QueryAsyncClient {
         return QueryAsyncWaiter.builder().client(this).scheduledExecutorService(executorService).build();
     }
 
+    @Override
+    public QueryAsyncBatchManager batchManager() {
+        return QueryAsyncBatchManager.builder().client(this).scheduledExecutor(executorService).build();
+    }
+
     @Override
     public final QueryServiceClientConfiguration serviceClientConfiguration() {
         return this.serviceClientConfiguration;
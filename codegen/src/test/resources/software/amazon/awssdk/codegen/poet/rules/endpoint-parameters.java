@@ -1,5 +1,6 @@
 package software.amazon.awssdk.services.query.endpoints;
 
+import java.util.Objects;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.regions.Region;
@@ -94,6 +95,41 @@ public final class QueryEndpointParams implements ToCopyableBuilder<QueryEndpoin
         return new BuilderImpl(this);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof QueryEndpointParams)) {
+            return false;
+        }
+        QueryEndpointParams other = (QueryEndpointParams) obj;
+        return Objects.equals(region, other.region) && Objects.equals(useDualStackEndpoint, other.useDualStackEndpoint)
+                && Objects.equals(useFIPSEndpoint, other.useFIPSEndpoint) && Objects.equals(endpointId, other.endpointId)
+                && Objects.equals(defaultTrueParam, other.defaultTrueParam)
+                && Objects.equals(defaultStringParam, other.defaultStringParam)
+                && Objects.equals(deprecatedParam, other.deprecatedParam)
+                && Objects.equals(booleanContextParam, other.booleanContextParam)
+                && Objects.equals(stringContextParam, other.stringContextParam)
+                && Objects.equals(operationContextParam, other.operationContextParam);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        hashCode = 31 * hashCode + Objects.hashCode(region);
+        hashCode = 31 * hashCode + Objects.hashCode(useDualStackEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(useFIPSEndpoint);
+        hashCode = 31 * hashCode + Objects.hashCode(endpointId);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultTrueParam);
+        hashCode = 31 * hashCode + Objects.hashCode(defaultStringParam);
+        hashCode = 31 * hashCode + Objects.hashCode(deprecatedParam);
+        hashCode = 31 * hashCode + Objects.hashCode(booleanContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(stringContextParam);
+        hashCode = 31 * hashCode + Objects.hashCode(operationContextParam);
+        return hashCode;
+    }
+
     public interface Builder extends CopyableBuilder<Builder, QueryEndpointParams> {
         Builder region(Region region);
 
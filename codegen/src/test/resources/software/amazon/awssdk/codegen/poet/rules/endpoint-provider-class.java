@@ -277,7 +277,7 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
             .addCondition(
                 Condition
                     .builder()
-                    .fn(FnNode.builder().fn("partition").argv(Arrays.asList(Expr.ref(Identifier.of("region"))))
+                    .fn(FnNode.builder().fn("aws.partition").argv(Arrays.asList(Expr.ref(Identifier.of("region"))))
                               .build().validate()).result("partitionResult").build())
             .treeRule(Arrays.asList(endpointRule_1(), endpointRule_5(), endpointRule_10()));
     }
@@ -0,0 +1,110 @@
+package software.amazon.awssdk.services.query.endpoints.internal;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.endpoints.AwsEndpointAttribute;
+import software.amazon.awssdk.awscore.endpoints.authscheme.SigV4aAuthScheme;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
+import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class DefaultQueryEndpointProvider implements QueryEndpointProvider {
+    @Override
+    public CompletableFuture<Endpoint> resolveEndpoint(QueryEndpointParams endpointParams) {
+        Validate.notNull(endpointParams.region(), "Parameter 'region' must not be null");
+        try {
+            return CompletableFuture.completedFuture(resolve(endpointParams));
+        } catch (Exception error) {
+            return CompletableFutureUtils.failedFuture(error);
+        }
+    }
+
+    private static Endpoint resolve(QueryEndpointParams params) {
+        String region = params.region() == null ? null : params.region().id();
+        Boolean useDualStackEndpoint = params.useDualStackEndpoint();
+        Boolean useFipsEndpoint = params.useFipsEndpoint();
+        String endpointId = params.endpointId();
+        Boolean defaultTrueParam = params.defaultTrueParam();
+        String defaultStringParam = params.defaultStringParam();
+        String deprecatedParam = params.deprecatedParam();
+        Boolean booleanContextParam = params.booleanContextParam();
+        String stringContextParam = params.stringContextParam();
+        String operationContextParam = params.operationContextParam();
+        RulePartition partitionResult = RulesFunctions.awsPartition(region);
+        if (partitionResult != null) {
+            return endpointRule_0(region, useDualStackEndpoint, useFipsEndpoint, endpointId, defaultTrueParam,
+                    defaultStringParam, deprecatedParam, booleanContextParam, stringContextParam, operationContextParam,
+                    partitionResult);
+        }
+        throw new IllegalStateException("No rules in ruleset matched");
+    }
+
+    private static Endpoint endpointRule_0(String region, Boolean useDualStackEndpoint, Boolean useFipsEndpoint,
+            String endpointId, Boolean defaultTrueParam, String defaultStringParam, String deprecatedParam,
+            Boolean booleanContextParam, String stringContextParam, String operationContextParam, RulePartition partitionResult) {
+        if (endpointId != null) {
+            return endpointRule_1(region, useDualStackEndpoint, useFipsEndpoint, endpointId, defaultTrueParam,
+                    defaultStringParam, deprecatedParam, booleanContextParam, stringContextParam, operationContextParam,
+                    partitionResult);
+        }
+        if (RulesFunctions.isValidHostLabel(region, false)) {
+            return endpointRule_2(region, useDualStackEndpoint, useFipsEndpoint, endpointId, defaultTrueParam,
+                    defaultStringParam, deprecatedParam, booleanContextParam, stringContextParam, operationContextParam,
+                    partitionResult);
+        }
+        throw AwsEndpointProviderUtils.endpointResolutionError(region + " is not a valid HTTP host-label");
+    }
+
+    private static Endpoint endpointRule_1(String region, Boolean useDualStackEndpoint, Boolean useFipsEndpoint,
+            String endpointId, Boolean defaultTrueParam, String defaultStringParam, String deprecatedParam,
+            Boolean booleanContextParam, String stringContextParam, String operationContextParam, RulePartition partitionResult) {
+        if (useFipsEndpoint != null && Boolean.TRUE.equals(useFipsEndpoint)) {
+            throw AwsEndpointProviderUtils.endpointResolutionError("FIPS endpoints not supported with multi-region endpoints");
+        }
+        if (useFipsEndpoint == null && useDualStackEndpoint != null && Boolean.TRUE.equals(useDualStackEndpoint)) {
+            return Endpoint
+                    .builder()
+                    .url(URI.create("https://" + endpointId + ".query." + partitionResult.dualStackDnsSuffix()))
+                    .putAttribute(AwsEndpointAttribute.AUTH_SCHEMES,
+                            Arrays.asList(SigV4aAuthScheme.builder().signingName("query").addSigningRegion("*").build())).build();
+        }
+        return Endpoint
+                .builder()
+                .url(URI.create("https://" + endpointId + ".query." + partitionResult.dnsSuffix()))
+                .putAttribute(AwsEndpointAttribute.AUTH_SCHEMES,
+                        Arrays.asList(SigV4aAuthScheme.builder().signingName("query").addSigningRegion("*").build())).build();
+    }
+
+    private static Endpoint endpointRule_2(String region, Boolean useDualStackEndpoint, Boolean useFipsEndpoint,
+            String endpointId, Boolean defaultTrueParam, String defaultStringParam, String deprecatedParam,
+            Boolean booleanContextParam, String stringContextParam, String operationContextParam, RulePartition partitionResult) {
+        if (useFipsEndpoint != null && Boolean.TRUE.equals(useFipsEndpoint) && useDualStackEndpoint == null) {
+            return Endpoint.builder().url(URI.create("https://query-fips." + region + "." + partitionResult.dnsSuffix()))
+                    .putAttribute(AwsEndpointAttribute.AUTH_SCHEMES, Collections.emptyList()).build();
+        }
+        if (useDualStackEndpoint != null && Boolean.TRUE.equals(useDualStackEndpoint) && useFipsEndpoint == null) {
+            return Endpoint
+                    .builder()
+                    .url(URI.create("https://query." + region + "." + partitionResult.dualStackDnsSuffix()))
+                    .putAttribute(AwsEndpointAttribute.AUTH_SCHEMES,
+                            Arrays.asList(SigV4aAuthScheme.builder().signingName("query").addSigningRegion("*").build())).build();
+        }
+        if (useDualStackEndpoint != null && useFipsEndpoint != null && Boolean.TRUE.equals(useDualStackEndpoint)
+                && Boolean.TRUE.equals(useFipsEndpoint)) {
+            return Endpoint
+                    .builder()
+                    .url(URI.create("https://query-fips." + region + "." + partitionResult.dualStackDnsSuffix()))
+                    .putAttribute(AwsEndpointAttribute.AUTH_SCHEMES,
+                            Arrays.asList(SigV4aAuthScheme.builder().signingName("query").addSigningRegion("*").build())).build();
+        }
+        return Endpoint.builder().url(URI.create("https://query." + region + "." + partitionResult.dnsSuffix())).build();
+    }
+}
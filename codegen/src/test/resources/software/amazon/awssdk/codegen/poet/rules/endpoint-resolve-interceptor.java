@@ -12,6 +12,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.services.query.endpoints.QueryClientContextParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
@@ -30,7 +31,7 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         QueryEndpointProvider provider = (QueryEndpointProvider) executionAttributes
             .getAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER);
         try {
-            Endpoint result = provider.resolveEndpoint(ruleParams(context, executionAttributes)).join();
+            Endpoint result = resolveEndpoint(provider, ruleParams(context, executionAttributes), executionAttributes);
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
                                                          context.request());
@@ -50,6 +51,16 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         }
     }
 
+    private static Endpoint resolveEndpoint(QueryEndpointProvider provider, QueryEndpointParams params,
+                                            ExecutionAttributes executionAttributes) {
+        EndpointResolutionCache cache = executionAttributes.getAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE);
+        if (cache == null) {
+            return provider.resolveEndpoint(params).join();
+        }
+        return cache.resolveEndpoint(provider, params, () -> provider.resolveEndpoint(params).join(),
+                                     executionAttributes.getAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR));
+    }
+
     private static QueryEndpointParams ruleParams(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
         QueryEndpointParams.Builder builder = QueryEndpointParams.builder();
         builder.region(AwsEndpointProviderUtils.regionBuiltIn(executionAttributes));
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -64,8 +65,8 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
+    private static final GenerationalCache<SignerKeyCacheKey, SignerKey> SIGNER_CACHE =
+        new GenerationalCache<>(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
@@ -224,7 +225,7 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     }
 
     protected final byte[] deriveSigningKey(AwsCredentials credentials, Instant signingInstant, String region, String service) {
-        String cacheKey = createSigningCacheKeyName(credentials, region, service);
+        SignerKeyCacheKey cacheKey = new SignerKeyCacheKey(credentials.secretAccessKey(), region, service);
         SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
 
         if (signerKey != null && signerKey.isValidForDate(signingInstant)) {
@@ -279,12 +280,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return stringToSign;
     }
 
-    private String createSigningCacheKeyName(AwsCredentials credentials,
-                                             String regionName,
-                                             String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
@@ -702,4 +697,44 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             }
         }
     }
+
+    /**
+     * The key of a cached signing key, which is compared without concatenating its parts.
+     */
+    private static final class SignerKeyCacheKey {
+        private final String secretAccessKey;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        private SignerKeyCacheKey(String secretAccessKey, String regionName, String serviceName) {
+            this.secretAccessKey = secretAccessKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int hash = Objects.hashCode(secretAccessKey);
+            hash = 31 * hash + Objects.hashCode(regionName);
+            hash = 31 * hash + Objects.hashCode(serviceName);
+            this.hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SignerKeyCacheKey)) {
+                return false;
+            }
+            SignerKeyCacheKey that = (SignerKeyCacheKey) o;
+            return hashCode == that.hashCode
+                   && Objects.equals(secretAccessKey, that.secretAccessKey)
+                   && Objects.equals(regionName, that.regionName)
+                   && Objects.equals(serviceName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -46,24 +46,21 @@ import software.amazon.awssdk.utils.StringUtils;
 @SdkInternalApi
 public abstract class AbstractAwsSigner implements Signer {
 
-    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
-
-    static {
-        SHA256_MESSAGE_DIGEST = ThreadLocal.withInitial(() -> {
-            try {
-                return MessageDigest.getInstance("SHA-256");
-            } catch (NoSuchAlgorithmException e) {
-                throw SdkClientException.builder()
-                                        .message("Unable to get SHA256 Function" + e.getMessage())
-                                        .cause(e)
-                                        .build();
-            }
-        });
-    }
+    private static final CryptoObjectPool<MessageDigest> SHA256_MESSAGE_DIGEST = new CryptoObjectPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to get SHA256 Function" + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    });
 
     private static byte[] doHash(String text) throws SdkClientException {
+        MessageDigest md = null;
         try {
-            MessageDigest md = getMessageDigestInstance();
+            md = getMessageDigestInstance();
             md.update(text.getBytes(StandardCharsets.UTF_8));
             return md.digest();
         } catch (Exception e) {
@@ -71,14 +68,17 @@ public abstract class AbstractAwsSigner implements Signer {
                                     .message("Unable to compute hash while signing request: " + e.getMessage())
                                     .cause(e)
                                     .build();
+        } finally {
+            SHA256_MESSAGE_DIGEST.release(md);
         }
     }
 
     /**
-     * Returns the re-usable thread local version of MessageDigest.
+     * Returns a re-usable pooled MessageDigest, which must be returned to {@link #SHA256_MESSAGE_DIGEST} once it is no longer
+     * used.
      */
     private static MessageDigest getMessageDigestInstance() {
-        MessageDigest messageDigest = SHA256_MESSAGE_DIGEST.get();
+        MessageDigest messageDigest = SHA256_MESSAGE_DIGEST.acquire();
         messageDigest.reset();
         return messageDigest;
     }
@@ -134,8 +134,9 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
+        Mac mac = null;
         try {
-            Mac mac = algorithm.getMac();
+            mac = algorithm.acquireMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -143,6 +144,8 @@ public abstract class AbstractAwsSigner implements Signer {
                                     .message("Unable to calculate a request signature: " + e.getMessage())
                                     .cause(e)
                                     .build();
+        } finally {
+            algorithm.releaseMac(mac);
         }
     }
 
@@ -159,8 +162,9 @@ public abstract class AbstractAwsSigner implements Signer {
     }
 
     byte[] hash(InputStream input, SdkChecksum sdkChecksum) throws SdkClientException {
+        MessageDigest md = null;
         try {
-            MessageDigest md = getMessageDigestInstance();
+            md = getMessageDigestInstance();
             @SuppressWarnings("resource")
             DigestInputStream digestInputStream = new SdkDigestInputStream(
                     input, md, sdkChecksum);
@@ -174,6 +178,8 @@ public abstract class AbstractAwsSigner implements Signer {
                                     .message("Unable to compute hash while signing request: " + e.getMessage())
                                     .cause(e)
                                     .build();
+        } finally {
+            SHA256_MESSAGE_DIGEST.release(md);
         }
     }
 
@@ -186,8 +192,9 @@ public abstract class AbstractAwsSigner implements Signer {
      * @throws SdkClientException If the hash cannot be computed.
      */
     byte[] hash(byte[] data, SdkChecksum sdkChecksum) throws SdkClientException {
+        MessageDigest md = null;
         try {
-            MessageDigest md = getMessageDigestInstance();
+            md = getMessageDigestInstance();
             md.update(data);
             if (sdkChecksum != null) {
                 sdkChecksum.update(data);
@@ -198,6 +205,8 @@ public abstract class AbstractAwsSigner implements Signer {
                                     .message("Unable to compute hash while signing request: " + e.getMessage())
                                     .cause(e)
                                     .build();
+        } finally {
+            SHA256_MESSAGE_DIGEST.release(md);
         }
     }
 
@@ -17,6 +17,8 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
 import software.amazon.awssdk.regions.Region;
@@ -26,6 +28,8 @@ import software.amazon.awssdk.regions.Region;
  */
 @SdkInternalApi
 public final class Aws4SignerRequestParams {
+    private static final int SCOPE_CACHE_MAX_SIZE = 300;
+    private static final GenerationalCache<ScopeKey, Scope> SCOPE_CACHE = new GenerationalCache<>(SCOPE_CACHE_MAX_SIZE);
 
     private final Clock signingClock;
 
@@ -64,10 +68,11 @@ public final class Aws4SignerRequestParams {
     public Aws4SignerRequestParams(Aws4SignerParams signerParams) {
         this.signingClock = resolveSigningClock(signerParams);
         this.requestSigningDateTimeMilli = this.signingClock.millis();
-        this.formattedRequestSigningDate = Aws4SignerUtils.formatDateStamp(requestSigningDateTimeMilli);
         this.serviceSigningName = signerParams.signingName();
         this.regionName = getRegion(signerParams.signingRegion());
-        this.scope = generateScope(formattedRequestSigningDate, this.serviceSigningName, regionName);
+        Scope signingScope = resolveScope(requestSigningDateTimeMilli, this.serviceSigningName, regionName);
+        this.formattedRequestSigningDate = signingScope.dateStamp;
+        this.scope = signingScope.scope;
         this.formattedRequestSigningDateTime = Aws4SignerUtils.formatTimestamp(requestSigningDateTimeMilli);
     }
 
@@ -144,10 +149,67 @@ public final class Aws4SignerRequestParams {
         return region != null ? region.id() : null;
     }
 
+    /**
+     * Returns the date stamp and scope of the signing date, reusing the ones of the previous request signed for the same
+     * region and service on the same day.
+     */
+    private static Scope resolveScope(long signingDateTimeMilli, String serviceName, String regionName) {
+        long day = Math.floorDiv(signingDateTimeMilli, TimeUnit.DAYS.toMillis(1));
+        ScopeKey key = new ScopeKey(regionName, serviceName);
+        Scope cached = SCOPE_CACHE.get(key);
+        if (cached != null && cached.day == day) {
+            return cached;
+        }
+
+        String dateStamp = Aws4SignerUtils.formatDateStamp(signingDateTimeMilli);
+        Scope scope = new Scope(day, dateStamp, generateScope(dateStamp, serviceName, regionName));
+        SCOPE_CACHE.add(key, scope);
+        return scope;
+    }
+
     /**
      * Returns the scope to be used for the signing.
      */
-    private String generateScope(String dateStamp, String serviceName, String regionName) {
+    private static String generateScope(String dateStamp, String serviceName, String regionName) {
         return dateStamp + "/" + regionName + "/" + serviceName + "/" + SignerConstant.AWS4_TERMINATOR;
     }
+
+    private static final class ScopeKey {
+        private final String regionName;
+        private final String serviceName;
+
+        private ScopeKey(String regionName, String serviceName) {
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ScopeKey)) {
+                return false;
+            }
+            ScopeKey that = (ScopeKey) o;
+            return Objects.equals(regionName, that.regionName) && Objects.equals(serviceName, that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(regionName) + Objects.hashCode(serviceName);
+        }
+    }
+
+    private static final class Scope {
+        private final long day;
+        private final String dateStamp;
+        private final String scope;
+
+        private Scope(long day, String dateStamp, String scope) {
+            this.day = day;
+            this.dateStamp = dateStamp;
+            this.scope = scope;
+        }
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free pool of stateful crypto objects, such as {@link javax.crypto.Mac} and
+ * {@link java.security.MessageDigest} instances, which are expensive to create but cannot be shared by threads.
+ * <p>
+ * Unlike a {@link ThreadLocal}, the number of pooled objects is bounded by the number of objects in use at the same time rather
+ * than by the number of threads, which matters when requests are signed on many short-lived or virtual threads. Objects are
+ * created when the pool is empty, and released objects are dropped when the pool is full.
+ *
+ * @param <T>
+ *            pooled object type
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class CryptoObjectPool<T> {
+    private static final int DEFAULT_MAX_POOLED = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+
+    private final Queue<T> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final int maxPooled;
+
+    /**
+     * @param factory
+     *            creates a new object when the pool is empty
+     */
+    public CryptoObjectPool(Supplier<T> factory) {
+        this(factory, DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * @param factory
+     *            creates a new object when the pool is empty
+     * @param maxPooled
+     *            the maximum number of released objects kept by the pool
+     */
+    public CryptoObjectPool(Supplier<T> factory, int maxPooled) {
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("maxPooled " + maxPooled
+                                               + " must not be negative");
+        }
+        this.factory = factory;
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * Returns a pooled object, or a new object if the pool is empty. The object must be reset or re-initialized by the caller
+     * before it is used.
+     */
+    public T acquire() {
+        T object = pool.poll();
+        if (object == null) {
+            return factory.get();
+        }
+        pooled.decrementAndGet();
+        return object;
+    }
+
+    /**
+     * Returns an object to the pool. The object must not be used by the caller after it is released.
+     */
+    public void release(T object) {
+        if (object == null) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        pool.offer(object);
+    }
+
+    /**
+     * Returns the number of objects currently kept by the pool.
+     */
+    int size() {
+        return pooled.get();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded cache that does not lock on reads or writes.
+ * <p>
+ * Entries are added to the current generation. When the current generation is full, it becomes the previous generation and
+ * the entries of the former previous generation are evicted at once. Entries that are read from the previous generation are
+ * copied to the current one, so that the entries in use survive the next eviction.
+ * <p>
+ * The cache holds at most {@code maxSize} entries, give or take the entries added concurrently while a generation is
+ * retired.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class GenerationalCache<K, V> {
+    private final int generationSize;
+    private final AtomicReference<Generations<K, V>> generations;
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public GenerationalCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                                               + " must be at least 1");
+        }
+        this.generationSize = Math.max(1, maxSize / 2);
+        this.generations = new AtomicReference<>(new Generations<>(new ConcurrentHashMap<>()));
+    }
+
+    /** Returns the value of the given key; or null if no such entry exists. */
+    public V get(K key) {
+        Generations<K, V> current = generations.get();
+        V value = current.current.get(key);
+        if (value == null) {
+            value = current.previous.get(key);
+            if (value != null) {
+                add(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Adds an entry to the cache, retiring the current generation if it is full.
+     */
+    public void add(K key, V value) {
+        Generations<K, V> current = generations.get();
+        current.current.put(key, value);
+        if (current.current.size() >= generationSize) {
+            generations.compareAndSet(current, new Generations<>(current.current));
+        }
+    }
+
+    /**
+     * Returns the number of entries of the cache. An entry that was copied from the previous generation to the current one is
+     * counted twice.
+     */
+    public int size() {
+        Generations<K, V> current = generations.get();
+        return current.current.size() + current.previous.size();
+    }
+
+    private static final class Generations<K, V> {
+        private final Map<K, V> current = new ConcurrentHashMap<>();
+        private final Map<K, V> previous;
+
+        private Generations(Map<K, V> previous) {
+            this.previous = previous;
+        }
+    }
+}
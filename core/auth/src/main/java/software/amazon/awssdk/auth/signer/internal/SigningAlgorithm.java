@@ -25,39 +25,45 @@ public enum SigningAlgorithm {
 
     HmacSHA256;
 
-    private final ThreadLocal<Mac> macReference;
+    private final CryptoObjectPool<Mac> macPool;
 
     SigningAlgorithm() {
         String algorithmName = this.toString();
-        macReference = new MacThreadLocal(algorithmName);
+        macPool = new CryptoObjectPool<>(() -> newMac(algorithmName));
     }
 
     /**
-     * Returns the thread local reference for the crypto algorithm
+     * Returns a new instance of the crypto algorithm. Prefer {@link #acquireMac()}, which reuses instances.
      */
     public Mac getMac() {
-        return macReference.get();
+        return newMac(this.toString());
     }
 
-    private static class MacThreadLocal extends ThreadLocal<Mac> {
-        private final String algorithmName;
+    /**
+     * Returns a pooled instance of the crypto algorithm, which must be initialized before it is used, and should be returned
+     * with {@link #releaseMac(Mac)} once it is no longer used.
+     */
+    public Mac acquireMac() {
+        return macPool.acquire();
+    }
 
-        MacThreadLocal(String algorithmName) {
-            this.algorithmName = algorithmName;
-        }
+    /**
+     * Returns an instance acquired with {@link #acquireMac()} to the pool.
+     */
+    public void releaseMac(Mac mac) {
+        macPool.release(mac);
+    }
+
+    private static Mac newMac(String algorithmName) {
+        try {
+            return Mac.getInstance(algorithmName);
+        } catch (NoSuchAlgorithmException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to fetch Mac instance for Algorithm "
+                                             + algorithmName + e.getMessage())
+                                    .cause(e)
+                                    .build();
 
-        @Override
-        protected Mac initialValue() {
-            try {
-                return Mac.getInstance(algorithmName);
-            } catch (NoSuchAlgorithmException e) {
-                throw SdkClientException.builder()
-                                        .message("Unable to fetch Mac instance for Algorithm "
-                                                 + algorithmName + e.getMessage())
-                                        .cause(e)
-                                        .build();
-
-            }
         }
     }
 }
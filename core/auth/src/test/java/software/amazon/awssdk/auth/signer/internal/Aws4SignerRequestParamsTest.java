@@ -17,8 +17,10 @@ package software.amazon.awssdk.auth.signer.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
@@ -66,4 +68,32 @@ public class Aws4SignerRequestParamsTest {
         // using a clock override
         assertThat(diff).isLessThanOrEqualTo(Duration.ofMillis(100));
     }
+
+    @Test
+    public void scope_sameRegionAndServiceOnAnotherDay_usesDateOfRequest() {
+        Instant first = Instant.parse("2023-09-01T23:59:59Z");
+
+        Aws4SignerRequestParams firstParams = new Aws4SignerRequestParams(signerParams(first, Region.US_WEST_2));
+        Aws4SignerRequestParams sameDayParams = new Aws4SignerRequestParams(signerParams(first.minusSeconds(3600),
+                                                                                         Region.US_WEST_2));
+        Aws4SignerRequestParams nextDayParams = new Aws4SignerRequestParams(signerParams(first.plusSeconds(1),
+                                                                                         Region.US_WEST_2));
+        Aws4SignerRequestParams otherRegionParams = new Aws4SignerRequestParams(signerParams(first, Region.EU_WEST_1));
+
+        assertThat(firstParams.getFormattedRequestSigningDate()).isEqualTo("20230901");
+        assertThat(firstParams.getScope()).isEqualTo("20230901/us-west-2/scope-service/aws4_request");
+        assertThat(sameDayParams.getScope()).isEqualTo("20230901/us-west-2/scope-service/aws4_request");
+        assertThat(nextDayParams.getFormattedRequestSigningDate()).isEqualTo("20230902");
+        assertThat(nextDayParams.getScope()).isEqualTo("20230902/us-west-2/scope-service/aws4_request");
+        assertThat(otherRegionParams.getScope()).isEqualTo("20230901/eu-west-1/scope-service/aws4_request");
+    }
+
+    private static Aws4SignerParams signerParams(Instant signingTime, Region region) {
+        return Aws4SignerParams.builder()
+                               .awsCredentials(AwsBasicCredentials.create("akid", "skid"))
+                               .signingName("scope-service")
+                               .signingRegion(region)
+                               .signingClockOverride(Clock.fixed(signingTime, ZoneOffset.UTC))
+                               .build();
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.crypto.Mac;
+import org.junit.Test;
+
+public class CryptoObjectPoolTest {
+
+    @Test
+    public void acquire_emptyPool_createsObject() {
+        AtomicInteger created = new AtomicInteger();
+        CryptoObjectPool<Object> pool = new CryptoObjectPool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 2);
+
+        assertNotSame(pool.acquire(), pool.acquire());
+        assertEquals(2, created.get());
+    }
+
+    @Test
+    public void acquire_afterRelease_reusesObject() {
+        CryptoObjectPool<Object> pool = new CryptoObjectPool<>(Object::new, 2);
+        Object object = pool.acquire();
+
+        pool.release(object);
+
+        assertEquals(1, pool.size());
+        assertSame(object, pool.acquire());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void release_fullPool_dropsObject() {
+        CryptoObjectPool<Object> pool = new CryptoObjectPool<>(Object::new, 1);
+
+        pool.release(new Object());
+        pool.release(new Object());
+        pool.release(null);
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxPooled_throws() {
+        new CryptoObjectPool<>(Object::new, -1);
+    }
+
+    @Test
+    public void signingAlgorithm_releasedMac_isReused() {
+        Mac mac = SigningAlgorithm.HmacSHA256.acquireMac();
+
+        SigningAlgorithm.HmacSHA256.releaseMac(mac);
+
+        assertSame(mac, SigningAlgorithm.HmacSHA256.acquireMac());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class GenerationalCacheTest {
+
+    @Test
+    public void get_addedEntry_returnsLatestValue() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(10);
+        assertThat(cache.get("k1")).isNull();
+
+        cache.add("k1", "v1");
+        cache.add("k1", "v11");
+
+        assertThat(cache.get("k1")).isEqualTo("v11");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void add_generationFull_evictsEntriesOfOldestGeneration() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(4);
+        cache.add("k1", "v1");
+        cache.add("k2", "v2");
+        cache.add("k3", "v3");
+        cache.add("k4", "v4");
+        cache.add("k5", "v5");
+        cache.add("k6", "v6");
+
+        assertThat(cache.get("k1")).isNull();
+        assertThat(cache.get("k4")).isNull();
+        assertThat(cache.get("k5")).isEqualTo("v5");
+        assertThat(cache.get("k6")).isEqualTo("v6");
+        assertThat(cache.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    public void get_entryOfPreviousGeneration_survivesNextEviction() {
+        GenerationalCache<String, String> cache = new GenerationalCache<>(4);
+        cache.add("k1", "v1");
+        cache.add("k2", "v2");
+
+        // k1 is now in the previous generation; reading it keeps it in the cache
+        assertThat(cache.get("k1")).isEqualTo("v1");
+        cache.add("k3", "v3");
+        cache.add("k4", "v4");
+
+        assertThat(cache.get("k1")).isEqualTo("v1");
+        assertThat(cache.get("k2")).isNull();
+    }
+
+    @Test
+    public void add_concurrentWriters_cacheStaysBounded() throws Exception {
+        GenerationalCache<Integer, Integer> cache = new GenerationalCache<>(100);
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 10_000;
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    cache.add(offset + i, i);
+                    cache.get(offset + i / 2);
+                }
+            }));
+        }
+        for (CompletableFuture<Void> writer : writers) {
+            writer.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(cache.size()).isLessThan(200);
+    }
+
+    @Test
+    public void create_zeroSize_throws() {
+        assertThatThrownBy(() -> new GenerationalCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -41,6 +41,7 @@ import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -97,6 +98,9 @@ public final class AwsExecutionContextBuilder {
             .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, clientConfig.option(SdkClientOption.ENDPOINT_OVERRIDDEN))
             .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER,
                           resolveEndpointProvider(originalRequest, clientConfig))
+            .putAttribute(SdkInternalExecutionAttribute.ENDPOINT_RESOLUTION_CACHE,
+                          resolveEndpointResolutionCache(originalRequest, clientConfig))
+            .putAttribute(SdkInternalExecutionAttribute.API_CALL_METRIC_COLLECTOR, metricCollector)
             .putAttribute(SdkInternalExecutionAttribute.CLIENT_CONTEXT_PARAMS,
                           clientConfig.option(SdkClientOption.CLIENT_CONTEXT_PARAMS))
             .putAttribute(SdkInternalExecutionAttribute.DISABLE_HOST_PREFIX_INJECTION,
@@ -219,5 +223,18 @@ public final class AwsExecutionContextBuilder {
                       .orElse(clientConfig.option(SdkClientOption.ENDPOINT_PROVIDER));
     }
 
+    /**
+     * Resolves the endpoint resolution cache for the request. Requests that override the endpoint provider don't use the
+     * cache, because their provider is often created per request (e.g. by the S3 cross-region client), and its entries would
+     * never be reused.
+     */
+    private static EndpointResolutionCache resolveEndpointResolutionCache(SdkRequest request,
+                                                                         SdkClientConfiguration clientConfig) {
+        boolean endpointProviderOverridden = request.overrideConfiguration()
+                                                    .flatMap(RequestOverrideConfiguration::endpointProvider)
+                                                    .isPresent();
+        return endpointProviderOverridden ? null : clientConfig.option(SdkClientOption.ENDPOINT_RESOLUTION_CACHE);
+    }
+
 
 }
@@ -36,6 +36,7 @@ import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.thirdparty.jackson.core.json.JsonReadFeature;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeFunction;
 
 /**
  * Parses an JSON document into a simple DOM-like structure, {@link JsonNode}.
@@ -111,6 +112,36 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Read the provided {@link InputStream} with a streaming {@link JsonParser} created from this parser's {@link JsonFactory},
+     * without building a {@link JsonNode} tree. This allows callers to convert the JSON directly into their own types. The
+     * {@code reader} is invoked with a parser that has not yet been advanced to the first token, and the parser is closed
+     * once the {@code reader} returns. The provided {@code InputStream} is not closed.
+     *
+     * <p>Parts of the document can still be read as a {@link JsonNode} with {@link #parseCurrentValue(JsonParser)}.
+     */
+    public <T> T parseStreaming(InputStream content, UnsafeFunction<JsonParser, T> reader) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                try {
+                    return reader.apply(parser);
+                } catch (Exception e) {
+                    removeErrorLocationsIfRequired(e);
+                    throw e;
+                }
+            }
+        });
+    }
+
+    /**
+     * Parse the value at the current token of the provided streaming {@link JsonParser} into a {@link JsonNode}. When this
+     * returns, the parser is positioned on the last token of the value.
+     */
+    public JsonNode parseCurrentValue(JsonParser parser) throws IOException {
+        return parseToken(parser, parser.currentToken());
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -19,8 +19,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricRecord;
@@ -29,12 +33,24 @@ import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * The default {@link MetricCollector}, which the event loop of the HTTP client, the retry logic and the calling thread may
+ * report to concurrently.
+ * <p>
+ * Reported metrics are prepended to a lock-free list, and {@link #collect()} builds the {@link MetricCollection} from a
+ * snapshot of that list, in reporting order.
+ */
 @SdkInternalApi
+@ThreadSafe
 public final class DefaultMetricCollector implements MetricCollector {
     private static final Logger log = Logger.loggerFor(DefaultMetricCollector.class);
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
-    private final List<MetricCollector> children = new ArrayList<>();
+
+    /**
+     * The most recently reported metric, which links to the metrics reported before it.
+     */
+    private final AtomicReference<ReportedMetric> lastReported = new AtomicReference<>();
+    private final Queue<MetricCollector> children = new ConcurrentLinkedQueue<>();
 
     public DefaultMetricCollector(String name) {
         this.name = name;
@@ -46,25 +62,29 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        ReportedMetric reported = new ReportedMetric(new DefaultMetricRecord<>(metric, data));
+        ReportedMetric previous;
+        do {
+            previous = lastReported.get();
+            reported.previous = previous;
+        } while (!lastReported.compareAndSet(previous, reported));
     }
 
     @Override
-    public synchronized MetricCollector createChild(String name) {
+    public MetricCollector createChild(String name) {
         MetricCollector child = new DefaultMetricCollector(name);
         children.add(child);
         return child;
     }
 
     @Override
-    public synchronized MetricCollection collect() {
+    public MetricCollection collect() {
         List<MetricCollection> collectedChildren = children.stream()
                 .map(MetricCollector::collect)
                 .collect(Collectors.toList());
 
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics(), collectedChildren);
 
         log.debug(() -> "Collected metrics records: " + metricRecords);
         return metricRecords;
@@ -78,6 +98,36 @@ public final class DefaultMetricCollector implements MetricCollector {
     @Override
     public String toString() {
         return ToString.builder("DefaultMetricCollector")
-            .add("metrics", metrics).build();
+            .add("metrics", metrics()).build();
+    }
+
+    /**
+     * @return The records of the metrics reported so far, by metric, in reporting order.
+     */
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> metrics() {
+        List<ReportedMetric> newestFirst = new ArrayList<>();
+        for (ReportedMetric reported = lastReported.get(); reported != null; reported = reported.previous) {
+            newestFirst.add(reported);
+        }
+
+        Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            ReportedMetric reported = newestFirst.get(i);
+            metrics.computeIfAbsent(reported.record.metric(), m -> new ArrayList<>()).add(reported.record);
+        }
+        return metrics;
+    }
+
+    private static final class ReportedMetric {
+        private final MetricRecord<?> record;
+
+        /**
+         * The metric reported before this one. Only written before this metric is published by {@link #reportMetric}.
+         */
+        private ReportedMetric previous;
+
+        private ReportedMetric(MetricRecord<?> record) {
+            this.record = record;
+        }
     }
 }
@@ -17,6 +17,14 @@ package software.amazon.awssdk.metrics.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Rule;
@@ -30,6 +38,8 @@ import software.amazon.awssdk.metrics.SdkMetric;
 
 public class DefaultMetricCollectorTest {
     private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Long> M2 = SdkMetric.create("m2", Long.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M3 = SdkMetric.create("m3", String.class, MetricLevel.INFO, MetricCategory.CORE);
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +80,67 @@ public class DefaultMetricCollectorTest {
         MetricCollection collected = parent.collect();
         assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
     }
+
+    @Test
+    public void testCollect_interleavedMetricsCollectedInReportingOrder() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(M2, 2L);
+        collector.reportMetric(M3, "three");
+        collector.reportMetric(M1, 4);
+        collector.reportMetric(M2, 5L);
+
+        MetricCollection collected = collector.collect();
+
+        assertThat(collected.metricValues(M1)).containsExactly(1, 4);
+        assertThat(collected.metricValues(M2)).containsExactly(2L, 5L);
+        assertThat(collected.metricValues(M3)).containsExactly("three");
+    }
+
+    @Test
+    public void testCollect_metricsReportedAfterCollect_notInEarlierCollection() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        MetricCollection first = collector.collect();
+        collector.reportMetric(M1, 2);
+
+        assertThat(first.metricValues(M1)).containsExactly(1);
+        assertThat(collector.collect().metricValues(M1)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testReportMetric_concurrentReports_allCollected() throws Exception {
+        int threads = 8;
+        int reportsPerThread = 10_000;
+        MetricCollector collector = MetricCollector.create("collector");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < reportsPerThread; i++) {
+                        collector.reportMetric(M1, thread * reportsPerThread + i);
+                    }
+                    collector.createChild("child" + thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        MetricCollection collected = collector.collect();
+
+        List<Integer> values = new ArrayList<>(collected.metricValues(M1));
+        values.sort(null);
+        assertThat(values).isEqualTo(IntStream.range(0, threads * reportsPerThread).boxed().collect(Collectors.toList()));
+        assertThat(collected.children()).hasSize(threads);
+    }
 }
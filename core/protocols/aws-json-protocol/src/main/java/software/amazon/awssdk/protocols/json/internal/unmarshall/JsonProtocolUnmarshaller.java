@@ -61,12 +61,15 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonStreamingUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = new JsonStreamingUnmarshaller(parser, instantStringToValue);
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -187,6 +190,13 @@ public final class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
+        if (hasPayloadMembersOnUnmarshall(sdkPojo)
+            && !hasExplicitPayloadMember(sdkPojo)
+            && response.content().isPresent()) {
+            // Most responses are a plain JSON object of members, which can be read without building a JsonNode tree first.
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+        }
+
         if (hasPayloadMembersOnUnmarshall(sdkPojo)
             && !hasExplicitBlobPayloadMember(sdkPojo)
             && !hasExplicitStringPayloadMember(sdkPojo)
@@ -198,6 +208,12 @@ public final class JsonProtocolUnmarshaller {
         }
     }
 
+    private boolean hasExplicitPayloadMember(SdkPojo sdkPojo) {
+        return sdkPojo.sdkFields()
+                      .stream()
+                      .anyMatch(JsonProtocolUnmarshaller::isExplicitPayloadMember);
+    }
+
     private boolean hasExplicitBlobPayloadMember(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields()
                       .stream()
@@ -224,11 +240,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
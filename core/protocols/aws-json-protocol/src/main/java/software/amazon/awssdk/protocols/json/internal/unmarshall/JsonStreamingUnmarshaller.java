@@ -0,0 +1,230 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a JSON payload directly from the tokens of a streaming {@link JsonParser} into {@link SdkPojo} builders, without
+ * first reading the whole payload into a {@link JsonNode} tree. Members that aren't modeled are skipped without being read
+ * into memory.
+ * <p>
+ * Values that aren't handled natively (documents, structures with an explicit payload member, or values whose JSON type doesn't
+ * match their modeled type) are read into a {@link JsonNode} and passed to the {@link JsonUnmarshaller} registered for their
+ * type, so the result is always the same as unmarshalling from a {@code JsonNode}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+    private static final Map<Class<?>, StructureFields> STRUCTURE_FIELDS = new ConcurrentHashMap<>();
+
+    private final JsonNodeParser parser;
+    private final Map<MarshallingType<?>, StringToValue<?>> scalarConverters;
+
+    JsonStreamingUnmarshaller(JsonNodeParser parser, StringToValue<Instant> instantStringToValue) {
+        this.parser = parser;
+        this.scalarConverters = createScalarConverters(instantStringToValue);
+    }
+
+    private static Map<MarshallingType<?>, StringToValue<?>> createScalarConverters(StringToValue<Instant> instantStringToValue) {
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Unmarshall the given response structure, reading its payload members from {@code content}.
+     */
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, InputStream content, JsonUnmarshallerContext context) {
+        return parser.parseStreaming(content, jsonParser -> {
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                return unmarshallStructure(sdkPojo, jsonParser, context);
+            }
+            // An empty payload, or a payload that isn't a JSON object, has no members to read.
+            jsonParser.skipChildren();
+            return unmarshallStructure(sdkPojo, null, context);
+        });
+    }
+
+    /**
+     * Unmarshall a structure. If {@code jsonParser} is not null, it must be positioned on the structure's
+     * {@link JsonToken#START_OBJECT}, and is left on the matching {@link JsonToken#END_OBJECT}.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructure(SdkPojo sdkPojo,
+                                                              JsonParser jsonParser,
+                                                              JsonUnmarshallerContext context) throws IOException {
+        StructureFields fields = structureFields(sdkPojo);
+
+        if (jsonParser != null) {
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                SdkField<Object> field = (SdkField<Object>) fields.payloadFields.get(jsonParser.getCurrentName());
+                JsonToken valueToken = jsonParser.nextToken();
+                if (field == null) {
+                    jsonParser.skipChildren();
+                } else {
+                    field.set(sdkPojo, unmarshallValue(field, jsonParser, valueToken, context));
+                }
+            }
+        }
+
+        for (SdkField<?> field : fields.nonPayloadFields) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Unmarshall the value at the current token. When this returns, the parser is positioned on the last token of the value.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<Object> field,
+                                   JsonParser jsonParser,
+                                   JsonToken token,
+                                   JsonUnmarshallerContext context) throws IOException {
+        MarshallingType<?> type = field.marshallingType();
+
+        if (token == JsonToken.VALUE_NULL && type != MarshallingType.DOCUMENT) {
+            return null;
+        }
+
+        if (isScalar(token)) {
+            StringToValue<Object> converter = (StringToValue<Object>) scalarConverters.get(type);
+            if (converter != null) {
+                return converter.convert(jsonParser.getText(), field);
+            }
+            if (type == MarshallingType.SDK_BYTES && token == JsonToken.VALUE_STRING) {
+                return TO_SDK_BYTES.convert(jsonParser.getText(), (SdkField<SdkBytes>) (SdkField<?>) field);
+            }
+        } else if (token == JsonToken.VALUE_EMBEDDED_OBJECT && type == MarshallingType.SDK_BYTES) {
+            // Binary protocols like CBOR may already have the raw bytes extracted.
+            return SdkBytes.fromByteArray((byte[]) jsonParser.getEmbeddedObject());
+        } else if (token == JsonToken.START_OBJECT && type == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = field.constructor().get();
+            if (!structureFields(sdkPojo).hasExplicitPayloadMember) {
+                return unmarshallStructure(sdkPojo, jsonParser, context);
+            }
+        } else if (token == JsonToken.START_OBJECT && type == MarshallingType.MAP) {
+            return unmarshallMap(field, jsonParser, context);
+        } else if (token == JsonToken.START_ARRAY && type == MarshallingType.LIST) {
+            return unmarshallList(field, jsonParser, context);
+        }
+
+        JsonNode value = parser.parseCurrentValue(jsonParser);
+        return context.getUnmarshaller(field.location(), type).unmarshall(context, value, field);
+    }
+
+    private Map<String, Object> unmarshallMap(SdkField<Object> field,
+                                              JsonParser jsonParser,
+                                              JsonUnmarshallerContext context) throws IOException {
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = jsonParser.getCurrentName();
+            map.put(key, unmarshallValue(valueInfo, jsonParser, jsonParser.nextToken(), context));
+        }
+        return map;
+    }
+
+    private List<Object> unmarshallList(SdkField<Object> field,
+                                        JsonParser jsonParser,
+                                        JsonUnmarshallerContext context) throws IOException {
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken token = jsonParser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(memberInfo, jsonParser, token, context));
+            token = jsonParser.nextToken();
+        }
+        return list;
+    }
+
+    private static boolean isScalar(JsonToken token) {
+        return token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT;
+    }
+
+    private static StructureFields structureFields(SdkPojo sdkPojo) {
+        List<SdkField<?>> sdkFields = sdkPojo.sdkFields();
+        StructureFields fields = STRUCTURE_FIELDS.get(sdkPojo.getClass());
+        if (fields != null && fields.sdkFields == sdkFields) {
+            return fields;
+        }
+        fields = new StructureFields(sdkFields);
+        STRUCTURE_FIELDS.put(sdkPojo.getClass(), fields);
+        return fields;
+    }
+
+    /**
+     * The fields of a structure, split by whether they're read from the JSON payload.
+     */
+    private static final class StructureFields {
+        private final List<SdkField<?>> sdkFields;
+        private final Map<String, SdkField<?>> payloadFields = new HashMap<>();
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private boolean hasExplicitPayloadMember;
+
+        private StructureFields(List<SdkField<?>> sdkFields) {
+            this.sdkFields = sdkFields;
+            for (SdkField<?> field : sdkFields) {
+                hasExplicitPayloadMember |= field.containsTrait(PayloadTrait.class);
+                if (field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.locationInUri(field.location())) {
+                    payloadFields.put(field.locationName(), field);
+                } else {
+                    nonPayloadFields.add(field);
+                }
+            }
+        }
+    }
+}
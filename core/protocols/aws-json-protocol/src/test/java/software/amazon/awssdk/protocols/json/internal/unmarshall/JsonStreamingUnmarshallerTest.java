@@ -0,0 +1,294 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonStreamingUnmarshallerTest {
+    private static final JsonNodeParser PARSER = JsonNodeParser.builder().build();
+
+    private static final JsonProtocolUnmarshaller UNMARSHALLER = JsonProtocolUnmarshaller.builder()
+                                                                                         .parser(PARSER)
+                                                                                         .defaultTimestampFormats(timestampFormats())
+                                                                                         .build();
+
+    private static final String ALL_MEMBERS_JSON =
+        "{"
+        + "\"StringMember\":\"foo\","
+        + "\"IntegerMember\":42,"
+        + "\"TimestampMember\":1693526400.5,"
+        + "\"BlobMember\":\"aGVsbG8=\","
+        + "\"ListMember\":[\"a\",null,\"c\"],"
+        + "\"MapMember\":{\"k1\":{\"StringMember\":\"v1\"},\"k2\":null},"
+        + "\"NestedMember\":{\"IntegerMember\":7,\"Unknown\":{\"a\":[1,2,{\"b\":3}]}},"
+        + "\"DocumentMember\":{\"a\":[1,true,\"s\",null]},"
+        + "\"UnknownMember\":[{\"x\":1},[2],\"y\"]"
+        + "}";
+
+    @Test
+    public void unmarshall_allMemberTypes_matchesDomUnmarshalling() {
+        TestStructure streamed = unmarshallStreaming(ALL_MEMBERS_JSON);
+
+        assertThat(streamed.stringMember).isEqualTo("foo");
+        assertThat(streamed.integerMember).isEqualTo(42);
+        assertThat(streamed.timestampMember).isEqualTo(Instant.ofEpochMilli(1693526400500L));
+        assertThat(streamed.blobMember.asUtf8String()).isEqualTo("hello");
+        assertThat(streamed.listMember).containsExactly("a", null, "c");
+        assertThat(streamed.mapMember).containsOnlyKeys("k1", "k2");
+        assertThat(streamed.mapMember.get("k1").stringMember).isEqualTo("v1");
+        assertThat(streamed.mapMember.get("k2")).isNull();
+        assertThat(streamed.nestedMember.integerMember).isEqualTo(7);
+        assertThat(streamed.documentMember.asMap().get("a").asList()).hasSize(4);
+        assertThat(streamed.headerMember).isEqualTo("header-value");
+        assertThat(streamed.nestedMember.headerMember).isEqualTo("header-value");
+
+        assertThat(streamed).isEqualTo(unmarshallDom(ALL_MEMBERS_JSON));
+    }
+
+    @Test
+    public void unmarshall_valueTypeDoesNotMatchModel_matchesDomUnmarshalling() {
+        String json = "{\"StringMember\":12.5,\"IntegerMember\":\"3\",\"BlobMember\":null}";
+
+        TestStructure streamed = unmarshallStreaming(json);
+
+        assertThat(streamed.stringMember).isEqualTo("12.5");
+        assertThat(streamed.integerMember).isEqualTo(3);
+        assertThat(streamed).isEqualTo(unmarshallDom(json));
+    }
+
+    @Test
+    public void unmarshall_nullDocumentMember_isNullDocument() {
+        TestStructure streamed = unmarshallStreaming("{\"DocumentMember\":null}");
+
+        assertThat(streamed.documentMember).isEqualTo(Document.fromNull());
+    }
+
+    @Test
+    public void unmarshall_emptyOrNonObjectPayload_onlyUnmarshallsNonPayloadMembers() {
+        for (String json : Arrays.asList("", "null", "[1,2]", "\"foo\"")) {
+            TestStructure streamed = unmarshallStreaming(json);
+
+            assertThat(streamed.stringMember).isNull();
+            assertThat(streamed.headerMember).isEqualTo("header-value");
+            assertThat(streamed).isEqualTo(unmarshallDom(json));
+        }
+    }
+
+    @Test
+    public void unmarshall_truncatedPayload_throwsException() {
+        assertThatThrownBy(() -> unmarshallStreaming("{\"StringMember\":\"foo\",\"ListMember\":[\"a\""))
+            .hasMessageContaining("end-of-input");
+    }
+
+    private static TestStructure unmarshallStreaming(String json) {
+        try {
+            return UNMARSHALLER.unmarshall(new TestStructure(), response(json));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static TestStructure unmarshallDom(String json) {
+        return UNMARSHALLER.unmarshall(new TestStructure(), response(json), PARSER.parse(json));
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                  .build();
+    }
+
+    private static Map<MarshallLocation, TimestampFormatTrait.Format> timestampFormats() {
+        Map<MarshallLocation, TimestampFormatTrait.Format> formats = new EnumMap<>(MarshallLocation.class);
+        formats.put(MarshallLocation.HEADER, TimestampFormatTrait.Format.RFC_822);
+        formats.put(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+        return formats;
+    }
+
+    /**
+     * A structure that acts as its own builder, covering each kind of member handled by the streaming unmarshaller.
+     */
+    private static final class TestStructure implements SdkPojo, Buildable {
+        private static final SdkField<String> STRING_MEMBER =
+            payloadField(MarshallingType.STRING, "StringMember", s -> s.stringMember, (s, v) -> s.stringMember = v);
+
+        private static final SdkField<Integer> INTEGER_MEMBER =
+            payloadField(MarshallingType.INTEGER, "IntegerMember", s -> s.integerMember, (s, v) -> s.integerMember = v);
+
+        private static final SdkField<Instant> TIMESTAMP_MEMBER =
+            payloadField(MarshallingType.INSTANT, "TimestampMember", s -> s.timestampMember, (s, v) -> s.timestampMember = v);
+
+        private static final SdkField<SdkBytes> BLOB_MEMBER =
+            payloadField(MarshallingType.SDK_BYTES, "BlobMember", s -> s.blobMember, (s, v) -> s.blobMember = v);
+
+        private static final SdkField<Document> DOCUMENT_MEMBER =
+            payloadField(MarshallingType.DOCUMENT, "DocumentMember", s -> s.documentMember, (s, v) -> s.documentMember = v);
+
+        private static final SdkField<TestStructure> NESTED_MEMBER =
+            SdkField.<TestStructure>builder(MarshallingType.SDK_POJO)
+                    .memberName("NestedMember")
+                    .getter(getter(s -> s.nestedMember))
+                    .setter(setter((s, v) -> s.nestedMember = v))
+                    .constructor(TestStructure::new)
+                    .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("NestedMember").build())
+                    .build();
+
+        private static final SdkField<List<String>> LIST_MEMBER =
+            SdkField.<List<String>>builder(MarshallingType.LIST)
+                    .memberName("ListMember")
+                    .getter(getter(s -> s.listMember))
+                    .setter(setter((s, v) -> s.listMember = v))
+                    .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("ListMember").build(),
+                            ListTrait.builder()
+                                     .memberLocationName(null)
+                                     .memberFieldInfo(SdkField.<String>builder(MarshallingType.STRING)
+                                                              .traits(LocationTrait.builder()
+                                                                                   .location(MarshallLocation.PAYLOAD)
+                                                                                   .locationName("member")
+                                                                                   .build())
+                                                              .build())
+                                     .build())
+                    .build();
+
+        private static final SdkField<Map<String, TestStructure>> MAP_MEMBER =
+            SdkField.<Map<String, TestStructure>>builder(MarshallingType.MAP)
+                    .memberName("MapMember")
+                    .getter(getter(s -> s.mapMember))
+                    .setter(setter((s, v) -> s.mapMember = v))
+                    .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("MapMember").build(),
+                            MapTrait.builder()
+                                    .keyLocationName("key")
+                                    .valueLocationName("value")
+                                    .valueFieldInfo(SdkField.<TestStructure>builder(MarshallingType.SDK_POJO)
+                                                            .constructor(TestStructure::new)
+                                                            .traits(LocationTrait.builder()
+                                                                                 .location(MarshallLocation.PAYLOAD)
+                                                                                 .locationName("value")
+                                                                                 .build())
+                                                            .build())
+                                    .build())
+                    .build();
+
+        private static final SdkField<String> HEADER_MEMBER =
+            SdkField.<String>builder(MarshallingType.STRING)
+                    .memberName("HeaderMember")
+                    .getter(getter(s -> s.headerMember))
+                    .setter(setter((s, v) -> s.headerMember = v))
+                    .traits(LocationTrait.builder().location(MarshallLocation.HEADER).locationName("x-amz-header").build())
+                    .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            STRING_MEMBER, INTEGER_MEMBER, TIMESTAMP_MEMBER, BLOB_MEMBER, DOCUMENT_MEMBER, NESTED_MEMBER, LIST_MEMBER,
+            MAP_MEMBER, HEADER_MEMBER));
+
+        private String stringMember;
+        private Integer integerMember;
+        private Instant timestampMember;
+        private SdkBytes blobMember;
+        private Document documentMember;
+        private TestStructure nestedMember;
+        private List<String> listMember;
+        private Map<String, TestStructure> mapMember;
+        private String headerMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public TestStructure build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TestStructure that = (TestStructure) o;
+            return Objects.equals(stringMember, that.stringMember)
+                   && Objects.equals(integerMember, that.integerMember)
+                   && Objects.equals(timestampMember, that.timestampMember)
+                   && Objects.equals(blobMember, that.blobMember)
+                   && Objects.equals(documentMember, that.documentMember)
+                   && Objects.equals(nestedMember, that.nestedMember)
+                   && Objects.equals(listMember, that.listMember)
+                   && Objects.equals(mapMember, that.mapMember)
+                   && Objects.equals(headerMember, that.headerMember);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stringMember, integerMember, timestampMember, blobMember, documentMember, nestedMember,
+                                listMember, mapMember, headerMember);
+        }
+
+        private static <T> SdkField<T> payloadField(MarshallingType<? super T> type,
+                                                    String name,
+                                                    Function<TestStructure, T> getter,
+                                                    BiConsumer<TestStructure, T> setter) {
+            return SdkField.<T>builder(type)
+                           .memberName(name)
+                           .getter(getter(getter))
+                           .setter(setter(setter))
+                           .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                           .build();
+        }
+
+        private static <T> Function<Object, T> getter(Function<TestStructure, T> g) {
+            return obj -> g.apply((TestStructure) obj);
+        }
+
+        private static <T> BiConsumer<Object, T> setter(BiConsumer<TestStructure, T> s) {
+            return (obj, val) -> s.accept((TestStructure) obj, val);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,9 +32,9 @@ import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -45,6 +46,13 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @SdkInternalApi
 public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+
+    private static final String REQUEST_ID = "requestId";
+
+    private static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE =
+        StringToInstant.create(defaultTimestampFormats());
+
     private static final QueryUnmarshallerRegistry UNMARSHALLER_REGISTRY = QueryUnmarshallerRegistry
         .builder()
         .unmarshaller(MarshallingType.STRING, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_STRING))
@@ -55,8 +63,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
         .unmarshaller(MarshallingType.BOOLEAN, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
         .unmarshaller(MarshallingType.DOUBLE, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
-        .unmarshaller(MarshallingType.INSTANT,
-                      new SimpleTypeQueryUnmarshaller<>(StringToInstant.create(defaultTimestampFormats())))
+        .unmarshaller(MarshallingType.INSTANT, new SimpleTypeQueryUnmarshaller<>(INSTANT_STRING_TO_VALUE))
         .unmarshaller(MarshallingType.SDK_BYTES, new SimpleTypeQueryUnmarshaller<>(StringToValueConverter.TO_SDK_BYTES))
         .unmarshaller(MarshallingType.LIST, new ListQueryUnmarshaller())
         .unmarshaller(MarshallingType.MAP, new MapQueryUnmarshaller())
@@ -65,6 +72,9 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final QueryStreamingUnmarshaller STREAMING_UNMARSHALLER =
+        new QueryStreamingUnmarshaller(INSTANT_STRING_TO_VALUE);
+
     private final boolean hasResultWrapper;
 
     private QueryProtocolUnmarshaller(Builder builder) {
@@ -82,11 +92,33 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
-        XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
+        XmlStreamingParser parser = response.content().map(XmlStreamingParser::create).orElse(null);
+        if (parser != null) {
+            return unmarshallStreaming(sdkPojo, parser);
+        }
+
+        // The response has no content
+        XmlElement document = XmlElement.empty();
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Unmarshall the response as its elements are read, without building an {@link XmlElement} tree of the whole document.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                        XmlStreamingParser parser) {
+        Map<String, String> metadata = new HashMap<>();
+        try {
+            SdkPojo result = STREAMING_UNMARSHALLER.unmarshallDocument(createContext(), sdkPojo, parser, hasResultWrapper,
+                                                                       metadata);
+            return Pair.of((TypeT) result, metadata);
+        } finally {
+            parser.close();
+        }
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -101,31 +133,52 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        QueryUnmarshallerContext unmarshallerContext = QueryUnmarshallerContext.builder()
-                                                                               .registry(UNMARSHALLER_REGISTRY)
-                                                                               .protocolUnmarshaller(this)
-                                                                               .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(createContext(), sdkPojo, resultRoot);
+    }
+
+    private QueryUnmarshallerContext createContext() {
+        return QueryUnmarshallerContext.builder()
+                                       .registry(UNMARSHALLER_REGISTRY)
+                                       .protocolUnmarshaller(this)
+                                       .build();
     }
 
-    private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+    /**
+     * @return The response metadata held by the top level elements of the given response document.
+     */
+    static Map<String, String> parseMetadata(XmlElement document) {
         Map<String, String> metadata = new HashMap<>();
-        if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+        addResponseMetadata(document.getElementByName(RESPONSE_METADATA), metadata);
+        addResponseMetadata(document.getElementByName(REQUEST_ID), metadata);
+        return metadata;
+    }
+
+    /**
+     * @return True if elements with the given name at the top level of the response document hold response metadata.
+     */
+    static boolean isResponseMetadataElement(String elementName) {
+        return RESPONSE_METADATA.equals(elementName) || REQUEST_ID.equals(elementName);
+    }
+
+    /**
+     * Add the response metadata held by the given top level element of the response document, if any.
+     */
+    static void addResponseMetadata(XmlElement element, Map<String, String> metadata) {
+        if (element == null) {
+            return;
         }
-        XmlElement requestId = document.getElementByName("requestId");
-        if (requestId != null) {
-            metadata.put(AWS_REQUEST_ID, requestId.textContent());
+        if (RESPONSE_METADATA.equals(element.elementName())) {
+            element.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+        } else if (REQUEST_ID.equals(element.elementName())) {
+            metadata.put(AWS_REQUEST_ID, element.textContent());
         }
-        return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
+    private static String metadataKeyName(XmlElement c) {
         return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
     }
 
-    private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
+    SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
         if (root != null) {
             for (SdkField<?> field : sdkPojo.sdkFields()) {
                 if (field.containsTrait(PayloadTrait.class) && field.marshallingType() == MarshallingType.SDK_BYTES) {
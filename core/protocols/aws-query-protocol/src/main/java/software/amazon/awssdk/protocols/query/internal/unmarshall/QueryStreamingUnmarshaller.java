@@ -0,0 +1,274 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an AWS/Query or EC2 response directly from a StAX {@link XmlStreamingParser} into {@link SdkPojo} builders,
+ * without first parsing the whole document into an {@link XmlElement} tree. Elements that aren't modeled are skipped
+ * without being read into memory.
+ * <p>
+ * Members that aren't handled natively (maps, and structures that bind their payload directly or have members sharing an
+ * element name) are read into an {@link XmlElement} and passed to the {@link QueryUnmarshaller} registered for their type, so
+ * the result is always the same as unmarshalling from the DOM.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class QueryStreamingUnmarshaller {
+    private static final Map<Class<?>, StructureFields> STRUCTURE_FIELDS = new ConcurrentHashMap<>();
+
+    private final Map<MarshallingType<?>, StringToValue<?>> scalarConverters;
+
+    QueryStreamingUnmarshaller(StringToValue<Instant> instantStringToValue) {
+        this.scalarConverters = createScalarConverters(instantStringToValue);
+    }
+
+    private static Map<MarshallingType<?>, StringToValue<?>> createScalarConverters(StringToValue<Instant> instantStringToValue) {
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Unmarshall a response document.
+     *
+     * @param context Unmarshaller context, used for members that are read into an {@link XmlElement}.
+     * @param sdkPojo Builder of the response structure.
+     * @param parser Parser positioned on the start of the document's root element.
+     * @param hasResultWrapper True if the response structure is bound to the first child of the root element, rather than
+     * the root element itself.
+     * @param metadata Map to populate with any response metadata found in the document.
+     * @return The unmarshalled response.
+     */
+    SdkPojo unmarshallDocument(QueryUnmarshallerContext context,
+                               SdkPojo sdkPojo,
+                               XmlStreamingParser parser,
+                               boolean hasResultWrapper,
+                               Map<String, String> metadata) {
+        if (!hasResultWrapper) {
+            return unmarshallStructure(context, sdkPojo, parser, metadata);
+        }
+
+        SdkPojo result = null;
+        boolean isFirstChild = true;
+        while (parser.nextChildElement()) {
+            if (QueryProtocolUnmarshaller.isResponseMetadataElement(parser.elementName())) {
+                XmlElement element = parser.readElement();
+                QueryProtocolUnmarshaller.addResponseMetadata(element, metadata);
+                if (isFirstChild) {
+                    result = context.protocolUnmarshaller().unmarshall(context, sdkPojo, element);
+                }
+            } else if (isFirstChild) {
+                result = unmarshallStructure(context, sdkPojo, parser, null);
+            } else {
+                parser.skipElement();
+            }
+            isFirstChild = false;
+        }
+
+        return result != null ? result : context.protocolUnmarshaller().unmarshall(context, sdkPojo, null);
+    }
+
+    /**
+     * Unmarshall the structure of the current element. When this returns, the parser is positioned on the end of that
+     * element.
+     *
+     * @param metadata If not null, response metadata elements found in the structure are added to this map.
+     */
+    @SuppressWarnings("unchecked")
+    private SdkPojo unmarshallStructure(QueryUnmarshallerContext context,
+                                        SdkPojo sdkPojo,
+                                        XmlStreamingParser parser,
+                                        Map<String, String> metadata) {
+        StructureFields fields = structureFields(sdkPojo);
+        if (!fields.isStreamable) {
+            XmlElement element = parser.readElement();
+            if (metadata != null) {
+                for (XmlElement child : element.children()) {
+                    if (QueryProtocolUnmarshaller.isResponseMetadataElement(child.elementName())) {
+                        QueryProtocolUnmarshaller.addResponseMetadata(child, metadata);
+                    }
+                }
+            }
+            return context.protocolUnmarshaller().unmarshall(context, sdkPojo, element);
+        }
+
+        boolean[] isSet = new boolean[fields.fields.size()];
+        Map<Integer, List<Object>> flattenedLists = null;
+        Map<Integer, List<XmlElement>> unparsedElements = null;
+
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            Integer index = fields.indexByElementName.get(elementName);
+
+            if (metadata != null && QueryProtocolUnmarshaller.isResponseMetadataElement(elementName)) {
+                XmlElement element = parser.readElement();
+                QueryProtocolUnmarshaller.addResponseMetadata(element, metadata);
+                if (index != null) {
+                    unparsedElements = add(unparsedElements, index, element);
+                }
+                continue;
+            }
+
+            if (index == null) {
+                parser.skipElement();
+                continue;
+            }
+
+            SdkField<Object> field = (SdkField<Object>) fields.fields.get(index);
+            if (isFlattenedList(field)) {
+                SdkField<Object> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+                flattenedLists = add(flattenedLists, index, unmarshallElement(context, memberField, parser));
+            } else if (isUnparsed(field)) {
+                unparsedElements = add(unparsedElements, index, parser.readElement());
+            } else if (isSet[index]) {
+                // Only the first element bound to a member is used
+                parser.skipElement();
+            } else {
+                field.set(sdkPojo, unmarshallElement(context, field, parser));
+                isSet[index] = true;
+            }
+        }
+
+        if (flattenedLists != null) {
+            flattenedLists.forEach((i, list) -> fields.fields.get(i).set(sdkPojo, list));
+        }
+        if (unparsedElements != null) {
+            unparsedElements.forEach((i, elements) -> {
+                SdkField<Object> field = (SdkField<Object>) fields.fields.get(i);
+                QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, elements, field));
+            });
+        }
+
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Unmarshall the value of the current element. When this returns, the parser is positioned on the end of that element.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallElement(QueryUnmarshallerContext context,
+                                     SdkField<Object> field,
+                                     XmlStreamingParser parser) {
+        MarshallingType<?> type = field.marshallingType();
+
+        StringToValue<Object> converter = (StringToValue<Object>) scalarConverters.get(type);
+        if (converter != null) {
+            return converter.convert(parser.readText(), field);
+        }
+
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(context, field.constructor().get(), parser, null);
+        }
+
+        if (type == MarshallingType.LIST && !field.getTrait(ListTrait.class).isFlattened()) {
+            // There have been cases in EC2 where the member name is not modeled correctly so we read all direct children
+            // instead and don't care about member name, as ListQueryUnmarshaller does.
+            SdkField<Object> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+            List<Object> list = new ArrayList<>();
+            while (parser.nextChildElement()) {
+                list.add(unmarshallElement(context, memberField, parser));
+            }
+            return list;
+        }
+
+        QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), type);
+        return unmarshaller.unmarshall(context, singletonList(parser.readElement()), field);
+    }
+
+    private static boolean isFlattenedList(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST && field.getTrait(ListTrait.class).isFlattened();
+    }
+
+    /**
+     * Members that aren't a scalar, structure or list are collected as {@link XmlElement}s and unmarshalled once the whole
+     * structure has been read, since flattened members may be split across several elements.
+     */
+    private boolean isUnparsed(SdkField<?> field) {
+        MarshallingType<?> type = field.marshallingType();
+        return !scalarConverters.containsKey(type) && type != MarshallingType.SDK_POJO && type != MarshallingType.LIST;
+    }
+
+    private static <T> Map<Integer, List<T>> add(Map<Integer, List<T>> values, Integer index, T value) {
+        Map<Integer, List<T>> result = values != null ? values : new LinkedHashMap<>();
+        result.computeIfAbsent(index, i -> new ArrayList<>()).add(value);
+        return result;
+    }
+
+    private static StructureFields structureFields(SdkPojo sdkPojo) {
+        List<SdkField<?>> sdkFields = sdkPojo.sdkFields();
+        StructureFields fields = STRUCTURE_FIELDS.get(sdkPojo.getClass());
+        if (fields != null && fields.fields == sdkFields) {
+            return fields;
+        }
+        fields = new StructureFields(sdkFields);
+        STRUCTURE_FIELDS.put(sdkPojo.getClass(), fields);
+        return fields;
+    }
+
+    /**
+     * The fields of a structure, indexed by the name of the element they're unmarshalled from.
+     */
+    private static final class StructureFields {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Integer> indexByElementName = new HashMap<>();
+        private final boolean isStreamable;
+
+        private StructureFields(List<SdkField<?>> fields) {
+            this.fields = fields;
+            boolean streamable = true;
+            for (int i = 0; i < fields.size(); i++) {
+                SdkField<?> field = fields.get(i);
+                if (field.containsTrait(PayloadTrait.class)
+                    || indexByElementName.put(field.unmarshallLocationName(), i) != null) {
+                    streamable = false;
+                }
+            }
+            this.isStreamable = streamable;
+        }
+    }
+}
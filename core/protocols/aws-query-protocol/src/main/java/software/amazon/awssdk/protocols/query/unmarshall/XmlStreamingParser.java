@@ -0,0 +1,247 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Reads an XML document incrementally with a StAX {@link XMLStreamReader}, so that unmarshallers can bind elements as they
+ * arrive instead of first building an {@link XmlElement} tree with {@link XmlDomParser}.
+ * <p>
+ * Elements read by this parser have the same text content and attributes as the equivalent {@link XmlElement} produced by
+ * {@link XmlDomParser}, and any part of the document can still be read as an {@link XmlElement} with {@link #readElement()}.
+ */
+@SdkProtectedApi
+public final class XmlStreamingParser implements SdkAutoCloseable {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
+
+    private final XMLStreamReader reader;
+
+    private XmlStreamingParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Create a parser for the XML document in the provided stream, positioned on the start of its root element.
+     *
+     * @param inputStream Stream containing the XML document. This is not closed by the parser.
+     * @return A parser positioned on the root element, or null if the stream is empty.
+     */
+    public static XmlStreamingParser create(InputStream inputStream) {
+        LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            // Skip ahead to the first start element
+            while (reader.getEventType() != START_ELEMENT) {
+                reader.next();
+            }
+            return new XmlStreamingParser(reader);
+        } catch (IOException | XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * @return The name of the element the parser is positioned on.
+     */
+    public String elementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Read the attributes of the element the parser is positioned on the start of. Attributes are keyed the same way as
+     * {@link XmlElement#attributes()}.
+     *
+     * @return The attributes of the element.
+     */
+    public Map<String, String> attributes() {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            attributes.put(key, reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    /**
+     * Advance to the start of the next child of the current element.
+     *
+     * @return True if the parser is now positioned on the start of a child element, or false if it's positioned on the end
+     * of the parent element.
+     */
+    public boolean nextChildElement() {
+        try {
+            while (true) {
+                int event = reader.next();
+                if (event == START_ELEMENT) {
+                    return true;
+                }
+                if (event == END_ELEMENT) {
+                    return false;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Read the text content of the element the parser is positioned on the start of, skipping over any child elements. When
+     * this returns, the parser is positioned on the end of that element.
+     *
+     * @return The text content of the element, or an empty string if it has none.
+     */
+    public String readText() {
+        try {
+            return readContent(null);
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Skip the element the parser is positioned on the start of, and all of its children. When this returns, the parser is
+     * positioned on the end of that element.
+     */
+    public void skipElement() {
+        try {
+            skip();
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Read the element the parser is positioned on the start of, and all of its children, into an {@link XmlElement}. When
+     * this returns, the parser is positioned on the end of that element.
+     *
+     * @return Parsed {@link XmlElement}.
+     */
+    public XmlElement readElement() {
+        try {
+            return read();
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Release the resources held by the parser. The underlying stream is not closed.
+     */
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    private XmlElement read() throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder()
+                                                      .elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            elementBuilder.attributes(attributes());
+        }
+
+        return elementBuilder.textContent(readContent(elementBuilder))
+                             .build();
+    }
+
+    private void skip() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Read the content of the current element, returning its text. Child elements are added to {@code elementBuilder}, or
+     * skipped if it's null.
+     * <p>
+     * Like {@link XmlDomParser}, the text content of an element is its last run of contiguous character data.
+     */
+    private String readContent(XmlElement.Builder elementBuilder) throws XMLStreamException {
+        String text = "";
+        StringBuilder textBuilder = null;
+        boolean inText = false;
+
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    if (!inText) {
+                        text = reader.getText();
+                        textBuilder = null;
+                        inText = true;
+                    } else {
+                        if (textBuilder == null) {
+                            textBuilder = new StringBuilder(text);
+                        }
+                        textBuilder.append(reader.getText());
+                    }
+                    break;
+                case START_ELEMENT:
+                    if (elementBuilder != null) {
+                        elementBuilder.addChildElement(read());
+                    } else {
+                        skip();
+                    }
+                    inText = false;
+                    break;
+                case END_ELEMENT:
+                    return textBuilder != null ? textBuilder.toString() : text;
+                default:
+                    inText = false;
+                    break;
+            }
+        }
+    }
+
+    private static SdkClientException parseException(Exception e) {
+        return SdkClientException.create("Could not parse XML response.", e);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamingParserTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                      + "<!-- comment -->"
+                                      + "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\">"
+                                      + " <stringMember>stringVal</stringMember>"
+                                      + " <escapedMember>a &amp; b <![CDATA[<c>]]></escapedMember>"
+                                      + " <emptyMember/>"
+                                      + " <nested attr=\"value\">"
+                                      + "  <member>valOne</member>"
+                                      + "  <member>valTwo</member>"
+                                      + " </nested>"
+                                      + " <mixed>first<child>ignored</child>second<!-- comment -->third</mixed>"
+                                      + "</Struct>";
+
+    @Test
+    public void create_positionedOnRootElement() {
+        XmlStreamingParser parser = XmlStreamingParser.create(new StringInputStream(XML));
+        assertThat(parser.elementName()).isEqualTo("Struct");
+        assertThat(parser.attributes()).containsOnlyKeys("xsi:type").containsEntry("xsi:type", "foo");
+    }
+
+    @Test
+    public void create_emptyStream_returnsNull() {
+        assertThat(XmlStreamingParser.create(new StringInputStream(""))).isNull();
+    }
+
+    @Test
+    public void readElement_matchesXmlDomParser() {
+        XmlStreamingParser parser = XmlStreamingParser.create(new StringInputStream(XML));
+        assertSameElement(parser.readElement(), XmlDomParser.parse(new StringInputStream(XML)));
+    }
+
+    @Test
+    public void readText_matchesXmlDomParser() {
+        XmlElement document = XmlDomParser.parse(new StringInputStream(XML));
+        XmlStreamingParser parser = XmlStreamingParser.create(new StringInputStream(XML));
+
+        int children = 0;
+        while (parser.nextChildElement()) {
+            XmlElement expected = document.children().get(children++);
+            assertThat(parser.elementName()).isEqualTo(expected.elementName());
+            assertThat(parser.readText()).isEqualTo(expected.textContent());
+        }
+        assertThat(children).isEqualTo(document.children().size());
+        assertThat(parser.elementName()).isEqualTo("Struct");
+    }
+
+    @Test
+    public void skipElement_skipsNestedElements() {
+        XmlStreamingParser parser = XmlStreamingParser.create(new StringInputStream(XML));
+
+        StringBuilder names = new StringBuilder();
+        while (parser.nextChildElement()) {
+            names.append(parser.elementName()).append(',');
+            parser.skipElement();
+        }
+        assertThat(names.toString()).isEqualTo("stringMember,escapedMember,emptyMember,nested,mixed,");
+    }
+
+    @Test
+    public void invalidXml_throwsSdkClientException() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <member>valOne"
+                     + " <member>valTwo</member>"
+                     + "</Struct>";
+        XmlStreamingParser parser = XmlStreamingParser.create(new StringInputStream(xml));
+        assertThatThrownBy(() -> parser.readElement()).isInstanceOf(SdkClientException.class);
+    }
+
+    private static void assertSameElement(XmlElement actual, XmlElement expected) {
+        assertThat(actual.elementName()).isEqualTo(expected.elementName());
+        assertThat(actual.textContent()).isEqualTo(expected.textContent());
+        assertThat(actual.attributes()).isEqualTo(expected.attributes());
+        assertThat(actual.children()).hasSameSizeAs(expected.children());
+        for (int i = 0; i < expected.children().size(); i++) {
+            assertSameElement(actual.children().get(i), expected.children().get(i));
+        }
+    }
+}
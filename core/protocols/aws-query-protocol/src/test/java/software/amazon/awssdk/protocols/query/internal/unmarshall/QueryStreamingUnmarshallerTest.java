@@ -0,0 +1,371 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class QueryStreamingUnmarshallerTest {
+    private static final QueryProtocolUnmarshaller QUERY_UNMARSHALLER =
+        QueryProtocolUnmarshaller.builder().hasResultWrapper(true).build();
+
+    private static final QueryProtocolUnmarshaller EC2_UNMARSHALLER =
+        QueryProtocolUnmarshaller.builder().hasResultWrapper(false).build();
+
+    private static final String ALL_MEMBERS_XML =
+        "<StringMember>foo</StringMember>"
+        + "<IntegerMember>42</IntegerMember>"
+        + "<TimestampMember>2023-09-01T00:00:00.500Z</TimestampMember>"
+        + "<BlobMember>aGVsbG8=</BlobMember>"
+        + "<UnknownMember><a><b>1</b></a></UnknownMember>"
+        + "<ListMember><member>a</member><item>b</item></ListMember>"
+        + "<FlatMember>x</FlatMember>"
+        + "<NestedMember><IntegerMember>7</IntegerMember><Unknown/></NestedMember>"
+        + "<FlatMember>y</FlatMember>"
+        + "<MapMember>"
+        + "<entry><key>k1</key><value>v1</value></entry>"
+        + "<entry><key>k2</key><value>v2</value></entry>"
+        + "</MapMember>"
+        + "<StringMember>ignored</StringMember>";
+
+    private static final String SHARED_ELEMENT_XML =
+        "<Value>foo</Value>"
+        + "<NestedMember><StringMember>bar</StringMember><ListMember><member>a</member></ListMember></NestedMember>";
+
+    @Test
+    public void unmarshall_queryResponse_matchesDomUnmarshalling() {
+        String xml = "<OperationResponse xmlns=\"https://example.amazonaws.com/doc/2023-09-01/\">"
+                     + "<OperationResult>" + ALL_MEMBERS_XML + "</OperationResult>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId><Other>other</Other></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<TestStructure, Map<String, String>> streamed = unmarshallStreaming(QUERY_UNMARSHALLER, TestStructure::new, xml);
+
+        TestStructure result = streamed.left();
+        assertThat(result.stringMember).isEqualTo("foo");
+        assertThat(result.integerMember).isEqualTo(42);
+        assertThat(result.timestampMember).isEqualTo(Instant.parse("2023-09-01T00:00:00.500Z"));
+        assertThat(result.blobMember.asUtf8String()).isEqualTo("hello");
+        assertThat(result.listMember).containsExactly("a", "b");
+        assertThat(result.flatMember).containsExactly("x", "y");
+        assertThat(result.nestedMember.integerMember).isEqualTo(7);
+        assertThat(result.mapMember).containsOnly(entry("k1", "v1"), entry("k2", "v2"));
+        assertThat(streamed.right()).containsEntry(AWS_REQUEST_ID, "request-id").containsEntry("Other", "other");
+
+        assertSameAsDom(streamed, unmarshallDom(QUERY_UNMARSHALLER, TestStructure::new, xml));
+    }
+
+    @Test
+    public void unmarshall_ec2Response_matchesDomUnmarshalling() {
+        String xml = "<OperationResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + "<requestId>request-id</requestId>"
+                     + ALL_MEMBERS_XML
+                     + "</OperationResponse>";
+
+        Pair<TestStructure, Map<String, String>> streamed = unmarshallStreaming(EC2_UNMARSHALLER, TestStructure::new, xml);
+
+        assertThat(streamed.left().stringMember).isEqualTo("foo");
+        assertThat(streamed.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+        assertSameAsDom(streamed, unmarshallDom(EC2_UNMARSHALLER, TestStructure::new, xml));
+    }
+
+    @Test
+    public void unmarshall_ec2ResponseOfNonStreamableShape_keepsResponseMetadata() {
+        String xml = "<OperationResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + SHARED_ELEMENT_XML
+                     + "<requestId>request-id</requestId>"
+                     + "</OperationResponse>";
+
+        Pair<SharedElementStructure, Map<String, String>> streamed =
+            unmarshallStreaming(EC2_UNMARSHALLER, SharedElementStructure::new, xml);
+
+        assertThat(streamed.left().value).isEqualTo("foo");
+        assertThat(streamed.left().valueCopy).isEqualTo("foo");
+        assertThat(streamed.left().nestedMember.listMember).containsExactly("a");
+        assertThat(streamed.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+        assertSameAsDom(streamed, unmarshallDom(EC2_UNMARSHALLER, SharedElementStructure::new, xml));
+    }
+
+    @Test
+    public void unmarshall_queryResponseOfNonStreamableShape_matchesDomUnmarshalling() {
+        String xml = "<OperationResponse>"
+                     + "<OperationResult>" + SHARED_ELEMENT_XML + "</OperationResult>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<SharedElementStructure, Map<String, String>> streamed =
+            unmarshallStreaming(QUERY_UNMARSHALLER, SharedElementStructure::new, xml);
+
+        assertThat(streamed.left().value).isEqualTo("foo");
+        assertThat(streamed.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+        assertSameAsDom(streamed, unmarshallDom(QUERY_UNMARSHALLER, SharedElementStructure::new, xml));
+    }
+
+    @Test
+    public void unmarshall_queryResponseWithoutResult_matchesDomUnmarshalling() {
+        String xml = "<OperationResponse>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<TestStructure, Map<String, String>> streamed = unmarshallStreaming(QUERY_UNMARSHALLER, TestStructure::new, xml);
+
+        assertThat(streamed.left().stringMember).isNull();
+        assertThat(streamed.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+        assertSameAsDom(streamed, unmarshallDom(QUERY_UNMARSHALLER, TestStructure::new, xml));
+    }
+
+    private static <T extends SdkPojo> Pair<T, Map<String, String>> unmarshallStreaming(QueryProtocolUnmarshaller unmarshaller,
+                                                                                        Supplier<T> builder,
+                                                                                        String xml) {
+        return unmarshaller.unmarshall(builder.get(), response(xml));
+    }
+
+    /**
+     * Unmarshall the response the way it was done before streaming: parse the whole document into an {@link XmlElement} tree
+     * and unmarshall the result from it.
+     */
+    private static <T extends SdkPojo> Pair<T, Map<String, String>> unmarshallDom(QueryProtocolUnmarshaller unmarshaller,
+                                                                                  Supplier<T> builder,
+                                                                                  String xml) {
+        XmlElement document = XmlDomParser.parse(new StringInputStream(xml));
+        XmlElement resultRoot = unmarshaller == QUERY_UNMARSHALLER ? document.getFirstChild() : document;
+        T result = unmarshaller.unmarshall(builder.get(), resultRoot, response(xml));
+        return Pair.of(result, QueryProtocolUnmarshaller.parseMetadata(document));
+    }
+
+    private static void assertSameAsDom(Pair<?, Map<String, String>> streamed, Pair<?, Map<String, String>> dom) {
+        assertThat(streamed.left()).isEqualTo(dom.left());
+        assertThat(streamed.right()).isEqualTo(dom.right());
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static <T, S> SdkField<T> field(MarshallingType<? super T> type,
+                                            String name,
+                                            String locationName,
+                                            Function<S, T> getter,
+                                            BiConsumer<S, T> setter) {
+        return fieldBuilder(type, name, locationName, getter, setter).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> SdkField.Builder<T> fieldBuilder(MarshallingType<? super T> type,
+                                                           String name,
+                                                           String locationName,
+                                                           Function<S, T> getter,
+                                                           BiConsumer<S, T> setter) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(obj -> getter.apply((S) obj))
+                       .setter((obj, val) -> setter.accept((S) obj, val))
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(locationName).build());
+    }
+
+    private static <T> SdkField<T> memberField(MarshallingType<? super T> type, String locationName) {
+        return SdkField.<T>builder(type)
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(locationName).build())
+                       .build();
+    }
+
+    /**
+     * A structure that acts as its own builder, covering each kind of member handled by the streaming unmarshaller.
+     */
+    private static final class TestStructure implements SdkPojo, Buildable {
+        private static final SdkField<String> STRING_MEMBER =
+            field(MarshallingType.STRING, "StringMember", "StringMember",
+                  (TestStructure s) -> s.stringMember, (s, v) -> s.stringMember = v);
+
+        private static final SdkField<Integer> INTEGER_MEMBER =
+            field(MarshallingType.INTEGER, "IntegerMember", "IntegerMember",
+                  (TestStructure s) -> s.integerMember, (s, v) -> s.integerMember = v);
+
+        private static final SdkField<Instant> TIMESTAMP_MEMBER =
+            field(MarshallingType.INSTANT, "TimestampMember", "TimestampMember",
+                  (TestStructure s) -> s.timestampMember, (s, v) -> s.timestampMember = v);
+
+        private static final SdkField<SdkBytes> BLOB_MEMBER =
+            field(MarshallingType.SDK_BYTES, "BlobMember", "BlobMember",
+                  (TestStructure s) -> s.blobMember, (s, v) -> s.blobMember = v);
+
+        private static final SdkField<TestStructure> NESTED_MEMBER =
+            QueryStreamingUnmarshallerTest.<TestStructure, TestStructure>fieldBuilder(
+                MarshallingType.SDK_POJO, "NestedMember", "NestedMember", s -> s.nestedMember, (s, v) -> s.nestedMember = v)
+                .constructor(TestStructure::new)
+                .build();
+
+        private static final SdkField<List<String>> LIST_MEMBER =
+            QueryStreamingUnmarshallerTest.<List<String>, TestStructure>fieldBuilder(
+                MarshallingType.LIST, "ListMember", "ListMember", s -> s.listMember, (s, v) -> s.listMember = v)
+                .traits(ListTrait.builder()
+                                 .memberLocationName("member")
+                                 .memberFieldInfo(memberField(MarshallingType.STRING, "member"))
+                                 .build())
+                .build();
+
+        private static final SdkField<List<String>> FLAT_MEMBER =
+            QueryStreamingUnmarshallerTest.<List<String>, TestStructure>fieldBuilder(
+                MarshallingType.LIST, "FlatMember", "FlatMember", s -> s.flatMember, (s, v) -> s.flatMember = v)
+                .traits(ListTrait.builder()
+                                 .isFlattened(true)
+                                 .memberFieldInfo(memberField(MarshallingType.STRING, "FlatMember"))
+                                 .build())
+                .build();
+
+        private static final SdkField<Map<String, String>> MAP_MEMBER =
+            QueryStreamingUnmarshallerTest.<Map<String, String>, TestStructure>fieldBuilder(
+                MarshallingType.MAP, "MapMember", "MapMember", s -> s.mapMember, (s, v) -> s.mapMember = v)
+                .traits(MapTrait.builder()
+                                .keyLocationName("key")
+                                .valueLocationName("value")
+                                .valueFieldInfo(memberField(MarshallingType.STRING, "value"))
+                                .build())
+                .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            STRING_MEMBER, INTEGER_MEMBER, TIMESTAMP_MEMBER, BLOB_MEMBER, NESTED_MEMBER, LIST_MEMBER, FLAT_MEMBER, MAP_MEMBER));
+
+        private String stringMember;
+        private Integer integerMember;
+        private Instant timestampMember;
+        private SdkBytes blobMember;
+        private TestStructure nestedMember;
+        private List<String> listMember;
+        private List<String> flatMember;
+        private Map<String, String> mapMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public TestStructure build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TestStructure that = (TestStructure) o;
+            return Objects.equals(stringMember, that.stringMember)
+                   && Objects.equals(integerMember, that.integerMember)
+                   && Objects.equals(timestampMember, that.timestampMember)
+                   && Objects.equals(blobMember, that.blobMember)
+                   && Objects.equals(nestedMember, that.nestedMember)
+                   && Objects.equals(listMember, that.listMember)
+                   && Objects.equals(flatMember, that.flatMember)
+                   && Objects.equals(mapMember, that.mapMember);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(stringMember, integerMember, timestampMember, blobMember, nestedMember, listMember, flatMember,
+                                mapMember);
+        }
+    }
+
+    /**
+     * A structure with two members bound to the same element, which the streaming unmarshaller reads into an
+     * {@link XmlElement} and unmarshalls from the DOM.
+     */
+    private static final class SharedElementStructure implements SdkPojo, Buildable {
+        private static final SdkField<String> VALUE =
+            field(MarshallingType.STRING, "Value", "Value", (SharedElementStructure s) -> s.value, (s, v) -> s.value = v);
+
+        private static final SdkField<String> VALUE_COPY =
+            field(MarshallingType.STRING, "ValueCopy", "Value",
+                  (SharedElementStructure s) -> s.valueCopy, (s, v) -> s.valueCopy = v);
+
+        private static final SdkField<TestStructure> NESTED_MEMBER =
+            QueryStreamingUnmarshallerTest.<TestStructure, SharedElementStructure>fieldBuilder(
+                MarshallingType.SDK_POJO, "NestedMember", "NestedMember", s -> s.nestedMember, (s, v) -> s.nestedMember = v)
+                .constructor(TestStructure::new)
+                .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS =
+            Collections.unmodifiableList(Arrays.asList(VALUE, VALUE_COPY, NESTED_MEMBER));
+
+        private String value;
+        private String valueCopy;
+        private TestStructure nestedMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public SharedElementStructure build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedElementStructure that = (SharedElementStructure) o;
+            return Objects.equals(value, that.value)
+                   && Objects.equals(valueCopy, that.valueCopy)
+                   && Objects.equals(nestedMember, that.nestedMember);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, valueCopy, nestedMember);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -113,13 +114,32 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        XmlStreamingParser parser = XmlResponseParserUtils.createParser(sdkPojo, httpFullResponse);
+        if (parser == null) {
+            return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, httpFullResponse)).build();
+        }
+
+        if (DecorateErrorFromResponseBodyUnmarshaller.isErrorInSuccessBodyElement(parser.elementName())) {
+            // An error in the body of a successful response needs to be parsed, so that it can be found by
+            // decorateContextWithError and unmarshalled as an exception.
+            return context.parsedXml(readElement(parser)).build();
+        }
+
+        // Otherwise the body is unmarshalled as it's read by the success response transformer.
+        return context.rootXmlParser(parser).build();
+    }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+    private static XmlElement readElement(XmlStreamingParser parser) {
+        try {
+            return parser.readElement();
+        } finally {
+            parser.close();
+        }
     }
 
     /**
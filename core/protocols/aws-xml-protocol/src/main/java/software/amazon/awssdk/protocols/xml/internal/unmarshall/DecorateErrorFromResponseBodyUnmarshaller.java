@@ -77,7 +77,14 @@ public class DecorateErrorFromResponseBodyUnmarshaller
     }
 
     private static Optional<XmlElement> getErrorRootFromSuccessBody(XmlElement document) {
-        return ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(document.elementName()) ?
+        return isErrorInSuccessBodyElement(document.elementName()) ?
             Optional.of(document) : Optional.empty();
     }
+
+    /**
+     * @return True if a root element with the given name in the body of a 'successful' response is a serialized error.
+     */
+    static boolean isErrorInSuccessBodyElement(String rootElementName) {
+        return ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(rootElementName);
+    }
 }
@@ -38,6 +38,7 @@ import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -58,10 +59,31 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        XmlStreamingParser parser = XmlResponseParserUtils.createParser(sdkPojo, response);
+        if (parser != null) {
+            return unmarshall(sdkPojo, parser, response);
+        }
         XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshall a response as its elements are read, without building an {@link XmlElement} tree of the whole document.
+     *
+     * @param parser Parser positioned on the start of the document's root element. This is closed once the response has been
+     * unmarshalled.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XmlStreamingParser parser,
+                                                    SdkHttpFullResponse response) {
+        try {
+            return (TypeT) XmlStreamingUnmarshaller.unmarshallStructure(createContext(response), sdkPojo, parser);
+        } finally {
+            parser.close();
+        }
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -70,12 +92,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
-                                                                           .response(response)
-                                                                           .registry(REGISTRY)
-                                                                           .protocolUnmarshaller(this)
-                                                                           .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(createContext(response), sdkPojo, resultRoot);
+    }
+
+    private XmlUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return XmlUnmarshallerContext.builder()
+                                     .response(response)
+                                     .registry(REGISTRY)
+                                     .protocolUnmarshaller(this)
+                                     .build();
     }
 
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
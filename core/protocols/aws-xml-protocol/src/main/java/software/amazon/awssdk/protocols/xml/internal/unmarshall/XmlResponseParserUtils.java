@@ -28,6 +28,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
 import software.amazon.awssdk.utils.LookaheadInputStream;
 
 /**
@@ -72,6 +73,26 @@ public final class XmlResponseParserUtils {
         }
     }
 
+    /**
+     * Create a streaming parser for a successful XML response if a payload is expected and available, so that it can be
+     * unmarshalled without parsing it with {@link #parse(SdkPojo, SdkHttpFullResponse)}.
+     * @param sdkPojo the SDK builder object associated with the final response
+     * @param response the HTTP response
+     * @return A parser positioned on the root element of the response, or null if the response should be parsed instead.
+     */
+    public static XmlStreamingParser createParser(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        Optional<AbortableInputStream> responseContent = response.content();
+
+        if (!responseContent.isPresent() ||
+            !response.isSuccessful() ||
+            !hasPayloadMembers(sdkPojo) ||
+            getBlobTypePayloadMemberToUnmarshal(sdkPojo).isPresent()) {
+            return null;
+        }
+
+        return XmlStreamingParser.create(responseContent.get());
+    }
+
     /**
      * Gets the Member which is a Payload and which is of Blob Type.
      * @param sdkPojo
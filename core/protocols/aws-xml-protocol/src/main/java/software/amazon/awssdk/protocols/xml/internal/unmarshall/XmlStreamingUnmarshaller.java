@@ -0,0 +1,248 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a REST-XML response directly from a StAX {@link XmlStreamingParser} into {@link SdkPojo} builders, without first
+ * parsing the whole document into an {@link XmlElement} tree. Elements that aren't modeled are skipped without being read
+ * into memory.
+ * <p>
+ * Members that aren't handled natively (maps, and structures that bind their payload directly or have members sharing an
+ * element name) are read into an {@link XmlElement} and passed to the {@link XmlUnmarshaller} registered for their type, so
+ * the result is always the same as unmarshalling from the DOM.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class XmlStreamingUnmarshaller {
+    private static final Map<Class<?>, StructureFields> STRUCTURE_FIELDS = new ConcurrentHashMap<>();
+
+    private static final Map<MarshallingType<?>, StringToValue<?>> SCALAR_CONVERTERS = createScalarConverters();
+
+    private XmlStreamingUnmarshaller() {
+    }
+
+    private static Map<MarshallingType<?>, StringToValue<?>> createScalarConverters() {
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, XmlProtocolUnmarshaller.INSTANT_STRING_TO_VALUE);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Unmarshall the structure of the current element. When this returns, the parser is positioned on the end of that
+     * element.
+     *
+     * @param context Unmarshaller context, used for members that aren't in the payload or are read into an
+     * {@link XmlElement}.
+     * @param sdkPojo Builder of the structure.
+     * @param parser Parser positioned on the start of the element.
+     * @return The unmarshalled structure.
+     */
+    @SuppressWarnings("unchecked")
+    static SdkPojo unmarshallStructure(XmlUnmarshallerContext context,
+                                       SdkPojo sdkPojo,
+                                       XmlStreamingParser parser) {
+        StructureFields fields = structureFields(sdkPojo);
+        if (!fields.isStreamable) {
+            return context.protocolUnmarshaller().unmarshall(context, sdkPojo, parser.readElement());
+        }
+
+        if (!fields.attributeFields.isEmpty()) {
+            Map<String, String> attributes = parser.attributes();
+            for (SdkField<?> field : fields.attributeFields) {
+                String attribute = attributes.get(field.unmarshallLocationName());
+                if (attribute != null) {
+                    field.set(sdkPojo, attribute);
+                }
+            }
+        }
+
+        boolean[] isSet = new boolean[fields.elementFields.size()];
+        Map<Integer, List<Object>> flattenedLists = null;
+        Map<Integer, List<XmlElement>> unparsedElements = null;
+
+        while (parser.nextChildElement()) {
+            Integer index = fields.indexByElementName.get(parser.elementName());
+            if (index == null) {
+                parser.skipElement();
+                continue;
+            }
+
+            SdkField<Object> field = (SdkField<Object>) fields.elementFields.get(index);
+            if (isFlattenedList(field)) {
+                SdkField<Object> memberField = field.getTrait(ListTrait.class).memberFieldInfo();
+                flattenedLists = add(flattenedLists, index, unmarshallElement(context, memberField, parser));
+            } else if (isUnparsed(field)) {
+                unparsedElements = add(unparsedElements, index, parser.readElement());
+            } else if (isSet[index]) {
+                // Only the first element bound to a member is used
+                parser.skipElement();
+            } else {
+                field.set(sdkPojo, unmarshallElement(context, field, parser));
+                isSet[index] = true;
+            }
+        }
+
+        if (flattenedLists != null) {
+            flattenedLists.forEach((i, list) -> fields.elementFields.get(i).set(sdkPojo, list));
+        }
+        if (unparsedElements != null) {
+            unparsedElements.forEach((i, elements) -> {
+                SdkField<Object> field = (SdkField<Object>) fields.elementFields.get(i);
+                field.set(sdkPojo, context.getUnmarshaller(field.location(), field.marshallingType())
+                                          .unmarshall(context, elements, field));
+            });
+        }
+        for (SdkField<?> field : fields.nonPayloadFields) {
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * Unmarshall the value of the current element. When this returns, the parser is positioned on the end of that element.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object unmarshallElement(XmlUnmarshallerContext context,
+                                            SdkField<Object> field,
+                                            XmlStreamingParser parser) {
+        MarshallingType<?> type = field.marshallingType();
+
+        StringToValue<Object> converter = (StringToValue<Object>) SCALAR_CONVERTERS.get(type);
+        if (converter != null) {
+            return converter.convert(parser.readText(), field);
+        }
+
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(context, field.constructor().get(), parser);
+        }
+
+        if (type == MarshallingType.LIST && !field.getTrait(ListTrait.class).isFlattened()) {
+            ListTrait listTrait = field.getTrait(ListTrait.class);
+            SdkField<Object> memberField = listTrait.memberFieldInfo();
+            String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                           : memberField.locationName();
+            List<Object> list = new ArrayList<>();
+            while (parser.nextChildElement()) {
+                if (memberLocation.equals(parser.elementName())) {
+                    list.add(unmarshallElement(context, memberField, parser));
+                } else {
+                    parser.skipElement();
+                }
+            }
+            return list;
+        }
+
+        XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), type);
+        return unmarshaller.unmarshall(context, singletonList(parser.readElement()), field);
+    }
+
+    private static boolean isFlattenedList(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST && field.getTrait(ListTrait.class).isFlattened();
+    }
+
+    /**
+     * Members that aren't a scalar, structure or list are collected as {@link XmlElement}s and unmarshalled once the whole
+     * structure has been read, since flattened members may be split across several elements.
+     */
+    private static boolean isUnparsed(SdkField<?> field) {
+        MarshallingType<?> type = field.marshallingType();
+        return !SCALAR_CONVERTERS.containsKey(type) && type != MarshallingType.SDK_POJO && type != MarshallingType.LIST;
+    }
+
+    private static <T> Map<Integer, List<T>> add(Map<Integer, List<T>> values, Integer index, T value) {
+        Map<Integer, List<T>> result = values != null ? values : new LinkedHashMap<>();
+        result.computeIfAbsent(index, i -> new ArrayList<>()).add(value);
+        return result;
+    }
+
+    private static StructureFields structureFields(SdkPojo sdkPojo) {
+        List<SdkField<?>> sdkFields = sdkPojo.sdkFields();
+        StructureFields fields = STRUCTURE_FIELDS.get(sdkPojo.getClass());
+        if (fields != null && fields.sdkFields == sdkFields) {
+            return fields;
+        }
+        fields = new StructureFields(sdkFields);
+        STRUCTURE_FIELDS.put(sdkPojo.getClass(), fields);
+        return fields;
+    }
+
+    /**
+     * The fields of a structure, split by where they're unmarshalled from. Fields bound to child elements are indexed by
+     * element name.
+     */
+    private static final class StructureFields {
+        private final List<SdkField<?>> sdkFields;
+        private final List<SdkField<?>> elementFields = new ArrayList<>();
+        private final Map<String, Integer> indexByElementName = new HashMap<>();
+        private final List<SdkField<?>> attributeFields = new ArrayList<>();
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private final boolean isStreamable;
+
+        private StructureFields(List<SdkField<?>> sdkFields) {
+            this.sdkFields = sdkFields;
+            boolean streamable = true;
+            for (SdkField<?> field : sdkFields) {
+                if (field.containsTrait(PayloadTrait.class)) {
+                    streamable = false;
+                } else if (field.location() != MarshallLocation.PAYLOAD) {
+                    nonPayloadFields.add(field);
+                } else if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributeFields.add(field);
+                } else if (indexByElementName.put(field.unmarshallLocationName(), elementFields.size()) == null) {
+                    elementFields.add(field);
+                } else {
+                    streamable = false;
+                }
+            }
+            this.isStreamable = streamable;
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlStreamingUnmarshallerTest {
+    private static final XmlProtocolUnmarshaller UNMARSHALLER = XmlProtocolUnmarshaller.create();
+
+    private static final String ALL_MEMBERS_XML =
+        "<OperationResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\" "
+        + "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"type-1\">"
+        + "<StringMember>foo</StringMember>"
+        + "<IntegerMember>42</IntegerMember>"
+        + "<TimestampMember>2023-09-01T00:00:00.500Z</TimestampMember>"
+        + "<UnknownMember><a><b>1</b></a></UnknownMember>"
+        + "<ListMember><member>a</member><other>ignored</other><member>b</member></ListMember>"
+        + "<FlatMember>x</FlatMember>"
+        + "<NestedMember xsi:type=\"type-2\"><IntegerMember>7</IntegerMember><Unknown/></NestedMember>"
+        + "<FlatMember>y</FlatMember>"
+        + "<MapMember>"
+        + "<entry><key>k1</key><value>v1</value></entry>"
+        + "<entry><key>k2</key><value>v2</value></entry>"
+        + "</MapMember>"
+        + "<SharedMember><Value>bar</Value></SharedMember>"
+        + "<StringMember>ignored</StringMember>"
+        + "</OperationResult>";
+
+    @Test
+    public void unmarshall_allMemberTypes_matchesDomUnmarshalling() {
+        TestStructure streamed = unmarshallStreaming(TestStructure::new, ALL_MEMBERS_XML);
+
+        assertThat(streamed.type).isEqualTo("type-1");
+        assertThat(streamed.stringMember).isEqualTo("foo");
+        assertThat(streamed.integerMember).isEqualTo(42);
+        assertThat(streamed.timestampMember).isEqualTo(Instant.parse("2023-09-01T00:00:00.500Z"));
+        assertThat(streamed.listMember).containsExactly("a", "b");
+        assertThat(streamed.flatMember).containsExactly("x", "y");
+        assertThat(streamed.nestedMember.type).isEqualTo("type-2");
+        assertThat(streamed.nestedMember.integerMember).isEqualTo(7);
+        assertThat(streamed.nestedMember.headerMember).isEqualTo("header-value");
+        assertThat(streamed.mapMember).containsOnly(entry("k1", "v1"), entry("k2", "v2"));
+        assertThat(streamed.sharedMember.value).isEqualTo("bar");
+        assertThat(streamed.sharedMember.valueCopy).isEqualTo("bar");
+        assertThat(streamed.headerMember).isEqualTo("header-value");
+
+        assertThat(streamed).isEqualTo(unmarshallDom(TestStructure::new, ALL_MEMBERS_XML));
+    }
+
+    @Test
+    public void unmarshall_nonStreamableShape_matchesDomUnmarshalling() {
+        String xml = "<OperationResult>"
+                     + "<Value>foo</Value>"
+                     + "<NestedMember><StringMember>bar</StringMember><ListMember><member>a</member></ListMember></NestedMember>"
+                     + "</OperationResult>";
+
+        SharedElementStructure streamed = unmarshallStreaming(SharedElementStructure::new, xml);
+
+        assertThat(streamed.value).isEqualTo("foo");
+        assertThat(streamed.valueCopy).isEqualTo("foo");
+        assertThat(streamed.nestedMember.listMember).containsExactly("a");
+        assertThat(streamed).isEqualTo(unmarshallDom(SharedElementStructure::new, xml));
+    }
+
+    @Test
+    public void unmarshall_emptyStructure_matchesDomUnmarshalling() {
+        String xml = "<OperationResult/>";
+
+        TestStructure streamed = unmarshallStreaming(TestStructure::new, xml);
+
+        assertThat(streamed.stringMember).isNull();
+        assertThat(streamed.headerMember).isEqualTo("header-value");
+        assertThat(streamed).isEqualTo(unmarshallDom(TestStructure::new, xml));
+    }
+
+    private static <T extends SdkPojo> T unmarshallStreaming(Supplier<T> builder, String xml) {
+        T sdkPojo = builder.get();
+        SdkHttpFullResponse response = response(xml);
+        assertThat(XmlResponseParserUtils.createParser(sdkPojo, response(xml))).isNotNull();
+        return UNMARSHALLER.unmarshall(sdkPojo, response);
+    }
+
+    /**
+     * Unmarshall the response the way it was done before streaming: parse the whole document into an
+     * {@link software.amazon.awssdk.protocols.query.unmarshall.XmlElement} tree and unmarshall the result from it.
+     */
+    private static <T extends SdkPojo> T unmarshallDom(Supplier<T> builder, String xml) {
+        T sdkPojo = builder.get();
+        SdkHttpFullResponse response = response(xml);
+        return UNMARSHALLER.unmarshall(sdkPojo, XmlResponseParserUtils.parse(sdkPojo, response), response);
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static <T, S> SdkField<T> field(MarshallingType<? super T> type,
+                                            String name,
+                                            String locationName,
+                                            Function<S, T> getter,
+                                            BiConsumer<S, T> setter) {
+        return fieldBuilder(type, name, MarshallLocation.PAYLOAD, locationName, getter, setter).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> SdkField.Builder<T> fieldBuilder(MarshallingType<? super T> type,
+                                                           String name,
+                                                           MarshallLocation location,
+                                                           String locationName,
+                                                           Function<S, T> getter,
+                                                           BiConsumer<S, T> setter) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(obj -> getter.apply((S) obj))
+                       .setter((obj, val) -> setter.accept((S) obj, val))
+                       .traits(LocationTrait.builder().location(location).locationName(locationName).build());
+    }
+
+    private static <T> SdkField<T> memberField(MarshallingType<? super T> type, String locationName) {
+        return SdkField.<T>builder(type)
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(locationName).build())
+                       .build();
+    }
+
+    /**
+     * A structure that acts as its own builder, covering each kind of member handled by the streaming unmarshaller.
+     */
+    private static final class TestStructure implements SdkPojo, Buildable {
+        private static final SdkField<String> TYPE =
+            XmlStreamingUnmarshallerTest.<String, TestStructure>fieldBuilder(
+                MarshallingType.STRING, "Type", MarshallLocation.PAYLOAD, "xsi:type", s -> s.type, (s, v) -> s.type = v)
+                .traits(XmlAttributeTrait.create())
+                .build();
+
+        private static final SdkField<String> STRING_MEMBER =
+            field(MarshallingType.STRING, "StringMember", "StringMember",
+                  (TestStructure s) -> s.stringMember, (s, v) -> s.stringMember = v);
+
+        private static final SdkField<Integer> INTEGER_MEMBER =
+            field(MarshallingType.INTEGER, "IntegerMember", "IntegerMember",
+                  (TestStructure s) -> s.integerMember, (s, v) -> s.integerMember = v);
+
+        private static final SdkField<Instant> TIMESTAMP_MEMBER =
+            field(MarshallingType.INSTANT, "TimestampMember", "TimestampMember",
+                  (TestStructure s) -> s.timestampMember, (s, v) -> s.timestampMember = v);
+
+        private static final SdkField<TestStructure> NESTED_MEMBER =
+            XmlStreamingUnmarshallerTest.<TestStructure, TestStructure>fieldBuilder(
+                MarshallingType.SDK_POJO, "NestedMember", MarshallLocation.PAYLOAD, "NestedMember",
+                s -> s.nestedMember, (s, v) -> s.nestedMember = v)
+                .constructor(TestStructure::new)
+                .build();
+
+        private static final SdkField<List<String>> LIST_MEMBER =
+            XmlStreamingUnmarshallerTest.<List<String>, TestStructure>fieldBuilder(
+                MarshallingType.LIST, "ListMember", MarshallLocation.PAYLOAD, "ListMember",
+                s -> s.listMember, (s, v) -> s.listMember = v)
+                .traits(ListTrait.builder()
+                                 .memberLocationName("member")
+                                 .memberFieldInfo(memberField(MarshallingType.STRING, "member"))
+                                 .build())
+                .build();
+
+        private static final SdkField<List<String>> FLAT_MEMBER =
+            XmlStreamingUnmarshallerTest.<List<String>, TestStructure>fieldBuilder(
+                MarshallingType.LIST, "FlatMember", MarshallLocation.PAYLOAD, "FlatMember",
+                s -> s.flatMember, (s, v) -> s.flatMember = v)
+                .traits(ListTrait.builder()
+                                 .isFlattened(true)
+                                 .memberFieldInfo(memberField(MarshallingType.STRING, "FlatMember"))
+                                 .build())
+                .build();
+
+        private static final SdkField<Map<String, String>> MAP_MEMBER =
+            XmlStreamingUnmarshallerTest.<Map<String, String>, TestStructure>fieldBuilder(
+                MarshallingType.MAP, "MapMember", MarshallLocation.PAYLOAD, "MapMember",
+                s -> s.mapMember, (s, v) -> s.mapMember = v)
+                .traits(MapTrait.builder()
+                                .keyLocationName("key")
+                                .valueLocationName("value")
+                                .valueFieldInfo(memberField(MarshallingType.STRING, "value"))
+                                .build())
+                .build();
+
+        private static final SdkField<SharedElementStructure> SHARED_MEMBER =
+            XmlStreamingUnmarshallerTest.<SharedElementStructure, TestStructure>fieldBuilder(
+                MarshallingType.SDK_POJO, "SharedMember", MarshallLocation.PAYLOAD, "SharedMember",
+                s -> s.sharedMember, (s, v) -> s.sharedMember = v)
+                .constructor(SharedElementStructure::new)
+                .build();
+
+        private static final SdkField<String> HEADER_MEMBER =
+            XmlStreamingUnmarshallerTest.<String, TestStructure>fieldBuilder(
+                MarshallingType.STRING, "HeaderMember", MarshallLocation.HEADER, "x-amz-header",
+                s -> s.headerMember, (s, v) -> s.headerMember = v)
+                .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            TYPE, STRING_MEMBER, INTEGER_MEMBER, TIMESTAMP_MEMBER, NESTED_MEMBER, LIST_MEMBER, FLAT_MEMBER, MAP_MEMBER,
+            SHARED_MEMBER, HEADER_MEMBER));
+
+        private String type;
+        private String stringMember;
+        private Integer integerMember;
+        private Instant timestampMember;
+        private TestStructure nestedMember;
+        private List<String> listMember;
+        private List<String> flatMember;
+        private Map<String, String> mapMember;
+        private SharedElementStructure sharedMember;
+        private String headerMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public TestStructure build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TestStructure that = (TestStructure) o;
+            return Objects.equals(type, that.type)
+                   && Objects.equals(stringMember, that.stringMember)
+                   && Objects.equals(integerMember, that.integerMember)
+                   && Objects.equals(timestampMember, that.timestampMember)
+                   && Objects.equals(nestedMember, that.nestedMember)
+                   && Objects.equals(listMember, that.listMember)
+                   && Objects.equals(flatMember, that.flatMember)
+                   && Objects.equals(mapMember, that.mapMember)
+                   && Objects.equals(sharedMember, that.sharedMember)
+                   && Objects.equals(headerMember, that.headerMember);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, stringMember, integerMember, timestampMember, nestedMember, listMember, flatMember,
+                                mapMember, sharedMember, headerMember);
+        }
+    }
+
+    /**
+     * A structure with two members bound to the same element, which the streaming unmarshaller reads into an
+     * {@link software.amazon.awssdk.protocols.query.unmarshall.XmlElement} and unmarshalls from the DOM.
+     */
+    private static final class SharedElementStructure implements SdkPojo, Buildable {
+        private static final SdkField<String> VALUE =
+            field(MarshallingType.STRING, "Value", "Value", (SharedElementStructure s) -> s.value, (s, v) -> s.value = v);
+
+        private static final SdkField<String> VALUE_COPY =
+            field(MarshallingType.STRING, "ValueCopy", "Value",
+                  (SharedElementStructure s) -> s.valueCopy, (s, v) -> s.valueCopy = v);
+
+        private static final SdkField<TestStructure> NESTED_MEMBER =
+            XmlStreamingUnmarshallerTest.<TestStructure, SharedElementStructure>fieldBuilder(
+                MarshallingType.SDK_POJO, "NestedMember", MarshallLocation.PAYLOAD, "NestedMember",
+                s -> s.nestedMember, (s, v) -> s.nestedMember = v)
+                .constructor(TestStructure::new)
+                .build();
+
+        private static final List<SdkField<?>> SDK_FIELDS =
+            Collections.unmodifiableList(Arrays.asList(VALUE, VALUE_COPY, NESTED_MEMBER));
+
+        private String value;
+        private String valueCopy;
+        private TestStructure nestedMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SDK_FIELDS;
+        }
+
+        @Override
+        public SharedElementStructure build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SharedElementStructure that = (SharedElementStructure) o;
+            return Objects.equals(value, that.value)
+                   && Objects.equals(valueCopy, that.valueCopy)
+                   && Objects.equals(nestedMember, that.nestedMember);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, valueCopy, nestedMember);
+        }
+    }
+}
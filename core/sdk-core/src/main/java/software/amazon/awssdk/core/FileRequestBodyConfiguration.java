@@ -19,6 +19,7 @@ import java.nio.file.Path;
 import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.ByteBufferPool;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -36,12 +37,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
     private final Long position;
     private final Long numBytesToRead;
     private final Path path;
+    private final ByteBufferPool bufferPool;
 
     private FileRequestBodyConfiguration(DefaultBuilder builder) {
         this.path = Validate.notNull(builder.path, "path");
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.position = Validate.isNotNegativeOrNull(builder.position, "position");
         this.numBytesToRead = Validate.isNotNegativeOrNull(builder.numBytesToRead, "numBytesToRead");
+        this.bufferPool = builder.bufferPool;
     }
 
     /**
@@ -79,6 +82,13 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         return path;
     }
 
+    /**
+     * @return the pool of the buffers the file is read into, if any
+     */
+    public ByteBufferPool bufferPool() {
+        return bufferPool;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,6 +109,9 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         if (!Objects.equals(numBytesToRead, that.numBytesToRead)) {
             return false;
         }
+        if (!Objects.equals(bufferPool, that.bufferPool)) {
+            return false;
+        }
         return Objects.equals(path, that.path);
     }
 
@@ -108,6 +121,7 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         result = 31 * result + (position != null ? position.hashCode() : 0);
         result = 31 * result + (numBytesToRead != null ? numBytesToRead.hashCode() : 0);
         result = 31 * result + (path != null ? path.hashCode() : 0);
+        result = 31 * result + (bufferPool != null ? bufferPool.hashCode() : 0);
         return result;
     }
 
@@ -157,6 +171,22 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets the pool of the buffers that the file is read into. The buffers are returned to the pool once the HTTP client
+         * has written them, so that reading the file does not allocate a buffer for every chunk.
+         *
+         * <p>Buffers are only returned to the pool when the body is sent as is, by an HTTP client that releases the buffers it
+         * writes, like the Netty HTTP client. Buffers of bodies that are transformed before being sent, for example to
+         * calculate a trailing checksum, are left to the garbage collector.
+         *
+         * <p>By default, a new buffer is allocated for every chunk.
+         *
+         * @param bufferPool the pool of buffers
+         * @return The builder for method chaining.
+         * @see ByteBufferPool#createDirect(int)
+         */
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -164,12 +194,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private ByteBufferPool bufferPool;
 
         private DefaultBuilder(FileRequestBodyConfiguration configuration) {
             this.position = configuration.position;
             this.path = configuration.path;
             this.chunkSizeInBytes = configuration.chunkSizeInBytes;
             this.numBytesToRead = configuration.numBytesToRead;
+            this.bufferPool = configuration.bufferPool;
         }
 
         private DefaultBuilder() {
@@ -200,6 +232,12 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         @Override
         public FileRequestBodyConfiguration build() {
             return new FileRequestBodyConfiguration(this);
@@ -74,6 +74,18 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
         return Mimetype.MIMETYPE_OCTET_STREAM;
     }
 
+    /**
+     * Invoked once a buffer published by this body is no longer used, after the HTTP client has written it, so that a body
+     * that publishes buffers from a {@link ByteBufferPool} can return it to the pool.
+     * <p>
+     * This is only invoked when the buffers published by this body are sent as is by an HTTP client that releases the buffers
+     * it writes. By default, this method does nothing.
+     *
+     * @param buffer A buffer published by this body.
+     */
+    default void release(ByteBuffer buffer) {
+    }
+
     /**
      * Creates an {@link AsyncRequestBody} the produces data from the input ByteBuffer publisher. The data is delivered when the
      * publisher publishes the data.
@@ -135,6 +147,7 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
                                    .position(configuration.position())
                                    .chunkSizeInBytes(configuration.chunkSizeInBytes())
                                    .numBytesToRead(configuration.numBytesToRead())
+                                   .bufferPool(configuration.bufferPool())
                                    .build();
     }
 
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.async;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.internal.async.DirectByteBufferPool;
+
+/**
+ * A pool of {@link ByteBuffer}s that an {@link AsyncRequestBody} lends to the HTTP client, and gets back through
+ * {@link AsyncRequestBody#release(ByteBuffer)} once the HTTP client has written them. Pooling avoids allocating a buffer for
+ * every chunk of a request body.
+ * <p>
+ * A buffer that is not released, for example because the body was transformed before being sent, is left to the garbage
+ * collector, and the pool allocates a new buffer instead. A pool can be shared by many request bodies.
+ *
+ * @see FileRequestBodyConfiguration.Builder#bufferPool(ByteBufferPool)
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ByteBufferPool {
+
+    /**
+     * Acquire a buffer from the pool, or allocate a new one if the pool has no free buffer of the requested capacity.
+     *
+     * @param capacity The capacity of the buffer.
+     * @return A cleared buffer of the given capacity, which is lent to the caller until it is released.
+     */
+    ByteBuffer acquire(int capacity);
+
+    /**
+     * Return a buffer acquired from this pool, so that it can be acquired again. A buffer must be released at most once, and
+     * must not be used after it is released.
+     *
+     * @param buffer The buffer to release.
+     */
+    void release(ByteBuffer buffer);
+
+    /**
+     * Create a pool of direct buffers. HTTP clients that write direct buffers to the connection can send them without copying
+     * them into a buffer of their own.
+     *
+     * @param maxPooledBuffers The maximum number of free buffers kept by the pool. Buffers released while the pool is full are
+     * left to the garbage collector.
+     * @return A new pool of direct buffers.
+     */
+    static ByteBufferPool createDirect(int maxPooledBuffers) {
+        return new DirectByteBufferPool(maxPooledBuffers);
+    }
+}
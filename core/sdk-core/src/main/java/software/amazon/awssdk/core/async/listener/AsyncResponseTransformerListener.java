@@ -76,6 +76,13 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
             this.listener = Validate.notNull(listener, "listener");
         }
 
+        /**
+         * @return The transformer wrapped by this transformer.
+         */
+        public AsyncResponseTransformer<ResponseT, ResultT> delegate() {
+            return delegate;
+        }
+
         @Override
         public CompletableFuture<ResultT> prepare() {
             return delegate.prepare();
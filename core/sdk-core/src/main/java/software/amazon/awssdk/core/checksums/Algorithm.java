@@ -30,6 +30,7 @@ public enum Algorithm {
     CRC32("crc32", 8),
     SHA256("sha256", 44),
     SHA1("sha1", 28),
+    CRC64NVME("crc64nvme", 12),
     ;
 
     private static final Map<String, Algorithm> VALUE_MAP = EnumUtils.uniqueIndex(Algorithm.class, Algorithm::toString);
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
+import software.amazon.awssdk.core.internal.checksums.factory.JdkCrc32C;
 import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
 
 /**
@@ -35,12 +36,16 @@ public class Crc32CChecksum implements SdkChecksum {
     private final boolean isCrtBasedChecksum;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else the JDK Crc32c if it's available (Java 9+),
+     * else create Sdk Implemented Crc32c
      */
     public Crc32CChecksum() {
         crc32c = CrtBasedChecksumProvider.createCrc32C();
         isCrtBasedChecksum = crc32c != null;
         if (!isCrtBasedChecksum) {
+            crc32c = JdkCrc32C.create();
+        }
+        if (crc32c == null) {
             crc32c = SdkCrc32C.create();
         }
     }
@@ -89,9 +94,10 @@ public class Crc32CChecksum implements SdkChecksum {
             } catch (ReflectiveOperationException e) {
                 throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
             }
+        } else if (checksum instanceof JdkCrc32C) {
+            return (Checksum) ((JdkCrc32C) checksum).clone();
         } else {
             return (Checksum) ((SdkCrc32C) checksum).clone();
-
         }
     }
 }
\ No newline at end of file
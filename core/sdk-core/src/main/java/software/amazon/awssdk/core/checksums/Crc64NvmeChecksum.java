@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc64Nvme;
+
+/**
+ * Implementation of {@link SdkChecksum} to calculate a CRC64NVME checksum.
+ */
+@SdkInternalApi
+public class Crc64NvmeChecksum implements SdkChecksum {
+
+    private SdkCrc64Nvme crc64;
+    private SdkCrc64Nvme lastMarkedCrc64;
+
+    public Crc64NvmeChecksum() {
+        crc64 = SdkCrc64Nvme.create();
+    }
+
+    @Override
+    public byte[] getChecksumBytes() {
+        return longToByte(crc64.getValue());
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        this.lastMarkedCrc64 = (SdkCrc64Nvme) crc64.clone();
+    }
+
+    @Override
+    public void update(int b) {
+        crc64.update(b);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc64.update(b, off, len);
+    }
+
+    @Override
+    public long getValue() {
+        return crc64.getValue();
+    }
+
+    @Override
+    public void reset() {
+        if (lastMarkedCrc64 == null) {
+            crc64.reset();
+        } else {
+            crc64 = (SdkCrc64Nvme) lastMarkedCrc64.clone();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksums;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Combines CRC checksums of consecutive blocks of data, so that the checksum of data can be calculated in parallel from the
+ * checksums of its parts. Given {@code crc1}, the checksum of block {@code A}, and {@code crc2}, the checksum of block
+ * {@code B}, {@link #combine(Algorithm, long, long, long)} returns the checksum of {@code A} followed by {@code B}.
+ * <p>
+ * Combining takes time proportional to the logarithm of the length of the second block, and doesn't require any of the data.
+ */
+@SdkProtectedApi
+public final class CrcCombiner {
+
+    private static final Crc CRC32 = new Crc(32, 0xEDB88320L);
+    private static final Crc CRC32C = new Crc(32, 0x82F63B78L);
+    private static final Crc CRC64NVME = new Crc(64, 0x9A6C9329AC4BC9B5L);
+
+    private CrcCombiner() {
+    }
+
+    /**
+     * @return True if checksums calculated with the given algorithm can be combined.
+     */
+    public static boolean isCombinable(Algorithm algorithm) {
+        return algorithm == Algorithm.CRC32 || algorithm == Algorithm.CRC32C || algorithm == Algorithm.CRC64NVME;
+    }
+
+    /**
+     * Combine the checksums of two consecutive blocks of data.
+     *
+     * @param algorithm The checksum algorithm. This must be one of the CRC algorithms, see {@link #isCombinable(Algorithm)}.
+     * @param crc1 The checksum of the first block.
+     * @param crc2 The checksum of the second block.
+     * @param length2 The length of the second block in bytes.
+     * @return The checksum of the first block followed by the second block.
+     */
+    public static long combine(Algorithm algorithm, long crc1, long crc2, long length2) {
+        switch (algorithm) {
+            case CRC32:
+                return combineCrc32(crc1, crc2, length2);
+            case CRC32C:
+                return combineCrc32C(crc1, crc2, length2);
+            case CRC64NVME:
+                return combineCrc64Nvme(crc1, crc2, length2);
+            default:
+                throw new UnsupportedOperationException("Checksum combination not supported for " + algorithm);
+        }
+    }
+
+    public static long combineCrc32(long crc1, long crc2, long length2) {
+        return CRC32.combine(crc1, crc2, length2);
+    }
+
+    public static long combineCrc32C(long crc1, long crc2, long length2) {
+        return CRC32C.combine(crc1, crc2, length2);
+    }
+
+    public static long combineCrc64Nvme(long crc1, long crc2, long length2) {
+        return CRC64NVME.combine(crc1, crc2, length2);
+    }
+
+    /**
+     * A reflected CRC, with its polynomials represented as {@code width}-bit values where the most significant bit is the
+     * coefficient of x^0. This is the approach used by zlib's {@code crc32_combine}: appending {@code n} zero bytes to the
+     * first block multiplies its CRC by x^(8n) modulo the CRC polynomial, and the result is then added to the CRC of the
+     * second block.
+     */
+    private static final class Crc {
+        private final long polynomial;
+        private final long one;
+
+        /**
+         * x^(2^k) modulo the polynomial, for k from 0 to 65. This is enough to multiply by x^(8n) for any positive long n.
+         */
+        private final long[] powers = new long[66];
+
+        private Crc(int width, long polynomial) {
+            this.polynomial = polynomial;
+            this.one = 1L << (width - 1);
+
+            long power = one >>> 1;
+            for (int k = 0; k < powers.length; k++) {
+                powers[k] = power;
+                power = multiplyModP(power, power);
+            }
+        }
+
+        private long combine(long crc1, long crc2, long length2) {
+            if (length2 <= 0) {
+                return crc1;
+            }
+            return multiplyModP(xPow8nModP(length2), crc1) ^ crc2;
+        }
+
+        /**
+         * @return x^(8n) modulo the polynomial.
+         */
+        private long xPow8nModP(long n) {
+            long result = one;
+            int k = 3;
+            while (n != 0) {
+                if ((n & 1) != 0) {
+                    result = multiplyModP(powers[k], result);
+                }
+                n >>>= 1;
+                k++;
+            }
+            return result;
+        }
+
+        /**
+         * @return a(x) * b(x) modulo the polynomial.
+         */
+        private long multiplyModP(long a, long b) {
+            long product = 0;
+            for (long m = one; m != 0 && a != 0; m >>>= 1) {
+                if ((a & m) != 0) {
+                    product ^= b;
+                    a ^= m;
+                }
+                b = (b & 1) != 0 ? (b >>> 1) ^ polynomial : b >>> 1;
+            }
+            return product;
+        }
+    }
+}
@@ -60,6 +60,8 @@ public interface SdkChecksum extends Checksum {
                 return new Crc32Checksum();
             case CRC32C:
                 return new Crc32CChecksum();
+            case CRC64NVME:
+                return new Crc64NvmeChecksum();
             default:
                 throw new UnsupportedOperationException("Checksum not supported for " + algorithm);
         }
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.TOKEN_SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
@@ -32,6 +33,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_U
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_OVERRIDDEN;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_RESOLUTION_CACHE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.INTERNAL_USER_AGENT;
@@ -72,6 +74,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyUserAgentStage;
@@ -235,6 +238,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         builder.option(API_CALL_ATTEMPT_TIMEOUT, clientOverrideConfiguration.apiCallAttemptTimeout().orElse(null));
         builder.option(DISABLE_HOST_PREFIX_INJECTION,
                        clientOverrideConfiguration.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
+        builder.option(ENDPOINT_RESOLUTION_CACHE_SIZE,
+                       clientOverrideConfiguration.advancedOption(ENDPOINT_RESOLUTION_CACHE_SIZE).orElse(null));
         builder.option(PROFILE_FILE_SUPPLIER, clientOverrideConfiguration.defaultProfileFile()
                                                                          .map(ProfileFileSupplier::fixedProfileFile)
                                                                          .orElse(null));
@@ -390,9 +395,18 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
                      .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
                      .option(RETRY_POLICY, retryPolicy)
                      .option(CLIENT_USER_AGENT, resolveClientUserAgent(config, retryPolicy))
+                     .option(ENDPOINT_RESOLUTION_CACHE, resolveEndpointResolutionCache(config))
                      .build();
     }
 
+    private EndpointResolutionCache resolveEndpointResolutionCache(SdkClientConfiguration config) {
+        Integer cacheSize = config.option(ENDPOINT_RESOLUTION_CACHE_SIZE);
+        if (cacheSize == null) {
+            return null;
+        }
+        return new EndpointResolutionCache(cacheSize);
+    }
+
     private String resolveClientUserAgent(SdkClientConfiguration config, RetryPolicy retryPolicy) {
         return ApplyUserAgentStage.resolveClientUserAgent(config.option(USER_AGENT_PREFIX),
                                                           config.option(INTERNAL_USER_AGENT),
@@ -60,6 +60,16 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Enable caching of resolved endpoints, keyed on the endpoint parameters for the request, and set the maximum number of
+     * endpoints to cache. Requests with the same endpoint parameters (e.g. the same region, or the same bucket for Amazon S3)
+     * will skip endpoint resolution after the first request.
+     *
+     * <p>Endpoint resolution caching is disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE =
+        new SdkAdvancedClientOption<>(Integer.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -27,6 +27,7 @@ import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -185,6 +186,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<EndpointProvider> ENDPOINT_PROVIDER = new SdkClientOption<>(EndpointProvider.class);
 
+    /**
+     * The cache of resolved endpoints, if enabled with {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final SdkClientOption<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new SdkClientOption<>(EndpointResolutionCache.class);
+
     /**
      * The container for any client contexts parameters set on the client.
      */
@@ -18,10 +18,12 @@ package software.amazon.awssdk.core.interceptor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -74,6 +76,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<EndpointProvider> ENDPOINT_PROVIDER =
         new ExecutionAttribute<>("EndpointProvider");
 
+    /**
+     * The cache used to look up endpoints before calling the {@link #ENDPOINT_PROVIDER}, or null if caching is disabled.
+     */
+    public static final ExecutionAttribute<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new ExecutionAttribute<>("EndpointResolutionCache");
+
     /**
      * The resolved endpoint as computed by the client's configured {@link EndpointProvider}.
      */
@@ -99,6 +107,14 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<RequestCompression> REQUEST_COMPRESSION =
         new ExecutionAttribute<>("RequestCompression");
 
+    /**
+     * The {@link MetricCollector} associated with the overall API call. Unlike
+     * {@link SdkExecutionAttribute#API_CALL_ATTEMPT_METRIC_COLLECTOR}, this is available to interceptors that run before the
+     * first attempt, such as endpoint resolution.
+     */
+    public static final ExecutionAttribute<MetricCollector> API_CALL_METRIC_COLLECTOR =
+        new ExecutionAttribute<>("ApiCallMetricCollector");
+
     private SdkInternalExecutionAttribute() {
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.ByteBufferPool;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link ByteBufferPool} of direct buffers, which keeps free buffers by capacity.
+ * <p>
+ * The pool does not keep track of the buffers it lends, so that buffers that are never released can be garbage collected.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DirectByteBufferPool implements ByteBufferPool {
+    private final int maxPooledBuffers;
+    private final Map<Integer, Deque<ByteBuffer>> freeBuffers = new HashMap<>();
+    private int pooledBuffers;
+
+    public DirectByteBufferPool(int maxPooledBuffers) {
+        this.maxPooledBuffers = Validate.isNotNegative(maxPooledBuffers, "maxPooledBuffers");
+    }
+
+    @Override
+    public ByteBuffer acquire(int capacity) {
+        Validate.isNotNegative(capacity, "capacity");
+        synchronized (this) {
+            Deque<ByteBuffer> free = freeBuffers.get(capacity);
+            ByteBuffer buffer = free == null ? null : free.pollFirst();
+            if (buffer != null) {
+                pooledBuffers--;
+                return buffer;
+            }
+        }
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    @Override
+    public synchronized void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer.isReadOnly()) {
+            return;
+        }
+        if (pooledBuffers < maxPooledBuffers) {
+            buffer.clear();
+            freeBuffers.computeIfAbsent(buffer.capacity(), c -> new ArrayDeque<>()).addFirst(buffer);
+            pooledBuffers++;
+        }
+    }
+
+    /**
+     * @return The number of free buffers in the pool.
+     */
+    public synchronized int pooledBuffers() {
+        return pooledBuffers;
+    }
+}
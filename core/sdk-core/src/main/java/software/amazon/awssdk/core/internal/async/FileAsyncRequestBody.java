@@ -34,6 +34,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
+import software.amazon.awssdk.core.async.ByteBufferPool;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
@@ -71,6 +72,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final long position;
     private final long numBytesToRead;
 
+    /**
+     * Pool of the buffers the file is read into, or null to allocate a new buffer for every chunk.
+     */
+    private final ByteBufferPool bufferPool;
+
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
@@ -78,6 +84,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.bufferPool = builder.bufferPool;
     }
 
     @Override
@@ -106,6 +113,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public ByteBufferPool bufferPool() {
+        return bufferPool;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -116,6 +127,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return Mimetype.getInstance().getMimetype(path);
     }
 
+    @Override
+    public void release(ByteBuffer buffer) {
+        if (bufferPool != null) {
+            bufferPool.release(buffer);
+        }
+    }
+
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         AsynchronousFileChannel channel = null;
@@ -192,6 +210,17 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets the pool of the buffers the file is read into. Buffers are returned to the pool when they are released with
+         * {@link #release(ByteBuffer)}.
+         *
+         * <p>By default, a new buffer is allocated for every chunk.
+         *
+         * @param bufferPool the pool of buffers
+         * @return The builder for method chaining.
+         */
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +229,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private ByteBufferPool bufferPool;
 
         @Override
         public Builder path(Path path) {
@@ -229,6 +259,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             return this;
         }
 
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
             chunkSizeInBytes(chunkSizeInBytes);
         }
@@ -317,7 +353,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(Math.min(chunkSizeInBytes, NumericUtils.saturatedCast(remainingBytes.get())));
+            ByteBuffer buffer = allocateBuffer(Math.min(chunkSizeInBytes, NumericUtils.saturatedCast(remainingBytes.get())));
             inputChannel.read(buffer, currentPosition.get(), buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -346,6 +382,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                             }
                         } else {
                             // Reached the end of the file, notify the subscriber and cleanup
+                            release(attachment);
                             closeFile();
                             signalOnComplete();
                         }
@@ -357,12 +394,26 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    release(attachment);
                     signalOnError(exc);
                     closeFile();
                 }
             });
         }
 
+        /**
+         * Allocate a buffer for a chunk, taking it from the buffer pool if there is one. Pooled buffers are acquired with the
+         * chunk size, so that they can be reused for every chunk, and limited to the size of the chunk.
+         */
+        private ByteBuffer allocateBuffer(int size) {
+            if (bufferPool == null) {
+                return ByteBuffer.allocate(size);
+            }
+            ByteBuffer buffer = bufferPool.acquire(chunkSizeInBytes);
+            buffer.limit(size);
+            return buffer;
+        }
+
         private void closeFile() {
             try {
                 inputChannel.close();
@@ -375,8 +426,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             synchronized (this) {
                 if (!done) {
                     subscriber.onNext(attachment);
+                    return;
                 }
             }
+            release(attachment);
         }
 
         private void signalOnComplete() {
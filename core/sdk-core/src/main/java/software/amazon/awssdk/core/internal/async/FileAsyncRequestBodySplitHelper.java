@@ -26,6 +26,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
+import software.amazon.awssdk.core.async.ByteBufferPool;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.Logger;
@@ -49,6 +50,7 @@ public final class FileAsyncRequestBodySplitHelper {
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
+    private final ByteBufferPool bufferPool;
 
     private volatile boolean isDone = false;
 
@@ -70,6 +72,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                AsyncRequestBodySplitConfiguration.defaultConfiguration().bufferSizeInBytes() :
                                splitConfiguration.bufferSizeInBytes();
         this.bufferPerAsyncRequestBody = asyncRequestBody.chunkSizeInBytes();
+        this.bufferPool = asyncRequestBody.bufferPool();
     }
 
     public SdkPublisher<AsyncRequestBody> split() {
@@ -133,6 +136,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .path(path)
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
+                                                                        .bufferPool(bufferPool)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
@@ -181,5 +185,10 @@ public final class FileAsyncRequestBodySplitHelper {
         public Optional<Long> contentLength() {
             return fileAsyncRequestBody.contentLength();
         }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            fileAsyncRequestBody.release(buffer);
+        }
     }
 }
@@ -54,6 +54,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     private volatile AsynchronousFileChannel fileChannel;
     private volatile CompletableFuture<Void> cf;
     private volatile ResponseT response;
+    private volatile PositionalFileWriter positionalWriter;
     private final long position;
     private final FileTransformerConfiguration configuration;
 
@@ -82,7 +83,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return  0L;
     }
 
-    private AsynchronousFileChannel createChannel(Path path) throws IOException {
+    static AsynchronousFileChannel createChannel(Path path, FileTransformerConfiguration configuration) throws IOException {
         Set<OpenOption> options = new HashSet<>();
         switch (configuration.fileWriteOption()) {
             case CREATE_OR_APPEND_TO_EXISTING:
@@ -103,6 +104,21 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return AsynchronousFileChannel.open(path, options, executorService);
     }
 
+    /**
+     * Write the content of the response with a {@link PositionalFileWriter} instead, so that ranges of the response can be
+     * written concurrently at their offsets in the file. The writer starts at the position this transformer would have
+     * started writing at.
+     * <p>
+     * Once this is called, the stream passed to {@link #onStream(SdkPublisher)} is not written to the file. It is only
+     * consumed, and the result of this transformer completes when it ends, so the stream should end once the writer has
+     * written every range and has been closed. If an exception occurs, the writer is aborted.
+     */
+    public PositionalFileWriter positionalWriter() {
+        PositionalFileWriter writer = new PositionalFileWriter(path, configuration, position);
+        this.positionalWriter = writer;
+        return writer;
+    }
+
     @Override
     public CompletableFuture<ResponseT> prepare() {
         cf = new CompletableFuture<>();
@@ -121,8 +137,12 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        if (positionalWriter != null) {
+            publisher.subscribe(new ConsumingSubscriber(cf, this::exceptionOccurred));
+            return;
+        }
         // onStream may be called multiple times so reset the file channel every time
-        this.fileChannel = invokeSafely(() -> createChannel(path));
+        this.fileChannel = invokeSafely(() -> createChannel(path, configuration));
         publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
                                                position));
     }
@@ -130,6 +150,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     @Override
     public void exceptionOccurred(Throwable throwable) {
         try {
+            if (positionalWriter != null) {
+                positionalWriter.abort();
+            }
             if (fileChannel != null) {
                 invokeSafely(fileChannel::close);
             }
@@ -141,6 +164,39 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         cf.completeExceptionally(throwable);
     }
 
+    /**
+     * {@link Subscriber} implementation that consumes the stream without writing it, when the content is written by a
+     * {@link PositionalFileWriter}.
+     */
+    private static final class ConsumingSubscriber implements Subscriber<ByteBuffer> {
+        private final CompletableFuture<Void> future;
+        private final Consumer<Throwable> onErrorMethod;
+
+        private ConsumingSubscriber(CompletableFuture<Void> future, Consumer<Throwable> onErrorMethod) {
+            this.future = future;
+            this.onErrorMethod = onErrorMethod;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            onErrorMethod.accept(t);
+        }
+
+        @Override
+        public void onComplete() {
+            future.complete(null);
+        }
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
@@ -0,0 +1,335 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes ranges of content to a file at their absolute offsets, so that a file can be filled from several concurrent responses
+ * without reassembling them in order in memory.
+ * <p>
+ * {@link #open(long)} opens the file and sets its length to the expected size up front. Each range is then written by the
+ * {@link AsyncResponseTransformer} returned by {@link #rangeTransformer(long)}, which writes its content again from the start
+ * of the range if the request is retried.
+ * <p>
+ * The writer tracks the ranges that have been completely written. If the download is aborted, the file is truncated to the
+ * content written contiguously from the start, so that the download can be resumed from the length of the file.
+ */
+@SdkInternalApi
+public final class PositionalFileWriter implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(PositionalFileWriter.class);
+
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+    private final long startPosition;
+
+    /**
+     * The completely written ranges, relative to the start position, as a map from the start of each range to its end
+     * (exclusive). Adjacent ranges are merged.
+     */
+    private final NavigableMap<Long, Long> completedRanges = new TreeMap<>();
+
+    private volatile AsynchronousFileChannel fileChannel;
+    private boolean aborted;
+
+    PositionalFileWriter(Path path, FileTransformerConfiguration configuration, long startPosition) {
+        this.path = path;
+        this.configuration = configuration;
+        this.startPosition = startPosition;
+    }
+
+    /**
+     * Open the file, and set its length so that it holds exactly {@code size} bytes after the start position.
+     */
+    public void open(long size) throws IOException {
+        fileChannel = FileAsyncResponseTransformer.createChannel(path, configuration);
+        long length = startPosition + size;
+        if (fileChannel.size() > length) {
+            fileChannel.truncate(length);
+        } else if (fileChannel.size() < length) {
+            // Writing the last byte reserves the length of the file, without writing the content before it.
+            try {
+                fileChannel.write(ByteBuffer.allocate(1), length - 1).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw SdkClientException.create("Interrupted while setting the length of " + path, e);
+            } catch (ExecutionException e) {
+                throw new IOException("Failed to set the length of " + path, e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Create a transformer that writes the content of a response at the given offset relative to the start position. The
+     * result of the transformer is the response.
+     */
+    public <ResponseT> AsyncResponseTransformer<ResponseT, ResponseT> rangeTransformer(long offset) {
+        return new RangeTransformer<>(offset);
+    }
+
+    /**
+     * @return The number of bytes written contiguously from the start position, by ranges that have been completely written.
+     */
+    public synchronized long contiguousBytesWritten() {
+        Map.Entry<Long, Long> first = completedRanges.firstEntry();
+        return first != null && first.getKey() == 0 ? first.getValue() : 0;
+    }
+
+    private synchronized void rangeWritten(long start, long end) {
+        if (start == end) {
+            return;
+        }
+        long mergedStart = start;
+        long mergedEnd = end;
+        Map.Entry<Long, Long> previous = completedRanges.floorEntry(start);
+        if (previous != null && previous.getValue() >= start) {
+            mergedStart = previous.getKey();
+            mergedEnd = Math.max(mergedEnd, previous.getValue());
+        }
+        Map.Entry<Long, Long> next = completedRanges.ceilingEntry(mergedStart);
+        while (next != null && next.getKey() <= mergedEnd) {
+            mergedEnd = Math.max(mergedEnd, next.getValue());
+            completedRanges.remove(next.getKey());
+            next = completedRanges.ceilingEntry(mergedStart);
+        }
+        completedRanges.put(mergedStart, mergedEnd);
+    }
+
+    /**
+     * Close the file, and truncate it to the content written contiguously from the start position. This may be called more
+     * than once.
+     */
+    public void abort() {
+        synchronized (this) {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+        }
+        if (fileChannel == null) {
+            return;
+        }
+        IoUtils.closeQuietly(fileChannel, log.logger());
+        long length = startPosition + contiguousBytesWritten();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            if (channel.size() > length) {
+                channel.truncate(length);
+            }
+        } catch (IOException e) {
+            log.debug(() -> "Failed to truncate " + path + " to " + length + " bytes", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (fileChannel == null) {
+            return;
+        }
+        try {
+            fileChannel.close();
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to close " + path, e);
+        }
+    }
+
+    private final class RangeTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
+        private final long offset;
+        private volatile CompletableFuture<Long> future;
+        private volatile RangeSubscriber subscriber;
+        private volatile ResponseT response;
+
+        private RangeTransformer(long offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public CompletableFuture<ResponseT> prepare() {
+            future = new CompletableFuture<>();
+            CompletableFuture<ResponseT> result = new CompletableFuture<>();
+            future.whenComplete((bytesWritten, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                } else {
+                    rangeWritten(offset, offset + bytesWritten);
+                    result.complete(response);
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public void onResponse(ResponseT response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            // onStream is called again when the request is retried, in which case the range is written again from its start.
+            subscriber = new RangeSubscriber(startPosition + offset, future);
+            publisher.subscribe(subscriber);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            RangeSubscriber currentSubscriber = subscriber;
+            if (currentSubscriber != null) {
+                currentSubscriber.fail(error);
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
+    /**
+     * {@link Subscriber} that writes chunks to the file sequentially from a position, without closing the file.
+     */
+    private final class RangeSubscriber implements Subscriber<ByteBuffer> {
+        private final long startingPosition;
+        private final CompletableFuture<Long> future;
+        private long position;
+        private Subscription subscription;
+        private boolean writeInProgress;
+        private boolean completeOnLastWrite;
+        private Throwable errorOnLastWrite;
+
+        private RangeSubscriber(long startingPosition, CompletableFuture<Long> future) {
+            this.startingPosition = startingPosition;
+            this.position = startingPosition;
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (subscription != null) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (byteBuffer == null) {
+                throw new NullPointerException("Element must not be null");
+            }
+            boolean failed;
+            synchronized (this) {
+                failed = errorOnLastWrite != null;
+                writeInProgress = !failed;
+            }
+            if (failed) {
+                subscription.cancel();
+                return;
+            }
+            performWrite(byteBuffer);
+        }
+
+        private void performWrite(ByteBuffer byteBuffer) {
+            fileChannel.write(byteBuffer, position, byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
+                @Override
+                public void completed(Integer result, ByteBuffer attachment) {
+                    position += result;
+                    if (byteBuffer.hasRemaining()) {
+                        performWrite(byteBuffer);
+                        return;
+                    }
+
+                    boolean complete;
+                    Throwable error;
+                    synchronized (RangeSubscriber.this) {
+                        writeInProgress = false;
+                        complete = completeOnLastWrite;
+                        error = errorOnLastWrite;
+                    }
+                    if (error != null) {
+                        subscription.cancel();
+                        future.completeExceptionally(error);
+                    } else if (complete) {
+                        complete();
+                    } else {
+                        subscription.request(1);
+                    }
+                }
+
+                @Override
+                public void failed(Throwable exc, ByteBuffer attachment) {
+                    subscription.cancel();
+                    future.completeExceptionally(exc);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        /**
+         * Fail the range once the write in progress, if any, has finished, so that it can't overwrite content written by a
+         * retry, or write to the file after the download has been reported as failed. No more content is written after this.
+         */
+        void fail(Throwable t) {
+            boolean fail;
+            synchronized (this) {
+                if (errorOnLastWrite == null) {
+                    errorOnLastWrite = t;
+                }
+                fail = !writeInProgress;
+            }
+            if (fail) {
+                future.completeExceptionally(t);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            boolean complete;
+            synchronized (this) {
+                completeOnLastWrite = writeInProgress;
+                complete = !writeInProgress;
+            }
+            if (complete) {
+                complete();
+            }
+        }
+
+        private void complete() {
+            future.complete(position - startingPosition);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums.factory;
+
+import java.lang.reflect.Constructor;
+import java.util.Optional;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.CrcCombiner;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * CRC32C checksum backed by {@code java.util.zip.CRC32C}, which is available from Java 9 and is implemented with hardware
+ * instructions on most platforms.
+ * <p>
+ * The JDK implementation can't be cloned, so this keeps track of the checksum of the data before the JDK checksum was created
+ * and the length of the data written to it since. A clone starts a new JDK checksum, and the two checksums are combined with
+ * {@link CrcCombiner} when the value is read.
+ */
+@SdkInternalApi
+public final class JdkCrc32C implements Checksum, Cloneable {
+
+    private static final Logger LOG = Logger.loggerFor(JdkCrc32C.class);
+    private static final String JDK_CLASSPATH_FOR_CRC32C = "java.util.zip.CRC32C";
+    private static final Lazy<Optional<Constructor<? extends Checksum>>> JDK_CRC32_C_CONSTRUCTOR =
+        new Lazy<>(JdkCrc32C::initializeConstructor);
+
+    private final Constructor<? extends Checksum> constructor;
+    private final Checksum crc32c;
+    private long prefixCrc;
+    private long length;
+
+    private JdkCrc32C(Constructor<? extends Checksum> constructor, long prefixCrc) {
+        this.constructor = constructor;
+        this.prefixCrc = prefixCrc;
+        this.crc32c = newChecksum(constructor);
+    }
+
+    /**
+     * @return A new CRC32C checksum, or null if {@code java.util.zip.CRC32C} isn't available in this JVM.
+     */
+    public static JdkCrc32C create() {
+        return JDK_CRC32_C_CONSTRUCTOR.getValue()
+                                      .map(constructor -> new JdkCrc32C(constructor, 0))
+                                      .orElse(null);
+    }
+
+    @Override
+    public void update(int b) {
+        crc32c.update(b);
+        length++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        crc32c.update(b, off, len);
+        length += len;
+    }
+
+    @Override
+    public long getValue() {
+        long value = crc32c.getValue();
+        if (prefixCrc == 0) {
+            return value;
+        }
+        return CrcCombiner.combineCrc32C(prefixCrc, value, length);
+    }
+
+    @Override
+    public void reset() {
+        crc32c.reset();
+        prefixCrc = 0;
+        length = 0;
+    }
+
+    @Override
+    public Object clone() {
+        return new JdkCrc32C(constructor, getValue());
+    }
+
+    private static Checksum newChecksum(Constructor<? extends Checksum> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create checksum class " + constructor.getDeclaringClass(), e);
+        }
+    }
+
+    private static Optional<Constructor<? extends Checksum>> initializeConstructor() {
+        try {
+            Class<? extends Checksum> checksumClass = Class.forName(JDK_CLASSPATH_FOR_CRC32C).asSubclass(Checksum.class);
+            return Optional.of(checksumClass.getConstructor());
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            LOG.debug(() -> "Cannot find the " + JDK_CLASSPATH_FOR_CRC32C + " class. Falling back to the SDK implementation.", e);
+            return Optional.empty();
+        }
+    }
+}
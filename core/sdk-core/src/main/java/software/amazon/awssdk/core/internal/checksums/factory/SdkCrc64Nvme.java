@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.checksums.factory;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Pure Java implementation of the CRC64NVME checksum (the reflected CRC-64 with polynomial 0xAD93D23594C93659, as used by
+ * NVMe), using the slicing-by-8 algorithm.
+ */
+@SdkInternalApi
+public final class SdkCrc64Nvme implements Checksum, Cloneable {
+
+    /**
+     * The CRC64NVME polynomial, bit-reversed.
+     */
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final int T8_0_START = 0 * 256;
+    private static final int T8_1_START = 1 * 256;
+    private static final int T8_2_START = 2 * 256;
+    private static final int T8_3_START = 3 * 256;
+    private static final int T8_4_START = 4 * 256;
+    private static final int T8_5_START = 5 * 256;
+    private static final int T8_6_START = 6 * 256;
+    private static final int T8_7_START = 7 * 256;
+
+    /**
+     * Lookup tables for slicing-by-8. Table {@code k} holds the CRC of each byte value followed by {@code k} zero bytes.
+     */
+    private static final long[] T = createTables();
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64Nvme() {
+        reset();
+    }
+
+    private SdkCrc64Nvme(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64Nvme create() {
+        return new SdkCrc64Nvme();
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFFFFFFFFFFL;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long localCrc = crc;
+
+        while (len > 7) {
+            localCrc ^= (b[off] & 0xFFL)
+                        | (b[off + 1] & 0xFFL) << 8
+                        | (b[off + 2] & 0xFFL) << 16
+                        | (b[off + 3] & 0xFFL) << 24
+                        | (b[off + 4] & 0xFFL) << 32
+                        | (b[off + 5] & 0xFFL) << 40
+                        | (b[off + 6] & 0xFFL) << 48
+                        | (b[off + 7] & 0xFFL) << 56;
+
+            localCrc = (T[T8_7_START + (int) (localCrc & 0xFF)] ^ T[T8_6_START + (int) ((localCrc >>> 8) & 0xFF)]) ^
+                       (T[T8_5_START + (int) ((localCrc >>> 16) & 0xFF)] ^ T[T8_4_START + (int) ((localCrc >>> 24) & 0xFF)]) ^
+                       (T[T8_3_START + (int) ((localCrc >>> 32) & 0xFF)] ^ T[T8_2_START + (int) ((localCrc >>> 40) & 0xFF)]) ^
+                       (T[T8_1_START + (int) ((localCrc >>> 48) & 0xFF)] ^ T[T8_0_START + (int) (localCrc >>> 56)]);
+
+            off += 8;
+            len -= 8;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ T[T8_0_START + (int) ((localCrc ^ b[off++]) & 0xFF)];
+        }
+
+        // Publish crc out to object
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ T[T8_0_START + (int) ((crc ^ b) & 0xFF)];
+    }
+
+    @Override
+    public Object clone() {
+        return new SdkCrc64Nvme(crc);
+    }
+
+    private static long[] createTables() {
+        long[] tables = new long[8 * 256];
+        for (int i = 0; i < 256; i++) {
+            long value = i;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+            }
+            tables[T8_0_START + i] = value;
+        }
+        for (int i = 0; i < 256; i++) {
+            long value = tables[T8_0_START + i];
+            for (int table = 1; table < 8; table++) {
+                value = (value >>> 8) ^ tables[T8_0_START + (int) (value & 0xFF)];
+                tables[table * 256 + i] = value;
+            }
+        }
+        return tables;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of resolved {@link Endpoint}s, keyed on the {@link EndpointProvider} and the endpoint parameters that were
+ * passed to it. Endpoint parameters must implement {@code equals} and {@code hashCode}.
+ * <p>
+ * Lookups don't take any locks. When an insertion grows the cache past its maximum size, entries are evicted using the CLOCK
+ * (second chance) algorithm: an entry that has been read since the last sweep is skipped once, and entries that were only
+ * ever inserted are evicted first. This keeps a stream of parameters that are each used once (e.g. S3 requests to many
+ * distinct buckets) from pushing out the endpoints used by most requests. The size may briefly exceed the maximum while
+ * another thread is evicting.
+ * <p>
+ * Failed resolutions are not cached. Requests that override the endpoint provider bypass the cache.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EndpointResolutionCache {
+    private final int maxSize;
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * The position of the CLOCK hand. Only accessed while holding {@link #evictionLock}.
+     */
+    private Iterator<Map.Entry<CacheKey, CacheEntry>> clockHand;
+
+    public EndpointResolutionCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Return the cached endpoint for the given provider and parameters, or invoke {@code resolver} and cache its result if
+     * there isn't one. Whether the lookup was a hit is recorded as {@link CoreMetric#ENDPOINT_RESOLUTION_CACHE_HIT} on the
+     * given metric collector, if one is provided.
+     */
+    public Endpoint resolveEndpoint(EndpointProvider provider,
+                                    Object endpointParams,
+                                    Supplier<Endpoint> resolver,
+                                    MetricCollector metricCollector) {
+        CacheKey key = new CacheKey(provider, endpointParams);
+        CacheEntry cached = entries.get(key);
+        if (cached != null) {
+            cached.referenced = true;
+            reportCacheHit(metricCollector, true);
+            return cached.endpoint;
+        }
+
+        reportCacheHit(metricCollector, false);
+        Endpoint endpoint = resolver.get();
+        if (entries.putIfAbsent(key, new CacheEntry(endpoint)) == null && entries.size() > maxSize) {
+            evict();
+        }
+        return endpoint;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        // If another thread is already evicting, it will also remove the entry we just added if that's still needed.
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (entries.size() > maxSize) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = entries.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<CacheKey, CacheEntry> candidate = clockHand.next();
+                CacheEntry entry = candidate.getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else {
+                    entries.remove(candidate.getKey(), entry);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static void reportCacheHit(MetricCollector metricCollector, boolean hit) {
+        if (metricCollector != null) {
+            metricCollector.reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, hit);
+        }
+    }
+
+    private static final class CacheKey {
+        private final EndpointProvider provider;
+        private final Object endpointParams;
+        private final int hashCode;
+
+        private CacheKey(EndpointProvider provider, Object endpointParams) {
+            this.provider = provider;
+            this.endpointParams = endpointParams;
+            this.hashCode = 31 * System.identityHashCode(provider) + Objects.hashCode(endpointParams);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return provider == other.provider && Objects.equals(endpointParams, other.endpointParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Endpoint endpoint;
+        private volatile boolean referenced;
+
+        private CacheEntry(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolv
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -36,6 +37,7 @@ import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -50,6 +52,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -126,7 +129,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
-                                                  : new SdkHttpContentPublisherAdapter(context.requestProvider());
+                                                  : contentPublisher(context.requestProvider());
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
@@ -246,6 +249,13 @@ public final class MakeAsyncHttpRequestStage<OutputT>
      * provide the request content in a non-blocking manner. This adapts that interface to the
      * {@link SdkHttpContentPublisher} which the HTTP client SPI expects.
      */
+    private static SdkHttpContentPublisher contentPublisher(AsyncRequestBody asyncRequestBody) {
+        if (asyncRequestBody instanceof FileAsyncRequestBody) {
+            return new FileContentPublisherAdapter((FileAsyncRequestBody) asyncRequestBody);
+        }
+        return new SdkHttpContentPublisherAdapter(asyncRequestBody);
+    }
+
     private static final class SdkHttpContentPublisherAdapter implements SdkHttpContentPublisher {
 
         private final AsyncRequestBody asyncRequestBody;
@@ -263,5 +273,47 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         public void subscribe(Subscriber<? super ByteBuffer> s) {
             asyncRequestBody.subscribe(s);
         }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            asyncRequestBody.release(buffer);
+        }
+    }
+
+    /**
+     * Exposes the file of a {@link FileAsyncRequestBody} that is sent as is, so that the HTTP client can send the file directly.
+     */
+    private static final class FileContentPublisherAdapter implements SdkHttpFileContentPublisher {
+
+        private final FileAsyncRequestBody asyncRequestBody;
+
+        private FileContentPublisherAdapter(FileAsyncRequestBody asyncRequestBody) {
+            this.asyncRequestBody = asyncRequestBody;
+        }
+
+        @Override
+        public Path path() {
+            return asyncRequestBody.path();
+        }
+
+        @Override
+        public long position() {
+            return asyncRequestBody.position();
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return asyncRequestBody.contentLength();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            asyncRequestBody.subscribe(s);
+        }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            asyncRequestBody.release(buffer);
+        }
     }
 }
@@ -16,11 +16,25 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter of the {@code ADAPTIVE} retry mode, which adjusts the rate of requests with the CUBIC
+ * algorithm.
+ * <p>
+ * Every request of a client acquires a token from this bucket and reports its response to it, so the bucket does not use a
+ * lock. The state of the token bucket and of the CUBIC algorithm is kept in a single immutable snapshot, so that a response
+ * updates both in one atomic step, computed from the latest snapshot. The measured request rate is kept in its own snapshot,
+ * and the requests of the current measurement interval are counted with a {@link LongAdder}. Until the first throttling error
+ * enables rate limiting, acquiring a token only reads the current snapshot.
+ */
 @SdkInternalApi
+@ThreadSafe
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
     private static final double MIN_CAPACITY = 1.0;
@@ -31,18 +45,9 @@ public class RateLimitingTokenBucket {
 
     private final Clock clock;
 
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
-
-    private double timeWindow;
+    private final AtomicReference<State> state = new AtomicReference<>();
+    private final AtomicReference<MeasuredRate> measuredRate = new AtomicReference<>();
+    private final LongAdder requestCount = new LongAdder();
 
     public interface Clock {
         double time();
@@ -151,29 +156,28 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
-
-        synchronized (this) {
-            // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
-                return OptionalDouble.of(0.0);
-            }
-
-            refill();
+        // If rate limiting is not enabled, we technically have an uncapped limit
+        if (!state.get().enabled) {
+            return OptionalDouble.of(0.0);
+        }
 
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+        refill();
 
+        State current;
+        double unfulfilled;
+        do {
+            current = state.get();
+            unfulfilled = unfulfilled(current, amount);
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
                 return OptionalDouble.empty();
             }
+        } while (!state.compareAndSet(current, current.withCurrentCapacity(current.currentCapacity - amount)));
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
-            }
+        // If all the tokens couldn't be acquired immediately, wait enough
+        // time to fill the remainder.
+        double waitTime = 0.0;
+        if (unfulfilled > 0) {
+            waitTime = unfulfilled / current.fillRate;
         }
 
         return OptionalDouble.of(waitTime);
@@ -185,27 +189,24 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
-        double result;
-        if (amount <= currentCapacity) {
-            result = 0;
-        } else {
-            result = amount - currentCapacity;
+        State current;
+        do {
+            current = state.get();
+        } while (!state.compareAndSet(current, current.withCurrentCapacity(current.currentCapacity - amount)));
+        return unfulfilled(current, amount);
+    }
+
+    private static double unfulfilled(State current, double amount) {
+        if (amount <= current.currentCapacity) {
+            return 0;
         }
-        currentCapacity = currentCapacity - amount;
-        return result;
+        return amount - current.currentCapacity;
     }
 
     private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+        state.set(new State(Double.NaN, Double.NaN, 0.0, Double.NaN, false, 0.0, clock.time(), 0.0));
+        measuredRate.set(new MeasuredRate(Math.floor(clock.time()), 0.0));
+        requestCount.reset();
     }
 
     /**
@@ -221,16 +222,14 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void refill() {
+    void refill() {
         double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
-            return;
-        }
-
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        State current;
+        State refilled;
+        do {
+            current = state.get();
+            refilled = current.refill(timestamp);
+        } while (!state.compareAndSet(current, refilled));
     }
 
     /**
@@ -245,11 +244,17 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private static State updateRate(State current, double newRps, double timestamp) {
+        State refilled = current.refill(timestamp);
+        double maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        return new State(Math.max(newRps, MIN_FILL_RATE),
+                         maxCapacity,
+                         Math.min(refilled.currentCapacity, maxCapacity),
+                         refilled.lastTimestamp,
+                         refilled.enabled,
+                         refilled.lastMaxRate,
+                         refilled.lastThrottleTime,
+                         refilled.timeWindow);
     }
 
     /**
@@ -264,20 +269,33 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
+    private double updateMeasuredRate() {
         double t = clock.time();
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        requestCount.increment();
+        while (true) {
+            MeasuredRate current = measuredRate.get();
+            if (timeBucket <= current.lastTxRateBucket) {
+                return current.measuredTxRate;
+            }
+            // Only the thread that closes the interval takes its request count.
+            MeasuredRate closing = new MeasuredRate(timeBucket, current.measuredTxRate);
+            if (measuredRate.compareAndSet(current, closing)) {
+                double currentRate = requestCount.sumThenReset() / (timeBucket - current.lastTxRateBucket);
+                double measuredTxRate = (currentRate * SMOOTH) + (current.measuredTxRate * (1 - SMOOTH));
+                // Publish the new rate, unless a later interval was closed in the meantime.
+                measuredRate.compareAndSet(closing, new MeasuredRate(timeBucket, measuredTxRate));
+                return measuredTxRate;
+            }
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    @SdkTestInternalApi
+    void enable() {
+        State current;
+        do {
+            current = state.get();
+        } while (!current.enabled && !state.compareAndSet(current, current.enable()));
     }
 
     /**
@@ -305,30 +323,38 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
-
-        double calculatedRate;
-        if (throttlingResponse) {
-            double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        double measuredTxRate = updateMeasuredRate();
+        double timestamp = clock.time();
+
+        // The CUBIC state, the fill rate and whether rate limiting is enabled are replaced together, and recomputed if another
+        // response was reported in the meantime. So a response never overwrites the rate computed for a later throttling
+        // error, and rate limiting is never enabled before the fill rate is set.
+        State current;
+        State updated;
+        do {
+            current = state.get();
+
+            State withCubic;
+            double calculatedRate;
+            if (throttlingResponse) {
+                double rateToUse;
+                if (!current.enabled) {
+                    rateToUse = measuredTxRate;
+                } else {
+                    rateToUse = Math.min(measuredTxRate, current.fillRate);
+                }
+
+                withCubic = current.withCubic(rateToUse, timestamp, timeWindow(rateToUse)).enable();
+                calculatedRate = cubicThrottle(rateToUse);
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                withCubic = current.withCubic(current.lastMaxRate, current.lastThrottleTime, timeWindow(current.lastMaxRate));
+                calculatedRate = cubicSuccess(withCubic, timestamp);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
-            calculatedRate = cubicThrottle(rateToUse);
-            enable();
-        } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
-        }
-
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+            double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
+            updated = updateRate(withCubic, newRate, timestamp);
+        } while (!state.compareAndSet(current, updated));
     }
 
     /**
@@ -340,8 +366,12 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    void calculateTimeWindow() {
+        state.updateAndGet(s -> s.withCubic(s.lastMaxRate, s.lastThrottleTime, timeWindow(s.lastMaxRate)));
+    }
+
+    private static double timeWindow(double lastMaxRate) {
+        return Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -381,9 +411,13 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
+    private static double cubicSuccess(State current, double timestamp) {
+        double dt = timestamp - current.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - current.timeWindow, 3) + current.lastMaxRate;
         return calculatedRate;
     }
 
@@ -395,38 +429,111 @@ public class RateLimitingTokenBucket {
         }
     }
 
+    /**
+     * The state of the token bucket and of the CUBIC algorithm. The rates and the timestamp of the token bucket are
+     * {@code NaN} until they are first set, and the bucket is only enabled once they are.
+     */
+    private static final class State {
+        private final double fillRate;
+        private final double maxCapacity;
+        private final double currentCapacity;
+        private final double lastTimestamp;
+        private final boolean enabled;
+
+        private final double lastMaxRate;
+        private final double lastThrottleTime;
+        private final double timeWindow;
+
+        private State(double fillRate, double maxCapacity, double currentCapacity, double lastTimestamp, boolean enabled,
+                      double lastMaxRate, double lastThrottleTime, double timeWindow) {
+            this.fillRate = fillRate;
+            this.maxCapacity = maxCapacity;
+            this.currentCapacity = currentCapacity;
+            this.lastTimestamp = lastTimestamp;
+            this.enabled = enabled;
+            this.lastMaxRate = lastMaxRate;
+            this.lastThrottleTime = lastThrottleTime;
+            this.timeWindow = timeWindow;
+        }
+
+        private State refill(double timestamp) {
+            if (Double.isNaN(lastTimestamp)) {
+                return withBucket(fillRate, currentCapacity, timestamp);
+            }
+
+            double fillAmount = (timestamp - lastTimestamp) * fillRate;
+            return withBucket(fillRate, Math.min(maxCapacity, currentCapacity + fillAmount), timestamp);
+        }
+
+        private State withCurrentCapacity(double newCapacity) {
+            return withBucket(fillRate, newCapacity, lastTimestamp);
+        }
+
+        private State withFillRate(double newFillRate) {
+            return withBucket(newFillRate, currentCapacity, lastTimestamp);
+        }
+
+        private State withBucket(double newFillRate, double newCapacity, double newTimestamp) {
+            return new State(newFillRate, maxCapacity, newCapacity, newTimestamp, enabled,
+                             lastMaxRate, lastThrottleTime, timeWindow);
+        }
+
+        private State withCubic(double newLastMaxRate, double newLastThrottleTime, double newTimeWindow) {
+            return new State(fillRate, maxCapacity, currentCapacity, lastTimestamp, enabled,
+                             newLastMaxRate, newLastThrottleTime, newTimeWindow);
+        }
+
+        private State enable() {
+            return new State(fillRate, maxCapacity, currentCapacity, lastTimestamp, true,
+                             lastMaxRate, lastThrottleTime, timeWindow);
+        }
+    }
+
+    /**
+     * The request rate measured over the last closed interval, and the start of the current interval.
+     */
+    private static final class MeasuredRate {
+        private final double lastTxRateBucket;
+        private final double measuredTxRate;
+
+        private MeasuredRate(double lastTxRateBucket, double measuredTxRate) {
+            this.lastTxRateBucket = lastTxRateBucket;
+            this.measuredTxRate = measuredTxRate;
+        }
+    }
+
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        state.updateAndGet(s -> s.withCubic(lastMaxRate, s.lastThrottleTime, s.timeWindow));
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    void setLastThrottleTime(double lastThrottleTime) {
+        state.updateAndGet(s -> s.withCubic(s.lastMaxRate, lastThrottleTime, s.timeWindow));
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getMeasuredTxRate() {
+        return measuredRate.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    void setCurrentCapacity(double currentCapacity) {
+        state.updateAndGet(b -> b.withCurrentCapacity(currentCapacity));
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setFillRate(double fillRate) {
+        state.updateAndGet(b -> b.withFillRate(fillRate));
     }
 }
@@ -113,6 +113,13 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> UNMARSHALLING_DURATION =
         metric("UnmarshallingDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint for the request was found in the client's endpoint resolution cache. This is only reported when the
+     * cache is enabled with {@code SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLUTION_CACHE_HIT =
+        metric("EndpointResolutionCacheHit", Boolean.class, MetricLevel.INFO);
+
     /**
      * The request ID of the service request.
      */
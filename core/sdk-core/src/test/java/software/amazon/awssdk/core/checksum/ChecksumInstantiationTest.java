@@ -37,7 +37,8 @@ class ChecksumInstantiationTest {
             Arguments.of(Algorithm.SHA1, "761c457bf73b14d27e9e9265c46f4b4dda11f940"),
             Arguments.of(Algorithm.SHA256, "db4bfcbd4da0cd85a60c3c37d3fbd8805c77f15fc6b1fdfe614ee0a7c8fdb4c0"),
             Arguments.of(Algorithm.CRC32, "000000000000000000000000000000001fc2e6d2"),
-            Arguments.of(Algorithm.CRC32C, "00000000000000000000000000000000a245d57d")
+            Arguments.of(Algorithm.CRC32C, "00000000000000000000000000000000a245d57d"),
+            Arguments.of(Algorithm.CRC64NVME, "0000000000000000000000008b8f30cfc6f16409")
         );
     }
 
@@ -55,6 +56,7 @@ class ChecksumInstantiationTest {
         return Stream.of(
             Arguments.of(Algorithm.CRC32C, "Nks/tw=="),
             Arguments.of(Algorithm.CRC32, "NSRBwg=="),
+            Arguments.of(Algorithm.CRC64NVME, "BeXKuz/B+us="),
             Arguments.of(Algorithm.SHA1, "qZk+NkcGgWq6PiVxeFDCbJzQ2J0="),
             Arguments.of(Algorithm.SHA256, "ungWv48Bz+pBQUDeXa4iI7ADYaOWF3qctBD/YfIAFa0=")
 
@@ -74,6 +76,7 @@ class ChecksumInstantiationTest {
         return Stream.of(
             Arguments.of(Algorithm.CRC32C, "Nks/tw=="),
             Arguments.of(Algorithm.CRC32, "NSRBwg=="),
+            Arguments.of(Algorithm.CRC64NVME, "BeXKuz/B+us="),
             Arguments.of(Algorithm.SHA1, "qZk+NkcGgWq6PiVxeFDCbJzQ2J0="),
             Arguments.of(Algorithm.SHA256, "ungWv48Bz+pBQUDeXa4iI7ADYaOWF3qctBD/YfIAFa0=")
 
@@ -97,6 +100,7 @@ class ChecksumInstantiationTest {
         return Stream.of(
             Arguments.of(Algorithm.CRC32C, "crUfeA=="),
             Arguments.of(Algorithm.CRC32, "i9aeUg=="),
+            Arguments.of(Algorithm.CRC64NVME, "OOJZ0D8xKts="),
             Arguments.of(Algorithm.SHA1, "e1AsOh9IyGCa4hLN+2Od7jlnP14="),
             Arguments.of(Algorithm.SHA256, "ZOyIygCyaOW6GjVnihtTFtIS9PNmskdyMlNKiuyjfzw=")
 
@@ -119,6 +123,7 @@ class ChecksumInstantiationTest {
             Arguments.of(Algorithm.CRC32, "MtcGkw=="),
             Arguments.of(Algorithm.SHA256, "AbpHGcgLb+kRsJGnwFEktk7uzpZOCcBY74+YBdrKVGs="),
             Arguments.of(Algorithm.CRC32C, "OZ97aQ=="),
+            Arguments.of(Algorithm.CRC64NVME, "jRtdY+eTa68="),
             Arguments.of(Algorithm.SHA1, "rcg7GeeTSRscbqD9i0bNnzLlkvw=")
         );
     }
@@ -150,7 +155,8 @@ class ChecksumInstantiationTest {
     private static Stream<Arguments> provide_CRC_AlgorithmAndExpectedValues() {
         return Stream.of(
             Arguments.of(Algorithm.CRC32, 852952723L),
-            Arguments.of(Algorithm.CRC32C, 966753129L)
+            Arguments.of(Algorithm.CRC32C, 966753129L),
+            Arguments.of(Algorithm.CRC64NVME, 0x8D1B5D63E7936BAFL)
         );
     }
 
@@ -167,6 +173,7 @@ class ChecksumInstantiationTest {
         return Stream.of(
             Arguments.of(Algorithm.CRC32C, "AAAAAA=="),
             Arguments.of(Algorithm.CRC32, "AAAAAA=="),
+            Arguments.of(Algorithm.CRC64NVME, "AAAAAAAAAAA="),
             Arguments.of(Algorithm.SHA1, "2jmj7l5rSw0yVb/vlWAYkK/YBwk="),
             Arguments.of(Algorithm.SHA256, "47DEQpj8HBSa+/TImW+5JCeuQeRkm5NMpJWZG3hSuFU=")
         );
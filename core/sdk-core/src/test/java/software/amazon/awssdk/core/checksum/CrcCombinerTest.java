@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.checksum;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.CrcCombiner;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.checksums.factory.JdkCrc32C;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+
+class CrcCombinerTest {
+
+    private static final byte[] DATA = randomBytes(100_003);
+
+    @ParameterizedTest
+    @EnumSource(value = Algorithm.class, names = {"CRC32", "CRC32C", "CRC64NVME"})
+    void combine_anySplit_matchesChecksumOfWholeData(Algorithm algorithm) {
+        assertThat(CrcCombiner.isCombinable(algorithm)).isTrue();
+        long expected = checksum(algorithm, 0, DATA.length);
+
+        for (int split : new int[] {0, 1, 7, 8, 9, 4096, 65536, DATA.length - 1, DATA.length}) {
+            long crc1 = checksum(algorithm, 0, split);
+            long crc2 = checksum(algorithm, split, DATA.length - split);
+            assertThat(CrcCombiner.combine(algorithm, crc1, crc2, DATA.length - split))
+                .as("split at %s", split)
+                .isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Algorithm.class, names = {"CRC32", "CRC32C", "CRC64NVME"})
+    void combine_manyParts_matchesChecksumOfWholeData(Algorithm algorithm) {
+        int partSize = 1000;
+        long combined = checksum(algorithm, 0, 0);
+        for (int offset = 0; offset < DATA.length; offset += partSize) {
+            int length = Math.min(partSize, DATA.length - offset);
+            combined = CrcCombiner.combine(algorithm, combined, checksum(algorithm, offset, length), length);
+        }
+        assertThat(combined).isEqualTo(checksum(algorithm, 0, DATA.length));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Algorithm.class, names = {"SHA1", "SHA256"})
+    void combine_notCrc_throwsException(Algorithm algorithm) {
+        assertThat(CrcCombiner.isCombinable(algorithm)).isFalse();
+        assertThatThrownBy(() -> CrcCombiner.combine(algorithm, 1, 2, 3)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void jdkCrc32C_clonedAndUpdated_matchesSdkCrc32C() {
+        JdkCrc32C jdkCrc32C = JdkCrc32C.create();
+        assertThat(jdkCrc32C).isNotNull();
+        SdkCrc32C sdkCrc32C = SdkCrc32C.create();
+
+        jdkCrc32C.update(DATA, 0, 1000);
+        sdkCrc32C.update(DATA, 0, 1000);
+
+        Checksum jdkClone = (Checksum) jdkCrc32C.clone();
+        Checksum sdkClone = (Checksum) sdkCrc32C.clone();
+        jdkClone.update(DATA, 1000, 5000);
+        sdkClone.update(DATA, 1000, 5000);
+        jdkClone.update(42);
+        sdkClone.update(42);
+        assertThat(jdkClone.getValue()).isEqualTo(sdkClone.getValue());
+
+        Checksum jdkCloneOfClone = (Checksum) ((JdkCrc32C) jdkClone).clone();
+        jdkCloneOfClone.update(DATA, 6000, 3);
+        sdkClone.update(DATA, 6000, 3);
+        assertThat(jdkCloneOfClone.getValue()).isEqualTo(sdkClone.getValue());
+        assertThat(jdkCrc32C.getValue()).isEqualTo(sdkCrc32C.getValue());
+
+        jdkClone.reset();
+        assertThat(jdkClone.getValue()).isZero();
+    }
+
+    private static long checksum(Algorithm algorithm, int offset, int length) {
+        SdkChecksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(DATA, offset, length);
+        return checksum.getValue();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(1234).nextBytes(bytes);
+        return bytes;
+    }
+}
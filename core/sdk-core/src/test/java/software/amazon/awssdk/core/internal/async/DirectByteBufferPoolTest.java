@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class DirectByteBufferPoolTest {
+
+    @Test
+    void acquire_emptyPool_allocatesDirectBuffer() {
+        DirectByteBufferPool pool = new DirectByteBufferPool(2);
+
+        ByteBuffer buffer = pool.acquire(1024);
+
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.capacity()).isEqualTo(1024);
+        assertThat(buffer.position()).isZero();
+        assertThat(buffer.limit()).isEqualTo(1024);
+    }
+
+    @Test
+    void acquire_afterRelease_reusesClearedBuffer() {
+        DirectByteBufferPool pool = new DirectByteBufferPool(2);
+        ByteBuffer buffer = pool.acquire(1024);
+        buffer.put((byte) 1).limit(10);
+
+        pool.release(buffer);
+        ByteBuffer reused = pool.acquire(1024);
+
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(reused.limit()).isEqualTo(1024);
+        assertThat(pool.pooledBuffers()).isZero();
+    }
+
+    @Test
+    void acquire_differentCapacity_doesNotReuseBuffer() {
+        DirectByteBufferPool pool = new DirectByteBufferPool(2);
+        ByteBuffer buffer = pool.acquire(1024);
+        pool.release(buffer);
+
+        assertThat(pool.acquire(512)).isNotSameAs(buffer);
+        assertThat(pool.pooledBuffers()).isEqualTo(1);
+    }
+
+    @Test
+    void release_poolFull_dropsBuffer() {
+        DirectByteBufferPool pool = new DirectByteBufferPool(1);
+        ByteBuffer first = pool.acquire(1024);
+        ByteBuffer second = pool.acquire(1024);
+
+        pool.release(first);
+        pool.release(second);
+
+        assertThat(pool.pooledBuffers()).isEqualTo(1);
+        assertThat(pool.acquire(1024)).isSameAs(first);
+    }
+
+    @Test
+    void release_heapOrReadOnlyBuffer_isIgnored() {
+        DirectByteBufferPool pool = new DirectByteBufferPool(2);
+
+        pool.release(ByteBuffer.allocate(1024));
+        pool.release(ByteBuffer.allocateDirect(1024).asReadOnlyBuffer());
+        pool.release(null);
+
+        assertThat(pool.pooledBuffers()).isZero();
+    }
+}
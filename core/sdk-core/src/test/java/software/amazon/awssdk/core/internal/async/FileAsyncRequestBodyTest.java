@@ -31,6 +31,9 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
@@ -312,6 +315,54 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void bufferPoolConfigured_releasedBuffersAreReused() throws Exception {
+        int chunkSize = 16384;
+        DirectByteBufferPool bufferPool = new DirectByteBufferPool(4);
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(chunkSize)
+                                                                .bufferPool(bufferPool)
+                                                                .build();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Set<ByteBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        asyncRequestBody.subscribe(new Subscriber<ByteBuffer>() {
+            private Subscription sub;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.sub = subscription;
+                sub.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                assertThat(byteBuffer.isDirect()).isTrue();
+                buffers.add(byteBuffer);
+                invokeSafely(() -> output.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+                asyncRequestBody.release(byteBuffer);
+                sub.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        completed.get(5, TimeUnit.SECONDS);
+        assertThat(output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        assertThat(buffers).hasSize(1);
+        assertThat(bufferPool.pooledBuffers()).isEqualTo(1);
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
@@ -0,0 +1,255 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * Tests for {@link PositionalFileWriter}.
+ */
+class PositionalFileWriterTest {
+    private static final String CONTENT = "0123456789abcdefghij";
+
+    private FileSystem testFs;
+    private Path testPath;
+
+    @BeforeEach
+    public void setup() {
+        testFs = Jimfs.newFileSystem();
+        testPath = testFs.getPath("test_file.txt");
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        testFs.close();
+    }
+
+    @Test
+    void rangesWrittenOutOfOrder_shouldWriteEachRangeAtItsOffset() throws Exception {
+        PositionalFileWriter writer = writer(FileTransformerConfiguration.defaultCreateNew());
+        writer.open(CONTENT.length());
+
+        writeRange(writer, 10, 20);
+        writeRange(writer, 5, 10);
+        writeRange(writer, 0, 5);
+        writer.close();
+
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(writer.contiguousBytesWritten()).isEqualTo(CONTENT.length());
+    }
+
+    @Test
+    void open_existingFileLongerThanSize_shouldTruncateFile() throws Exception {
+        Files.write(testPath, new byte[100]);
+        PositionalFileWriter writer = new PositionalFileWriter(testPath, appendConfiguration(), 0);
+
+        writer.open(CONTENT.length());
+        writer.close();
+
+        assertThat(Files.size(testPath)).isEqualTo(CONTENT.length());
+    }
+
+    @Test
+    void open_shouldSetLengthOfFileAfterStartPosition() throws Exception {
+        Files.write(testPath, "existing".getBytes(StandardCharsets.UTF_8));
+        FileAsyncResponseTransformer<Object> transformer = new FileAsyncResponseTransformer<>(testPath, appendConfiguration());
+        PositionalFileWriter writer = transformer.positionalWriter();
+
+        writer.open(CONTENT.length());
+        writeRange(writer, 0, 20);
+        writer.close();
+
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("existing" + CONTENT);
+    }
+
+    @Test
+    void contiguousBytesWritten_gapBeforeRange_shouldOnlyCountRangesFromStart() throws Exception {
+        PositionalFileWriter writer = writer(FileTransformerConfiguration.defaultCreateNew());
+        writer.open(CONTENT.length());
+
+        writeRange(writer, 10, 15);
+        assertThat(writer.contiguousBytesWritten()).isZero();
+
+        writeRange(writer, 0, 5);
+        assertThat(writer.contiguousBytesWritten()).isEqualTo(5);
+
+        writeRange(writer, 5, 10);
+        assertThat(writer.contiguousBytesWritten()).isEqualTo(15);
+        writer.close();
+    }
+
+    @Test
+    void abort_shouldTruncateFileToContiguousContent() throws Exception {
+        PositionalFileWriter writer = writer(FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+        writer.open(CONTENT.length());
+
+        writeRange(writer, 0, 5);
+        writeRange(writer, 15, 20);
+        writer.abort();
+        writer.abort();
+
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(0, 5));
+    }
+
+    @Test
+    void rangeTransformer_requestRetried_shouldWriteRangeAgainFromItsOffset() throws Exception {
+        PositionalFileWriter writer = writer(FileTransformerConfiguration.defaultCreateNew());
+        writer.open(CONTENT.length());
+        writeRange(writer, 0, 10);
+
+        AsyncResponseTransformer<String, String> transformer = writer.rangeTransformer(10);
+        CompletableFuture<String> failedAttempt = transformer.prepare();
+        transformer.onResponse("response");
+        transformer.onStream(SdkPublisher.adapt(Flowable.concat(Flowable.just(ByteBuffer.wrap("zzz".getBytes(StandardCharsets.UTF_8))),
+                                                                Flowable.error(new RuntimeException("Connection reset")))));
+        assertThatThrownBy(() -> failedAttempt.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("Connection reset");
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("response");
+        transformer.onStream(publisher(CONTENT.substring(10)));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+        writer.close();
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void rangeTransformer_errorInStream_shouldFailAndNotCountRange() throws Exception {
+        PositionalFileWriter writer = writer(FileTransformerConfiguration.defaultCreateNew());
+        writer.open(CONTENT.length());
+
+        AsyncResponseTransformer<String, String> transformer = writer.rangeTransformer(0);
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("response");
+        transformer.onStream(SdkPublisher.adapt(Flowable.error(new RuntimeException("Something went wrong"))));
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("Something went wrong");
+        assertThat(writer.contiguousBytesWritten()).isZero();
+        writer.close();
+    }
+
+    @Test
+    void rangeTransformer_exceptionOccurredDuringWrite_shouldFailOnceWriteHasFinished() throws Exception {
+        ExecutorService fileExecutor = Executors.newSingleThreadExecutor();
+        try {
+            FileTransformerConfiguration configuration = FileTransformerConfiguration.defaultCreateNew()
+                                                                                     .toBuilder()
+                                                                                     .executorService(fileExecutor)
+                                                                                     .build();
+            PositionalFileWriter writer = writer(configuration);
+            writer.open(CONTENT.length());
+
+            // Hold the file executor, so that the write of the range stays in progress
+            CountDownLatch releaseWrite = new CountDownLatch(1);
+            fileExecutor.submit(() -> {
+                releaseWrite.await();
+                return null;
+            });
+
+            AsyncResponseTransformer<String, String> transformer = writer.rangeTransformer(0);
+            CompletableFuture<String> future = transformer.prepare();
+            transformer.onResponse("response");
+            transformer.onStream(SdkPublisher.adapt(Flowable.concat(Flowable.just(ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8))),
+                                                                    Flowable.never())));
+            transformer.exceptionOccurred(new RuntimeException("Something went wrong"));
+
+            assertThat(future).isNotDone();
+            releaseWrite.countDown();
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("Something went wrong");
+            assertThat(writer.contiguousBytesWritten()).isZero();
+            writer.close();
+        } finally {
+            fileExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fileTransformer_positionalWriter_shouldConsumeStreamWithoutWritingIt() throws Exception {
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, FileTransformerConfiguration.defaultCreateNew());
+        CompletableFuture<String> future = transformer.prepare();
+        PositionalFileWriter writer = transformer.positionalWriter();
+        writer.open(CONTENT.length());
+        writeRange(writer, 0, 20);
+        writer.close();
+
+        transformer.onResponse("response");
+        transformer.onStream(publisher("ignored"));
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("response");
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void fileTransformer_positionalWriterExceptionOccurred_shouldAbortWriter() throws Exception {
+        FileAsyncResponseTransformer<String> transformer =
+            new FileAsyncResponseTransformer<>(testPath, FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+        CompletableFuture<String> future = transformer.prepare();
+        PositionalFileWriter writer = transformer.positionalWriter();
+        writer.open(CONTENT.length());
+        writeRange(writer, 0, 8);
+
+        transformer.exceptionOccurred(new RuntimeException("Something went wrong"));
+
+        assertThat(future).isCompletedExceptionally();
+        assertThat(Files.size(testPath)).isEqualTo(8);
+    }
+
+    private PositionalFileWriter writer(FileTransformerConfiguration configuration) {
+        return new PositionalFileWriter(testPath, configuration, 0);
+    }
+
+    private static FileTransformerConfiguration appendConfiguration() {
+        return FileTransformerConfiguration.defaultCreateOrAppend();
+    }
+
+    private static void writeRange(PositionalFileWriter writer, int start, int end) throws Exception {
+        AsyncResponseTransformer<Object, Object> transformer = writer.rangeTransformer(start);
+        CompletableFuture<Object> future = transformer.prepare();
+        transformer.onResponse(new Object());
+        transformer.onStream(publisher(CONTENT.substring(start, end)));
+        future.get(5, TimeUnit.SECONDS);
+    }
+
+    private static SdkPublisher<ByteBuffer> publisher(String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int half = bytes.length / 2;
+        return SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(Arrays.copyOfRange(bytes, 0, half)),
+                                                ByteBuffer.wrap(Arrays.copyOfRange(bytes, half, bytes.length))));
+    }
+}
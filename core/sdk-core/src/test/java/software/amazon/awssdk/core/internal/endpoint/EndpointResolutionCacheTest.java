@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class EndpointResolutionCacheTest {
+    private static final EndpointProvider PROVIDER = new EndpointProvider() {
+    };
+
+    @Test
+    public void resolveEndpoint_sameParams_resolvesOnce() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(10);
+        CountingResolver resolver = new CountingResolver("https://foo.amazonaws.com");
+
+        Endpoint first = cache.resolveEndpoint(PROVIDER, "us-west-2", resolver, null);
+        Endpoint second = cache.resolveEndpoint(PROVIDER, "us-west-2", resolver, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(resolver.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolveEndpoint_differentProviders_cachedSeparately() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(10);
+        EndpointProvider otherProvider = new EndpointProvider() {
+        };
+        CountingResolver resolver = new CountingResolver("https://foo.amazonaws.com");
+
+        cache.resolveEndpoint(PROVIDER, "us-west-2", resolver, null);
+        cache.resolveEndpoint(otherProvider, "us-west-2", resolver, null);
+
+        assertThat(resolver.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolveEndpoint_reportsHitAndMiss() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(10);
+        MetricCollector miss = mock(MetricCollector.class);
+        MetricCollector hit = mock(MetricCollector.class);
+        CountingResolver resolver = new CountingResolver("https://foo.amazonaws.com");
+
+        cache.resolveEndpoint(PROVIDER, "us-west-2", resolver, miss);
+        cache.resolveEndpoint(PROVIDER, "us-west-2", resolver, hit);
+
+        verify(miss).reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, false);
+        verify(hit).reportMetric(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT, true);
+    }
+
+    @Test
+    public void resolveEndpoint_resolverFails_notCached() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(10);
+
+        assertThatThrownBy(() -> cache.resolveEndpoint(PROVIDER, "bad", () -> {
+            throw new IllegalStateException("oops");
+        }, null)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void resolveEndpoint_exceedsMaxSize_evictsToMaxSize() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(5);
+        CountingResolver resolver = new CountingResolver("https://foo.amazonaws.com");
+
+        for (int i = 0; i < 100; i++) {
+            cache.resolveEndpoint(PROVIDER, "bucket-" + i, resolver, null);
+        }
+
+        assertThat(cache.size()).isEqualTo(5);
+    }
+
+    @Test
+    public void resolveEndpoint_manyOneOffParams_frequentlyUsedEntryRetained() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(5);
+        CountingResolver hotResolver = new CountingResolver("https://hot.amazonaws.com");
+        CountingResolver resolver = new CountingResolver("https://foo.amazonaws.com");
+
+        for (int i = 0; i < 100; i++) {
+            cache.resolveEndpoint(PROVIDER, "hot-bucket", hotResolver, null);
+            cache.resolveEndpoint(PROVIDER, "bucket-" + i, resolver, null);
+        }
+
+        assertThat(hotResolver.calls.get()).isEqualTo(1);
+        assertThat(resolver.calls.get()).isEqualTo(100);
+    }
+
+    @Test
+    public void constructor_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> new EndpointResolutionCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class CountingResolver implements Supplier<Endpoint> {
+        private final Endpoint endpoint;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingResolver(String url) {
+            this.endpoint = Endpoint.builder().url(URI.create(url)).build();
+        }
+
+        @Override
+        public Endpoint get() {
+            calls.incrementAndGet();
+            return endpoint;
+        }
+    }
+}
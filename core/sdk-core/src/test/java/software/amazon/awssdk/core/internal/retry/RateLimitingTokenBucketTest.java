@@ -16,9 +16,18 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -154,4 +163,173 @@ public class RateLimitingTokenBucketTest {
 
         assertThat(tb.tryAcquireCapacity(5.0)).isEqualTo(2.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void acquireNonBlocking_notEnabled_returnsZeroWithoutTakingCapacity() {
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
+        tb.setCurrentCapacity(1.0);
+
+        assertThat(tb.acquireNonBlocking(5.0, true)).isEqualTo(OptionalDouble.of(0.0));
+        assertThat(tb.getCurrentCapacity()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void acquireNonBlocking_capacityInsufficient_returnsTimeToWait() {
+        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
+
+        // stub out refill() so we have control over the capacity
+        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+
+        tb.setFillRate(2.0);
+        tb.setCurrentCapacity(1.0);
+        tb.enable();
+
+        assertThat(tb.acquireNonBlocking(3.0, false)).isEqualTo(OptionalDouble.of(1.0));
+        assertThat(tb.getCurrentCapacity()).isEqualTo(-2.0);
+    }
+
+    @Test
+    public void acquireNonBlocking_concurrentCallers_eachTokenIsTakenOnce() throws Exception {
+        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
+
+        // stub out refill() so we have control over the capacity
+        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+
+        int threads = 8;
+        int acquiresPerThread = 10_000;
+        tb.setFillRate(1.0);
+        tb.setCurrentCapacity(threads * acquiresPerThread / 2);
+        tb.enable();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Integer>> acquired = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                acquired.add(CompletableFuture.supplyAsync(() -> {
+                    awaitUninterruptibly(start);
+                    int immediate = 0;
+                    for (int j = 0; j < acquiresPerThread; j++) {
+                        if (tb.acquireNonBlocking(1.0, true).isPresent()) {
+                            immediate++;
+                        }
+                    }
+                    return immediate;
+                }, executor));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (CompletableFuture<Integer> f : acquired) {
+                total += f.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(total).isEqualTo(threads * acquiresPerThread / 2);
+            assertThat(tb.getCurrentCapacity()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void updateClientSendingRate_throttleReportedDuringSuccess_successDoesNotUndoThrottle() {
+        // Report the throttling error from another thread while the success is being reported, at each read of the clock.
+        for (int read = 1; read <= 3; read++) {
+            InterleavingClock clock = new InterleavingClock();
+            RateLimitingTokenBucket tb = new RateLimitingTokenBucket(clock);
+
+            // Measure a rate of 0.8 * 50 / 0.5 = 80 requests per second. Successes raise the fill rate to twice that rate.
+            for (int i = 0; i < 49; i++) {
+                tb.updateClientSendingRate(false);
+            }
+            clock.time = 0.5;
+            tb.updateClientSendingRate(false);
+            tb.setLastMaxRate(1000.0);
+            tb.setLastThrottleTime(-100.0);
+            tb.updateClientSendingRate(false);
+            assertThat(tb.getFillRate()).isCloseTo(160.0, within(1e-6));
+
+            AtomicBoolean throttled = new AtomicBoolean();
+            clock.onRead(read, () -> {
+                tb.updateClientSendingRate(true);
+                throttled.set(true);
+            });
+            tb.updateClientSendingRate(false);
+            clock.stopInterleaving();
+            if (!throttled.get()) {
+                tb.updateClientSendingRate(true);
+            }
+
+            // The throttling error lowers the rate to 0.7 * 80 = 56, and a success reported at the same time computes the
+            // same rate.
+            assertThat(tb.getFillRate()).isCloseTo(56.0, within(1e-6));
+        }
+    }
+
+    @Test
+    public void updateClientSendingRate_acquireDuringFirstThrottle_neverWaitsForUnsetFillRate() {
+        // Acquire from another thread while the first throttling error is being reported, at each read of the clock.
+        for (int read = 1; read <= 3; read++) {
+            InterleavingClock clock = new InterleavingClock();
+            RateLimitingTokenBucket tb = new RateLimitingTokenBucket(clock);
+            assertThat(tb.getFillRate()).isNaN();
+
+            List<Double> waitTimes = new ArrayList<>();
+            clock.onRead(read, () -> waitTimes.add(tb.acquireNonBlocking(1.0, false).getAsDouble()));
+            tb.updateClientSendingRate(true);
+            clock.stopInterleaving();
+            waitTimes.add(tb.acquireNonBlocking(1.0, false).getAsDouble());
+
+            assertThat(tb.getFillRate()).isGreaterThanOrEqualTo(0.5);
+            assertThat(waitTimes).allSatisfy(waitTime -> assertThat(waitTime).isFinite());
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * A clock whose time only changes when set. It can run an action on another thread, and wait for it, when the thread that
+     * registered the action reads the time for the given number of times.
+     */
+    private static final class InterleavingClock implements RateLimitingTokenBucket.Clock {
+        private volatile double time;
+        private Thread reader;
+        private int readToInterleave;
+        private int reads;
+        private Runnable action;
+
+        private void onRead(int read, Runnable action) {
+            this.reader = Thread.currentThread();
+            this.readToInterleave = read;
+            this.reads = 0;
+            this.action = action;
+        }
+
+        private void stopInterleaving() {
+            this.reader = null;
+        }
+
+        @Override
+        public double time() {
+            if (Thread.currentThread() == reader && ++reads == readToInterleave) {
+                stopInterleaving();
+                Thread other = new Thread(action);
+                other.start();
+                try {
+                    other.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+            }
+            return time;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How an HTTP client determines the protocol of a TLS connection.
+ *
+ * @see SdkHttpConfigurationOption#PROTOCOL_NEGOTIATION
+ */
+@SdkPublicApi
+public enum ProtocolNegotiation {
+    /**
+     * Use the configured {@link Protocol} on every connection, without negotiating it with the server (prior knowledge).
+     */
+    ASSUME_PROTOCOL,
+
+    /**
+     * Negotiate the protocol with the server during the TLS handshake, using Application-Layer Protocol Negotiation. The
+     * configured {@link Protocol} is offered first, and connections fall back to HTTP/1.1 if the server does not support it.
+     * Connections without TLS use the configured protocol.
+     */
+    ALPN
+}
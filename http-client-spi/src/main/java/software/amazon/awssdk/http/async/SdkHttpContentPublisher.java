@@ -31,4 +31,15 @@ public interface SdkHttpContentPublisher extends Publisher<ByteBuffer> {
      */
     Optional<Long> contentLength();
 
+    /**
+     * Invoked by the HTTP client once it no longer uses a buffer published by this publisher, for example after the buffer was
+     * written to the connection, so that a publisher that lends pooled buffers can reuse it.
+     * <p>
+     * HTTP clients are not required to call this method, or may only call it for some buffers, e.g. for direct buffers. Buffers
+     * that are not released are left to the garbage collector. By default, this method does nothing.
+     *
+     * @param buffer A buffer published by this publisher.
+     */
+    default void release(ByteBuffer buffer) {
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link SdkHttpContentPublisher} whose content is a region of a file, published without any transformation.
+ * <p>
+ * An HTTP client may send the region of the file directly instead of subscribing to this publisher, for example with
+ * {@code sendfile}, to avoid copying the content of the file through user space. The length of the region is the
+ * {@link #contentLength()} of the publisher.
+ */
+@SdkProtectedApi
+public interface SdkHttpFileContentPublisher extends SdkHttpContentPublisher {
+
+    /**
+     * @return The file the content is read from.
+     */
+    Path path();
+
+    /**
+     * @return The position in the file at which the content starts.
+     */
+    long position();
+}
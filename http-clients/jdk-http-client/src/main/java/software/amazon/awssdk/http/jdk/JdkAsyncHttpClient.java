@@ -0,0 +1,439 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK, available on Java 11 and later,
+ * to communicate with the service. It supports HTTP/1.1 and HTTP/2 without any dependency outside of the JDK, and starts faster
+ * than clients that need to initialize an event loop of their own.
+ *
+ * <p>Request and response bodies are handed to and from the JDK client as they are, without being copied into intermediate
+ * buffers. The JDK client neither supports a read or write timeout nor limits the number of concurrent connections, so these
+ * options are ignored. The JDK client also keeps using a connection after it received a 5xx response, where other clients
+ * close it.</p>
+ *
+ * <p>Cancelling the future returned by {@link #execute} cancels the request in the JDK client. Before Java 16, this does not
+ * abort the exchange: the JDK client still sends the request and waits for the response headers, and only the SDK stops
+ * waiting for them. Once the response body is being streamed, cancelling its subscription closes the exchange on all
+ * versions.</p>
+ *
+ * <p>See software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient for an alternative implementation.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+
+    private static final Logger log = Logger.loggerFor(JdkAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JdkAsync";
+
+    /**
+     * Headers that {@link HttpRequest.Builder} refuses, because the JDK client sets them itself.
+     */
+    private static final Set<String> RESTRICTED_HEADERS =
+        new HashSet<>(Arrays.asList("connection", "content-length", "date", "expect", "from", "host", "upgrade", "via",
+                                    "warning"));
+
+    private final HttpClient httpClient;
+    private final ExecutorService ownedExecutor;
+
+    private JdkAsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        HttpClient.Builder clientBuilder =
+            HttpClient.newBuilder()
+                      .version(options.get(SdkHttpConfigurationOption.PROTOCOL) == Protocol.HTTP2 ? HttpClient.Version.HTTP_2
+                                                                                                  : HttpClient.Version.HTTP_1_1)
+                      // Disable following redirects since it breaks SDK error handling and matches Netty.
+                      .followRedirects(HttpClient.Redirect.NEVER)
+                      .sslContext(getSslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (!connectionTimeout.isZero()) {
+            clientBuilder.connectTimeout(connectionTimeout);
+        }
+
+        if (builder.executor != null) {
+            this.ownedExecutor = null;
+            clientBuilder.executor(builder.executor);
+        } else {
+            this.ownedExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("sdk-jdk-http")
+                                                                                         .daemonThreads(true)
+                                                                                         .build());
+            clientBuilder.executor(ownedExecutor);
+        }
+
+        this.httpClient = clientBuilder.build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link HttpClient} client with the default properties
+     *
+     * @return an {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = toHttpRequest(request.request(), request.requestContentPublisher());
+        } catch (RuntimeException e) {
+            responseHandler.onError(e);
+            executeFuture.completeExceptionally(e);
+            return executeFuture;
+        }
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, responseInfo -> {
+                responseHandler.onHeaders(toSdkHttpResponse(responseInfo));
+                return BodySubscribers.ofPublisher();
+            });
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                responseHandler.onError(cause);
+                executeFuture.completeExceptionally(cause);
+                return;
+            }
+            try {
+                responseHandler.onStream(new ResponseBodyPublisher(FlowAdapters.toPublisher(response.body()),
+                                                                   responseHandler,
+                                                                   executeFuture));
+            } catch (RuntimeException e) {
+                responseHandler.onError(e);
+                executeFuture.completeExceptionally(e);
+            }
+        });
+
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                // Only aborts the exchange on Java 16 and later, see the class documentation.
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    @Override
+    public void close() {
+        // HttpClient is only closeable starting with Java 21. Before that, its connections are closed once it is garbage
+        // collected.
+        IoUtils.closeIfCloseable(httpClient, log.logger());
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @SdkTestInternalApi
+    HttpClient httpClient() {
+        return httpClient;
+    }
+
+    private static HttpRequest toHttpRequest(SdkHttpRequest sdkRequest, SdkHttpContentPublisher contentPublisher) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(sdkRequest.getUri())
+                                                 .method(sdkRequest.method().name(),
+                                                         toBodyPublisher(sdkRequest, contentPublisher));
+
+        sdkRequest.forEachHeader((name, values) -> {
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            if ("expect".equals(lowerCaseName)) {
+                builder.expectContinue(values.stream().anyMatch("100-continue"::equalsIgnoreCase));
+            } else if (!RESTRICTED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Adapt the content of the request to a {@link BodyPublisher}. The buffers of the publisher are written by the JDK client
+     * as they are, and the length of the body comes from the Content-Length header of the request, which the JDK client
+     * sends itself.
+     */
+    private static BodyPublisher toBodyPublisher(SdkHttpRequest sdkRequest, SdkHttpContentPublisher contentPublisher) {
+        if (contentPublisher == null) {
+            return BodyPublishers.noBody();
+        }
+
+        Optional<Long> contentLength = sdkRequest.firstMatchingHeader(CONTENT_LENGTH)
+                                                 .map(Long::parseLong)
+                                                 .map(Optional::of)
+                                                 .orElseGet(contentPublisher::contentLength);
+        if (!contentLength.isPresent()) {
+            return BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher));
+        }
+        if (contentLength.get() == 0) {
+            return BodyPublishers.noBody();
+        }
+        return BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher), contentLength.get());
+    }
+
+    private static SdkHttpResponse toSdkHttpResponse(HttpResponse.ResponseInfo responseInfo) {
+        Map<String, List<String>> headers =
+            responseInfo.headers()
+                        .map()
+                        .entrySet()
+                        .stream()
+                        // HTTP/2 pseudo-headers, such as :status, are not headers of the response.
+                        .filter(e -> !e.getKey().startsWith(":"))
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        return SdkHttpResponse.builder()
+                              .statusCode(responseInfo.statusCode())
+                              .headers(headers)
+                              .build();
+    }
+
+    private static SSLContext getSslContext(AttributeMap options) {
+        Validate.isTrue(options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER) == null ||
+                        !options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES),
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER) != null) {
+            trustManagers = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER).trustManagers();
+        }
+
+        if (options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES)) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing. Host names are still verified unless the "
+                           + "jdk.internal.httpclient.disableHostnameVerification system property is set.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider provider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = provider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the JDK HTTP implementation. Use {@link #builder()} to configure and construct a
+     * JDK HTTP client.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out.
+         *
+         * @param connectionTimeout the timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use. With {@link Protocol#HTTP2}, HTTP/2 is negotiated with ALPN over TLS, or with an
+         * upgrade over plain text, and the client falls back to HTTP/1.1 if the server does not support HTTP/2. Defaults to
+         * {@link Protocol#HTTP1_1}.
+         *
+         * @param protocol the HTTP protocol to use.
+         * @return this builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider keyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider trustManagersProvider);
+
+        /**
+         * The executor used by the JDK client for asynchronous tasks, such as delivering the response body. The executor is
+         * not shut down when the client is closed. By default, the client creates a cached thread pool of daemon threads,
+         * which is shut down when the client is closed.
+         *
+         * @param executor the executor to use.
+         * @return this builder for method chaining.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        /**
+         * Used by the SDK to create a {@link SdkAsyncHttpClient} with service-default values if no other values have been
+         * configured
+         *
+         * @param serviceDefaults Service specific defaults. Keys will be one of the constants defined in
+         * {@link SdkHttpConfigurationOption}.
+         * @return an instance of {@link SdkAsyncHttpClient}
+         */
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(this, standardOptions.build()
+                                                               .merge(serviceDefaults)
+                                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     */
+    private static class TrustAllManager implements X509TrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a client certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a server certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
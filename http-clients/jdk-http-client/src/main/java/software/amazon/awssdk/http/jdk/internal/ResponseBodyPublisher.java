@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Publishes the body of a response received by {@link java.net.http.HttpClient}, which delivers it as lists of buffers, as the
+ * stream of buffers expected by a {@link SdkAsyncHttpResponseHandler}.
+ * <p>
+ * The buffers of the HTTP client are published as they are, without copying them. The execution future is completed once the
+ * body has been fully delivered, the subscriber cancelled its subscription, or the body failed.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Publisher<List<ByteBuffer>> body;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final CompletableFuture<Void> executeFuture;
+
+    public ResponseBodyPublisher(Publisher<List<ByteBuffer>> body,
+                                 SdkAsyncHttpResponseHandler responseHandler,
+                                 CompletableFuture<Void> executeFuture) {
+        this.body = body;
+        this.responseHandler = responseHandler;
+        this.executeFuture = executeFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        body.subscribe(new FlatteningSubscriber<>(new CompletingSubscriber(subscriber)));
+    }
+
+    private final class CompletingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+
+        private CompletingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                    executeFuture.complete(null);
+                }
+            });
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            subscriber.onNext(buffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            responseHandler.onError(throwable);
+            executeFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            executeFuture.complete(null);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkAsyncHttpClientH1TestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Runs the HTTP/1 test suite shared by the async HTTP clients, and checks the behavior specific to the JDK HttpClient against
+ * a WireMock server.
+ */
+public class JdkAsyncHttpClientWireMockTest extends SdkAsyncHttpClientH1TestSuite {
+    private static final WireMockServer mockServer = new WireMockServer(wireMockConfig().dynamicPort());
+
+    private SdkAsyncHttpClient client;
+
+    @BeforeAll
+    public static void startServer() {
+        // The certificate of the test suite server is not issued for the addresses it is called with.
+        System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        mockServer.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        mockServer.stop();
+    }
+
+    @BeforeEach
+    public void resetServer() {
+        mockServer.resetAll();
+    }
+
+    @Override
+    protected SdkAsyncHttpClient setupClient() {
+        client = JdkAsyncHttpClient.builder()
+                                   .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+        return client;
+    }
+
+    @Override
+    @Test
+    @Disabled("The JDK HttpClient does not allow closing a connection that received a 5xx response")
+    public void connectionReceiveServerErrorStatusShouldNotReuseConnection() {
+    }
+
+    @Test
+    public void get_deliversStatusHeadersAndBody() throws Exception {
+        mockServer.stubFor(any(urlEqualTo("/get")).willReturn(aResponse().withStatus(201)
+                                                                         .withHeader("x-amz-test", "value")
+                                                                         .withBody("hello")));
+
+        RecordingResponseHandler recorder = execute(request(SdkHttpMethod.GET, "/get").build(), null);
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+        SdkHttpResponse response = recorder.responses().get(0);
+        assertThat(response.statusCode()).isEqualTo(201);
+        assertThat(response.firstMatchingHeader("X-Amz-Test")).hasValue("value");
+        assertThat(recorder.fullResponseAsString()).isEqualTo("hello");
+    }
+
+    @Test
+    public void post_withContentLength_sendsBodyWithContentLength() throws Exception {
+        mockServer.stubFor(any(urlEqualTo("/post")).willReturn(aResponse().withBody("done")));
+        byte[] body = "hello world".getBytes(UTF_8);
+
+        SdkHttpFullRequest request = request(SdkHttpMethod.POST, "/post").putHeader("Content-Length",
+                                                                                    String.valueOf(body.length))
+                                                                         .putHeader("Host", "localhost")
+                                                                         .build();
+        RecordingResponseHandler recorder = execute(request, new SimpleHttpContentPublisher(body));
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.fullResponseAsString()).isEqualTo("done");
+        mockServer.verify(postRequestedFor(urlEqualTo("/post")).withHeader("Content-Length", equalTo("11"))
+                                                               .withHeader("Transfer-Encoding", absent())
+                                                               .withRequestBody(equalTo("hello world")));
+    }
+
+    @Test
+    public void post_withoutContentLength_sendsChunkedBody() throws Exception {
+        mockServer.stubFor(any(urlEqualTo("/post")).willReturn(aResponse()));
+        SdkHttpContentPublisher content = new UnknownLengthPublisher(new SimpleHttpContentPublisher("hello".getBytes(UTF_8)));
+
+        RecordingResponseHandler recorder = execute(request(SdkHttpMethod.POST, "/post").build(), content);
+        recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+        mockServer.verify(postRequestedFor(urlEqualTo("/post")).withHeader("Transfer-Encoding", equalTo("chunked"))
+                                                               .withRequestBody(equalTo("hello")));
+    }
+
+    @Test
+    public void connectionRefused_failsRequest() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + port))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+
+        RecordingResponseHandler recorder = execute(request, null);
+
+        assertThatThrownBy(() -> recorder.completeFuture().get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    public void protocolHttp2_configuresHttp2() {
+        JdkAsyncHttpClient http2Client = (JdkAsyncHttpClient) JdkAsyncHttpClient.builder().protocol(Protocol.HTTP2).build();
+        try {
+            assertThat(http2Client.httpClient().version()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(((JdkAsyncHttpClient) client).httpClient().version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+        } finally {
+            http2Client.close();
+        }
+    }
+
+    private RecordingResponseHandler execute(SdkHttpFullRequest request, SdkHttpContentPublisher content) {
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(content)
+                                          .responseHandler(recorder)
+                                          .build());
+        return recorder;
+    }
+
+    private static SdkHttpFullRequest.Builder request(SdkHttpMethod method, String path) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + mockServer.port()))
+                                 .encodedPath(path)
+                                 .method(method);
+    }
+
+    private static final class UnknownLengthPublisher implements SdkHttpContentPublisher {
+        private final SdkHttpContentPublisher delegate;
+
+        private UnknownLengthPublisher(SdkHttpContentPublisher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            delegate.subscribe(s);
+        }
+    }
+}
@@ -29,11 +29,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final StreamPlacementStrategy streamPlacementStrategy;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamPlacementStrategy = builder.streamPlacementStrategy;
     }
 
     /**
@@ -57,6 +59,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return The strategy used to choose the HTTP/2 connection that a new stream is created on.
+     */
+    public StreamPlacementStrategy streamPlacementStrategy() {
+        return streamPlacementStrategy;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,7 +87,11 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        return streamPlacementStrategy == that.streamPlacementStrategy;
 
     }
 
@@ -86,6 +99,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamPlacementStrategy != null ? streamPlacementStrategy.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +141,22 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets the strategy used to choose the HTTP/2 connection that a new stream is created on, when more than one
+         * connection has a stream available. The default value is {@link StreamPlacementStrategy#FIRST_AVAILABLE}.
+         *
+         * @param streamPlacementStrategy The stream placement strategy.
+         * @return This builder for method chaining.
+         */
+        Builder streamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private StreamPlacementStrategy streamPlacementStrategy;
 
         private DefaultBuilder() {
         }
@@ -141,6 +165,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.streamPlacementStrategy = http2Configuration.streamPlacementStrategy;
         }
 
         @Override
@@ -173,6 +198,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder streamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy) {
+            this.streamPlacementStrategy = streamPlacementStrategy;
+            return this;
+        }
+
+        public void setStreamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy) {
+            streamPlacementStrategy(streamPlacementStrategy);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import io.netty.channel.ChannelOption;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * Socket options that are only supported by the native transports of Netty (see {@link TransportType#NATIVE}), and that can
+ * be configured with {@link NettyNioAsyncHttpClient.Builder#putChannelOption(ChannelOption, Object)}.
+ * <p>
+ * The options are translated to the equivalent option of the transport in use. They are ignored when the transport does not
+ * support them, e.g. with the Java NIO transport.
+ */
+@SdkPublicApi
+public final class NativeChannelOption {
+
+    /**
+     * Whether to send acknowledgements immediately rather than delayed ({@code TCP_QUICKACK}).
+     */
+    public static final ChannelOption<Boolean> TCP_QUICKACK = ChannelOption.valueOf(NativeChannelOption.class, "TCP_QUICKACK");
+
+    /**
+     * The approximate time in microseconds to busy poll the socket for incoming data when it is empty ({@code SO_BUSY_POLL}).
+     */
+    public static final ChannelOption<Integer> SO_BUSY_POLL = ChannelOption.valueOf(NativeChannelOption.class, "SO_BUSY_POLL");
+
+    /**
+     * Whether to send the first data of a connection with the SYN packet, using TCP Fast Open
+     * ({@code TCP_FASTOPEN_CONNECT}).
+     */
+    public static final ChannelOption<Boolean> TCP_FASTOPEN_CONNECT =
+        ChannelOption.valueOf(NativeChannelOption.class, "TCP_FASTOPEN_CONNECT");
+
+    private NativeChannelOption() {
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics collected by the {@link NettyNioAsyncHttpClient}, in addition to the {@link software.amazon.awssdk.http.HttpMetric}
+ * and {@link software.amazon.awssdk.http.Http2Metric} metrics.
+ */
+@SdkPublicApi
+public final class NettyMetric {
+    /**
+     * The direct memory in bytes used by the buffer allocator of the connection that this request was executed on, at the time
+     * the connection was acquired. For a pooled allocator, this is the memory of all the chunks allocated by its arenas.
+     *
+     * @see NettyNioAsyncHttpClient.Builder#pooledAllocatorConfiguration(PooledAllocatorConfiguration)
+     */
+    public static final SdkMetric<Long> ALLOCATOR_USED_DIRECT_MEMORY =
+        metric("AllocatorUsedDirectMemory", Long.class, MetricLevel.TRACE);
+
+    /**
+     * The heap memory in bytes used by the buffer allocator of the connection that this request was executed on, at the time
+     * the connection was acquired. For a pooled allocator, this is the memory of all the chunks allocated by its arenas.
+     *
+     * @see NettyNioAsyncHttpClient.Builder#pooledAllocatorConfiguration(PooledAllocatorConfiguration)
+     */
+    public static final SdkMetric<Long> ALLOCATOR_USED_HEAP_MEMORY =
+        metric("AllocatorUsedHeapMemory", Long.class, MetricLevel.TRACE);
+
+    /**
+     * The number of active streams on the HTTP/2 connection that this request was executed on, including the stream of this
+     * request, at the time the request was sent.
+     *
+     * @see Http2Configuration.Builder#streamPlacementStrategy(StreamPlacementStrategy)
+     */
+    public static final SdkMetric<Integer> CONCURRENT_STREAMS_ON_CONNECTION =
+        metric("ConcurrentStreamsOnConnection", Integer.class, MetricLevel.TRACE);
+
+    /**
+     * The largest number of streams in use on a single HTTP/2 connection of the connection pool, at the time the request was
+     * executed. Compared with the {@link software.amazon.awssdk.http.HttpMetric#LEASED_CONCURRENCY}, this shows how evenly
+     * streams are spread across connections.
+     *
+     * @see Http2Configuration.Builder#streamPlacementStrategy(StreamPlacementStrategy)
+     */
+    public static final SdkMetric<Integer> MAX_STREAMS_PER_CONNECTION =
+        metric("MaxStreamsPerConnection", Integer.class, MetricLevel.TRACE);
+
+    private NettyMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CORE, MetricCategory.HTTP_CLIENT);
+    }
+}
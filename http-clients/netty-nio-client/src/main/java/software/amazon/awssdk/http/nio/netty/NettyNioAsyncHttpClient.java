@@ -22,6 +22,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.runAndLogError;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.handler.ssl.SslContext;
@@ -37,6 +38,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
@@ -54,6 +56,7 @@ import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
@@ -100,10 +103,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
+                                             .streamPlacementStrategy(resolveStreamPlacementStrategy(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .useNonBlockingDnsResolver(builder.useNonBlockingDnsResolver)
+                                             .allocator(resolveAllocator(builder.pooledAllocatorConfiguration))
                                              .build();
     }
 
@@ -144,9 +149,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
         Validate.isTrue(builder.eventLoopGroup == null || builder.eventLoopGroupBuilder == null,
                         "The eventLoopGroup and the eventLoopGroupFactory can't both be configured.");
+        Validate.isTrue(builder.transportType == null
+                        || builder.eventLoopGroup == null && builder.eventLoopGroupBuilder == null,
+                        "The transportType can't be configured with the eventLoopGroup or the eventLoopGroupBuilder. "
+                        + "Configure the transport type of the event loop group instead.");
         return Either.fromNullable(builder.eventLoopGroup, builder.eventLoopGroupBuilder)
                      .map(e -> e.map(this::nonManagedEventLoopGroup, SdkEventLoopGroup.Builder::build))
-                     .orElseGet(SharedSdkEventLoopGroup::get);
+                     .orElseGet(() -> defaultEventLoopGroup(builder.transportType));
+    }
+
+    private static SdkEventLoopGroup defaultEventLoopGroup(TransportType transportType) {
+        if (transportType == null || transportType == TransportType.NIO) {
+            return SharedSdkEventLoopGroup.get();
+        }
+        return SdkEventLoopGroup.builder().transportType(transportType).build();
     }
 
     private static URI poolKey(SdkHttpRequest sdkRequest) {
@@ -154,6 +170,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static ByteBufAllocator resolveAllocator(PooledAllocatorConfiguration pooledAllocatorConfiguration) {
+        if (pooledAllocatorConfiguration == null) {
+            return null;
+        }
+        return NettyUtils.newPooledAllocator(pooledAllocatorConfiguration);
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
         if (builder.sslProvider != null) {
             return builder.sslProvider;
@@ -188,6 +211,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private StreamPlacementStrategy resolveStreamPlacementStrategy(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.streamPlacementStrategy() == null) {
+            return StreamPlacementStrategy.FIRST_AVAILABLE;
+        }
+        return http2Configuration.streamPlacementStrategy();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -363,6 +393,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder eventLoopGroupBuilder(SdkEventLoopGroup.Builder eventLoopGroupBuilder);
 
+        /**
+         * Sets the Netty transport of the event loop group of the HTTP client. With {@link TransportType#NATIVE}, the HTTP
+         * client uses an event loop group of its own, with the first available native transport (io_uring, then epoll), or
+         * NIO if no native transport is available. The event loop group is managed by the SDK and will be shutdown when the
+         * HTTP client is closed.
+         *
+         * <p>By default, the HTTP client uses an event loop group with the NIO transport, which is shared by the HTTP clients
+         * that don't configure an event loop group.</p>
+         *
+         * <p>This can't be configured with {@link #eventLoopGroup(SdkEventLoopGroup)} or
+         * {@link #eventLoopGroupBuilder(SdkEventLoopGroup.Builder)}. Use
+         * {@link SdkEventLoopGroup.Builder#transportType(TransportType)} to configure the transport of an event loop group
+         * instead.</p>
+         *
+         * @param transportType The transport to use.
+         * @return This builder for method chaining.
+         * @see NativeChannelOption
+         */
+        Builder transportType(TransportType transportType);
+
         /**
          * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
          *
@@ -371,6 +421,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder protocol(Protocol protocol);
 
+        /**
+         * Sets how the HTTP protocol of TLS connections is chosen. With {@link ProtocolNegotiation#ALPN}, connections of a client
+         * configured with {@link Protocol#HTTP2} negotiate HTTP/2 during the TLS handshake, and fall back to HTTP/1.1 when the
+         * server does not support HTTP/2. Defaults to {@link ProtocolNegotiation#ASSUME_PROTOCOL}, which uses the configured
+         * {@link #protocol(Protocol)} without negotiation.
+         *
+         * @param protocolNegotiation The protocol negotiation to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocolNegotiation(ProtocolNegotiation protocolNegotiation);
+
         /**
          * Configure whether to enable or disable TCP KeepAlive.
          * The configuration will be passed to the socket option {@link SocketOptions#SO_KEEPALIVE}.
@@ -390,6 +451,10 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * <p>
          * If a {@link ChannelOption} was previously configured, the old value is replaced.
          *
+         * <p>
+         * The options of {@link NativeChannelOption} are applied with the native transport in use, see
+         * {@link #transportType(TransportType)}.
+         *
          * @param channelOption {@link ChannelOption} to set
          * @param value See {@link ChannelOption} to find the type of value for each option
          * @return This builder for method chaining.
@@ -485,6 +550,32 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure a pooled buffer allocator for the connections of this client. The allocator is shared by all the
+         * connections of the client.
+         * <p>
+         * By default, the default allocator of Netty is used, except for TLS connections that use the
+         * {@link SslProvider#JDK JDK SSL provider}, which use an unpooled allocator to avoid the increased heap memory usage
+         * of pooling in that case. Configuring a pooled allocator makes those connections reuse buffers instead of allocating
+         * a buffer for each TLS record.
+         * <p>
+         * The memory used by the allocator is reported with the {@link NettyMetric} metrics of each request.
+         *
+         * @param pooledAllocatorConfiguration The configuration of the pooled allocator.
+         * @return the builder for method chaining.
+         */
+        Builder pooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration);
+
+        /**
+         * Configure a pooled buffer allocator for the connections of this client.
+         *
+         * @param pooledAllocatorConfigurationBuilderConsumer The consumer of the pooled allocator configuration builder.
+         * @return the builder for method chaining.
+         * @see #pooledAllocatorConfiguration(PooledAllocatorConfiguration)
+         */
+        Builder pooledAllocatorConfiguration(
+            Consumer<PooledAllocatorConfiguration.Builder> pooledAllocatorConfigurationBuilderConsumer);
     }
 
     /**
@@ -498,11 +589,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
         private SdkEventLoopGroup eventLoopGroup;
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
+        private TransportType transportType;
         private Integer maxHttp2Streams;
         private Http2Configuration http2Configuration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
+        private PooledAllocatorConfiguration pooledAllocatorConfiguration;
 
         private DefaultBuilder() {
         }
@@ -634,6 +727,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             eventLoopGroupBuilder(eventLoopGroupBuilder);
         }
 
+        @Override
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        public void setTransportType(TransportType transportType) {
+            transportType(transportType);
+        }
+
         @Override
         public Builder protocol(Protocol protocol) {
             standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
@@ -644,6 +747,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             protocol(protocol);
         }
 
+        @Override
+        public Builder protocolNegotiation(ProtocolNegotiation protocolNegotiation) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL_NEGOTIATION, protocolNegotiation);
+            return this;
+        }
+
+        public void setProtocolNegotiation(ProtocolNegotiation protocolNegotiation) {
+            protocolNegotiation(protocolNegotiation);
+        }
+
         @Override
         public Builder tcpKeepAlive(Boolean keepConnectionAlive) {
             standardOptions.put(SdkHttpConfigurationOption.TCP_KEEPALIVE, keepConnectionAlive);
@@ -737,6 +850,24 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder pooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration) {
+            this.pooledAllocatorConfiguration = pooledAllocatorConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder pooledAllocatorConfiguration(
+            Consumer<PooledAllocatorConfiguration.Builder> pooledAllocatorConfigurationBuilderConsumer) {
+            PooledAllocatorConfiguration.Builder builder = PooledAllocatorConfiguration.builder();
+            pooledAllocatorConfigurationBuilderConsumer.accept(builder);
+            return pooledAllocatorConfiguration(builder.build());
+        }
+
+        public void setPooledAllocatorConfiguration(PooledAllocatorConfiguration pooledAllocatorConfiguration) {
+            pooledAllocatorConfiguration(pooledAllocatorConfiguration);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of the pooled buffer allocator used by all connections of a {@link NettyNioAsyncHttpClient}, including TLS
+ * connections.
+ * <p>
+ * The arenas of the allocator each allocate memory in chunks of {@link #chunkSize()} bytes, and free a chunk once none of its
+ * buffers are in use. Only event loop threads cache buffers. The allocator does not limit the memory that it allocates, which
+ * grows with the buffers in use by the connections of the client. The memory is reported by the {@link NettyMetric} metrics.
+ *
+ * @see NettyNioAsyncHttpClient.Builder#pooledAllocatorConfiguration(PooledAllocatorConfiguration)
+ */
+@SdkPublicApi
+public final class PooledAllocatorConfiguration
+    implements ToCopyableBuilder<PooledAllocatorConfiguration.Builder, PooledAllocatorConfiguration> {
+
+    /**
+     * The smallest chunk size, which is the size of a page of the allocator.
+     */
+    private static final int MIN_CHUNK_SIZE = 8192;
+
+    /**
+     * The largest chunk size supported by the allocator.
+     */
+    private static final int MAX_CHUNK_SIZE = MIN_CHUNK_SIZE << 14;
+
+    private final Integer numArenas;
+    private final Integer chunkSize;
+    private final Integer threadLocalCacheSize;
+
+    private PooledAllocatorConfiguration(DefaultBuilder builder) {
+        this.numArenas = builder.numArenas;
+        this.chunkSize = builder.chunkSize;
+        this.threadLocalCacheSize = builder.threadLocalCacheSize;
+    }
+
+    /**
+     * @return The number of arenas of direct memory and of heap memory.
+     */
+    public Integer numArenas() {
+        return numArenas;
+    }
+
+    /**
+     * @return The size in bytes of the chunks of memory allocated by the arenas.
+     */
+    public Integer chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return The number of buffers of each size cached by each event loop thread.
+     */
+    public Integer threadLocalCacheSize() {
+        return threadLocalCacheSize;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        PooledAllocatorConfiguration that = (PooledAllocatorConfiguration) o;
+
+        return Objects.equals(numArenas, that.numArenas) &&
+               Objects.equals(chunkSize, that.chunkSize) &&
+               Objects.equals(threadLocalCacheSize, that.threadLocalCacheSize);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(numArenas);
+        result = 31 * result + Objects.hashCode(chunkSize);
+        result = 31 * result + Objects.hashCode(threadLocalCacheSize);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("PooledAllocatorConfiguration")
+                       .add("numArenas", numArenas)
+                       .add("chunkSize", chunkSize)
+                       .add("threadLocalCacheSize", threadLocalCacheSize)
+                       .build();
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, PooledAllocatorConfiguration> {
+
+        /**
+         * Sets the number of arenas of direct memory and of heap memory. Event loop threads are spread across the arenas, so
+         * fewer arenas use less memory at the cost of more contention. By default, Netty's default number of arenas is used,
+         * which is at most twice the number of processors.
+         *
+         * @param numArenas The number of arenas.
+         * @return This builder for method chaining.
+         */
+        Builder numArenas(Integer numArenas);
+
+        /**
+         * Sets the size in bytes of the chunks of memory allocated by the arenas. The chunk size must be a power of two
+         * between 8 KiB and 128 MiB. Buffers larger than a chunk are not pooled. By default, Netty's default chunk size is used.
+         *
+         * @param chunkSize The chunk size in bytes.
+         * @return This builder for method chaining.
+         */
+        Builder chunkSize(Integer chunkSize);
+
+        /**
+         * Sets the number of released buffers of each size that each event loop thread caches for reuse, before returning
+         * them to their arena. A size of 0 disables the caches, so that released memory is always returned to the arenas. By
+         * default, Netty's default cache sizes are used.
+         *
+         * @param threadLocalCacheSize The number of cached buffers of each size.
+         * @return This builder for method chaining.
+         */
+        Builder threadLocalCacheSize(Integer threadLocalCacheSize);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer numArenas;
+        private Integer chunkSize;
+        private Integer threadLocalCacheSize;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(PooledAllocatorConfiguration configuration) {
+            this.numArenas = configuration.numArenas;
+            this.chunkSize = configuration.chunkSize;
+            this.threadLocalCacheSize = configuration.threadLocalCacheSize;
+        }
+
+        @Override
+        public Builder numArenas(Integer numArenas) {
+            this.numArenas = Validate.isPositiveOrNull(numArenas, "numArenas");
+            return this;
+        }
+
+        public void setNumArenas(Integer numArenas) {
+            numArenas(numArenas);
+        }
+
+        @Override
+        public Builder chunkSize(Integer chunkSize) {
+            if (chunkSize != null) {
+                Validate.isTrue(chunkSize >= MIN_CHUNK_SIZE && chunkSize <= MAX_CHUNK_SIZE && Integer.bitCount(chunkSize) == 1,
+                                "chunkSize must be a power of two between %s and %s, but was %s",
+                                MIN_CHUNK_SIZE, MAX_CHUNK_SIZE, chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public void setChunkSize(Integer chunkSize) {
+            chunkSize(chunkSize);
+        }
+
+        @Override
+        public Builder threadLocalCacheSize(Integer threadLocalCacheSize) {
+            if (threadLocalCacheSize != null) {
+                Validate.isNotNegative(threadLocalCacheSize, "threadLocalCacheSize");
+            }
+            this.threadLocalCacheSize = threadLocalCacheSize;
+            return this;
+        }
+
+        public void setThreadLocalCacheSize(Integer threadLocalCacheSize) {
+            threadLocalCacheSize(threadLocalCacheSize);
+        }
+
+        @Override
+        public PooledAllocatorConfiguration build() {
+            return new PooledAllocatorConfiguration(this);
+        }
+    }
+}
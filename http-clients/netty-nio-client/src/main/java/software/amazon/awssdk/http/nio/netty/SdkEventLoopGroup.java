@@ -20,12 +20,11 @@ import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NativeTransport;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -142,6 +141,12 @@ public final class SdkEventLoopGroup {
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
+        if (builder.transportType == TransportType.NATIVE) {
+            Optional<EventLoopGroup> nativeEventLoopGroup = NativeTransport.createEventLoopGroup(numThreads, threadFactory);
+            if (nativeEventLoopGroup.isPresent()) {
+                return nativeEventLoopGroup.get();
+            }
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
@@ -155,19 +160,17 @@ public final class SdkEventLoopGroup {
     }
 
     private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
+        if (builder.channelFactory != null) {
+            return builder.channelFactory;
+        }
+        return ChannelResolver.resolveSocketChannelFactory(eventLoopGroup);
     }
 
     private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
-    }
-
-    private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
-        return NioSocketChannel::new;
-    }
-
-    private static ChannelFactory<? extends DatagramChannel> defaultDatagramChannelFactory() {
-        return NioDatagramChannel::new;
+        if (builder.datagramChannelFactory != null) {
+            return builder.datagramChannelFactory;
+        }
+        return ChannelResolver.resolveDatagramChannelFactory(eventLoopGroup);
     }
 
     /**
@@ -197,8 +200,17 @@ public final class SdkEventLoopGroup {
         Builder threadFactory(ThreadFactory threadFactory);
 
         /**
-         * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * The Netty transport of the {@link EventLoopGroup}. If set to {@link TransportType#NATIVE}, the first available native
+         * transport (io_uring, then epoll) is used, falling back to NIO if none is available. If not set, NIO is used.
+         *
+         * @param transportType The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transportType(TransportType transportType);
+
+        /**
+         * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set, the socket channel
+         * of the transport is used, i.e. NioSocketChannel by default.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -206,8 +218,8 @@ public final class SdkEventLoopGroup {
         Builder channelFactory(ChannelFactory<? extends Channel> channelFactory);
 
         /**
-         * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set, the datagram
+         * channel of the transport is used, i.e. NioDatagramChannel by default.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -221,8 +233,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private TransportType transportType;
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
 
         private DefaultBuilder() {
         }
@@ -247,6 +260,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        public void setTransportType(TransportType transportType) {
+            transportType(transportType);
+        }
+
         @Override
         public Builder channelFactory(ChannelFactory<? extends Channel> channelFactory) {
             this.channelFactory = channelFactory;
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How the {@link NettyNioAsyncHttpClient} chooses the HTTP/2 connection that a new stream is created on, when more than one
+ * connection to the endpoint has a stream available. A new connection is only established when no existing connection has a
+ * stream available.
+ *
+ * @see Http2Configuration.Builder#streamPlacementStrategy(StreamPlacementStrategy)
+ */
+@SdkPublicApi
+public enum StreamPlacementStrategy {
+    /**
+     * Create the stream on the first connection that has a stream available. This fills connections one after the other,
+     * which keeps the number of connections in use low.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Create the stream on the connection with the fewest streams in use. This spreads streams evenly across connections, so
+     * that the flow-control window of a single connection is not shared by most of the streams. Connections whose window for
+     * sending data is exhausted are chosen last.
+     */
+    LEAST_OUTSTANDING_STREAMS,
+
+    /**
+     * Create the stream on the connection with the fewer streams in use among two connections chosen at random, as with
+     * {@link #LEAST_OUTSTANDING_STREAMS}. This spreads streams nearly as evenly, without comparing every connection for every
+     * stream.
+     */
+    POWER_OF_TWO_CHOICES
+}
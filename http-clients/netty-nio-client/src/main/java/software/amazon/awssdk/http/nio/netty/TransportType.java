@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The Netty transport used by the {@link SdkEventLoopGroup} of {@link NettyNioAsyncHttpClient}.
+ *
+ * @see SdkEventLoopGroup.Builder#transportType(TransportType)
+ * @see NettyNioAsyncHttpClient.Builder#transportType(TransportType)
+ */
+@SdkPublicApi
+public enum TransportType {
+    /**
+     * The Java NIO transport, which is available on every platform. This is the default.
+     */
+    NIO,
+
+    /**
+     * A native transport of the platform, if one is available: io_uring, then epoll, on Linux. The io_uring transport requires
+     * the {@code netty-incubator-transport-native-io_uring} dependency, and the epoll transport requires the
+     * {@code netty-transport-native-epoll} dependency with the classifier of the platform. If neither is available, the Java
+     * NIO transport is used.
+     * <p>
+     * Native transports reduce the latency and the CPU usage of the event loops, and support the options of
+     * {@link NativeChannelOption}.
+     */
+    NATIVE
+}
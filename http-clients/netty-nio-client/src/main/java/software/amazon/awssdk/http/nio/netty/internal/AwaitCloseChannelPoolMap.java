@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.CHANNEL_POOL_CLOSE_TIMEOUT_SECONDS;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
@@ -41,6 +42,7 @@ import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 
@@ -78,24 +80,28 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final Protocol protocol;
     private final long maxStreams;
     private final Duration healthCheckPingPeriod;
+    private final StreamPlacementStrategy streamPlacementStrategy;
     private final int initialWindowSize;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
     private final SslContextProvider sslContextProvider;
     private final Boolean useNonBlockingDnsResolver;
+    private final ByteBufAllocator allocator;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
         this.protocol = builder.protocol;
         this.maxStreams = builder.maxStreams;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamPlacementStrategy = builder.streamPlacementStrategy;
         this.initialWindowSize = builder.initialWindowSize;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
         this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
         this.useNonBlockingDnsResolver = builder.useNonBlockingDnsResolver;
+        this.allocator = builder.allocator;
     }
 
     private AwaitCloseChannelPoolMap(Builder builder) {
@@ -133,7 +139,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         healthCheckPingPeriod,
                                                                                         channelPoolRef,
                                                                                         configuration,
-                                                                                        key);
+                                                                                        key,
+                                                                                        allocator);
 
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
@@ -237,7 +244,8 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         SdkChannelPool sdkChannelPool = new HttpOrHttp2ChannelPool(channelPool,
                                                                    bootstrap.config().group(),
                                                                    configuration.maxConnections(),
-                                                                   configuration);
+                                                                   configuration,
+                                                                   streamPlacementStrategy);
 
         sdkChannelPool = new ListenerInvokingChannelPool(bootstrap.config().group(), sdkChannelPool, Arrays.asList(
             // Add a listener that ensures acquired channels are marked IN_USE and thus not eligible for certain idle timeouts.
@@ -278,9 +286,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private long maxStreams;
         private int initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private StreamPlacementStrategy streamPlacementStrategy;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
         private Boolean useNonBlockingDnsResolver;
+        private ByteBufAllocator allocator;
 
         private Builder() {
         }
@@ -320,6 +330,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder streamPlacementStrategy(StreamPlacementStrategy streamPlacementStrategy) {
+            this.streamPlacementStrategy = streamPlacementStrategy;
+            return this;
+        }
+
         public Builder sslProvider(SslProvider sslProvider) {
             this.sslProvider = sslProvider;
             return this;
@@ -335,6 +350,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder allocator(ByteBufAllocator allocator) {
+            this.allocator = allocator;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
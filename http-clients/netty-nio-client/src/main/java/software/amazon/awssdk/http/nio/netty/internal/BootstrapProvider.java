@@ -64,7 +64,7 @@ public class BootstrapProvider {
             bootstrap.resolver(DnsResolverLoader.init(sdkEventLoopGroup.datagramChannelFactory()));
         }
 
-        sdkChannelOptions.channelOptions().forEach(bootstrap::option);
+        sdkChannelOptions.channelOptions(sdkEventLoopGroup.eventLoopGroup()).forEach(bootstrap::option);
 
         return bootstrap;
     }
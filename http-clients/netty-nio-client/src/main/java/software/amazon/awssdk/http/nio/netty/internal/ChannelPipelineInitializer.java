@@ -24,8 +24,11 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.ne
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
@@ -39,15 +42,20 @@ import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslProvider;
+import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -66,6 +74,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final ByteBufAllocator allocator;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
@@ -75,7 +84,8 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                       Duration healthCheckPingPeriod,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
-                                      URI poolKey) {
+                                      URI poolKey,
+                                      ByteBufAllocator allocator) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.sslProvider = sslProvider;
@@ -85,6 +95,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.allocator = allocator;
     }
 
     @Override
@@ -92,6 +103,10 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
         ChannelPipeline pipeline = ch.pipeline();
+        if (allocator != null) {
+            ch.config().setOption(ChannelOption.ALLOCATOR, allocator);
+        }
+
         if (sslCtx != null) {
 
             SslHandler sslHandler = newSslHandler(sslCtx, ch.alloc(), poolKey.getHost(), poolKey.getPort(),
@@ -100,17 +115,19 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
-            // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43.
-            // See https://github.com/netty/netty/issues/9768
-            if (sslProvider == SslProvider.JDK) {
+            // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43, unless the user configured a
+            // pooled allocator explicitly. See https://github.com/netty/netty/issues/9768
+            if (sslProvider == SslProvider.JDK && allocator == null) {
                 ch.config().setOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
             }
         }
 
-        if (protocol == Protocol.HTTP2) {
-            configureHttp2(ch, pipeline);
+        if (negotiatesProtocol()) {
+            pipeline.addLast(new ProtocolNegotiationHandler());
+        } else if (protocol == Protocol.HTTP2) {
+            configureHttp2(ch, pipeline::addLast);
         } else {
-            configureHttp11(ch, pipeline);
+            configureHttp11(ch, pipeline::addLast);
         }
 
         if (configuration.reapIdleConnections()) {
@@ -133,7 +150,15 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         pipeline.addLast(new LoggingHandler(LogLevel.DEBUG));
     }
 
-    private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
+    /**
+     * Whether the protocol of the channel is negotiated with ALPN during the TLS handshake, in which case the handlers of the
+     * protocol are only added once the handshake completes.
+     */
+    private boolean negotiatesProtocol() {
+        return sslCtx != null && protocol == Protocol.HTTP2 && configuration.protocolNegotiation() == ProtocolNegotiation.ALPN;
+    }
+
+    private void configureHttp2(Channel ch, Consumer<ChannelHandler> pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
         Http2FrameCodec codec =
@@ -149,24 +174,90 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         // exception before the Http2FrameCodec closes the connection itself.
         codec.connection().addListener(new Http2GoAwayEventListener(ch));
 
-        pipeline.addLast(codec);
+        pipeline.accept(codec);
         ch.attr(HTTP2_CONNECTION).set(codec.connection());
 
         ch.attr(HTTP2_INITIAL_WINDOW_SIZE).set(clientInitialWindowSize);
-        pipeline.addLast(new Http2MultiplexHandler(new NoOpChannelInitializer()));
-        pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
+        pipeline.accept(new Http2MultiplexHandler(new NoOpChannelInitializer()));
+        pipeline.accept(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
         if (healthCheckPingPeriod == null) {
-            pipeline.addLast(new Http2PingHandler(HTTP2_CONNECTION_PING_TIMEOUT_SECONDS * 1_000));
+            pipeline.accept(new Http2PingHandler(HTTP2_CONNECTION_PING_TIMEOUT_SECONDS * 1_000));
         } else if (healthCheckPingPeriod.toMillis() > 0) {
-            pipeline.addLast(new Http2PingHandler(saturatedCast(healthCheckPingPeriod.toMillis())));
+            pipeline.accept(new Http2PingHandler(saturatedCast(healthCheckPingPeriod.toMillis())));
         }
     }
 
-    private void configureHttp11(Channel ch, ChannelPipeline pipeline) {
-        pipeline.addLast(new HttpClientCodec());
+    private void configureHttp11(Channel ch, Consumer<ChannelHandler> pipeline) {
+        pipeline.accept(new HttpClientCodec());
         ch.attr(PROTOCOL_FUTURE).get().complete(Protocol.HTTP1_1);
     }
 
+    /**
+     * Adds the handlers of the protocol negotiated with ALPN in place of itself, so that they are in the same position in the
+     * pipeline as they would be if the protocol was known when the channel was created. Falls back to HTTP/1.1 if the server
+     * does not select a protocol.
+     */
+    private final class ProtocolNegotiationHandler extends ApplicationProtocolNegotiationHandler {
+        private ProtocolNegotiationHandler() {
+            super(ApplicationProtocolNames.HTTP_1_1);
+        }
+
+        @Override
+        protected void configurePipeline(ChannelHandlerContext ctx, String negotiatedProtocol) {
+            Channel ch = ctx.channel();
+            HandlerInserter inserter = new HandlerInserter(ctx.pipeline(), ctx.name());
+            if (ApplicationProtocolNames.HTTP_2.equals(negotiatedProtocol)) {
+                configureHttp2(ch, inserter);
+            } else if (ApplicationProtocolNames.HTTP_1_1.equals(negotiatedProtocol)) {
+                configureHttp11(ch, inserter);
+                ctx.pipeline().addLast(UnusedChannelExceptionHandler.getInstance());
+            } else {
+                throw new IllegalStateException("Unsupported protocol negotiated with the server: " + negotiatedProtocol);
+            }
+        }
+
+        @Override
+        protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            failProtocolFuture(ctx, cause);
+            super.handshakeFailure(ctx, cause);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            failProtocolFuture(ctx, cause);
+            super.exceptionCaught(ctx, cause);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            failProtocolFuture(ctx, new IOException("The channel was closed before the protocol could be negotiated."));
+            super.channelInactive(ctx);
+        }
+
+        private void failProtocolFuture(ChannelHandlerContext ctx, Throwable cause) {
+            ctx.channel().attr(PROTOCOL_FUTURE).get().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Inserts handlers one after the other, starting after a given handler.
+     */
+    private static final class HandlerInserter implements Consumer<ChannelHandler> {
+        private final ChannelPipeline pipeline;
+        private String previousHandlerName;
+
+        private HandlerInserter(ChannelPipeline pipeline, String previousHandlerName) {
+            this.pipeline = pipeline;
+            this.previousHandlerName = previousHandlerName;
+        }
+
+        @Override
+        public void accept(ChannelHandler handler) {
+            pipeline.addAfter(previousHandlerName, null, handler);
+            previousHandlerName = pipeline.context(handler).name();
+        }
+    }
+
     private static class NoOpChannelInitializer extends ChannelInitializer<Channel> {
         @Override
         protected void initChannel(Channel ch) {
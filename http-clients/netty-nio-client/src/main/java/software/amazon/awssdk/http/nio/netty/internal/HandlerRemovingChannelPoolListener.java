@@ -19,6 +19,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils.
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -50,6 +51,7 @@ public final class HandlerRemovingChannelPoolListener implements ChannelPoolList
             removeIfExists(channel.pipeline(),
                            HttpStreamsClientHandler.class,
                            FlushOnReadHandler.class,
+                           ChunkedWriteHandler.class,
                            ResponseHandler.class,
                            ReadTimeoutHandler.class,
                            WriteTimeoutHandler.class);
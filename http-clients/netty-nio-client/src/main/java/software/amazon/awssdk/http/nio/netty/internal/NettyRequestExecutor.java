@@ -29,10 +29,11 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.NettyRequestMetrics.measureTimeTaken;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -40,6 +41,9 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.Attribute;
@@ -49,17 +53,23 @@ import io.netty.util.concurrent.Promise;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
-import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
@@ -175,6 +185,7 @@ public final class NettyRequestExecutor {
     private void makeRequestListener(Future<Channel> channelFuture) {
         if (channelFuture.isSuccess()) {
             channel = channelFuture.getNow();
+            NettyRequestMetrics.publishAllocatorMetrics(context.metricCollector(), channel);
             NettyUtils.doInEventLoop(channel.eventLoop(), () -> {
                 try {
                     configureChannel();
@@ -223,6 +234,10 @@ public final class NettyRequestExecutor {
         if (protocol == Protocol.HTTP2) {
             pipeline.addLast(FlushOnReadHandler.getInstance());
         }
+        if (sendsFileRegion(protocol) && pipeline.get(SslHandler.class) != null) {
+            // A file region can't be encrypted, so the file is read in chunks that are written to the SslHandler instead.
+            pipeline.addLast(new ChunkedWriteHandler());
+        }
         pipeline.addLast(new HttpStreamsClientHandler());
         pipeline.addLast(ResponseHandler.getInstance());
 
@@ -234,6 +249,22 @@ public final class NettyRequestExecutor {
         }
     }
 
+    /**
+     * Whether the content of the request is a file that is sent as a {@link FileRegion}, without copying it through user space.
+     * This is only done for HTTP/1.1 requests whose 'Content-Length' is the length of the file region.
+     */
+    private boolean sendsFileRegion(Protocol protocol) {
+        SdkHttpContentPublisher publisher = context.executeRequest().requestContentPublisher();
+        if (protocol != Protocol.HTTP1_1 || !(publisher instanceof SdkHttpFileContentPublisher)) {
+            return false;
+        }
+        Optional<Long> requestContentLength = context.executeRequest()
+                                                     .request()
+                                                     .firstMatchingHeader("Content-Length")
+                                                     .flatMap(NettyRequestExecutor::parseContentLength);
+        return requestContentLength.isPresent() && requestContentLength.equals(publisher.contentLength());
+    }
+
     private void makeRequest() {
         HttpRequest request = requestAdapter.adapt(context.executeRequest().request());
         writeRequest(request);
@@ -242,12 +273,19 @@ public final class NettyRequestExecutor {
     private void writeRequest(HttpRequest request) {
         channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
                                                             TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher());
+        StreamedHttpRequest streamedRequest = streamedRequest(request);
         channel.writeAndFlush(streamedRequest)
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
+                   if (wireCall.isSuccess() && streamedRequest instanceof StreamedFileRequest) {
+                       IOException fileChanged = ((StreamedFileRequest) streamedRequest).fileChangedException();
+                       if (fileChanged != null) {
+                           closeAndRelease(channel);
+                           handleFailure(channel, () -> "Failed to make request to " + endpoint(), fileChanged);
+                           return;
+                       }
+                   }
                    if (wireCall.isSuccess()) {
                        NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
 
@@ -280,6 +318,15 @@ public final class NettyRequestExecutor {
         }
     }
 
+    private StreamedHttpRequest streamedRequest(HttpRequest request) {
+        SdkHttpContentPublisher publisher = context.executeRequest().requestContentPublisher();
+        if (sendsFileRegion(ChannelAttributeKey.getProtocolNow(channel))) {
+            boolean chunked = channel.pipeline().get(ChunkedWriteHandler.class) != null;
+            return new StreamedFileRequest(request, (SdkHttpFileContentPublisher) publisher, chunked);
+        }
+        return new StreamedRequest(request, publisher);
+    }
+
     /**
      * It should explicitly trigger Read for the following situations:
      *
@@ -416,13 +463,13 @@ public final class NettyRequestExecutor {
      */
     private static class StreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
 
-        private final Publisher<ByteBuffer> publisher;
+        private final SdkHttpContentPublisher publisher;
         private final Optional<Long> requestContentLength;
         private long written = 0L;
         private boolean done;
         private Subscription subscription;
 
-        StreamedRequest(HttpRequest request, Publisher<ByteBuffer> publisher) {
+        StreamedRequest(HttpRequest request, SdkHttpContentPublisher publisher) {
             super(request);
             this.publisher = publisher;
             this.requestContentLength = contentLength(request);
@@ -446,7 +493,8 @@ public final class NettyRequestExecutor {
                     try {
                         int newLimit = clampedBufferLimit(contentBytes.remaining());
                         contentBytes.limit(contentBytes.position() + newLimit);
-                        ByteBuf contentByteBuf = Unpooled.wrappedBuffer(contentBytes);
+                        // Direct buffers are handed back to the publisher once they are written, so that it can reuse them.
+                        ByteBuf contentByteBuf = ReleasingDirectByteBuf.wrap(contentBytes, publisher::release);
                         HttpContent content = new DefaultHttpContent(contentByteBuf);
 
                         subscriber.onNext(content);
@@ -498,14 +546,125 @@ public final class NettyRequestExecutor {
         }
 
         private static Optional<Long> contentLength(HttpRequest request) {
-            String value = request.headers().get("Content-Length");
-            if (value != null) {
-                try {
-                    return Optional.of(Long.parseLong(value));
-                } catch (NumberFormatException e) {
-                    log.warn(null, () -> "Unable  to parse 'Content-Length' header. Treating it as non existent.");
+            return Optional.ofNullable(request.headers().get("Content-Length"))
+                           .flatMap(NettyRequestExecutor::parseContentLength);
+        }
+    }
+
+    /**
+     * {@link StreamedHttpRequest} whose content is the region of the file of a {@link SdkHttpFileContentPublisher}.
+     * <p>
+     * Instead of subscribing to the publisher, the content is published as a single {@link DefaultFileRegion}, which the
+     * transport writes to the socket directly from the file (e.g. with {@code sendfile}). When the channel is encrypted, it is
+     * published as a {@link ChunkedNioFile} instead, which is read by the {@link ChunkedWriteHandler} of the pipeline.
+     * <p>
+     * Like the file request body of the SDK, the request fails if the file is modified while it is being sent.
+     */
+    private static class StreamedFileRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+        private static final int CHUNK_SIZE = 16 * 1024;
+
+        private final SdkHttpFileContentPublisher publisher;
+        private final long length;
+        private final boolean chunked;
+        private FileTime initialModifiedTime;
+        private long initialSize;
+
+        StreamedFileRequest(HttpRequest request, SdkHttpFileContentPublisher publisher, boolean chunked) {
+            super(request);
+            this.publisher = publisher;
+            this.length = publisher.contentLength().orElse(0L);
+            this.chunked = chunked;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            // The file region is not HttpContent, but it is written as is by the subscriber, and encoded by the HTTP codec as the
+            // content of the request.
+            Subscriber<Object> fileSubscriber = (Subscriber<Object>) subscriber;
+            fileSubscriber.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    if (n <= 0) {
+                        fileSubscriber.onError(new IllegalArgumentException("Demand must be positive"));
+                        return;
+                    }
+                    Object content;
+                    try {
+                        content = openFile();
+                    } catch (Throwable t) {
+                        fileSubscriber.onError(t);
+                        return;
+                    }
+                    fileSubscriber.onNext(content);
+                    fileSubscriber.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+
+        private Object openFile() throws IOException {
+            Path path = publisher.path();
+            initialSize = Files.size(path);
+            initialModifiedTime = Files.getLastModifiedTime(path);
+            if (publisher.position() + length > initialSize) {
+                throw new IOException("File " + path + " is only " + initialSize + " bytes, but the request content is "
+                                      + length + " bytes from position " + publisher.position() + ".");
+            }
+
+            FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                if (chunked) {
+                    return new ChunkedNioFile(fileChannel, publisher.position(), length, CHUNK_SIZE);
+                }
+                return new DefaultFileRegion(fileChannel, publisher.position(), length);
+            } catch (IOException | RuntimeException e) {
+                fileChannel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return An exception if the file was modified since it was opened to be sent, or null otherwise.
+         */
+        IOException fileChangedException() {
+            if (initialModifiedTime == null) {
+                return null;
+            }
+            Path path = publisher.path();
+            try {
+                long size = Files.size(path);
+                if (size != initialSize) {
+                    return new IOException("File size changed after reading started. Initial size: " + initialSize
+                                           + ". Current size: " + size);
+                }
+                if (!initialModifiedTime.equals(Files.getLastModifiedTime(path))) {
+                    return new IOException("File last-modified time changed after reading started. Initial modification time: "
+                                           + initialModifiedTime + ". Current modification time: "
+                                           + Files.getLastModifiedTime(path));
                 }
+                return null;
+            } catch (IOException e) {
+                return e;
             }
+        }
+    }
+
+    private static Optional<Long> parseContentLength(String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            log.warn(null, () -> "Unable  to parse 'Content-Length' header. Treating it as non existent.");
             return Optional.empty();
         }
     }
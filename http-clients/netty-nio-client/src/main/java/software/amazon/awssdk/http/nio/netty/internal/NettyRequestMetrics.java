@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2Stream;
@@ -25,6 +27,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.nio.netty.NettyMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +66,20 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish the memory used by the buffer allocator of the provided channel to the provided collector, if the allocator
+     * provides metrics.
+     */
+    public static void publishAllocatorMetrics(MetricCollector metricCollector, Channel channel) {
+        if (!metricsAreEnabled(metricCollector) || !(channel.alloc() instanceof ByteBufAllocatorMetricProvider)) {
+            return;
+        }
+
+        ByteBufAllocatorMetric metric = ((ByteBufAllocatorMetricProvider) channel.alloc()).metric();
+        metricCollector.reportMetric(NettyMetric.ALLOCATOR_USED_DIRECT_MEMORY, metric.usedDirectMemory());
+        metricCollector.reportMetric(NettyMetric.ALLOCATOR_USED_HEAP_MEMORY, metric.usedHeapMemory());
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -82,6 +99,7 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+        metricCollector.reportMetric(NettyMetric.CONCURRENT_STREAMS_ON_CONNECTION, http2Connection.numActiveStreams());
     }
 
     /**
@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledDirectByteBuf;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link ByteBuf} that wraps the remaining content of a direct {@link ByteBuffer} without copying it, and hands the buffer
+ * back to its owner once the {@link ByteBuf} is deallocated, i.e. once Netty has written it and released it.
+ */
+@SdkInternalApi
+final class ReleasingDirectByteBuf extends UnpooledDirectByteBuf {
+    private final ByteBuffer buffer;
+    private final Consumer<ByteBuffer> onRelease;
+
+    private ReleasingDirectByteBuf(ByteBuffer buffer, Consumer<ByteBuffer> onRelease) {
+        super(UnpooledByteBufAllocator.DEFAULT, buffer, buffer.remaining());
+        this.buffer = buffer;
+        this.onRelease = onRelease;
+    }
+
+    /**
+     * Wrap the remaining content of a buffer. If the buffer is a writable direct buffer, {@code onRelease} is invoked with it
+     * once the returned {@link ByteBuf} is deallocated. Other buffers are wrapped without being released.
+     */
+    static ByteBuf wrap(ByteBuffer buffer, Consumer<ByteBuffer> onRelease) {
+        if (!buffer.isDirect() || buffer.isReadOnly()) {
+            return Unpooled.wrappedBuffer(buffer);
+        }
+        return new ReleasingDirectByteBuf(buffer, onRelease);
+    }
+
+    @Override
+    protected void deallocate() {
+        super.deallocate();
+        onRelease.accept(buffer);
+    }
+}
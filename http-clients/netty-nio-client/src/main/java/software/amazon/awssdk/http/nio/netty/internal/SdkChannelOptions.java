@@ -16,10 +16,13 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.NativeChannelOption;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NativeTransport;
 
 @SdkInternalApi
 public final class SdkChannelOptions {
@@ -40,4 +43,16 @@ public final class SdkChannelOptions {
     public Map<ChannelOption, Object> channelOptions() {
         return Collections.unmodifiableMap(options);
     }
+
+    /**
+     * @return The channel options for the transport of the given event loop group, where the options of
+     * {@link NativeChannelOption} are translated to the options of the native transport, or dropped if the transport is not
+     * native.
+     */
+    public Map<ChannelOption, Object> channelOptions(EventLoopGroup eventLoopGroup) {
+        Map<ChannelOption, Object> resolvedOptions = new HashMap<>();
+        options.forEach((option, value) -> NativeTransport.resolveChannelOption(eventLoopGroup, option)
+                                                          .ifPresent(o -> resolvedOptions.put(o, value)));
+        return Collections.unmodifiableMap(resolvedOptions);
+    }
 }
@@ -16,6 +16,8 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -28,6 +30,7 @@ import javax.net.ssl.SSLException;
 import javax.net.ssl.TrustManagerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -37,12 +40,14 @@ import software.amazon.awssdk.utils.Validate;
 public final class SslContextProvider {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(SslContextProvider.class);
     private final Protocol protocol;
+    private final ProtocolNegotiation protocolNegotiation;
     private final SslProvider sslProvider;
     private final TrustManagerFactory trustManagerFactory;
     private final KeyManagerFactory keyManagerFactory;
 
     public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider) {
         this.protocol = protocol;
+        this.protocolNegotiation = configuration.protocolNegotiation();
         this.sslProvider = sslProvider;
         this.trustManagerFactory = getTrustManager(configuration);
         this.keyManagerFactory = getKeyManager(configuration);
@@ -55,6 +60,7 @@ public final class SslContextProvider {
                                     .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
                                     .trustManager(trustManagerFactory)
                                     .keyManager(keyManagerFactory)
+                                    .applicationProtocolConfig(getApplicationProtocolConfig())
                                     .build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
@@ -73,6 +79,22 @@ public final class SslContextProvider {
         return protocol == Protocol.HTTP2 ? Http2SecurityUtil.CIPHERS : null;
     }
 
+    /**
+     * ALPN: offer HTTP/2, falling back to HTTP/1.1 if the server does not select a protocol or does not support HTTP/2.
+     *
+     * Prior knowledge: return null so that no protocol is negotiated
+     */
+    private ApplicationProtocolConfig getApplicationProtocolConfig() {
+        if (protocol != Protocol.HTTP2 || protocolNegotiation != ProtocolNegotiation.ALPN) {
+            return null;
+        }
+        return new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                                             ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                                             ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                                             ApplicationProtocolNames.HTTP_2,
+                                             ApplicationProtocolNames.HTTP_1_1);
+    }
+
     private TrustManagerFactory getTrustManager(NettyConfiguration configuration) {
         TlsTrustManagersProvider tlsTrustManagersProvider = configuration.tlsTrustManagersProvider();
         Validate.isTrue(tlsTrustManagersProvider == null || !configuration.trustAllCertificates(),
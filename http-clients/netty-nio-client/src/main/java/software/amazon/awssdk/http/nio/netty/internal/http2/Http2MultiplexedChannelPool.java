@@ -53,6 +53,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.NettyMetric;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -92,6 +93,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final StreamPlacementPolicy streamPlacementPolicy;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +103,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, StreamPlacementPolicy.FIRST_AVAILABLE);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamPlacementPolicy The order in which new streams are acquired on the connections of this pool.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                StreamPlacementPolicy streamPlacementPolicy) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamPlacementPolicy = streamPlacementPolicy;
     }
 
     @SdkTestInternalApi
@@ -112,7 +126,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, StreamPlacementPolicy.FIRST_AVAILABLE);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                StreamPlacementPolicy streamPlacementPolicy) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, streamPlacementPolicy);
         this.connections.addAll(connections);
     }
 
@@ -127,7 +150,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+        for (MultiplexedChannelRecord multiplexedChannel : streamPlacementPolicy.order(connections)) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
             }
@@ -363,6 +386,17 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return resultPromise.setSuccess(null);
     }
 
+    /**
+     * Update the number of streams that can be acquired on a connection of this pool, after the server changed its
+     * MAX_CONCURRENT_STREAMS setting.
+     */
+    void updateMaxConcurrentStreams(Channel parentChannel, long maxConcurrentStreams) {
+        MultiplexedChannelRecord multiplexedChannel = parentChannel.attr(MULTIPLEXED_CHANNEL).get();
+        if (multiplexedChannel != null) {
+            multiplexedChannel.updateMaxConcurrency(maxConcurrentStreams);
+        }
+    }
+
     void handleGoAway(Channel parentChannel, int lastStreamId, GoAwayException exception) {
         log.debug(parentChannel, () -> "Received GOAWAY on " + parentChannel + " with lastStreamId of " + lastStreamId);
         try {
@@ -443,6 +477,8 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 try {
                     metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(m.getAvailableStreams()));
+                    metrics.reportMetric(NettyMetric.MAX_STREAMS_PER_CONNECTION,
+                                         Math.toIntExact(m.getMaxStreamsPerConnection()));
                     result.complete(null);
                 } catch (Exception e) {
                     result.completeExceptionally(e);
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_MULTIPLEXED_CHANNEL_POOL;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.MAX_CONCURRENT_STREAMS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 
@@ -47,11 +48,35 @@ public final class Http2SettingsFrameHandler extends SimpleChannelInboundHandler
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, Http2SettingsFrame msg) {
+        if (channel.attr(PROTOCOL_FUTURE).get().isDone()) {
+            updateMaxConcurrentStreams(msg);
+            return;
+        }
+
         Long serverMaxStreams = Optional.ofNullable(msg.settings().maxConcurrentStreams()).orElse(Long.MAX_VALUE);
         channel.attr(MAX_CONCURRENT_STREAMS).set(Math.min(clientMaxStreams, serverMaxStreams));
         channel.attr(PROTOCOL_FUTURE).get().complete(Protocol.HTTP2);
     }
 
+    /**
+     * The server may change its MAX_CONCURRENT_STREAMS setting at any time. Scale the number of streams that can be
+     * acquired on the connection accordingly, so that new connections are only created once the existing connections are
+     * at the limit of the server.
+     */
+    private void updateMaxConcurrentStreams(Http2SettingsFrame msg) {
+        Long serverMaxStreams = msg.settings().maxConcurrentStreams();
+        if (serverMaxStreams == null) {
+            return;
+        }
+
+        long maxStreams = Math.min(clientMaxStreams, serverMaxStreams);
+        channel.attr(MAX_CONCURRENT_STREAMS).set(maxStreams);
+        Http2MultiplexedChannelPool pool = channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).get();
+        if (pool != null) {
+            pool.updateMaxConcurrentStreams(channel, maxStreams);
+        }
+    }
+
     @Override
     public void channelUnregistered(ChannelHandlerContext ctx) {
         if (!channel.attr(PROTOCOL_FUTURE).get().isDone()) {
@@ -30,6 +30,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -48,6 +49,7 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final StreamPlacementStrategy streamPlacementStrategy;
 
     private boolean protocolImplPromiseInitializationStarted = false;
     private Promise<ChannelPool> protocolImplPromise;
@@ -58,11 +60,20 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                   EventLoopGroup group,
                                   int maxConcurrency,
                                   NettyConfiguration configuration) {
+        this(delegatePool, group, maxConcurrency, configuration, StreamPlacementStrategy.FIRST_AVAILABLE);
+    }
+
+    public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
+                                  EventLoopGroup group,
+                                  int maxConcurrency,
+                                  NettyConfiguration configuration,
+                                  StreamPlacementStrategy streamPlacementStrategy) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.streamPlacementStrategy = streamPlacementStrategy;
         this.protocolImplPromise = eventLoop.newPromise();
     }
 
@@ -170,7 +181,8 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                     StreamPlacementPolicy.forStrategy(streamPlacementStrategy));
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
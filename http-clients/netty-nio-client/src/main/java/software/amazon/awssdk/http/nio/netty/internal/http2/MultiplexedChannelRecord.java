@@ -21,6 +21,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.wa
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelId;
 import io.netty.channel.ChannelOutboundInvoker;
+import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
@@ -53,7 +54,8 @@ public class MultiplexedChannelRecord {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(MultiplexedChannelRecord.class);
 
     private final Channel connection;
-    private final long maxConcurrencyPerConnection;
+    // Only write in the connection.eventLoop()
+    private volatile long maxConcurrencyPerConnection;
     private final Long allowedIdleConnectionTimeMillis;
 
     private final AtomicLong availableChildChannels;
@@ -68,6 +70,9 @@ public class MultiplexedChannelRecord {
 
     private volatile int lastStreamId;
 
+    // Only write in the connection.eventLoop()
+    private volatile boolean sendWindowExhausted;
+
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
         this.connection = connection;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
@@ -114,6 +119,7 @@ public class MultiplexedChannelRecord {
                 channel.attr(ChannelAttributeKey.HTTP2_FRAME_STREAM).set(channel.stream());
                 channel.attr(ChannelAttributeKey.CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(channel));
                 childChannels.put(channel.id(), channel);
+                sampleSendWindow();
                 promise.setSuccess(channel);
 
                 if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
@@ -123,6 +129,23 @@ public class MultiplexedChannelRecord {
         }, promise);
     }
 
+    /**
+     * Change the maximum number of concurrent streams on this connection. Lowering it below the number of streams in use only
+     * prevents new streams from being acquired until enough streams are released.
+     */
+    void updateMaxConcurrency(long newMaxConcurrency) {
+        doInEventLoop(connection.eventLoop(), () -> {
+            long delta = newMaxConcurrency - maxConcurrencyPerConnection;
+            if (delta == 0) {
+                return;
+            }
+            log.debug(connection, () -> "Updating the maximum concurrent streams of " + connection + " from "
+                                        + maxConcurrencyPerConnection + " to " + newMaxConcurrency);
+            maxConcurrencyPerConnection = newMaxConcurrency;
+            availableChildChannels.addAndGet(delta);
+        });
+    }
+
     private void enableCloseIfIdleTask() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -236,9 +259,21 @@ public class MultiplexedChannelRecord {
         doInEventLoop(connection.eventLoop(), () -> {
             childChannels.remove(childChannel.id());
             releaseClaim();
+            sampleSendWindow();
         });
     }
 
+    /**
+     * Record whether the connection-level flow-control window for sending data to the server is exhausted. The window is only
+     * sampled when a stream is opened or closed, because it may only be read in the connection.eventLoop().
+     */
+    private void sampleSendWindow() {
+        Http2Connection http2Connection = connection.attr(ChannelAttributeKey.HTTP2_CONNECTION).get();
+        if (http2Connection != null) {
+            sendWindowExhausted = http2Connection.remote().flowController().windowSize(http2Connection.connectionStream()) <= 0;
+        }
+    }
+
     private void closeIfIdle() {
         warnIfNotInEventLoop(connection.eventLoop());
 
@@ -279,6 +314,21 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * @return The number of streams that are claimed on this connection, including streams that are still being opened.
+     */
+    long outstandingStreams() {
+        return maxConcurrencyPerConnection - availableChildChannels.get();
+    }
+
+    /**
+     * @return Whether the connection-level window for sending data was exhausted the last time a stream was opened or closed on
+     * this connection.
+     */
+    boolean isSendWindowExhausted() {
+        return sendWindowExhausted;
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -308,7 +358,8 @@ public class MultiplexedChannelRecord {
         CompletableFuture<Metrics> result = new CompletableFuture<>();
         doInEventLoop(connection.eventLoop(), () -> {
             int streamCount = childChannels.size();
-            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount));
+            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount)
+                                         .setMaxStreamsPerConnection(streamCount));
         });
         return result;
     }
@@ -333,6 +384,7 @@ public class MultiplexedChannelRecord {
 
     public static class Metrics {
         private long availableStreams = 0;
+        private long maxStreamsPerConnection = 0;
 
         public long getAvailableStreams() {
             return availableStreams;
@@ -343,8 +395,18 @@ public class MultiplexedChannelRecord {
             return this;
         }
 
+        public long getMaxStreamsPerConnection() {
+            return maxStreamsPerConnection;
+        }
+
+        public Metrics setMaxStreamsPerConnection(long maxStreamsPerConnection) {
+            this.maxStreamsPerConnection = maxStreamsPerConnection;
+            return this;
+        }
+
         public void add(Metrics rhs) {
             this.availableStreams += rhs.availableStreams;
+            this.maxStreamsPerConnection = Math.max(this.maxStreamsPerConnection, rhs.maxStreamsPerConnection);
         }
     }
 }
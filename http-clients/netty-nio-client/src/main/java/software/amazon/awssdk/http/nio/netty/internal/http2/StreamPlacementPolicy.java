@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
+
+/**
+ * Chooses the order in which the {@link Http2MultiplexedChannelPool} tries to acquire a stream on its connections. The pool
+ * acquires the stream on the first connection in that order that has a stream available.
+ * <p>
+ * The load of a connection is read without synchronization, so the order is a best effort: a connection may have claimed or
+ * released streams by the time a stream is acquired on it.
+ */
+@SdkInternalApi
+@FunctionalInterface
+interface StreamPlacementPolicy {
+    StreamPlacementPolicy FIRST_AVAILABLE = connections -> connections;
+
+    StreamPlacementPolicy LEAST_OUTSTANDING_STREAMS = connections -> {
+        if (connections.size() < 2) {
+            return connections;
+        }
+        return byLoad(new ArrayList<>(connections));
+    };
+
+    StreamPlacementPolicy POWER_OF_TWO_CHOICES = connections -> {
+        if (connections.size() < 3) {
+            return LEAST_OUTSTANDING_STREAMS.order(connections);
+        }
+
+        List<MultiplexedChannelRecord> candidates = new ArrayList<>(connections);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        // Try the two random choices first, and fall back to the other connections if both are exhausted.
+        Collections.swap(candidates, 0, first);
+        Collections.swap(candidates, 1, second == 0 ? first : second);
+        if (Load.ORDER.compare(new Load(candidates.get(1)), new Load(candidates.get(0))) < 0) {
+            Collections.swap(candidates, 0, 1);
+        }
+        return candidates;
+    };
+
+    /**
+     * @return The connections in the order that a stream should be acquired on them.
+     */
+    Collection<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections);
+
+    static StreamPlacementPolicy forStrategy(StreamPlacementStrategy strategy) {
+        if (strategy == null) {
+            return FIRST_AVAILABLE;
+        }
+
+        switch (strategy) {
+            case FIRST_AVAILABLE:
+                return FIRST_AVAILABLE;
+            case LEAST_OUTSTANDING_STREAMS:
+                return LEAST_OUTSTANDING_STREAMS;
+            case POWER_OF_TWO_CHOICES:
+                return POWER_OF_TWO_CHOICES;
+            default:
+                throw new IllegalArgumentException("Unsupported stream placement strategy: " + strategy);
+        }
+    }
+
+    static List<MultiplexedChannelRecord> byLoad(List<MultiplexedChannelRecord> connections) {
+        // Snapshot the load of every connection first, so that the order stays consistent while the connections are sorted.
+        List<Load> loads = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            loads.add(new Load(connection));
+        }
+        loads.sort(Load.ORDER);
+
+        List<MultiplexedChannelRecord> result = new ArrayList<>(loads.size());
+        for (Load load : loads) {
+            result.add(load.connection);
+        }
+        return result;
+    }
+
+    /**
+     * The load of a connection at a point in time. Connections whose send window is exhausted are the most loaded, followed by
+     * the connections with the most outstanding streams.
+     */
+    final class Load {
+        private static final Comparator<Load> ORDER = Comparator.comparing((Load l) -> l.sendWindowExhausted)
+                                                                 .thenComparingLong(l -> l.outstandingStreams);
+
+        private final MultiplexedChannelRecord connection;
+        private final boolean sendWindowExhausted;
+        private final long outstandingStreams;
+
+        private Load(MultiplexedChannelRecord connection) {
+            this.connection = connection;
+            this.sendWindowExhausted = connection.isSendWindowExhausted();
+            this.outstandingStreams = connection.outstandingStreams();
+        }
+    }
+}
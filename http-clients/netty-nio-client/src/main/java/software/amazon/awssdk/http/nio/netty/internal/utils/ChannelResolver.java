@@ -44,11 +44,15 @@ public final class ChannelResolver {
                                             "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS_SOCKET_CHANNELS.put("io.netty.channel.oio.OioEventLoopGroup",
                                             "io.netty.channel.socket.oio.OioSocketChannel");
+        KNOWN_EL_GROUPS_SOCKET_CHANNELS.put(NativeTransport.IO_URING_EVENT_LOOP_GROUP,
+                                            "io.netty.incubator.channel.uring.IOUringSocketChannel");
 
         KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put("io.netty.channel.kqueue.KQueueEventLoopGroup",
                                               "io.netty.channel.kqueue.KQueueDatagramChannel");
         KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put("io.netty.channel.oio.OioEventLoopGroup",
                                               "io.netty.channel.socket.oio.OioDatagramChannel");
+        KNOWN_EL_GROUPS_DATAGRAM_CHANNELS.put(NativeTransport.IO_URING_EVENT_LOOP_GROUP,
+                                              "io.netty.incubator.channel.uring.IOUringDatagramChannel");
     }
 
     private ChannelResolver() {
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.NativeChannelOption;
+import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
+
+/**
+ * Creates the event loop groups of the native transports of Netty, and translates {@link NativeChannelOption}s to the options
+ * of these transports.
+ * <p>
+ * The io_uring transport is an optional dependency, so it is loaded reflectively.
+ */
+@SdkInternalApi
+public final class NativeTransport {
+    static final String IO_URING_EVENT_LOOP_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    static final String IO_URING_CHANNEL_OPTION = "io.netty.incubator.channel.uring.IOUringChannelOption";
+
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(NativeTransport.class);
+    private static final String IO_URING = "io.netty.incubator.channel.uring.IOUring";
+    private static final String NATIVE_CHANNEL_OPTION_PREFIX = NativeChannelOption.class.getName() + "#";
+
+    private NativeTransport() {
+    }
+
+    /**
+     * Create an event loop group of the first available native transport: io_uring, then epoll.
+     *
+     * @return The event loop group, or empty if no native transport is available.
+     */
+    public static Optional<EventLoopGroup> createEventLoopGroup(int numberOfThreads, ThreadFactory threadFactory) {
+        if (isIoUringAvailable()) {
+            try {
+                return Optional.of((EventLoopGroup) Class.forName(IO_URING_EVENT_LOOP_GROUP)
+                                                         .getConstructor(int.class, ThreadFactory.class)
+                                                         .newInstance(numberOfThreads, threadFactory));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                log.debug(null, () -> "Unable to create an io_uring event loop group, falling back to epoll.", e);
+            }
+        }
+        if (isEpollAvailable()) {
+            return Optional.of(new EpollEventLoopGroup(numberOfThreads, threadFactory));
+        }
+        log.debug(null, () -> "No native transport is available, falling back to NIO.");
+        return Optional.empty();
+    }
+
+    /**
+     * Translate a channel option to the event loop group's transport. Options of {@link NativeChannelOption} are translated to
+     * the equivalent option of the native transport, or are dropped if the transport is not a native transport. Other options
+     * are returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<ChannelOption<Object>> resolveChannelOption(EventLoopGroup eventLoopGroup,
+                                                                        ChannelOption<?> option) {
+        if (!option.name().startsWith(NATIVE_CHANNEL_OPTION_PREFIX)) {
+            return Optional.of((ChannelOption<Object>) option);
+        }
+        String optionName = option.name().substring(NATIVE_CHANNEL_OPTION_PREFIX.length());
+        EventLoopGroup group = unwrap(eventLoopGroup);
+        if (group instanceof EpollEventLoopGroup) {
+            return Optional.of(ChannelOption.valueOf(EpollChannelOption.class, optionName));
+        }
+        if (group.getClass().getName().equals(IO_URING_EVENT_LOOP_GROUP)) {
+            return Optional.of(ChannelOption.valueOf(IO_URING_CHANNEL_OPTION + "#" + optionName));
+        }
+        log.debug(null, () -> "Ignoring " + optionName + ", which is only supported by native transports.");
+        return Optional.empty();
+    }
+
+    private static EventLoopGroup unwrap(EventLoopGroup eventLoopGroup) {
+        EventLoopGroup group = eventLoopGroup;
+        while (group instanceof DelegatingEventLoopGroup) {
+            group = ((DelegatingEventLoopGroup) group).getDelegate();
+        }
+        return group;
+    }
+
+    private static boolean isIoUringAvailable() {
+        try {
+            return (Boolean) Class.forName(IO_URING).getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isEpollAvailable() {
+        try {
+            return Epoll.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal.utils;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_DIAGNOSTICS;
 
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
 import io.netty.handler.ssl.SslContext;
@@ -42,6 +43,7 @@ import java.util.function.Function;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.PooledAllocatorConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelDiagnostics;
 import software.amazon.awssdk.utils.FunctionalUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -61,6 +63,11 @@ public final class NettyUtils {
                                                               + "read or written in a timely manner.";
     private static final Logger log = Logger.loggerFor(NettyUtils.class);
 
+    /**
+     * The page size of pooled allocators, which chunk sizes are a power of two multiple of.
+     */
+    private static final int ALLOCATOR_PAGE_SIZE = 8192;
+
     private NettyUtils() {
     }
 
@@ -388,4 +395,22 @@ public final class NettyUtils {
             log.error(null, () -> errorMsg, e);
         }
     }
+
+    /**
+     * Create a pooled allocator from the given configuration. Only event loop threads cache buffers, so that other threads
+     * releasing buffers do not retain memory in their own caches.
+     */
+    public static PooledByteBufAllocator newPooledAllocator(PooledAllocatorConfiguration configuration) {
+        int numArenas = configuration.numArenas() != null ? configuration.numArenas()
+                                                          : PooledByteBufAllocator.defaultNumDirectArena();
+        int maxOrder = configuration.chunkSize() != null
+                       ? Integer.numberOfTrailingZeros(configuration.chunkSize() / ALLOCATOR_PAGE_SIZE)
+                       : PooledByteBufAllocator.defaultMaxOrder();
+        int smallCacheSize = configuration.threadLocalCacheSize() != null ? configuration.threadLocalCacheSize()
+                                                                          : PooledByteBufAllocator.defaultSmallCacheSize();
+        int normalCacheSize = configuration.threadLocalCacheSize() != null ? configuration.threadLocalCacheSize()
+                                                                           : PooledByteBufAllocator.defaultNormalCacheSize();
+        return new PooledByteBufAllocator(PooledByteBufAllocator.defaultPreferDirect(), numArenas, numArenas,
+                                          ALLOCATOR_PAGE_SIZE, maxOrder, smallCacheSize, normalCacheSize, false);
+    }
 }
@@ -49,6 +49,7 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .streamPlacementStrategy(StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
@@ -56,6 +57,20 @@ public class Http2ConfigurationTest {
         assertThat(config1).isEqualTo(config2);
     }
 
+    @Test
+    public void equals_differentStreamPlacementStrategy_isFalse() {
+        Http2Configuration config1 = Http2Configuration.builder()
+                .streamPlacementStrategy(StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS)
+                .build();
+
+        Http2Configuration config2 = config1.toBuilder()
+                .streamPlacementStrategy(StreamPlacementStrategy.POWER_OF_TWO_CHOICES)
+                .build();
+
+        assertThat(config1).isNotEqualTo(config2);
+        assertThat(config2.streamPlacementStrategy()).isEqualTo(StreamPlacementStrategy.POWER_OF_TWO_CHOICES);
+    }
+
     @Test
     public void builder_maxStream_nullValue_doesNotThrow() {
         Http2Configuration.builder().maxStreams(null);
@@ -94,6 +94,7 @@ public class Http2MetricsTest {
             // stream is used (i.e. not previously pooled)
             assertThat(metrics.metricValues(Http2Metric.LOCAL_STREAM_WINDOW_SIZE_IN_BYTES).get(0)).isIn(H2_DEFAULT_WINDOW_SIZE, 65535 * 3);
             assertThat(metrics.metricValues(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES)).containsExactly(SERVER_INITIAL_WINDOW_SIZE);
+            assertThat(metrics.metricValues(NettyMetric.CONCURRENT_STREAMS_ON_CONNECTION)).containsExactly(1);
         }
     }
 
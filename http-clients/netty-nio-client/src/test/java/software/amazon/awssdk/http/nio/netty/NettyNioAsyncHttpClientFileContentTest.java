@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClientTestUtils.createRequest;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Tests for requests whose content is a {@link SdkHttpFileContentPublisher}, which are sent from the file directly.
+ */
+public class NettyNioAsyncHttpClientFileContentTest {
+    private static final SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().buildWithDefaults(
+        AttributeMap.builder().put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true).build());
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @AfterClass
+    public static void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void fileContent_overHttp_sendsRegionOfFile() throws Exception {
+        assertSendsRegionOfFile(URI.create("http://localhost:" + mockServer.port()));
+    }
+
+    @Test
+    public void fileContent_overHttps_sendsRegionOfFile() throws Exception {
+        assertSendsRegionOfFile(URI.create("https://localhost:" + mockServer.httpsPort()));
+    }
+
+    @Test
+    public void fileContent_fileShorterThanContent_failsRequest() throws Exception {
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, randomAlphabetic(100).getBytes(UTF_8));
+        stubFor(post(urlEqualTo("/upload")).willReturn(aResponse()));
+        URI uri = URI.create("http://localhost:" + mockServer.port());
+
+        RecordingResponseHandler recorder = execute(uri, "/upload", new FileContentPublisher(file, 50, 100), 100);
+
+        assertThatThrownBy(() -> recorder.completeFuture.get(5, TimeUnit.SECONDS)).hasMessageContaining("is only 100 bytes");
+    }
+
+    private void assertSendsRegionOfFile(URI uri) throws Exception {
+        String content = randomAlphabetic(200 * 1024);
+        Path file = temporaryFolder.newFile().toPath();
+        Files.write(file, content.getBytes(UTF_8));
+        String expectedBody = content.substring(1000, 1000 + 100 * 1024);
+        stubFor(post(urlEqualTo("/upload")).willReturn(aResponse().withBody("done")));
+
+        FileContentPublisher publisher = new FileContentPublisher(file, 1000, expectedBody.length());
+        RecordingResponseHandler recorder = execute(uri, "/upload", publisher, expectedBody.length());
+        recorder.completeFuture.get(5, TimeUnit.SECONDS);
+
+        assertThat(recorder.fullResponseAsString()).isEqualTo("done");
+        assertThat(publisher.subscribed).isFalse();
+        verify(postRequestedFor(urlEqualTo("/upload")).withRequestBody(equalTo(expectedBody)));
+    }
+
+    private RecordingResponseHandler execute(URI uri, String path, SdkHttpFileContentPublisher publisher, long contentLength) {
+        SdkHttpRequest request = createRequest(uri, path, null, SdkHttpMethod.POST, emptyMap())
+            .toBuilder()
+            .putHeader("Content-Length", String.valueOf(contentLength))
+            .build();
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(publisher)
+                                          .responseHandler(recorder)
+                                          .build());
+        return recorder;
+    }
+
+    private static final class FileContentPublisher implements SdkHttpFileContentPublisher {
+        private final Path path;
+        private final long position;
+        private final long length;
+        private volatile boolean subscribed;
+
+        private FileContentPublisher(Path path, long position, long length) {
+            this.path = path;
+            this.position = position;
+            this.length = length;
+        }
+
+        @Override
+        public Path path() {
+            return path;
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(length);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            subscribed = true;
+            s.onError(new UnsupportedOperationException("The content should be sent from the file"));
+        }
+    }
+}
@@ -735,6 +735,28 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).get(0)).isBetween(0, 1);
     }
 
+    @Test
+    public void pooledAllocatorConfigured_canMakeRequestOverHttpsAndReportsAllocatorMetrics() throws Exception {
+        try (SdkAsyncHttpClient customClient =
+                 NettyNioAsyncHttpClient.builder()
+                                        .pooledAllocatorConfiguration(c -> c.numArenas(1)
+                                                                            .chunkSize(256 * 1024)
+                                                                            .threadLocalCacheSize(0))
+                                        .buildWithDefaults(mapWithTrustAllCerts())) {
+            URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+            assertCanReceiveBasicRequest(customClient, uri, randomAlphabetic(25000));
+
+            RecordingResponseHandler handler = makeSimpleRequestAndReturnResponseHandler(customClient);
+            handler.executionFuture.get(10, TimeUnit.SECONDS);
+
+            MetricCollection metrics = handler.collector.collect();
+            assertThat(metrics.metricValues(NettyMetric.ALLOCATOR_USED_DIRECT_MEMORY)).hasSize(1);
+            assertThat(metrics.metricValues(NettyMetric.ALLOCATOR_USED_HEAP_MEMORY)).hasSize(1);
+            assertThat(metrics.metricValues(NettyMetric.ALLOCATOR_USED_DIRECT_MEMORY).get(0)
+                       + metrics.metricValues(NettyMetric.ALLOCATOR_USED_HEAP_MEMORY).get(0)).isPositive();
+        }
+    }
+
     private void verifyChannelRelease(Channel channel) throws InterruptedException {
         Thread.sleep(1000);
         assertThat(channel.attr(AttributeKey.valueOf("channelPool")).get()).isNull();
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+public class PooledAllocatorConfigurationTest {
+
+    @Test
+    public void builder_toBuilder_roundTrip() {
+        PooledAllocatorConfiguration config1 = PooledAllocatorConfiguration.builder()
+                                                                           .numArenas(2)
+                                                                           .chunkSize(1024 * 1024)
+                                                                           .threadLocalCacheSize(0)
+                                                                           .build();
+
+        PooledAllocatorConfiguration config2 = config1.toBuilder().build();
+
+        assertThat(config1).isEqualTo(config2);
+        assertThat(config1.hashCode()).isEqualTo(config2.hashCode());
+        assertThat(config2.numArenas()).isEqualTo(2);
+        assertThat(config2.chunkSize()).isEqualTo(1024 * 1024);
+        assertThat(config2.threadLocalCacheSize()).isZero();
+    }
+
+    @Test
+    public void builder_nullValues_doNotThrow() {
+        PooledAllocatorConfiguration config = PooledAllocatorConfiguration.builder()
+                                                                          .numArenas(null)
+                                                                          .chunkSize(null)
+                                                                          .threadLocalCacheSize(null)
+                                                                          .build();
+
+        assertThat(config.numArenas()).isNull();
+        assertThat(config.chunkSize()).isNull();
+        assertThat(config.threadLocalCacheSize()).isNull();
+    }
+
+    @Test
+    public void builder_numArenas_0_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().numArenas(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_chunkSize_notPowerOfTwo_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().chunkSize(3 * 8192))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("power of two");
+    }
+
+    @Test
+    public void builder_chunkSize_outOfRange_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().chunkSize(4096))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().chunkSize(256 * 1024 * 1024))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_threadLocalCacheSize_negative_throws() {
+        assertThatThrownBy(() -> PooledAllocatorConfiguration.builder().threadLocalCacheSize(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -18,13 +18,18 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL_NEGOTIATION;
 
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -35,6 +40,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.SSLException;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
+import software.amazon.awssdk.utils.AttributeMap;
 
 public class ChannelPipelineInitializerTest {
 
@@ -44,6 +51,45 @@ public class ChannelPipelineInitializerTest {
 
     @Test
     public void channelConfigOptionCheck() throws SSLException {
+        Channel channel = new EmbeddedChannel();
+
+        createPipelineInitializer(null).channelCreated(channel);
+
+        assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(UnpooledByteBufAllocator.DEFAULT));
+
+    }
+
+    @Test
+    public void allocatorConfigured_usesAllocatorWithJdkSslProvider() throws SSLException {
+        PooledByteBufAllocator allocator = new PooledByteBufAllocator();
+        Channel channel = new EmbeddedChannel();
+
+        createPipelineInitializer(allocator).channelCreated(channel);
+
+        assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(allocator));
+    }
+
+    @Test
+    public void h2WithAlpn_negotiatesProtocolBeforeConfiguringPipeline() throws SSLException {
+        AttributeMap options = AttributeMap.builder()
+                                           .put(PROTOCOL_NEGOTIATION, ProtocolNegotiation.ALPN)
+                                           .build()
+                                           .merge(GLOBAL_HTTP_DEFAULTS);
+        Channel channel = new EmbeddedChannel();
+
+        createPipelineInitializer(Protocol.HTTP2, options, null).channelCreated(channel);
+
+        assertThat(channel.pipeline().get(ApplicationProtocolNegotiationHandler.class) != null, is(true));
+        assertThat(channel.pipeline().get(Http2FrameCodec.class) == null, is(true));
+    }
+
+    private ChannelPipelineInitializer createPipelineInitializer(ByteBufAllocator allocator) throws SSLException {
+        return createPipelineInitializer(Protocol.HTTP1_1, GLOBAL_HTTP_DEFAULTS, allocator);
+    }
+
+    private ChannelPipelineInitializer createPipelineInitializer(Protocol protocol,
+                                                                 AttributeMap options,
+                                                                 ByteBufAllocator allocator) throws SSLException {
         targetUri = URI.create("https://some-awesome-service-1234.amazonaws.com:8080");
 
         SslContext sslContext = SslContextBuilder.forClient()
@@ -53,9 +99,9 @@ public class ChannelPipelineInitializerTest {
 
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
-        NettyConfiguration nettyConfiguration = new NettyConfiguration(GLOBAL_HTTP_DEFAULTS);
+        NettyConfiguration nettyConfiguration = new NettyConfiguration(options);
 
-        pipelineInitializer = new ChannelPipelineInitializer(Protocol.HTTP1_1,
+        pipelineInitializer = new ChannelPipelineInitializer(protocol,
                                                              sslContext,
                                                              SslProvider.JDK,
                                                              100,
@@ -63,13 +109,8 @@ public class ChannelPipelineInitializerTest {
                                                              Duration.ZERO,
                                                              channelPoolRef,
                                                              nettyConfiguration,
-                                                             targetUri);
-
-        Channel channel = new EmbeddedChannel();
-
-        pipelineInitializer.channelCreated(channel);
-
-        assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(UnpooledByteBufAllocator.DEFAULT));
-
+                                                             targetUri,
+                                                             allocator);
+        return pipelineInitializer;
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ReleasingDirectByteBufTest {
+
+    @Test
+    public void wrap_directBuffer_releasesBufferWhenDeallocated() {
+        List<ByteBuffer> released = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        buffer.put("hello world".getBytes(StandardCharsets.UTF_8)).flip();
+        buffer.position(6);
+
+        ByteBuf byteBuf = ReleasingDirectByteBuf.wrap(buffer, released::add);
+
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8)).isEqualTo("world");
+        byteBuf.retain();
+        byteBuf.release();
+        assertThat(released).isEmpty();
+
+        byteBuf.release();
+        assertThat(released).containsExactly(buffer);
+    }
+
+    @Test
+    public void wrap_heapOrReadOnlyBuffer_doesNotReleaseBuffer() {
+        List<ByteBuffer> released = new ArrayList<>();
+        ByteBuffer heapBuffer = ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer readOnlyBuffer = ByteBuffer.allocateDirect(5).asReadOnlyBuffer();
+
+        ByteBuf heapByteBuf = ReleasingDirectByteBuf.wrap(heapBuffer, released::add);
+        ByteBuf readOnlyByteBuf = ReleasingDirectByteBuf.wrap(readOnlyBuffer, released::add);
+
+        assertThat(heapByteBuf.toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+        heapByteBuf.release();
+        readOnlyByteBuf.release();
+        assertThat(released).isEmpty();
+    }
+}
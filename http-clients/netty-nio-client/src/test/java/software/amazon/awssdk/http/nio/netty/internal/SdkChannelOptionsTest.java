@@ -18,9 +18,11 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.nio.NioEventLoopGroup;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.NativeChannelOption;
 
 public class SdkChannelOptionsTest {
 
@@ -44,4 +46,25 @@ public class SdkChannelOptionsTest {
 
         assertEquals(expectedOptions, channelOptions.channelOptions());
     }
+
+    @Test
+    public void nativeSocketOptions_nioTransport_areDropped() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        channelOptions.putOption(ChannelOption.SO_LINGER, 0);
+        channelOptions.putOption(NativeChannelOption.TCP_QUICKACK, true);
+        channelOptions.putOption(NativeChannelOption.SO_BUSY_POLL, 50);
+        channelOptions.putOption(NativeChannelOption.TCP_FASTOPEN_CONNECT, true);
+
+        Map<ChannelOption, Object> expectedOptions = new HashMap<>();
+        expectedOptions.put(ChannelOption.TCP_NODELAY, Boolean.TRUE);
+        expectedOptions.put(ChannelOption.SO_LINGER, 0);
+
+        NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        try {
+            assertEquals(expectedOptions, channelOptions.channelOptions(eventLoopGroup));
+            assertEquals(expectedOptions, channelOptions.channelOptions(new NonManagedEventLoopGroup(eventLoopGroup)));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
 }
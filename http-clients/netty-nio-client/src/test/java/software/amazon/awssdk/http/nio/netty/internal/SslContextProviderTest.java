@@ -17,16 +17,19 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.PROTOCOL_NEGOTIATION;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslProvider;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
@@ -61,6 +64,29 @@ public class SslContextProviderTest {
         assertThat(sslContextProvider.sslContext().cipherSuites()).isNotIn(Http2SecurityUtil.CIPHERS);
     }
 
+    @Test
+    public void sslContext_h2WithAlpn_advertisesH2AndHttp11() {
+        AttributeMap options = AttributeMap.builder()
+                                           .put(PROTOCOL_NEGOTIATION, ProtocolNegotiation.ALPN)
+                                           .build()
+                                           .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(options),
+                                                                       Protocol.HTTP2,
+                                                                       SslProvider.JDK);
+
+        assertThat(sslContextProvider.sslContext().applicationProtocolNegotiator().protocols())
+            .containsExactly(ApplicationProtocolNames.HTTP_2, ApplicationProtocolNames.HTTP_1_1);
+    }
+
+    @Test
+    public void sslContext_h2WithoutAlpn_advertisesNoProtocol() {
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                                                       Protocol.HTTP2,
+                                                                       SslProvider.JDK);
+
+        assertThat(sslContextProvider.sslContext().applicationProtocolNegotiator().protocols()).isEmpty();
+    }
+
     @Test
     public void customizedKeyManagerPresent_shouldUseCustomized() {
         TlsKeyManagersProvider mockProvider = Mockito.mock(TlsKeyManagersProvider.class);
@@ -38,7 +38,9 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -47,6 +49,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.NettyMetric;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -287,21 +290,25 @@ public class Http2MultiplexedChannelPoolTest {
 
             metrics = getMetrics(h2Pool);
             assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+            assertThat(metrics.metricValues(NettyMetric.MAX_STREAMS_PER_CONNECTION)).containsExactly(0);
 
             doAcquire(channel1, channel2, h2Pool);
 
             metrics = getMetrics(h2Pool);
             assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+            assertThat(metrics.metricValues(NettyMetric.MAX_STREAMS_PER_CONNECTION)).containsExactly(1);
 
             doAcquire(channel1, channel2, h2Pool);
 
             metrics = getMetrics(h2Pool);
             assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+            assertThat(metrics.metricValues(NettyMetric.MAX_STREAMS_PER_CONNECTION)).containsExactly(2);
 
             doAcquire(channel1, channel2, h2Pool);
 
             metrics = getMetrics(h2Pool);
             assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+            assertThat(metrics.metricValues(NettyMetric.MAX_STREAMS_PER_CONNECTION)).containsExactly(2);
 
             Channel lastAcquire = doAcquire(channel1, channel2, h2Pool);
 
@@ -330,6 +337,35 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void leastOutstandingStreams_acquiresStreamOnLeastLoadedConnection() {
+        EmbeddedChannel busyChannel = newHttp2Channel();
+        EmbeddedChannel idleChannel = newHttp2Channel();
+
+        try {
+            MultiplexedChannelRecord busyConnection = new MultiplexedChannelRecord(busyChannel, 4, null);
+            MultiplexedChannelRecord idleConnection = new MultiplexedChannelRecord(idleChannel, 4, null);
+            busyConnection.acquireStream(busyChannel.eventLoop().newPromise());
+            busyConnection.acquireStream(busyChannel.eventLoop().newPromise());
+            runPendingTasks(busyChannel, idleChannel);
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(mock(ChannelPool.class), loopGroup,
+                                                new HashSet<>(Arrays.asList(busyConnection, idleConnection)), null,
+                                                StreamPlacementPolicy.LEAST_OUTSTANDING_STREAMS);
+
+            for (int i = 0; i < 2; i++) {
+                Channel stream = doAcquire(busyChannel, idleChannel, h2Pool);
+                assertThat(stream.parent()).isEqualTo(idleChannel);
+            }
+            assertThat(busyConnection.outstandingStreams()).isEqualTo(2);
+            assertThat(idleConnection.outstandingStreams()).isEqualTo(2);
+        } finally {
+            busyChannel.close();
+            idleChannel.close();
+        }
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
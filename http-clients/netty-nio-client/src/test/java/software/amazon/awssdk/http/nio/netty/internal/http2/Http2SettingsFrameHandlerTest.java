@@ -91,6 +91,30 @@ public class Http2SettingsFrameHandlerTest {
         assertThat(protocolCompletableFuture.join()).isEqualTo(Protocol.HTTP2);
     }
 
+    @Test
+    public void channelRead_laterSettingsFrame_updatesMaxStreamsOfConnection() {
+        Http2MultiplexedChannelPool multiplexedPool = Mockito.mock(Http2MultiplexedChannelPool.class);
+        channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(multiplexedPool);
+        handler.channelRead0(context, http2SettingsFrame(50L));
+
+        handler.channelRead0(context, http2SettingsFrame(200L));
+
+        assertThat(channel.attr(MAX_CONCURRENT_STREAMS).get()).isEqualTo(200L);
+        Mockito.verify(multiplexedPool).updateMaxConcurrentStreams(channel, 200L);
+    }
+
+    @Test
+    public void channelRead_laterSettingsFrameWithoutMaxStreams_keepsMaxStreams() {
+        Http2MultiplexedChannelPool multiplexedPool = Mockito.mock(Http2MultiplexedChannelPool.class);
+        channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(multiplexedPool);
+        handler.channelRead0(context, http2SettingsFrame(50L));
+
+        handler.channelRead0(context, http2SettingsFrame(null));
+
+        assertThat(channel.attr(MAX_CONCURRENT_STREAMS).get()).isEqualTo(50L);
+        Mockito.verifyNoInteractions(multiplexedPool);
+    }
+
     @Test
     public void exceptionCaught_shouldHandleErrorCloseChannel() throws Exception {
         Throwable cause = new Throwable(new RuntimeException("BOOM"));
@@ -117,12 +141,14 @@ public class Http2SettingsFrameHandlerTest {
     }
 
 
-    private Http2SettingsFrame http2SettingsFrame(long serverMaxStreams) {
+    private Http2SettingsFrame http2SettingsFrame(Long serverMaxStreams) {
         return new Http2SettingsFrame() {
             @Override
             public Http2Settings settings() {
                 Http2Settings http2Settings = new Http2Settings();
-                http2Settings.maxConcurrentStreams(serverMaxStreams);
+                if (serverMaxStreams != null) {
+                    http2Settings.maxConcurrentStreams(serverMaxStreams);
+                }
                 return http2Settings;
             }
 
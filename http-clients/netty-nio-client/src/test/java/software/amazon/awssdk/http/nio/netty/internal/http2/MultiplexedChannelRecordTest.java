@@ -235,6 +235,30 @@ public class MultiplexedChannelRecordTest {
         assertThat(record.acquireStream(streamPromise)).isFalse();
     }
 
+    @Test
+    public void updateMaxConcurrency_increased_allowsMoreStreams() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 1, Duration.ofSeconds(10));
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isTrue();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        record.updateMaxConcurrency(2);
+
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isTrue();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+    }
+
+    @Test
+    public void updateMaxConcurrency_decreased_allowsFewerStreams() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 2, Duration.ofSeconds(10));
+
+        record.updateMaxConcurrency(1);
+
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isTrue();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+    }
+
     private static final class VerifyExceptionHandler extends ChannelInboundHandlerAdapter {
         private Throwable exceptionCaught;
         @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.http.nio.netty.internal.http2.utils.Http2TestUtils.newHttp2Channel;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.StreamPlacementStrategy;
+
+public class StreamPlacementPolicyTest {
+    private final List<EmbeddedChannel> channels = new ArrayList<>();
+
+    @AfterEach
+    public void teardown() {
+        channels.forEach(EmbeddedChannel::close);
+    }
+
+    @Test
+    public void forStrategy_mapsEveryStrategy() {
+        assertThat(StreamPlacementPolicy.forStrategy(null)).isSameAs(StreamPlacementPolicy.FIRST_AVAILABLE);
+        assertThat(StreamPlacementPolicy.forStrategy(StreamPlacementStrategy.FIRST_AVAILABLE))
+            .isSameAs(StreamPlacementPolicy.FIRST_AVAILABLE);
+        assertThat(StreamPlacementPolicy.forStrategy(StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS))
+            .isSameAs(StreamPlacementPolicy.LEAST_OUTSTANDING_STREAMS);
+        assertThat(StreamPlacementPolicy.forStrategy(StreamPlacementStrategy.POWER_OF_TWO_CHOICES))
+            .isSameAs(StreamPlacementPolicy.POWER_OF_TWO_CHOICES);
+    }
+
+    @Test
+    public void firstAvailable_keepsOrderOfConnections() {
+        List<MultiplexedChannelRecord> connections = Arrays.asList(connection(3), connection(0), connection(1));
+
+        assertThat(StreamPlacementPolicy.FIRST_AVAILABLE.order(connections)).isSameAs(connections);
+    }
+
+    @Test
+    public void leastOutstandingStreams_ordersConnectionsByStreamsInUse() {
+        MultiplexedChannelRecord busiest = connection(3);
+        MultiplexedChannelRecord idle = connection(0);
+        MultiplexedChannelRecord busy = connection(1);
+
+        assertThat(StreamPlacementPolicy.LEAST_OUTSTANDING_STREAMS.order(Arrays.asList(busiest, idle, busy)))
+            .containsExactly(idle, busy, busiest);
+    }
+
+    @Test
+    public void powerOfTwoChoices_triesLessLoadedOfTwoConnectionsFirst() {
+        List<MultiplexedChannelRecord> connections = Arrays.asList(connection(3), connection(0), connection(1), connection(2));
+
+        for (int i = 0; i < 20; i++) {
+            List<MultiplexedChannelRecord> order = new ArrayList<>(StreamPlacementPolicy.POWER_OF_TWO_CHOICES.order(connections));
+
+            assertThat(order).containsExactlyInAnyOrderElementsOf(connections);
+            assertThat(order.get(0).outstandingStreams()).isLessThanOrEqualTo(order.get(1).outstandingStreams());
+        }
+    }
+
+    @Test
+    public void powerOfTwoChoices_twoConnections_ordersConnectionsByStreamsInUse() {
+        MultiplexedChannelRecord busy = connection(2);
+        MultiplexedChannelRecord idle = connection(0);
+
+        Collection<MultiplexedChannelRecord> order = StreamPlacementPolicy.POWER_OF_TWO_CHOICES.order(Arrays.asList(busy, idle));
+
+        assertThat(order).containsExactly(idle, busy);
+    }
+
+    private MultiplexedChannelRecord connection(int streamsInUse) {
+        EmbeddedChannel channel = newHttp2Channel();
+        channels.add(channel);
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 10, null);
+        for (int i = 0; i < streamsInUse; i++) {
+            assertThat(record.acquireStream(channel.eventLoop().newPromise())).isTrue();
+        }
+        channel.runPendingTasks();
+        assertThat(record.outstandingStreams()).isEqualTo(streamsInUse);
+        return record;
+    }
+}
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -49,6 +50,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.Logger;
+import software.amazon.awssdk.http.nio.netty.PooledAllocatorConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 
 public class NettyUtilsTest {
@@ -109,6 +111,31 @@ public class NettyUtilsTest {
         verify(mockExecutor).submit(any(Runnable.class));
     }
 
+    @Test
+    public void newPooledAllocator_appliesConfiguration() {
+        PooledByteBufAllocator allocator = NettyUtils.newPooledAllocator(PooledAllocatorConfiguration.builder()
+                                                                                                     .numArenas(3)
+                                                                                                     .chunkSize(64 * 1024)
+                                                                                                     .threadLocalCacheSize(0)
+                                                                                                     .build());
+
+        assertThat(allocator.metric().numDirectArenas()).isEqualTo(3);
+        assertThat(allocator.metric().numHeapArenas()).isEqualTo(3);
+        assertThat(allocator.metric().chunkSize()).isEqualTo(64 * 1024);
+        assertThat(allocator.metric().smallCacheSize()).isZero();
+        assertThat(allocator.metric().normalCacheSize()).isZero();
+    }
+
+    @Test
+    public void newPooledAllocator_emptyConfiguration_usesNettyDefaults() {
+        PooledByteBufAllocator allocator = NettyUtils.newPooledAllocator(PooledAllocatorConfiguration.builder().build());
+
+        assertThat(allocator.metric().numDirectArenas()).isEqualTo(PooledByteBufAllocator.defaultNumDirectArena());
+        assertThat(allocator.metric().chunkSize()).isEqualTo(8192 << PooledByteBufAllocator.defaultMaxOrder());
+        assertThat(allocator.metric().smallCacheSize()).isEqualTo(PooledByteBufAllocator.defaultSmallCacheSize());
+        assertThat(allocator.metric().normalCacheSize()).isEqualTo(PooledByteBufAllocator.defaultNormalCacheSize());
+    }
+
     @Test
     public void runOrPropagate_success_runs() throws Exception {
         Promise<String> destination = eventLoopGroup.next().newPromise();
@@ -758,6 +758,54 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Specifies the maximum number of directories listed at the same time when traversing the file tree in
+         * {@link S3TransferManager#uploadDirectory} operation. Directories are listed on the {@link #executor(Executor)} of
+         * the transfer manager. Listing directories in parallel speeds up uploading directories with many subdirectories,
+         * especially from network file systems. Must be positive.
+         *
+         * <p>
+         * Default to 4
+         *
+         * @param uploadDirectoryTraversalParallelism the maximum number of directories listed at the same time
+         * @return This builder for method chaining.
+         */
+        Builder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism);
+
+        /**
+         * Specifies the maximum number of partitions of the keyspace listed at the same time in
+         * {@link S3TransferManager#downloadDirectory} operation. When greater than 1, the keyspace is partitioned by the common
+         * prefixes found by listing the prefix of the request with a delimiter, and the partitions are listed concurrently.
+         * Objects are then not downloaded in the order of their keys. This speeds up downloading directories with many objects
+         * spread across many common prefixes. Must be positive.
+         *
+         * <p>
+         * Default to 1, which lists the objects with a single sequence of {@code ListObjectsV2} requests
+         *
+         * @param downloadDirectoryListingParallelism the maximum number of partitions listed at the same time
+         * @return This builder for method chaining.
+         */
+        Builder downloadDirectoryListingParallelism(Integer downloadDirectoryListingParallelism);
+
+        /**
+         * Specifies the size, in bytes, at or below which files and objects of {@link S3TransferManager#uploadDirectory} and
+         * {@link S3TransferManager#downloadDirectory} operations are transferred through a lightweight path: uploaded files are
+         * read into a single buffer, downloaded objects are read into memory and written to their file at once unless their
+         * Content-Length exceeds this size, and their progress is updated only when they complete. This
+         * reduces the overhead of each transfer, which dominates the time to transfer directories of many small files. Files and
+         * objects with {@link software.amazon.awssdk.transfer.s3.progress.TransferListener}s attached always go through the
+         * regular path.
+         * Must not be negative; 0 disables the lightweight path.
+         *
+         * <p>
+         * Default to 64 KiB
+         *
+         * @param directoryTransferSmallObjectThresholdInBytes the maximum size of the files and objects transferred through the
+         * lightweight path
+         * @return This builder for method chaining.
+         */
+        Builder directoryTransferSmallObjectThresholdInBytes(Integer directoryTransferSmallObjectThresholdInBytes);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
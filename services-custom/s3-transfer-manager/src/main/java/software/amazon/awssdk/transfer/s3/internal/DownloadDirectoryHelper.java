@@ -18,6 +18,8 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_PARALLELISM;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
@@ -30,6 +32,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -57,14 +60,27 @@ public class DownloadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<DownloadFileRequest, FileDownload> downloadFileFunction;
+    private final Function<DownloadFileRequest, FileDownload> smallObjectDownloadFunction;
     private final ListObjectsHelper listObjectsHelper;
 
     public DownloadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
                                    ListObjectsHelper listObjectsHelper,
                                    Function<DownloadFileRequest, FileDownload> downloadFileFunction) {
+        this(transferConfiguration, listObjectsHelper, downloadFileFunction, downloadFileFunction);
+    }
+
+    /**
+     * @param smallObjectDownloadFunction The function downloading objects whose size is at most
+     * {@link TransferConfigurationOption#DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD}
+     */
+    public DownloadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                   ListObjectsHelper listObjectsHelper,
+                                   Function<DownloadFileRequest, FileDownload> downloadFileFunction,
+                                   Function<DownloadFileRequest, FileDownload> smallObjectDownloadFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.downloadFileFunction = downloadFileFunction;
+        this.smallObjectDownloadFunction = smallObjectDownloadFunction;
         this.listObjectsHelper = listObjectsHelper;
     }
 
@@ -112,9 +128,8 @@ public class DownloadDirectoryHelper {
                                                               failedFileDownloads),
                                            allOfFutures,
                                            DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY);
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+        listObjects(request).filter(downloadDirectoryRequest.filter())
+                            .subscribe(asyncBufferingSubscriber);
 
         allOfFutures.whenComplete((r, t) -> {
             if (t != null) {
@@ -127,6 +142,14 @@ public class DownloadDirectoryHelper {
         });
     }
 
+    private SdkPublisher<S3Object> listObjects(ListObjectsV2Request request) {
+        int listingParallelism = transferConfiguration.option(DOWNLOAD_DIRECTORY_LISTING_PARALLELISM);
+        if (listingParallelism > 1) {
+            return listObjectsHelper.listS3ObjectsInPartitions(request, listingParallelism);
+        }
+        return listObjectsHelper.listS3ObjectsRecursively(request);
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
@@ -175,8 +198,9 @@ public class DownloadDirectoryHelper {
             log.debug(() -> "Sending download request " + downloadFileRequest);
             createParentDirectoriesIfNeeded(destinationPath);
 
-            CompletableFuture<CompletedFileDownload> executionFuture =
-                downloadFileFunction.apply(downloadFileRequest).completionFuture();
+            Function<DownloadFileRequest, FileDownload> function = isSmallObject(s3Object) ? smallObjectDownloadFunction
+                                                                                           : downloadFileFunction;
+            CompletableFuture<CompletedFileDownload> executionFuture = function.apply(downloadFileRequest).completionFuture();
             CompletableFuture<CompletedFileDownload> future = executionFuture.whenComplete((r, t) -> {
                 if (t != null) {
                     failedFileDownloads.add(FailedFileDownload.builder()
@@ -197,6 +221,11 @@ public class DownloadDirectoryHelper {
         }
     }
 
+    private boolean isSmallObject(S3Object s3Object) {
+        int threshold = transferConfiguration.option(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD);
+        return threshold > 0 && s3Object.size() != null && s3Object.size() <= threshold;
+    }
+
     /**
      * If the prefix is not empty AND the key contains the delimiter, normalize the key by stripping the prefix from the key.
      *
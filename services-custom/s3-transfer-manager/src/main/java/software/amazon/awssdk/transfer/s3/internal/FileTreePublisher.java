@@ -0,0 +1,413 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * A {@link Publisher} of the regular files within a directory, which lists the directories of the file tree in parallel.
+ * <p>
+ * Up to {@code parallelism} tasks run on the provided executor, each listing one directory at a time. The subdirectories
+ * found by a task are queued, and picked up by any idle task. The attributes of each entry are read once, to tell regular files
+ * from directories and to publish the size of each file. At most {@code maxLookahead} files are found ahead of the demand of
+ * the subscriber. Once that many files are buffered, tasks leave the directory they are listing to be resumed later and
+ * return their thread to the executor; new tasks are submitted when the subscriber asks for more files.
+ * <p>
+ * Like {@link Files#walk}, directories more than {@code maxDepth} levels below the root are not visited, and the traversal fails
+ * if it finds a symbolic link to one of its ancestors while following symbolic links. Unlike {@link Files#walk}, files are not
+ * published in a predictable order across directories.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class FileTreePublisher implements Publisher<FileTreePublisher.RegularFile> {
+    private static final Logger log = Logger.loggerFor(FileTreePublisher.class);
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final LinkOption[] linkOptions;
+    private final int parallelism;
+    private final Executor executor;
+    private final Semaphore lookahead;
+    private final SimplePublisher<RegularFile> publisher = new SimplePublisher<>();
+    private final Deque<Directory> directories = new ConcurrentLinkedDeque<>();
+    private final Deque<Listing> suspendedListings = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingDirectories = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    private FileTreePublisher(Builder builder) {
+        this.root = Validate.paramNotNull(builder.root, "root");
+        this.maxDepth = Validate.isNotNegative(builder.maxDepth, "maxDepth");
+        this.followSymbolicLinks = builder.followSymbolicLinks;
+        this.linkOptions = followSymbolicLinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+        this.parallelism = Validate.isPositive(builder.parallelism, "parallelism");
+        this.executor = Validate.paramNotNull(builder.executor, "executor");
+        this.lookahead = new Semaphore(Validate.isPositive(builder.maxLookahead, "maxLookahead"));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super RegularFile> subscriber) {
+        publisher.subscribe(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            return;
+        }
+        if (maxDepth == 0) {
+            complete();
+            return;
+        }
+        enqueue(new Directory(root, 0, null, null));
+    }
+
+    private void enqueue(Directory directory) {
+        pendingDirectories.incrementAndGet();
+        directories.addLast(directory);
+        startTaskIfNeeded();
+    }
+
+    private void startTaskIfNeeded() {
+        int active;
+        do {
+            active = activeTasks.get();
+            if (active >= parallelism) {
+                return;
+            }
+        } while (!activeTasks.compareAndSet(active, active + 1));
+
+        try {
+            executor.execute(this::listDirectories);
+        } catch (RejectedExecutionException e) {
+            // Directories are left for the tasks that are already running, if any.
+            if (activeTasks.decrementAndGet() == 0) {
+                fail(e);
+            }
+        }
+    }
+
+    private void listDirectories() {
+        Listing listing = null;
+        try {
+            while (!done.get() && (listing = nextListing()) != null) {
+                if (!list(listing)) {
+                    // No file can be published until the subscriber asks for more.
+                    break;
+                }
+                listing.close();
+                listing = null;
+                if (pendingDirectories.decrementAndGet() == 0) {
+                    complete();
+                }
+            }
+        } catch (Throwable t) {
+            if (listing != null) {
+                listing.closeQuietly();
+                listing = null;
+            }
+            fail(t);
+        } finally {
+            activeTasks.decrementAndGet();
+        }
+
+        if (listing != null) {
+            suspendedListings.addLast(listing);
+            if (done.get()) {
+                closeSuspendedListings();
+            }
+        }
+        resumeIfNeeded();
+    }
+
+    /**
+     * Returns the directory listing to continue with, resuming a suspended one before starting a new one. Returns null if
+     * there is none, or if no file can be published.
+     */
+    private Listing nextListing() throws IOException {
+        if (lookahead.availablePermits() == 0) {
+            return null;
+        }
+        Listing listing = suspendedListings.pollFirst();
+        if (listing != null) {
+            return listing;
+        }
+        Directory directory = directories.pollLast();
+        return directory != null ? new Listing(directory) : null;
+    }
+
+    /**
+     * Lists the remaining entries of a directory. Returns false if the listing stopped because no file can be published,
+     * in which case it is resumed from the same entry later.
+     */
+    private boolean list(Listing listing) throws IOException {
+        Directory directory = listing.directory;
+        while (!done.get()) {
+            if (listing.pendingFile == null) {
+                if (!listing.entries.hasNext()) {
+                    return true;
+                }
+                Path entry = listing.entries.next();
+                BasicFileAttributes attributes = readAttributes(entry);
+                if (attributes == null) {
+                    continue;
+                }
+                if (attributes.isDirectory() && directory.depth + 1 < maxDepth) {
+                    Object fileKey = attributes.fileKey();
+                    if (followSymbolicLinks && directory.hasAncestor(entry, fileKey)) {
+                        throw new FileSystemLoopException(entry.toString());
+                    }
+                    enqueue(new Directory(entry, directory.depth + 1, fileKey, directory));
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                listing.pendingFile = new RegularFile(entry, attributes.size());
+            }
+
+            if (!lookahead.tryAcquire()) {
+                return false;
+            }
+            publish(listing.pendingFile);
+            listing.pendingFile = null;
+        }
+        return true;
+    }
+
+    /**
+     * Submits a task if there are directories left to list and files can be published. This is checked both when a permit
+     * is released and when a task stops, so that whichever happens last picks up the remaining work.
+     */
+    private void resumeIfNeeded() {
+        if (!done.get()
+            && lookahead.availablePermits() > 0
+            && (!suspendedListings.isEmpty() || !directories.isEmpty())) {
+            startTaskIfNeeded();
+        }
+    }
+
+    /**
+     * Reads the attributes of an entry, following symbolic links if configured to. Returns null for a broken symbolic link,
+     * which is skipped like {@link Files#isRegularFile} would.
+     */
+    private BasicFileAttributes readAttributes(Path entry) throws IOException {
+        try {
+            return Files.readAttributes(entry, BasicFileAttributes.class, linkOptions);
+        } catch (IOException e) {
+            if (!followSymbolicLinks) {
+                throw e;
+            }
+            Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            return null;
+        }
+    }
+
+    /**
+     * Publishes a file, for which a permit of the lookahead was acquired. The permit is released once the file is delivered
+     * to the subscriber.
+     */
+    private void publish(RegularFile file) {
+        publisher.send(file).whenComplete((r, t) -> {
+            lookahead.release();
+            if (t != null) {
+                // The subscriber cancelled its subscription.
+                done.set(true);
+                closeSuspendedListings();
+            } else {
+                resumeIfNeeded();
+            }
+        });
+    }
+
+    private void complete() {
+        if (done.compareAndSet(false, true)) {
+            publisher.complete();
+        }
+    }
+
+    private void fail(Throwable t) {
+        if (done.compareAndSet(false, true)) {
+            publisher.error(SdkClientException.create("Failed to list files within the provided directory: " + root, t));
+            closeSuspendedListings();
+        }
+    }
+
+    private void closeSuspendedListings() {
+        Listing listing;
+        while ((listing = suspendedListings.pollFirst()) != null) {
+            listing.closeQuietly();
+        }
+    }
+
+    /**
+     * A regular file found within the directory, with its size at the time it was found.
+     */
+    public static final class RegularFile {
+        private final Path path;
+        private final long size;
+
+        private RegularFile(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        public Path path() {
+            return path;
+        }
+
+        public long size() {
+            return size;
+        }
+    }
+
+    private static final class Directory {
+        private final Path path;
+        private final int depth;
+        private final Object fileKey;
+        private final Directory parent;
+
+        private Directory(Path path, int depth, Object fileKey, Directory parent) {
+            this.path = path;
+            this.depth = depth;
+            this.fileKey = fileKey;
+            this.parent = parent;
+        }
+
+        private boolean hasAncestor(Path path, Object fileKey) throws IOException {
+            for (Directory ancestor = this; ancestor != null; ancestor = ancestor.parent) {
+                if (fileKey != null && ancestor.fileKey != null) {
+                    if (fileKey.equals(ancestor.fileKey)) {
+                        return true;
+                    }
+                } else if (Files.isSameFile(path, ancestor.path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The open listing of a directory, which a task can leave to be resumed by another one.
+     */
+    private static final class Listing {
+        private final Directory directory;
+        private final DirectoryStream<Path> stream;
+        private final Iterator<Path> entries;
+        private RegularFile pendingFile;
+
+        private Listing(Directory directory) throws IOException {
+            this.directory = directory;
+            this.stream = Files.newDirectoryStream(directory.path);
+            this.entries = stream.iterator();
+        }
+
+        private void close() throws IOException {
+            stream.close();
+        }
+
+        private void closeQuietly() {
+            IoUtils.closeQuietly(stream, log.logger());
+        }
+    }
+
+    public static final class Builder {
+        private Path root;
+        private int maxDepth = Integer.MAX_VALUE;
+        private boolean followSymbolicLinks;
+        private int parallelism = 1;
+        private int maxLookahead = 1;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The directory whose files are published.
+         */
+        public Builder root(Path root) {
+            this.root = root;
+            return this;
+        }
+
+        /**
+         * The maximum number of directory levels to visit. 1 means only the files directly within the root are published.
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public Builder followSymbolicLinks(boolean followSymbolicLinks) {
+            this.followSymbolicLinks = followSymbolicLinks;
+            return this;
+        }
+
+        /**
+         * The maximum number of directories listed at the same time.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * The maximum number of files found but not yet delivered to the subscriber.
+         */
+        public Builder maxLookahead(int maxLookahead) {
+            this.maxLookahead = maxLookahead;
+            return this;
+        }
+
+        /**
+         * The executor the directories are listed on.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public FileTreePublisher build() {
+            return new FileTreePublisher(this);
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
 import java.util.concurrent.CompletableFuture;
@@ -65,6 +66,7 @@ import software.amazon.awssdk.transfer.s3.model.DownloadRequest;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.model.Upload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
@@ -92,11 +94,12 @@ class GenericS3TransferManager implements S3TransferManager {
                              boolean isDefaultS3AsyncClient) {
         this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = transferConfiguration;
-        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
+        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile, this::uploadSmallFile);
         ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
-                                                              this::downloadFile);
+                                                              this::downloadFile,
+                                                              this::downloadSmallFile);
         this.isDefaultS3AsyncClient = isDefaultS3AsyncClient;
     }
 
@@ -156,15 +159,49 @@ class GenericS3TransferManager implements S3TransferManager {
                                 .chunkSizeInBytes(DEFAULT_FILE_UPLOAD_CHUNK_SIZE)
                                 .build();
 
+        return doUploadFile(uploadFileRequest, requestBody, false);
+    }
+
+    /**
+     * Upload a file of a directory whose size is at most the small object threshold. The file is read into a single buffer
+     * of its size, and the progress of the upload is only updated once it completes.
+     */
+    private FileUpload uploadSmallFile(UploadFileRequest uploadFileRequest) {
+        if (hasTransferListeners(uploadFileRequest)) {
+            return uploadFile(uploadFileRequest);
+        }
+
+        AsyncRequestBody requestBody =
+            FileAsyncRequestBody.builder()
+                                .path(uploadFileRequest.source())
+                                .chunkSizeInBytes(transferConfiguration.option(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD))
+                                .build();
+
+        return doUploadFile(uploadFileRequest, requestBody, true);
+    }
+
+    /**
+     * @param aggregateProgress If true, the progress of the upload is updated once it completes instead of as the body is
+     * sent, and transfer listeners are not invoked.
+     */
+    private FileUpload doUploadFile(UploadFileRequest uploadFileRequest,
+                                    AsyncRequestBody requestBody,
+                                    boolean aggregateProgress) {
         PutObjectRequest putObjectRequest = uploadFileRequest.putObjectRequest();
 
         CompletableFuture<CompletedFileUpload> returnFuture = new CompletableFuture<>();
 
-        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest,
-                                                                              requestBody.contentLength().orElse(null));
-        progressUpdater.transferInitiated();
-        requestBody = progressUpdater.wrapRequestBody(requestBody);
-        progressUpdater.registerCompletion(returnFuture);
+        Long contentLength = requestBody.contentLength().orElse(null);
+        TransferProgress progress;
+        if (aggregateProgress) {
+            progress = TransferProgressUpdater.aggregatedProgress(returnFuture, contentLength);
+        } else {
+            TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest, contentLength);
+            progressUpdater.transferInitiated();
+            requestBody = progressUpdater.wrapRequestBody(requestBody);
+            progressUpdater.registerCompletion(returnFuture);
+            progress = progressUpdater.progress();
+        }
 
         try {
             assertNotUnsupportedArn(putObjectRequest.bucket(), "upload");
@@ -183,7 +220,7 @@ class GenericS3TransferManager implements S3TransferManager {
             returnFuture.completeExceptionally(throwable);
         }
 
-        return new DefaultFileUpload(returnFuture, progressUpdater.progress(), uploadFileRequest);
+        return new DefaultFileUpload(returnFuture, progress, uploadFileRequest);
     }
 
     @Override
@@ -242,20 +279,54 @@ class GenericS3TransferManager implements S3TransferManager {
                                             FileTransformerConfiguration.defaultCreateOrReplaceExisting());
 
         CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
-        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture);
+        TransferProgress progress = doDownloadFile(downloadRequest, responseTransformer, returnFuture, false);
 
-        return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null);
+        return new DefaultFileDownload(returnFuture, progress, () -> downloadRequest, null);
     }
 
-    private TransferProgressUpdater doDownloadFile(
+    /**
+     * Download an object of a directory whose listed size is at most the small object threshold. The object is read into
+     * memory and written to its file at once if the Content-Length of the response is still at most the threshold, and the
+     * progress of the download is only updated once it completes.
+     */
+    private FileDownload downloadSmallFile(DownloadFileRequest downloadRequest) {
+        if (hasTransferListeners(downloadRequest)) {
+            return downloadFile(downloadRequest);
+        }
+
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
+            new SmallObjectFileTransformer(downloadRequest.destination(),
+                                           transferConfiguration.option(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD),
+                                           transferConfiguration.option(TransferConfigurationOption.EXECUTOR));
+
+        CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
+        TransferProgress progress = doDownloadFile(downloadRequest, responseTransformer, returnFuture, true);
+
+        return new DefaultFileDownload(returnFuture, progress, () -> downloadRequest, null);
+    }
+
+    private static boolean hasTransferListeners(TransferObjectRequest request) {
+        return request.transferListeners() != null && !request.transferListeners().isEmpty();
+    }
+
+    /**
+     * @param aggregateProgress If true, the progress of the download is updated once it completes instead of as the body is
+     * received, and transfer listeners are not invoked.
+     */
+    private TransferProgress doDownloadFile(
         DownloadFileRequest downloadRequest,
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer,
-        CompletableFuture<CompletedFileDownload> returnFuture) {
-        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
+        CompletableFuture<CompletedFileDownload> returnFuture,
+        boolean aggregateProgress) {
+        TransferProgressUpdater progressUpdater = aggregateProgress ? null : new TransferProgressUpdater(downloadRequest, null);
+        TransferProgress progress = aggregateProgress ? TransferProgressUpdater.aggregatedProgress(returnFuture, null)
+                                                      : progressUpdater.progress();
         try {
-            progressUpdater.transferInitiated();
-            responseTransformer = progressUpdater.wrapResponseTransformer(responseTransformer);
-            progressUpdater.registerCompletion(returnFuture);
+            if (progressUpdater != null) {
+                progressUpdater.transferInitiated();
+                responseTransformer = progressUpdater.wrapResponseTransformer(responseTransformer);
+                progressUpdater.registerCompletion(returnFuture);
+            }
 
             assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
 
@@ -273,7 +344,7 @@ class GenericS3TransferManager implements S3TransferManager {
         } catch (Throwable throwable) {
             returnFuture.completeExceptionally(throwable);
         }
-        return progressUpdater;
+        return progress;
     }
 
     @Override
@@ -300,10 +371,11 @@ class GenericS3TransferManager implements S3TransferManager {
             newDownloadFileRequestFuture.complete(newDownloadFileRequest);
             log.debug(() -> "Sending downloadFileRequest " + newDownloadFileRequest);
 
-            TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
-                                                                     requestPair.right(),
-                                                                     returnFuture);
-            progressFuture.complete(progressUpdater.progress());
+            TransferProgress progress = doDownloadFile(newDownloadFileRequest,
+                                                       requestPair.right(),
+                                                       returnFuture,
+                                                       false);
+            progressFuture.complete(progress);
         }).exceptionally(throwable -> {
             handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
             return null;
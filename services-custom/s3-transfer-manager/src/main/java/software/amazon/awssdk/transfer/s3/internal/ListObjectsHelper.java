@@ -55,6 +55,16 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns all objects within a bucket given a {@link ListObjectsV2Request} like {@link #listS3ObjectsRecursively}, but
+     * lists up to {@code maxConcurrentPartitions} partitions of the keyspace, split by common prefix, at the same time. Objects
+     * are not returned in the order of their keys.
+     */
+    public SdkPublisher<S3Object> listS3ObjectsInPartitions(ListObjectsV2Request firstRequest, int maxConcurrentPartitions) {
+        return new PartitionedListObjectsPublisher(this, listObjectsFunction, objectsIteratorFunction, firstRequest,
+                                                   maxConcurrentPartitions);
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
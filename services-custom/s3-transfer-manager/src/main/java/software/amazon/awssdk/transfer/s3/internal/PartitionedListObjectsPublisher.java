@@ -0,0 +1,243 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.util.PaginatorUtils;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Publishes all objects within a bucket given a {@link ListObjectsV2Request}, listing partitions of the keyspace concurrently.
+ * <p>
+ * The keyspace is partitioned by the common prefixes found by listing the prefix of the request with a delimiter, which is the
+ * delimiter of the request or {@code "/"}. Up to {@code maxConcurrentPartitions} partitions are then listed at the same time,
+ * each by a {@link ListObjectsHelper#listS3ObjectsRecursively} publisher. Each partition lists ahead of the demand of the
+ * subscriber by at most a page of objects. Unlike a single listing, objects are not published in the order of their keys.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class PartitionedListObjectsPublisher implements SdkPublisher<S3Object> {
+    private static final String DEFAULT_DELIMITER = "/";
+    private static final int PARTITION_LOOKAHEAD = 1_000;
+
+    private final ListObjectsHelper listObjectsHelper;
+    private final Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction;
+    private final Function<ListObjectsV2Response, Iterator<S3Object>> objectsIteratorFunction;
+    private final ListObjectsV2Request firstRequest;
+    private final int maxConcurrentPartitions;
+    private final SimplePublisher<S3Object> publisher = new SimplePublisher<>();
+    private final Set<PartitionSubscriber> activeSubscribers = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this
+    private final Deque<String> pendingPartitions = new ArrayDeque<>();
+    private int activePartitions;
+    private boolean discoveryDone;
+    private boolean subscribed;
+    private boolean done;
+
+    PartitionedListObjectsPublisher(ListObjectsHelper listObjectsHelper,
+                                    Function<ListObjectsV2Request, CompletableFuture<ListObjectsV2Response>> listObjectsFunction,
+                                    Function<ListObjectsV2Response, Iterator<S3Object>> objectsIteratorFunction,
+                                    ListObjectsV2Request firstRequest,
+                                    int maxConcurrentPartitions) {
+        this.listObjectsHelper = listObjectsHelper;
+        this.listObjectsFunction = listObjectsFunction;
+        this.objectsIteratorFunction = objectsIteratorFunction;
+        this.firstRequest = firstRequest;
+        this.maxConcurrentPartitions = maxConcurrentPartitions;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super S3Object> subscriber) {
+        publisher.subscribe(subscriber);
+        synchronized (this) {
+            if (subscribed) {
+                return;
+            }
+            subscribed = true;
+        }
+        String delimiter = firstRequest.delimiter() == null ? DEFAULT_DELIMITER : firstRequest.delimiter();
+        discoverPartitions(firstRequest.toBuilder().delimiter(delimiter).build());
+    }
+
+    /**
+     * Lists the objects directly within the prefix of the request, which are published, and its common prefixes, which are
+     * the partitions. The next page is only fetched once the objects of the page are delivered to the subscriber.
+     */
+    private void discoverPartitions(ListObjectsV2Request request) {
+        CompletableFuture<ListObjectsV2Response> response;
+        try {
+            response = listObjectsFunction.apply(request);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+        response.whenComplete((page, t) -> {
+            if (t != null) {
+                fail(t);
+                return;
+            }
+            synchronized (this) {
+                for (CommonPrefix commonPrefix : page.commonPrefixes()) {
+                    pendingPartitions.addLast(commonPrefix.prefix());
+                }
+            }
+            startPartitions();
+
+            List<CompletableFuture<Void>> sent = new ArrayList<>();
+            objectsIteratorFunction.apply(page).forEachRemaining(object -> sent.add(publisher.send(object)));
+            CompletableFuture.allOf(sent.toArray(new CompletableFuture[0])).whenComplete((r, e) -> {
+                if (e != null) {
+                    cancel();
+                } else if (PaginatorUtils.isOutputTokenAvailable(page.nextContinuationToken())) {
+                    discoverPartitions(request.toBuilder().continuationToken(page.nextContinuationToken()).build());
+                } else {
+                    synchronized (this) {
+                        discoveryDone = true;
+                    }
+                    completeIfDone();
+                }
+            });
+        });
+    }
+
+    private void startPartitions() {
+        while (true) {
+            String prefix;
+            synchronized (this) {
+                if (done || activePartitions >= maxConcurrentPartitions || pendingPartitions.isEmpty()) {
+                    return;
+                }
+                prefix = pendingPartitions.pollFirst();
+                activePartitions++;
+            }
+            listObjectsHelper.listS3ObjectsRecursively(firstRequest.toBuilder().prefix(prefix).build())
+                             .subscribe(new PartitionSubscriber());
+        }
+    }
+
+    private void partitionCompleted(PartitionSubscriber subscriber) {
+        activeSubscribers.remove(subscriber);
+        synchronized (this) {
+            activePartitions--;
+        }
+        startPartitions();
+        completeIfDone();
+    }
+
+    private void completeIfDone() {
+        synchronized (this) {
+            if (done || !discoveryDone || activePartitions > 0 || !pendingPartitions.isEmpty()) {
+                return;
+            }
+            done = true;
+        }
+        publisher.complete();
+    }
+
+    private void fail(Throwable t) {
+        if (markDone()) {
+            publisher.error(t);
+            activeSubscribers.forEach(PartitionSubscriber::cancel);
+        }
+    }
+
+    /**
+     * Stops listing once the subscriber cancels its subscription.
+     */
+    private void cancel() {
+        if (markDone()) {
+            activeSubscribers.forEach(PartitionSubscriber::cancel);
+        }
+    }
+
+    private synchronized boolean markDone() {
+        if (done) {
+            return false;
+        }
+        done = true;
+        return true;
+    }
+
+    private synchronized boolean isDone() {
+        return done;
+    }
+
+    private final class PartitionSubscriber implements Subscriber<S3Object> {
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            synchronized (this) {
+                this.subscription = subscription;
+            }
+            activeSubscribers.add(this);
+            if (isDone()) {
+                cancel();
+                return;
+            }
+            request(PARTITION_LOOKAHEAD);
+        }
+
+        @Override
+        public void onNext(S3Object object) {
+            publisher.send(object).whenComplete((r, t) -> {
+                if (t != null) {
+                    PartitionedListObjectsPublisher.this.cancel();
+                } else {
+                    request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            activeSubscribers.remove(this);
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            partitionCompleted(this);
+        }
+
+        private synchronized void request(long n) {
+            subscription.request(n);
+        }
+
+        private synchronized void cancel() {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Writes the body of an object to a file, reading it into memory and writing it at once if its Content-Length is at most
+ * {@code maxInMemorySizeInBytes}. Other bodies, e.g. of an object that grew since it was listed, or whose length is unknown, are
+ * streamed to the file like {@link AsyncResponseTransformer#toFile(Path, FileTransformerConfiguration)} does.
+ * <p>
+ * The body is read on the thread of the HTTP client, so the file is written on the provided executor instead, to not stall the
+ * other connections of the client while the file system is slow to respond.
+ */
+@SdkInternalApi
+public final class SmallObjectFileTransformer implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+    private final Path destination;
+    private final long maxInMemorySizeInBytes;
+    private final Executor executor;
+    private volatile CompletableFuture<GetObjectResponse> future;
+    private volatile AsyncResponseTransformer<GetObjectResponse, ?> delegate;
+
+    public SmallObjectFileTransformer(Path destination, long maxInMemorySizeInBytes, Executor executor) {
+        this.destination = destination;
+        this.maxInMemorySizeInBytes = maxInMemorySizeInBytes;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<GetObjectResponse> prepare() {
+        future = new CompletableFuture<>();
+        delegate = null;
+        return future;
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        Long contentLength = response.contentLength();
+        if (contentLength != null && contentLength <= maxInMemorySizeInBytes) {
+            AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> toBytes =
+                AsyncResponseTransformer.toBytes();
+            toBytes.prepare().whenComplete((responseBytes, t) -> {
+                if (t != null) {
+                    future.completeExceptionally(t);
+                } else {
+                    try {
+                        executor.execute(() -> write(responseBytes));
+                    } catch (RejectedExecutionException e) {
+                        future.completeExceptionally(SdkClientException.create("Failed to write to " + destination, e));
+                    }
+                }
+            });
+            delegate = toBytes;
+        } else {
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> toFile =
+                AsyncResponseTransformer.toFile(destination, FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+            CompletableFutureUtils.forwardResultTo(toFile.prepare(), future);
+            delegate = toFile;
+        }
+        delegate.onResponse(response);
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        delegate.onStream(publisher);
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        AsyncResponseTransformer<GetObjectResponse, ?> currentDelegate = delegate;
+        if (currentDelegate != null) {
+            currentDelegate.exceptionOccurred(error);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private void write(ResponseBytes<GetObjectResponse> responseBytes) {
+        try {
+            Files.write(destination, responseBytes.asByteArrayUnsafe());
+            future.complete(responseBytes.response());
+        } catch (IOException e) {
+            future.completeExceptionally(SdkClientException.create("Failed to write to " + destination, e));
+        }
+    }
+}
@@ -32,19 +32,36 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Boolean> UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS =
         new TransferConfigurationOption<>("UploadDirectoryFileVisitOption", Boolean.class);
 
+    public static final TransferConfigurationOption<Integer> UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM =
+        new TransferConfigurationOption<>("UploadDirectoryTraversalParallelism", Integer.class);
+
+    public static final TransferConfigurationOption<Integer> DOWNLOAD_DIRECTORY_LISTING_PARALLELISM =
+        new TransferConfigurationOption<>("DownloadDirectoryListingParallelism", Integer.class);
+
+    public static final TransferConfigurationOption<Integer> DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD =
+        new TransferConfigurationOption<>("DirectoryTransferSmallObjectThreshold", Integer.class);
+
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY = 100;
+    public static final int DEFAULT_UPLOAD_DIRECTORY_MAX_CONCURRENCY = 100;
+    public static final int DEFAULT_UPLOAD_DIRECTORY_MAX_LOOKAHEAD = 1_000;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
+    private static final int DEFAULT_UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM = 4;
+    private static final int DEFAULT_DOWNLOAD_DIRECTORY_LISTING_PARALLELISM = 1;
+    private static final int DEFAULT_DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD = 64 * 1024;
 
     public static final AttributeMap TRANSFER_MANAGER_DEFAULTS = AttributeMap
         .builder()
         .put(UPLOAD_DIRECTORY_MAX_DEPTH, DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH)
         .put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, false)
+        .put(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM, DEFAULT_UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM)
+        .put(DOWNLOAD_DIRECTORY_LISTING_PARALLELISM, DEFAULT_DOWNLOAD_DIRECTORY_LISTING_PARALLELISM)
+        .put(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD, DEFAULT_DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD)
         .build();
 
     private final String name;
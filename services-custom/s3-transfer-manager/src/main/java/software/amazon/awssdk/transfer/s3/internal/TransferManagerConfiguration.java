@@ -15,9 +15,12 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_DIRECTORY_LISTING_PARALLELISM;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -42,6 +45,9 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         AttributeMap.Builder standardOptions = AttributeMap.builder();
         standardOptions.put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, builder.uploadDirectoryFollowSymbolicLinks);
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
+        standardOptions.put(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM, builder.uploadDirectoryTraversalParallelism);
+        standardOptions.put(DOWNLOAD_DIRECTORY_LISTING_PARALLELISM, builder.downloadDirectoryListingParallelism);
+        standardOptions.put(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD, builder.directoryTransferSmallObjectThresholdInBytes);
         finalizeExecutor(builder, standardOptions);
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
@@ -79,7 +85,9 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
 
     private Executor defaultExecutor() {
         int maxPoolSize = 100;
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, maxPoolSize,
+        // With a bounded queue, threads beyond the core pool size are only created once the queue is full, so all threads are
+        // core threads: tasks such as parallel directory listings run in parallel rather than queue behind each other.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxPoolSize, maxPoolSize,
                                                              60, TimeUnit.SECONDS,
                                                              new LinkedBlockingQueue<>(1_000),
                                                              new ThreadFactoryBuilder()
@@ -97,6 +105,9 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
 
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private Integer uploadDirectoryTraversalParallelism;
+        private Integer downloadDirectoryListingParallelism;
+        private Integer directoryTransferSmallObjectThresholdInBytes;
         private Executor executor;
 
 
@@ -110,6 +121,21 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            this.uploadDirectoryTraversalParallelism = uploadDirectoryTraversalParallelism;
+            return this;
+        }
+
+        public Builder downloadDirectoryListingParallelism(Integer downloadDirectoryListingParallelism) {
+            this.downloadDirectoryListingParallelism = downloadDirectoryListingParallelism;
+            return this;
+        }
+
+        public Builder directoryTransferSmallObjectThresholdInBytes(Integer directoryTransferSmallObjectThresholdInBytes) {
+            this.directoryTransferSmallObjectThresholdInBytes = directoryTransferSmallObjectThresholdInBytes;
+            return this;
+        }
+
         public Builder executor(Executor executor) {
             this.executor = executor;
             return this;
@@ -84,6 +84,10 @@ public final class TransferManagerFactory {
         TransferManagerConfiguration.Builder transferConfigBuilder = TransferManagerConfiguration.builder();
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
+        transferConfigBuilder.uploadDirectoryTraversalParallelism(tmBuilder.uploadDirectoryTraversalParallelism);
+        transferConfigBuilder.downloadDirectoryListingParallelism(tmBuilder.downloadDirectoryListingParallelism);
+        transferConfigBuilder.directoryTransferSmallObjectThresholdInBytes(
+            tmBuilder.directoryTransferSmallObjectThresholdInBytes);
         transferConfigBuilder.executor(tmBuilder.executor);
         return transferConfigBuilder.build();
     }
@@ -93,6 +97,9 @@ public final class TransferManagerFactory {
         private Executor executor;
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private Integer uploadDirectoryTraversalParallelism;
+        private Integer downloadDirectoryListingParallelism;
+        private Integer directoryTransferSmallObjectThresholdInBytes;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -134,6 +141,48 @@ public final class TransferManagerFactory {
             return uploadDirectoryMaxDepth;
         }
 
+        @Override
+        public DefaultBuilder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            this.uploadDirectoryTraversalParallelism = uploadDirectoryTraversalParallelism;
+            return this;
+        }
+
+        public void setUploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            uploadDirectoryTraversalParallelism(uploadDirectoryTraversalParallelism);
+        }
+
+        public Integer getUploadDirectoryTraversalParallelism() {
+            return uploadDirectoryTraversalParallelism;
+        }
+
+        @Override
+        public DefaultBuilder downloadDirectoryListingParallelism(Integer downloadDirectoryListingParallelism) {
+            this.downloadDirectoryListingParallelism = downloadDirectoryListingParallelism;
+            return this;
+        }
+
+        public void setDownloadDirectoryListingParallelism(Integer downloadDirectoryListingParallelism) {
+            downloadDirectoryListingParallelism(downloadDirectoryListingParallelism);
+        }
+
+        public Integer getDownloadDirectoryListingParallelism() {
+            return downloadDirectoryListingParallelism;
+        }
+
+        @Override
+        public DefaultBuilder directoryTransferSmallObjectThresholdInBytes(Integer directoryTransferSmallObjectThresholdInBytes) {
+            this.directoryTransferSmallObjectThresholdInBytes = directoryTransferSmallObjectThresholdInBytes;
+            return this;
+        }
+
+        public void setDirectoryTransferSmallObjectThresholdInBytes(Integer directoryTransferSmallObjectThresholdInBytes) {
+            directoryTransferSmallObjectThresholdInBytes(directoryTransferSmallObjectThresholdInBytes);
+        }
+
+        public Integer getDirectoryTransferSmallObjectThresholdInBytes() {
+            return directoryTransferSmallObjectThresholdInBytes;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
@@ -17,22 +17,20 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_UPLOAD_DIRECTORY_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_UPLOAD_DIRECTORY_MAX_LOOKAHEAD;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM;
 
-import java.io.IOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
@@ -50,7 +48,7 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * An internal helper class that traverses the file tree and send the upload request
- * for each file.
+ * for each file. Files are uploaded as they are found, with a bounded number of uploads in flight.
  */
 @SdkInternalApi
 public class UploadDirectoryHelper {
@@ -58,12 +56,24 @@ public class UploadDirectoryHelper {
 
     private final TransferManagerConfiguration transferConfiguration;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
+    private final Function<UploadFileRequest, FileUpload> smallFileUploadFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
+        this(transferConfiguration, uploadFunction, uploadFunction);
+    }
+
+    /**
+     * @param smallFileUploadFunction The function uploading files whose size is at most
+     * {@link TransferConfigurationOption#DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD}
+     */
+    public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 Function<UploadFileRequest, FileUpload> uploadFunction,
+                                 Function<UploadFileRequest, FileUpload> smallFileUploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
         this.uploadFunction = uploadFunction;
+        this.smallFileUploadFunction = smallFileUploadFunction;
     }
 
     public DirectoryUpload uploadDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -90,23 +100,29 @@ public class UploadDirectoryHelper {
         validateDirectory(uploadDirectoryRequest);
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
-        List<CompletableFuture<CompletedFileUpload>> futures;
+        CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        try (Stream<Path> entries = listFiles(directory, uploadDirectoryRequest)) {
-            futures = entries.map(path -> {
+        AsyncBufferingSubscriber<FileTreePublisher.RegularFile> bufferingSubscriber =
+            new AsyncBufferingSubscriber<>(file -> {
                 CompletableFuture<CompletedFileUpload> future = uploadSingleFile(uploadDirectoryRequest,
-                                                                                 failedFileUploads, path);
+                                                                                 failedFileUploads, file);
 
                 // Forward cancellation of the return future to all individual futures.
                 CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
                 return future;
-            }).collect(Collectors.toList());
-        }
+            }, allOfFutures, DEFAULT_UPLOAD_DIRECTORY_MAX_CONCURRENCY);
+
+        listFiles(directory, uploadDirectoryRequest).subscribe(bufferingSubscriber);
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                         .whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                                                               .failedTransfers(failedFileUploads)
-                                                                                               .build()));
+        allOfFutures.whenComplete((r, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(t);
+            } else {
+                returnFuture.complete(CompletedDirectoryUpload.builder()
+                                                              .failedTransfers(failedFileUploads)
+                                                              .build());
+            }
+        });
     }
 
     private void validateDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -125,11 +141,13 @@ public class UploadDirectoryHelper {
 
     private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
                                                                     Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
+                                                                    FileTreePublisher.RegularFile file) {
+        Path path = file.path();
         int nameCount = uploadDirectoryRequest.source().getNameCount();
         UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
-        CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
+        Function<UploadFileRequest, FileUpload> function = isSmallFile(file) ? smallFileUploadFunction : uploadFunction;
+        CompletableFuture<CompletedFileUpload> executionFuture = function.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
             if (t != null) {
                 failedFileUploads.add(FailedFileUpload.builder()
@@ -142,31 +160,23 @@ public class UploadDirectoryHelper {
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
-
-        try {
-            boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
-            int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
-
-            if (followSymbolicLinks) {
-                return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
-            }
-
-            return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
-
-        } catch (IOException e) {
-            throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
+    private boolean isSmallFile(FileTreePublisher.RegularFile file) {
+        if (smallFileUploadFunction == uploadFunction) {
+            return false;
         }
+        int threshold = transferConfiguration.option(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD);
+        return threshold > 0 && file.size() <= threshold;
     }
 
-    private boolean isRegularFile(Path path, boolean followSymlinks) {
-        if (followSymlinks) {
-            return Files.isRegularFile(path);
-        }
-
-        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS);
+    private FileTreePublisher listFiles(Path directory, UploadDirectoryRequest request) {
+        return FileTreePublisher.builder()
+                                .root(directory)
+                                .maxDepth(transferConfiguration.resolveUploadDirectoryMaxDepth(request))
+                                .followSymbolicLinks(transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request))
+                                .parallelism(transferConfiguration.option(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM))
+                                .maxLookahead(DEFAULT_UPLOAD_DIRECTORY_MAX_LOOKAHEAD)
+                                .executor(transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                                .build();
     }
 
     /**
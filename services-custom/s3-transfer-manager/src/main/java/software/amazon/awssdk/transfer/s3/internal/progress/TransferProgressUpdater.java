@@ -64,6 +64,34 @@ public class TransferProgressUpdater {
         endOfStreamFuture = new CompletableFuture<>();
     }
 
+    /**
+     * Create the progress of a transfer that has no {@link TransferListener}s, whose bytes are accounted for all at once when
+     * the transfer completes rather than as each buffer is sent or received. This avoids the per-buffer bookkeeping of a
+     * {@link TransferProgressUpdater} for small objects, whose content is transferred in a single buffer anyway.
+     *
+     * @param future The future of the transfer
+     * @param contentLength The length of the object if it is known up front, or null to use the content length of the response
+     */
+    public static TransferProgress aggregatedProgress(CompletableFuture<? extends CompletedObjectTransfer> future,
+                                                      Long contentLength) {
+        DefaultTransferProgressSnapshot.Builder snapshotBuilder = DefaultTransferProgressSnapshot.builder();
+        snapshotBuilder.transferredBytes(0L);
+        Optional.ofNullable(contentLength).ifPresent(snapshotBuilder::totalBytes);
+        DefaultTransferProgress progress = new DefaultTransferProgress(snapshotBuilder.build());
+
+        future.thenAccept(r -> progress.updateAndGet(b -> {
+            Long transferredBytes = contentLength;
+            if (transferredBytes == null && r.response() instanceof GetObjectResponse) {
+                transferredBytes = ((GetObjectResponse) r.response()).contentLength();
+            }
+            if (transferredBytes != null) {
+                b.totalBytes(transferredBytes).transferredBytes(transferredBytes);
+            }
+            b.sdkResponse(r.response());
+        }));
+        return progress;
+    }
+
     public TransferProgress progress() {
         return progress;
     }
@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +28,7 @@ import static software.amazon.awssdk.transfer.s3.util.S3ApiCallMockUtils.stubSuc
 
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
@@ -49,11 +52,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.EncodingType;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileDownload;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgressSnapshot;
@@ -124,6 +129,65 @@ public class DownloadDirectoryHelperTest {
             "key2"));
     }
 
+    @Test
+    void downloadDirectory_listingParallelismConfigured_shouldListObjectsInPartitions() throws Exception {
+        downloadDirectoryHelper = new DownloadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                          .downloadDirectoryListingParallelism(4)
+                                                                                          .build(),
+                                                              listObjectsHelper,
+                                                              singleDownloadFunction);
+        when(listObjectsHelper.listS3ObjectsInPartitions(any(ListObjectsV2Request.class), eq(4)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(S3Object.builder().key("key1").build())));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .build())
+                                   .completionFuture()
+                                   .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        verify(singleDownloadFunction, times(1)).apply(any(DownloadFileRequest.class));
+        verify(listObjectsHelper, never()).listS3ObjectsRecursively(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void downloadDirectory_smallObjects_shouldUseSmallObjectDownloadFunction() throws Exception {
+        Function<DownloadFileRequest, FileDownload> smallObjectDownloadFunction = mock(Function.class);
+        TransferManagerConfiguration configuration =
+            TransferManagerConfiguration.builder().directoryTransferSmallObjectThresholdInBytes(1024).build();
+        downloadDirectoryHelper = new DownloadDirectoryHelper(configuration,
+                                                              listObjectsHelper,
+                                                              singleDownloadFunction,
+                                                              smallObjectDownloadFunction);
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.adapt(Flowable.just(S3Object.builder().key("small").size(1024L).build(),
+                                                         S3Object.builder().key("large").size(1025L).build(),
+                                                         S3Object.builder().key("unknown").build())));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+        when(smallObjectDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(completedDownload());
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .build())
+                                   .completionFuture()
+                                   .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+
+        ArgumentCaptor<DownloadFileRequest> smallObjectRequests = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(smallObjectDownloadFunction).apply(smallObjectRequests.capture());
+        assertThat(smallObjectRequests.getValue().getObjectRequest().key()).isEqualTo("small");
+
+        ArgumentCaptor<DownloadFileRequest> requests = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction, times(2)).apply(requests.capture());
+        assertThat(requests.getAllValues()).extracting(r -> r.getObjectRequest().key()).containsExactly("large", "unknown");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"/blah",
                             "../blah/object.dat",
@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.testutils.FileUtils;
+
+class FileTreePublisherTest {
+    private FileSystem jimfs;
+    private ExecutorService executor;
+    private Path root;
+    private List<Path> allFiles;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        jimfs = Jimfs.newFileSystem(Configuration.unix());
+        executor = Executors.newFixedThreadPool(4);
+        root = jimfs.getPath("root");
+        allFiles = new ArrayList<>();
+        createTree(root, 3);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        executor.shutdownNow();
+        jimfs.close();
+    }
+
+    @Test
+    void publishesAllFilesOfTree() {
+        List<FileTreePublisher.RegularFile> files =
+            Flowable.fromPublisher(publisher(root).parallelism(4).build()).toList().blockingGet();
+
+        assertThat(files).extracting(FileTreePublisher.RegularFile::path).containsExactlyInAnyOrderElementsOf(allFiles);
+        assertThat(files).allSatisfy(file -> assertThat(file.size()).isEqualTo(1));
+    }
+
+    @Test
+    void maxDepth_onlyPublishesFilesWithinDepth() {
+        List<FileTreePublisher.RegularFile> files =
+            Flowable.fromPublisher(publisher(root).maxDepth(1).build()).toList().blockingGet();
+
+        assertThat(files).extracting(FileTreePublisher.RegularFile::path).containsExactlyInAnyOrder(root.resolve("0.txt"), root.resolve("1.txt"));
+        assertThat(Flowable.fromPublisher(publisher(root).maxDepth(0).build()).toList().blockingGet()).isEmpty();
+    }
+
+    @Test
+    void noDemand_waitsForDemandBeforePublishingMoreFiles() throws Exception {
+        TestSubscriber<FileTreePublisher.RegularFile> subscriber = new TestSubscriber<>(2);
+
+        publisher(root).parallelism(4).maxLookahead(3).build().subscribe(subscriber);
+
+        subscriber.awaitCount(2);
+        Thread.sleep(100);
+        subscriber.assertValueCount(2).assertNotComplete();
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        subscriber.await(5, TimeUnit.SECONDS);
+        subscriber.assertComplete();
+        assertThat(subscriber.values()).extracting(FileTreePublisher.RegularFile::path)
+                                       .containsExactlyInAnyOrderElementsOf(allFiles);
+    }
+
+    @Test
+    void noDemand_doesNotHoldExecutorThreads() throws Exception {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        try {
+            TestSubscriber<FileTreePublisher.RegularFile> subscriber = new TestSubscriber<>(1);
+
+            publisher(root).executor(singleThreadExecutor).parallelism(4).maxLookahead(1).build().subscribe(subscriber);
+
+            subscriber.awaitCount(1);
+            assertThat(singleThreadExecutor.submit(() -> "other work").get(5, TimeUnit.SECONDS)).isEqualTo("other work");
+            subscriber.assertValueCount(1).assertNotComplete();
+
+            subscriber.requestMore(Long.MAX_VALUE);
+            subscriber.await(5, TimeUnit.SECONDS);
+            subscriber.assertComplete();
+            assertThat(subscriber.values()).extracting(FileTreePublisher.RegularFile::path)
+                                           .containsExactlyInAnyOrderElementsOf(allFiles);
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void directoryDoesNotExist_fails() {
+        Path missing = jimfs.getPath("missing");
+
+        assertThatThrownBy(() -> Flowable.fromPublisher(publisher(missing).build()).toList().blockingGet())
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Failed to list files within the provided directory");
+    }
+
+    @Test
+    void followSymbolicLinks_linkToAncestor_fails() throws IOException {
+        Path directory = Files.createTempDirectory("test");
+        Path link = directory.resolve("child").resolve("loop");
+        try {
+            Files.createDirectory(directory.resolve("child"));
+            Files.createSymbolicLink(link, directory);
+
+            assertThatThrownBy(() -> Flowable.fromPublisher(publisher(directory).followSymbolicLinks(true).build())
+                                             .toList()
+                                             .blockingGet())
+                .isInstanceOf(SdkClientException.class)
+                .hasCauseInstanceOf(FileSystemLoopException.class);
+            assertThat(Flowable.fromPublisher(publisher(directory).build()).toList().blockingGet()).isEmpty();
+        } finally {
+            Files.deleteIfExists(link);
+            FileUtils.cleanUpTestDirectory(directory);
+        }
+    }
+
+    private FileTreePublisher.Builder publisher(Path directory) {
+        return FileTreePublisher.builder()
+                                .root(directory)
+                                .executor(executor)
+                                .maxLookahead(100);
+    }
+
+    private void createTree(Path directory, int levels) throws IOException {
+        Files.createDirectory(directory);
+        for (int i = 0; i < 2; i++) {
+            Path file = directory.resolve(i + ".txt");
+            Files.write(file, new byte[] {(byte) i});
+            allFiles.add(file);
+        }
+        if (levels > 1) {
+            for (int i = 0; i < 3; i++) {
+                createTree(directory.resolve("dir" + i), levels - 1);
+            }
+        }
+    }
+}
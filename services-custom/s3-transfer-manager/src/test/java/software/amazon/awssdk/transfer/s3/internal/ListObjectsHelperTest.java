@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,7 +26,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +40,7 @@ import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 class ListObjectsHelperTest {
     private Function<ListObjectsV2Request,
@@ -127,6 +132,68 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3ObjectsInPartitions_shouldListPartitionsConcurrentlyAndReturnAll() {
+        Map<String, CompletableFuture<ListObjectsV2Response>> partitionResponses = new ConcurrentHashMap<>();
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = i.getArgument(0);
+            if (request.prefix() == null && request.continuationToken() == null) {
+                return CompletableFuture.completedFuture(listObjectsV2Response("nextPage", commonPrefixes("jan/", "feb/"), "1"));
+            }
+            if (request.prefix() == null) {
+                return CompletableFuture.completedFuture(listObjectsV2Response(null, commonPrefixes("mar/"), "2"));
+            }
+            CompletableFuture<ListObjectsV2Response> response = new CompletableFuture<>();
+            partitionResponses.put(request.prefix() + request.continuationToken(), response);
+            return response;
+        });
+
+        ListObjectsV2Request firstRequest = ListObjectsV2Request.builder().bucket("bucket").build();
+        List<S3Object> actualObjects = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> done = listObjectsHelper.listS3ObjectsInPartitions(firstRequest, 2)
+                                                        .subscribe(actualObjects::add);
+
+        assertThat(partitionResponses).containsOnlyKeys("jan/null", "feb/null");
+        partitionResponses.get("jan/null").complete(listObjectsV2Response("nextPage", Collections.emptyList(), "jan/1"));
+        partitionResponses.get("feb/null").complete(listObjectsV2Response("feb/1"));
+        assertThat(partitionResponses).containsOnlyKeys("jan/null", "feb/null", "jan/nextPage", "mar/null");
+        partitionResponses.get("jan/nextPage").complete(listObjectsV2Response("jan/2"));
+        assertThat(done).isNotDone();
+        partitionResponses.get("mar/null").complete(listObjectsV2Response("mar/1"));
+
+        done.join();
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("1", "2", "jan/1", "jan/2", "feb/1", "mar/1");
+
+        ArgumentCaptor<ListObjectsV2Request> argumentCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(listObjectsFunction, times(6)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues().get(0)).isEqualTo(firstRequest.toBuilder().delimiter("/").build());
+        assertThat(argumentCaptor.getAllValues()).filteredOn(r -> r.prefix() != null)
+                                                 .allSatisfy(r -> assertThat(r.delimiter()).isNull());
+    }
+
+    @Test
+    void listS3ObjectsInPartitions_partitionFails_shouldFail() {
+        RuntimeException exception = new RuntimeException("boom");
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class))).thenAnswer(i -> {
+            ListObjectsV2Request request = i.getArgument(0);
+            if (request.prefix() == null) {
+                return CompletableFuture.completedFuture(listObjectsV2Response(null, commonPrefixes("jan/", "feb/"), "1"));
+            }
+            return CompletableFutureUtils.failedFuture(exception);
+        });
+
+        CompletableFuture<Void> done =
+            listObjectsHelper.listS3ObjectsInPartitions(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(o -> { });
+
+        assertThatThrownBy(done::join).hasCause(exception);
+    }
+
+    private static List<CommonPrefix> commonPrefixes(String... prefixes) {
+        return Arrays.stream(prefixes).map(p -> CommonPrefix.builder().prefix(p).build()).collect(Collectors.toList());
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
         return listObjectsV2Response(null, null, keys);
     }
@@ -23,8 +23,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,9 +39,14 @@ import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.testutils.FileUtils;
 import software.amazon.awssdk.transfer.s3.model.CompletedCopy;
+import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
@@ -339,6 +347,42 @@ class S3TransferManagerTest {
             .hasCause(exception);
     }
 
+    @Test
+    void downloadDirectory_smallObjects_shouldWriteObjectsToTheirFiles() throws Exception {
+        // Both objects are listed as small, but the second one grew past the threshold before it was downloaded.
+        when(mockS3Crt.listObjectsV2(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFuture.completedFuture(
+                ListObjectsV2Response.builder()
+                                     .contents(S3Object.builder().key("dir/small").size(5L).build(),
+                                               S3Object.builder().key("dir/grown").size(5L).build())
+                                     .build()));
+        when(mockS3Crt.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            AsyncResponseTransformer<GetObjectResponse, ?> transformer = i.getArgument(1);
+            String body = request.key().equals("dir/small") ? "hello" : "hello world";
+            CompletableFuture<?> future = transformer.prepare();
+            transformer.onResponse(GetObjectResponse.builder().contentLength((long) body.length()).build());
+            transformer.onStream(AsyncRequestBody.fromString(body));
+            return future;
+        });
+
+        Path destination = Files.createTempDirectory("downloadDirectory");
+        TransferManagerConfiguration configuration =
+            TransferManagerConfiguration.builder().directoryTransferSmallObjectThresholdInBytes(8).build();
+        try (S3TransferManager transferManager = new GenericS3TransferManager(configuration, mockS3Crt, false)) {
+            CompletedDirectoryDownload completedDirectoryDownload =
+                transferManager.downloadDirectory(d -> d.bucket("bucket").destination(destination))
+                               .completionFuture()
+                               .get(5, TimeUnit.SECONDS);
+
+            assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+            assertThat(destination.resolve("dir").resolve("small")).hasContent("hello");
+            assertThat(destination.resolve("dir").resolve("grown")).hasContent("hello world");
+        } finally {
+            FileUtils.cleanUpTestDirectory(destination);
+        }
+    }
+
     @Test
     void close_shouldCloseUnderlyingResources() {
         S3TransferManager transferManager = new GenericS3TransferManager(mockS3Crt, uploadDirectoryHelper, configuration, downloadDirectoryHelper);
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import io.reactivex.Flowable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+class SmallObjectFileTransformerTest {
+    private FileSystem jimfs;
+    private Path destination;
+    private Queue<Runnable> tasks;
+
+    @BeforeEach
+    public void setUp() {
+        jimfs = Jimfs.newFileSystem(Configuration.unix());
+        destination = jimfs.getPath("object.txt");
+        tasks = new ArrayDeque<>();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    void bodyWithinMaxInMemorySize_writesFileOnExecutor() throws Exception {
+        SmallObjectFileTransformer transformer = new SmallObjectFileTransformer(destination, 10, tasks::add);
+
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder().contentLength(5L).build());
+        transformer.onStream(body("hello"));
+
+        assertThat(future).isNotDone();
+        assertThat(destination).doesNotExist();
+
+        tasks.remove().run();
+        assertThat(future.get(1, TimeUnit.SECONDS).contentLength()).isEqualTo(5L);
+        assertThat(destination).hasContent("hello");
+    }
+
+    @Test
+    void bodyLargerThanMaxInMemorySize_streamsToFile() throws Exception {
+        SmallObjectFileTransformer transformer = new SmallObjectFileTransformer(destination, 4, tasks::add);
+
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder().contentLength(5L).build());
+        transformer.onStream(body("hello"));
+
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(tasks).isEmpty();
+        assertThat(destination).hasContent("hello");
+    }
+
+    private static SdkPublisher<ByteBuffer> body(String content) {
+        return SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -18,9 +18,11 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM;
 
 import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
@@ -62,6 +64,8 @@ public class TransferManagerConfigurationTest {
         transferManagerConfiguration = TransferManagerConfiguration.builder().build();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS)).isFalse();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_MAX_DEPTH)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM)).isEqualTo(4);
+        assertThat(transferManagerConfiguration.option(DIRECTORY_TRANSFER_SMALL_OBJECT_THRESHOLD)).isEqualTo(64 * 1024);
         assertThat(transferManagerConfiguration.option(EXECUTOR)).isNotNull();
     }
 
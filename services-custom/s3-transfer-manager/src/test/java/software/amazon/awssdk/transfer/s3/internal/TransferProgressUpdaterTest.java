@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -45,6 +46,7 @@ import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.http.async.SimpleSubscriber;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.transfer.s3.CaptureTransferListener;
@@ -53,6 +55,7 @@ import software.amazon.awssdk.transfer.s3.model.CompletedObjectTransfer;
 import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
+import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
 
 class TransferProgressUpdaterTest {
     private static final long OBJ_SIZE = 16 * MB;
@@ -154,6 +157,39 @@ class TransferProgressUpdaterTest {
     }
 
 
+    @Test
+    void aggregatedProgress_updatedOnlyOnceTransferCompletes() {
+        CompletableFuture<CompletedObjectTransfer> future = new CompletableFuture<>();
+        TransferProgress progress = TransferProgressUpdater.aggregatedProgress(future, null);
+
+        assertThat(progress.snapshot().transferredBytes()).isZero();
+        assertThat(progress.snapshot().totalBytes()).isEmpty();
+
+        GetObjectResponse response = GetObjectResponse.builder().contentLength(4096L).build();
+        future.complete(new CompletedObjectTransfer() {
+            @Override
+            public SdkResponse response() {
+                return response;
+            }
+        });
+
+        assertThat(progress.snapshot().transferredBytes()).isEqualTo(4096L);
+        assertThat(progress.snapshot().totalBytes()).hasValue(4096L);
+        assertThat(progress.snapshot().sdkResponse()).hasValue(response);
+    }
+
+    @Test
+    void aggregatedProgress_transferFails_noBytesTransferred() {
+        CompletableFuture<CompletedObjectTransfer> future = new CompletableFuture<>();
+        TransferProgress progress = TransferProgressUpdater.aggregatedProgress(future, 4096L);
+
+        future.completeExceptionally(new RuntimeException("failed"));
+
+        assertThat(progress.snapshot().transferredBytes()).isZero();
+        assertThat(progress.snapshot().totalBytes()).hasValue(4096L);
+        assertThat(progress.snapshot().sdkResponse()).isEmpty();
+    }
+
     private static class ExceptionThrowingByteArrayInputStream extends ByteArrayInputStream {
         private final int exceptionPosition;
 
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
@@ -163,6 +164,38 @@ public class UploadDirectoryHelperTest {
         assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
     }
 
+    @Test
+    void uploadDirectory_smallFiles_shouldUseSmallFileUploadFunction() throws Exception {
+        Files.write(jimfs.getPath("test/2"), new byte[2048]);
+        Function<UploadFileRequest, FileUpload> smallFileUploadFunction = mock(Function.class);
+        TransferManagerConfiguration configuration =
+            TransferManagerConfiguration.builder().directoryTransferSmallObjectThresholdInBytes(1024).build();
+        uploadDirectoryHelper = new UploadDirectoryHelper(configuration, singleUploadFunction, smallFileUploadFunction);
+
+        CompletedFileUpload completedFileUpload =
+            CompletedFileUpload.builder().response(PutObjectResponse.builder().eTag("1234").build()).build();
+        when(singleUploadFunction.apply(any(UploadFileRequest.class)))
+            .thenReturn(newUpload(CompletableFuture.completedFuture(completedFileUpload)));
+        when(smallFileUploadFunction.apply(any(UploadFileRequest.class)))
+            .thenReturn(newUpload(CompletableFuture.completedFuture(completedFileUpload)));
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        assertThat(uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS).failedTransfers()).isEmpty();
+
+        ArgumentCaptor<UploadFileRequest> smallFileRequest = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(smallFileUploadFunction).apply(smallFileRequest.capture());
+        assertThat(smallFileRequest.getValue().putObjectRequest().key()).isEqualTo("1");
+
+        ArgumentCaptor<UploadFileRequest> largeFileRequest = ArgumentCaptor.forClass(UploadFileRequest.class);
+        verify(singleUploadFunction).apply(largeFileRequest.capture());
+        assertThat(largeFileRequest.getValue().putObjectRequest().key()).isEqualTo("2");
+    }
+
     @Test
     void uploadDirectory_partialSuccess_shouldProvideFailedUploads() throws Exception {
         PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
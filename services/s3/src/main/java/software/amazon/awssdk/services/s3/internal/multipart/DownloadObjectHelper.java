@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener.NotifyingAsyncResponseTransformer;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An internal helper class that downloads an object in parts, using concurrent ranged GET requests.
+ * <p>
+ * The first part is downloaded with a ranged GET of one part size, whose response gives the size of the object. The remaining
+ * parts are then downloaded concurrently, with at most as many parts in flight as fit in the configured API call buffer size,
+ * or as many as the {@link MultipartTransferTuner} allows when auto-tuning is enabled, in which case the remaining parts may
+ * also be larger than the first one.
+ * Each part is downloaded with its own request, so a failed part is retried without downloading the other parts again.
+ */
+@SdkInternalApi
+public final class DownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(DownloadObjectHelper.class);
+
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final MultipartTransferTuner tuner;
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
+        this(s3AsyncClient, resolver, new MultipartTransferTuner(resolver, Collections.emptyList()));
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver,
+                                MultipartTransferTuner tuner) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.partSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.tuner = tuner;
+    }
+
+    public <ReturnT> CompletableFuture<ReturnT> downloadObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number specified, downloading the object with a single request");
+            return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+        }
+
+        CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
+        long startNanos = System.nanoTime();
+        CompletableFuture<ResponseBytes<GetObjectResponse>> firstPartFuture =
+            s3AsyncClient.getObject(partRequest(getObjectRequest, 0, partSizeInBytes),
+                                    tuner.measureRoundTrip(AsyncResponseTransformer.toBytes()));
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, firstPartFuture);
+
+        firstPartFuture.whenComplete((firstPart, throwable) -> {
+            if (throwable != null) {
+                if (isRangeNotSatisfiable(throwable)) {
+                    log.debug(() -> "The object is empty, downloading the object with a single request");
+                    CompletableFuture<ReturnT> future = s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+                    CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+                    CompletableFutureUtils.forwardResultTo(future, returnFuture);
+                } else {
+                    returnFuture.completeExceptionally(unwrap(throwable));
+                }
+                return;
+            }
+
+            tuner.recordPart(firstPart.asByteArrayUnsafe().length, System.nanoTime() - startNanos);
+            try {
+                downloadRemainingParts(getObjectRequest, asyncResponseTransformer, firstPart, returnFuture);
+            } catch (Throwable t) {
+                returnFuture.completeExceptionally(t);
+            }
+        });
+        return returnFuture;
+    }
+
+    private <ReturnT> void downloadRemainingParts(GetObjectRequest getObjectRequest,
+                                                  AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                                                  ResponseBytes<GetObjectResponse> firstPart,
+                                                  CompletableFuture<ReturnT> returnFuture) {
+        GetObjectResponse firstResponse = firstPart.response();
+        long objectSize = objectSize(firstResponse, firstPart.asByteArrayUnsafe().length);
+        GetObjectResponse response = firstResponse.toBuilder()
+                                                  .contentLength(objectSize)
+                                                  .contentRange(null)
+                                                  .build();
+
+        // Make sure every part is read from the same version of the object as the first part.
+        String ifMatch = getObjectRequest.ifMatch() != null ? getObjectRequest.ifMatch() : firstResponse.eTag();
+        // Ranged GETs have no maximum number of parts, so the part size only changes with auto-tuning.
+        long partSize = tuner.enabled() ? tuner.partSize(objectSize) : partSizeInBytes;
+        MultipartDownload.Context context = new MultipartDownload.Context(s3AsyncClient,
+                                                                          getObjectRequest.toBuilder().ifMatch(ifMatch).build(),
+                                                                          response, objectSize, partSizeInBytes, partSize,
+                                                                          tuner);
+        returnFuture.whenComplete((r, t) -> context.tuningSession().complete(t == null));
+        log.debug(() -> String.format("Downloading object of size %d in %d parts", objectSize, context.partCount()));
+
+        FileAsyncResponseTransformer<?> fileTransformer = fileTransformer(asyncResponseTransformer);
+        MultipartDownload<ReturnT> download;
+        if (fileTransformer != null) {
+            download = new FileMultipartDownload<>(context, asyncResponseTransformer, fileTransformer, returnFuture);
+        } else {
+            download = new OrderedMultipartDownload<>(context, asyncResponseTransformer, returnFuture);
+        }
+        download.start(firstPart);
+    }
+
+    /**
+     * @return The {@link FileAsyncResponseTransformer} the given transformer writes to, possibly through listeners wrapping it,
+     * or null if it doesn't write to a file.
+     */
+    private static FileAsyncResponseTransformer<?> fileTransformer(AsyncResponseTransformer<?, ?> asyncResponseTransformer) {
+        AsyncResponseTransformer<?, ?> transformer = asyncResponseTransformer;
+        while (transformer instanceof NotifyingAsyncResponseTransformer) {
+            transformer = ((NotifyingAsyncResponseTransformer<?, ?>) transformer).delegate();
+        }
+        return transformer instanceof FileAsyncResponseTransformer ? (FileAsyncResponseTransformer<?>) transformer : null;
+    }
+
+    static GetObjectRequest partRequest(GetObjectRequest getObjectRequest, long offset, long length) {
+        return getObjectRequest.toBuilder()
+                               .range(String.format("bytes=%d-%d", offset, offset + length - 1))
+                               .build();
+    }
+
+    /**
+     * @return The size of the object, from the Content-Range of the response to the first ranged GET. If the range isn't known,
+     * the response is assumed to hold the whole object.
+     */
+    private static long objectSize(GetObjectResponse response, long firstPartLength) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            int index = contentRange.lastIndexOf('/');
+            if (index != -1 && index < contentRange.length() - 1 && contentRange.charAt(index + 1) != '*') {
+                return Long.parseLong(contentRange.substring(index + 1).trim());
+            }
+        }
+        return firstPartLength;
+    }
+
+    private static boolean isRangeNotSatisfiable(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == RANGE_NOT_SATISFIABLE;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
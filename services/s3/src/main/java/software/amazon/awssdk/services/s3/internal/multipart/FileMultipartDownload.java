@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.core.internal.async.PositionalFileWriter;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Downloads the parts of an object concurrently to a file, writing the content of each part directly at its offset in the
+ * file as it is received, instead of reassembling the parts in order.
+ * <p>
+ * The content is written with the {@link PositionalFileWriter} of the {@link FileAsyncResponseTransformer}. The transformer
+ * given to the download, which may wrap the file transformer, still receives the response and a stream of the written
+ * content, in the order it is written, so that listeners on the transformer observe the progress of the download.
+ */
+@SdkInternalApi
+final class FileMultipartDownload<ReturnT> extends MultipartDownload<ReturnT> {
+    private final AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer;
+    private final PositionalFileWriter fileWriter;
+    private final SimplePublisher<ByteBuffer> writtenContent = new SimplePublisher<>();
+    private int writtenParts = 0;
+
+    FileMultipartDownload(Context context,
+                          AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                          FileAsyncResponseTransformer<?> fileTransformer,
+                          CompletableFuture<ReturnT> returnFuture) {
+        super(context, returnFuture);
+        this.asyncResponseTransformer = asyncResponseTransformer;
+        this.fileWriter = fileTransformer.positionalWriter();
+    }
+
+    @Override
+    void start(ResponseBytes<GetObjectResponse> firstPart) {
+        CompletableFuture<ReturnT> transformFuture = asyncResponseTransformer.prepare();
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+
+        try {
+            fileWriter.open(context.objectSize());
+        } catch (IOException e) {
+            throw SdkClientException.create("Failed to open the file to download the object to", e);
+        }
+
+        asyncResponseTransformer.onResponse(context.response());
+        asyncResponseTransformer.onStream(SdkPublisher.adapt(writtenContent));
+
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> firstPartWriter = partWriter(0);
+        firstPartWriter.prepare().whenComplete((r, t) -> onPartWritten(t));
+        firstPartWriter.onStream(AsyncRequestBody.fromByteBufferUnsafe(firstPart.asByteBuffer()));
+        requestParts();
+    }
+
+    @Override
+    CompletableFuture<?> downloadPart(int partIndex, GetObjectRequest partRequest) {
+        CompletableFuture<GetObjectResponse> partFuture = context.getObject(partRequest, partWriter(partIndex));
+        partFuture.whenComplete((r, t) -> onPartWritten(t));
+        return partFuture;
+    }
+
+    /**
+     * @return A transformer that writes a part at its offset in the file, and sends the content it writes to the stream of the
+     * download's transformer. If the part request is retried, only the content beyond what earlier attempts sent is sent
+     * again, so that the stream holds each byte of the object once.
+     */
+    private AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> partWriter(int partIndex) {
+        PartProgress progress = new PartProgress();
+        AsyncResponseTransformerListener<GetObjectResponse> listener = new AsyncResponseTransformerListener<GetObjectResponse>() {
+            @Override
+            public void transformerOnStream(SdkPublisher<ByteBuffer> publisher) {
+                progress.newAttempt();
+            }
+
+            @Override
+            public void subscriberOnNext(ByteBuffer byteBuffer) {
+                ByteBuffer unsent = progress.unsent(byteBuffer);
+                if (unsent != null) {
+                    writtenContent.send(unsent);
+                }
+            }
+        };
+        return AsyncResponseTransformerListener.wrap(fileWriter.rangeTransformer(context.partOffset(partIndex)), listener);
+    }
+
+    private void onPartWritten(Throwable throwable) {
+        if (throwable != null) {
+            fail(throwable);
+            return;
+        }
+
+        boolean done;
+        synchronized (this) {
+            done = ++writtenParts == context.partCount();
+        }
+        if (done) {
+            try {
+                fileWriter.close();
+            } catch (SdkClientException e) {
+                fail(e);
+                return;
+            }
+            writtenContent.complete();
+        } else {
+            releasePart();
+        }
+    }
+
+    @Override
+    void onFailure(Throwable throwable) {
+        writtenContent.error(throwable);
+        asyncResponseTransformer.exceptionOccurred(throwable);
+    }
+
+    /**
+     * The content of a part received by the current attempt of its request, and sent to the stream of the download by any
+     * attempt. Every attempt writes the part from its start.
+     */
+    private static final class PartProgress {
+        private long attemptBytes;
+        private long sentBytes;
+
+        synchronized void newAttempt() {
+            attemptBytes = 0;
+        }
+
+        /**
+         * @return A view of the part of the given content that hasn't been sent by an earlier attempt, or null if all of it has.
+         */
+        synchronized ByteBuffer unsent(ByteBuffer byteBuffer) {
+            long start = attemptBytes;
+            attemptBytes += byteBuffer.remaining();
+            if (attemptBytes <= sentBytes) {
+                return null;
+            }
+            ByteBuffer view = byteBuffer.asReadOnlyBuffer();
+            if (start < sentBytes) {
+                view.position(view.position() + (int) (sentBytes - start));
+            }
+            sentBytes = attemptBytes;
+            return view;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.CrcCombiner;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Validates the CRC32 or CRC32C checksum of a whole object given in a {@link PutObjectRequest} when the object is uploaded
+ * in parts.
+ * <p>
+ * The checksum of each part is calculated as the part is uploaded, so parts uploaded concurrently have their checksums
+ * calculated in parallel. Once all parts are uploaded, the part checksums returned by S3 are combined into the checksum of
+ * the whole object with {@link CrcCombiner}, without reading any of the object again, and compared to the expected checksum
+ * before the multipart upload is completed.
+ */
+@SdkInternalApi
+final class FullObjectChecksumValidator {
+    private static final Logger log = Logger.loggerFor(FullObjectChecksumValidator.class);
+
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final String expectedChecksum;
+    private final Map<Integer, Long> partLengths = new ConcurrentHashMap<>();
+
+    private FullObjectChecksumValidator(ChecksumAlgorithm checksumAlgorithm, String expectedChecksum) {
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * @return A validator for the full object checksum in the given request, or null if the request doesn't have a full object
+     * checksum that can be validated from the part checksums.
+     */
+    static FullObjectChecksumValidator create(PutObjectRequest putObjectRequest) {
+        ChecksumAlgorithm checksumAlgorithm = fullObjectChecksumAlgorithm(putObjectRequest);
+        if (checksumAlgorithm == null) {
+            return null;
+        }
+        String expectedChecksum = checksumAlgorithm == ChecksumAlgorithm.CRC32 ? putObjectRequest.checksumCRC32()
+                                                                                : putObjectRequest.checksumCRC32C();
+        return new FullObjectChecksumValidator(checksumAlgorithm, expectedChecksum);
+    }
+
+    /**
+     * @return The algorithm of the full object CRC32 or CRC32C checksum in the given request, or null if it has neither. If the
+     * request also specifies a different checksum algorithm, the full object checksum can't be validated and null is returned.
+     */
+    static ChecksumAlgorithm fullObjectChecksumAlgorithm(PutObjectRequest putObjectRequest) {
+        ChecksumAlgorithm checksumAlgorithm;
+        if (putObjectRequest.checksumCRC32() != null) {
+            checksumAlgorithm = ChecksumAlgorithm.CRC32;
+        } else if (putObjectRequest.checksumCRC32C() != null) {
+            checksumAlgorithm = ChecksumAlgorithm.CRC32_C;
+        } else {
+            return null;
+        }
+
+        ChecksumAlgorithm requestedAlgorithm = putObjectRequest.checksumAlgorithm();
+        if (requestedAlgorithm != null && requestedAlgorithm != checksumAlgorithm) {
+            log.debug(() -> String.format("Not validating the %s checksum of the object, because parts are uploaded with %s "
+                                          + "checksums", checksumAlgorithm, requestedAlgorithm));
+            return null;
+        }
+        return checksumAlgorithm;
+    }
+
+    /**
+     * Record the length of an uploaded part. This must be called for every part before {@link #validate(CompletedPart[])}.
+     */
+    void recordPartLength(int partNumber, long partLength) {
+        partLengths.put(partNumber, partLength);
+    }
+
+    /**
+     * Combine the checksums of the given parts, and compare the result to the expected checksum of the object.
+     *
+     * @param completedParts The uploaded parts, in part number order.
+     * @throws SdkClientException If the checksum of the object can't be calculated, or doesn't match the expected checksum.
+     */
+    void validate(CompletedPart[] completedParts) {
+        String actualChecksum = calculateChecksum(completedParts);
+        if (!expectedChecksum.equals(actualChecksum)) {
+            throw SdkClientException.create(String.format("Data read has a different checksum than expected. Was %s, "
+                                                          + "but expected %s for %s", actualChecksum, expectedChecksum,
+                                                          checksumAlgorithm));
+        }
+    }
+
+    private String calculateChecksum(CompletedPart[] completedParts) {
+        Algorithm algorithm = checksumAlgorithm == ChecksumAlgorithm.CRC32 ? Algorithm.CRC32 : Algorithm.CRC32C;
+        long crc = 0;
+        for (CompletedPart part : completedParts) {
+            String partChecksum = checksumAlgorithm == ChecksumAlgorithm.CRC32 ? part.checksumCRC32() : part.checksumCRC32C();
+            Long partLength = partLengths.get(part.partNumber());
+            if (partChecksum == null || partLength == null) {
+                throw SdkClientException.create(String.format("Unable to validate the %s checksum of the object, because the "
+                                                              + "checksum of part %d is unknown", checksumAlgorithm,
+                                                              part.partNumber()));
+            }
+            crc = CrcCombiner.combine(algorithm, crc, decode(partChecksum, part.partNumber()), partLength);
+        }
+        return encode(crc);
+    }
+
+    private long decode(String checksum, int partNumber) {
+        byte[] bytes = BinaryUtils.fromBase64(checksum);
+        if (bytes.length != Integer.BYTES) {
+            throw SdkClientException.create(String.format("Unable to validate the %s checksum of the object, because the "
+                                                          + "checksum of part %d is invalid: %s", checksumAlgorithm,
+                                                          partNumber, checksum));
+        }
+        return ByteBuffer.wrap(bytes).getInt() & 0xFFFFFFFFL;
+    }
+
+    private static String encode(long crc) {
+        return BinaryUtils.toBase64(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc).array());
+    }
+}
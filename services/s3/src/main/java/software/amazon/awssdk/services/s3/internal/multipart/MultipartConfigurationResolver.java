@@ -29,6 +29,8 @@ public final class MultipartConfigurationResolver {
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final boolean autoTuningEnabled;
+    private final Double targetThroughputInBytesPerSecond;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +39,14 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.autoTuningEnabled = Boolean.TRUE.equals(multipartConfiguration.autoTuningEnabled());
+        Double targetThroughputInGbps = multipartConfiguration.targetThroughputInGbps();
+        if (targetThroughputInGbps != null) {
+            Validate.isTrue(targetThroughputInGbps > 0, "targetThroughputInGbps must be positive");
+            this.targetThroughputInBytesPerSecond = targetThroughputInGbps * 1_000_000_000 / 8;
+        } else {
+            this.targetThroughputInBytesPerSecond = null;
+        }
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +60,15 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    public boolean autoTuningEnabled() {
+        return autoTuningEnabled;
+    }
+
+    /**
+     * @return The target throughput of auto-tuning, in bytes per second, or null if auto-tuning should saturate the network.
+     */
+    public Double targetThroughputInBytesPerSecond() {
+        return targetThroughputInBytesPerSecond;
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The download of the parts of an object after its first part, with a bounded number of parts in flight.
+ * <p>
+ * A part is in flight from when its request is sent until it is released by the subclass, once its content no longer needs to
+ * be held in memory. New part requests are only sent while fewer than the maximum number of parts are in flight.
+ *
+ * @param <ReturnT> The type of the result of the download.
+ */
+@SdkInternalApi
+abstract class MultipartDownload<ReturnT> {
+    private static final Logger log = Logger.loggerFor(MultipartDownload.class);
+
+    protected final Context context;
+    protected final CompletableFuture<ReturnT> returnFuture;
+
+    private final Collection<CompletableFuture<?>> partFutures = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+
+    /**
+     * The index of the next part to request. The first part has already been downloaded.
+     */
+    private int nextPartToRequest = 1;
+
+    /**
+     * The number of parts that have been released.
+     */
+    private int releasedParts = 0;
+
+    MultipartDownload(Context context, CompletableFuture<ReturnT> returnFuture) {
+        this.context = context;
+        this.returnFuture = returnFuture;
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                fail(t);
+            }
+        });
+    }
+
+    /**
+     * Start the download, given the content of the first part.
+     */
+    abstract void start(ResponseBytes<GetObjectResponse> firstPart);
+
+    /**
+     * Download the part with the given index with the given request.
+     *
+     * @return A future that completes when the part has been downloaded.
+     */
+    abstract CompletableFuture<?> downloadPart(int partIndex, GetObjectRequest partRequest);
+
+    /**
+     * Called once when the download fails, to release any resources held by the download.
+     */
+    abstract void onFailure(Throwable throwable);
+
+    /**
+     * Send requests for as many parts as can be in flight.
+     */
+    final void requestParts() {
+        List<Integer> partsToRequest = new ArrayList<>();
+        synchronized (this) {
+            while (nextPartToRequest < context.partCount() && nextPartToRequest < releasedParts + context.maxInFlightParts()) {
+                partsToRequest.add(nextPartToRequest++);
+            }
+        }
+
+        for (int partIndex : partsToRequest) {
+            if (failed.get()) {
+                return;
+            }
+            log.trace(() -> "Requesting part " + partIndex);
+            long startNanos = System.nanoTime();
+            CompletableFuture<?> partFuture = downloadPart(partIndex, context.partRequest(partIndex));
+            partFutures.add(partFuture);
+            partFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else {
+                    context.partCompleted(partIndex, System.nanoTime() - startNanos);
+                }
+            });
+        }
+    }
+
+    /**
+     * Release a part, allowing another part to be requested.
+     */
+    final void releasePart() {
+        synchronized (this) {
+            releasedParts++;
+        }
+        requestParts();
+    }
+
+    /**
+     * Fail the download, cancelling the parts in flight.
+     */
+    final void fail(Throwable throwable) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+                                                                                                     : throwable;
+        log.debug(() -> "Failed to download the object in parts", cause);
+        try {
+            onFailure(cause);
+        } finally {
+            returnFuture.completeExceptionally(cause);
+            partFutures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    /**
+     * The parts of the object: a first part of the size requested before the size of the object was known, followed by parts of
+     * the part size chosen for the object.
+     */
+    static final class Context {
+        private final S3AsyncClient s3AsyncClient;
+        private final GetObjectRequest getObjectRequest;
+        private final GetObjectResponse response;
+        private final long objectSize;
+        private final long firstPartSize;
+        private final long partSize;
+        private final int partCount;
+        private final MultipartTransferTuner tuner;
+        private final MultipartTransferTuner.Session tuningSession;
+
+        Context(S3AsyncClient s3AsyncClient,
+                GetObjectRequest getObjectRequest,
+                GetObjectResponse response,
+                long objectSize,
+                long firstPartSize,
+                long partSize,
+                MultipartTransferTuner tuner) {
+            this.s3AsyncClient = s3AsyncClient;
+            this.getObjectRequest = getObjectRequest;
+            this.response = response;
+            this.objectSize = objectSize;
+            this.firstPartSize = firstPartSize;
+            this.partSize = partSize;
+            this.partCount = objectSize <= firstPartSize ? 1
+                                                         : (int) (1 + (objectSize - firstPartSize + partSize - 1) / partSize);
+            this.tuner = tuner;
+            this.tuningSession = tuner.newSession("GetObject", objectSize, partSize, partCount);
+        }
+
+        /**
+         * @return The response for the whole object.
+         */
+        GetObjectResponse response() {
+            return response;
+        }
+
+        long objectSize() {
+            return objectSize;
+        }
+
+        int partCount() {
+            return partCount;
+        }
+
+        long partOffset(int partIndex) {
+            return partIndex == 0 ? 0 : firstPartSize + (partIndex - 1) * partSize;
+        }
+
+        int maxInFlightParts() {
+            return tuningSession.maxInFlightParts();
+        }
+
+        MultipartTransferTuner.Session tuningSession() {
+            return tuningSession;
+        }
+
+        <T> CompletableFuture<T> getObject(GetObjectRequest request,
+                                           AsyncResponseTransformer<GetObjectResponse, T> asyncResponseTransformer) {
+            return s3AsyncClient.getObject(request, tuner.measureRoundTrip(asyncResponseTransformer));
+        }
+
+        private long partLength(int partIndex) {
+            return Math.min(partIndex == 0 ? firstPartSize : partSize, objectSize - partOffset(partIndex));
+        }
+
+        private GetObjectRequest partRequest(int partIndex) {
+            return DownloadObjectHelper.partRequest(getObjectRequest, partOffset(partIndex), partLength(partIndex));
+        }
+
+        private void partCompleted(int partIndex, long durationNanos) {
+            long length = partLength(partIndex);
+            tuner.recordPart(length, durationNanos);
+            tuningSession.partCompleted(length);
+        }
+    }
+}
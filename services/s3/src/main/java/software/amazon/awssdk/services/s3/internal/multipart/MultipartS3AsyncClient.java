@@ -16,14 +16,19 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ApiName;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
 import software.amazon.awssdk.services.s3.internal.UserAgentUtils;
 import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
@@ -36,8 +41,8 @@ import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * An {@link S3AsyncClient} that automatically converts put, copy requests to their respective multipart call. Note: get is not
- * yet supported.
+ * An {@link S3AsyncClient} that automatically converts put, copy and get requests to their respective multipart call. Get
+ * requests are downloaded in parts with concurrent ranged GET requests.
  *
  * @see MultipartConfiguration
  */
@@ -48,6 +53,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
 
     private final UploadObjectHelper mpuHelper;
     private final CopyObjectHelper copyObjectHelper;
+    private final DownloadObjectHelper downloadObjectHelper;
 
     private MultipartS3AsyncClient(S3AsyncClient delegate, MultipartConfiguration multipartConfiguration) {
         super(delegate);
@@ -56,8 +62,27 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(validConfiguration);
         long minPartSizeInBytes = resolver.minimalPartSizeInBytes();
         long threshold = resolver.thresholdInBytes();
-        mpuHelper = new UploadObjectHelper(delegate, resolver);
+        MultipartTransferTuner tuner = new MultipartTransferTuner(resolver, resolver.autoTuningEnabled()
+                                                                            ? metricPublishers(delegate)
+                                                                            : Collections.emptyList());
+        mpuHelper = new UploadObjectHelper(delegate, resolver, tuner);
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, resolver, tuner);
+    }
+
+    /**
+     * @return The metric publishers of the client, which the metrics of auto-tuned transfers are published to.
+     */
+    private static List<MetricPublisher> metricPublishers(S3AsyncClient client) {
+        S3ServiceClientConfiguration configuration;
+        try {
+            configuration = client.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return Collections.emptyList();
+        }
+        ClientOverrideConfiguration overrideConfiguration = configuration == null ? null
+                                                                                  : configuration.overrideConfiguration();
+        return overrideConfiguration == null ? Collections.emptyList() : overrideConfiguration.metricPublishers();
     }
 
     @Override
@@ -73,8 +98,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
     @Override
     public <ReturnT> CompletableFuture<ReturnT> getObject(
         GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
-        throw new UnsupportedOperationException(
-            "Multipart download is not yet supported. Instead use the CRT based S3 client for multipart download.");
+        return downloadObjectHelper.downloadObject(getObjectRequest, asyncResponseTransformer);
     }
 
     @Override
@@ -0,0 +1,350 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.multipart.MultipartTransferMetric;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Chooses the part size and the number of parts in flight of the multipart transfers of a client, from the round-trip time and
+ * the throughput of a single part request, measured across all the transfers of the client.
+ * <p>
+ * The part size is grown above the minimum part size until the round-trip time is at most a tenth of the time it takes to
+ * transfer a part, within the memory budget and the maximum number of parts. Each transfer then adjusts its number of parts in
+ * flight after every round of parts, that is every time as many parts as are allowed in flight have completed: towards the
+ * number of parts that reach the target throughput at the measured throughput of a single part request, following Little's law,
+ * or, without a target, by adding parts in flight for as long as it increases the throughput of the transfer.
+ * <p>
+ * When auto-tuning is disabled, the minimum part size, raised to respect the maximum number of parts, and as many parts in
+ * flight as fit in the memory budget are used, and nothing is measured.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class MultipartTransferTuner {
+    static final int MAX_PARTS = 10_000;
+
+    private static final Logger log = Logger.loggerFor(MultipartTransferTuner.class);
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000;
+    private static final long PART_SIZE_ALIGNMENT = 1024 * 1024;
+
+    /**
+     * A part is made large enough to take at least this many round-trip times to transfer, so that the round-trip time is at
+     * most a tenth of the time of the part request.
+     */
+    private static final int ROUND_TRIPS_PER_PART = 9;
+
+    /**
+     * The weight of a new measurement in the moving averages of the round-trip time and the throughput.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * The relative change of throughput from one round to the next that is considered significant.
+     */
+    private static final double SIGNIFICANT_CHANGE = 0.05;
+
+    private static final double BELOW_TARGET = 0.95;
+    private static final double ABOVE_TARGET = 1.1;
+
+    private final boolean enabled;
+    private final long minimumPartSizeInBytes;
+    private final long memoryBudgetInBytes;
+    private final Double targetThroughput;
+    private final List<MetricPublisher> metricPublishers;
+
+    private final MovingAverage roundTripNanos = new MovingAverage();
+    private final MovingAverage connectionThroughput = new MovingAverage();
+
+    /**
+     * The number of parts in flight the last successful transfer ended with, which the next transfer starts with when there
+     * is no target throughput. Zero until a transfer completes.
+     */
+    private volatile int lastMaxInFlightParts;
+
+    public MultipartTransferTuner(MultipartConfigurationResolver resolver, List<MetricPublisher> metricPublishers) {
+        this.enabled = resolver.autoTuningEnabled();
+        this.minimumPartSizeInBytes = resolver.minimalPartSizeInBytes();
+        this.memoryBudgetInBytes = resolver.apiCallBufferSize();
+        this.targetThroughput = resolver.targetThroughputInBytesPerSecond();
+        this.metricPublishers = metricPublishers == null ? Collections.emptyList() : metricPublishers;
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The part size to transfer an object of the given size with.
+     */
+    long partSize(long objectSize) {
+        long partSize = Math.max(minimumPartSizeInBytes, (objectSize + MAX_PARTS - 1) / MAX_PARTS);
+        if (!enabled) {
+            return partSize;
+        }
+        double roundTrip = roundTripNanos.value();
+        double throughput = connectionThroughput.value();
+        if (Double.isNaN(roundTrip) || Double.isNaN(throughput)) {
+            return partSize;
+        }
+
+        long latencyBoundPartSize = (long) (ROUND_TRIPS_PER_PART * throughput * roundTrip / NANOS_PER_SECOND);
+        long alignedPartSize = (latencyBoundPartSize + PART_SIZE_ALIGNMENT - 1) / PART_SIZE_ALIGNMENT * PART_SIZE_ALIGNMENT;
+        // Leave room for at least two parts in flight, unless the maximum number of parts requires larger parts.
+        long tunedPartSize = Math.max(partSize, Math.min(alignedPartSize, memoryBudgetInBytes / 2));
+        if (tunedPartSize != partSize) {
+            log.debug(() -> String.format("Using a part size of %d for a round-trip time of %.1f ms and a connection throughput "
+                                          + "of %.0f bytes/s", tunedPartSize, roundTrip / 1_000_000, throughput));
+        }
+        return tunedPartSize;
+    }
+
+    /**
+     * Record the round-trip time of a request, measured to the first byte of its response.
+     */
+    void recordRoundTrip(long nanos) {
+        if (enabled && nanos > 0) {
+            roundTripNanos.record(nanos);
+        }
+    }
+
+    /**
+     * Record the transfer of a part, measured from when its request is sent to when its content has been transferred.
+     */
+    void recordPart(long bytes, long durationNanos) {
+        if (!enabled || bytes <= 0 || durationNanos <= 0) {
+            return;
+        }
+        double roundTrip = roundTripNanos.value();
+        double transferNanos = !Double.isNaN(roundTrip) && durationNanos > roundTrip ? durationNanos - roundTrip
+                                                                                      : durationNanos;
+        connectionThroughput.record(bytes * NANOS_PER_SECOND / transferNanos);
+    }
+
+    /**
+     * Wrap the transformer of a request to record the round-trip time of the request when its response is received.
+     */
+    <ResponseT, ResultT> AsyncResponseTransformer<ResponseT, ResultT> measureRoundTrip(
+        AsyncResponseTransformer<ResponseT, ResultT> asyncResponseTransformer) {
+        if (!enabled) {
+            return asyncResponseTransformer;
+        }
+        long startNanos = System.nanoTime();
+        return AsyncResponseTransformerListener.wrap(asyncResponseTransformer, new AsyncResponseTransformerListener<ResponseT>() {
+            @Override
+            public void transformerOnResponse(ResponseT response) {
+                recordRoundTrip(System.nanoTime() - startNanos);
+            }
+        });
+    }
+
+    /**
+     * Start tuning a transfer.
+     *
+     * @param operationName The name of the operation, reported in the metrics of the transfer.
+     * @param objectSize The size of the object.
+     * @param partSize The part size of the transfer.
+     * @param partCount The number of parts of the transfer.
+     */
+    Session newSession(String operationName, long objectSize, long partSize, int partCount) {
+        return new Session(operationName, objectSize, partSize, partCount);
+    }
+
+    /**
+     * The number of parts in flight of a single transfer.
+     */
+    final class Session {
+        private final String operationName;
+        private final long objectSize;
+        private final long partSize;
+        private final int partCount;
+        private final int memoryLimit;
+        private final int initialMaxInFlightParts;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private volatile int maxInFlightParts;
+
+        // Guarded by this
+        private long roundStartNanos = startNanos;
+        private int roundParts;
+        private long roundBytes;
+        private double lastRoundThroughput = Double.NaN;
+        private int direction = 1;
+        private int adjustments;
+
+        private Session(String operationName, long objectSize, long partSize, int partCount) {
+            this.operationName = operationName;
+            this.objectSize = objectSize;
+            this.partSize = partSize;
+            this.partCount = partCount;
+            this.memoryLimit = (int) Math.min(Integer.MAX_VALUE, Math.max(1, memoryBudgetInBytes / partSize));
+            this.initialMaxInFlightParts = initialMaxInFlightParts();
+            this.maxInFlightParts = initialMaxInFlightParts;
+        }
+
+        private int initialMaxInFlightParts() {
+            if (!enabled) {
+                return memoryLimit;
+            }
+            double throughput = connectionThroughput.value();
+            if (targetThroughput != null && !Double.isNaN(throughput)) {
+                return limit(Math.ceil(targetThroughput / throughput));
+            }
+            if (targetThroughput == null && lastMaxInFlightParts > 0) {
+                return limit(lastMaxInFlightParts);
+            }
+            return Math.max(1, memoryLimit / 2);
+        }
+
+        /**
+         * @return The maximum number of parts of the transfer to have in flight.
+         */
+        int maxInFlightParts() {
+            return maxInFlightParts;
+        }
+
+        /**
+         * Called when a part of the transfer completes, to adjust the number of parts in flight at the end of a round.
+         */
+        void partCompleted(long bytes) {
+            if (!enabled) {
+                return;
+            }
+            synchronized (this) {
+                roundParts++;
+                roundBytes += bytes;
+                if (roundParts < maxInFlightParts) {
+                    return;
+                }
+                long now = System.nanoTime();
+                double throughput = roundBytes * NANOS_PER_SECOND / Math.max(1, now - roundStartNanos);
+                int current = maxInFlightParts;
+                int next = targetThroughput != null ? towardsTarget(current, throughput) : towardsSaturation(current, throughput);
+                if (next != current) {
+                    adjustments++;
+                    maxInFlightParts = next;
+                    log.debug(() -> String.format("Changing the number of parts in flight from %d to %d at a throughput of %.0f "
+                                                  + "bytes/s", current, next, throughput));
+                }
+                lastRoundThroughput = throughput;
+                roundStartNanos = now;
+                roundParts = 0;
+                roundBytes = 0;
+            }
+        }
+
+        private int towardsTarget(int current, double throughput) {
+            double connection = connectionThroughput.value();
+            int needed = Double.isNaN(connection) ? current : limit(Math.ceil(targetThroughput / connection));
+            if (throughput < targetThroughput * BELOW_TARGET) {
+                return limit(Math.max(needed, current + 1));
+            }
+            if (throughput > targetThroughput * ABOVE_TARGET) {
+                return limit(Math.min(needed, current - 1));
+            }
+            return current;
+        }
+
+        private int towardsSaturation(int current, double throughput) {
+            if (Double.isNaN(lastRoundThroughput) || throughput > lastRoundThroughput * (1 + SIGNIFICANT_CHANGE)) {
+                return limit(current + direction);
+            }
+            if (throughput < lastRoundThroughput * (1 - SIGNIFICANT_CHANGE)) {
+                // The last change made things worse: go the other way.
+                direction = -direction;
+                return limit(current + direction);
+            }
+            return current;
+        }
+
+        private int limit(double maxInFlightParts) {
+            return (int) Math.max(1, Math.min(memoryLimit, maxInFlightParts));
+        }
+
+        /**
+         * Called once the transfer completes, to publish its metrics.
+         */
+        void complete(boolean successful) {
+            if (!enabled || !completed.compareAndSet(false, true)) {
+                return;
+            }
+            if (successful && targetThroughput == null) {
+                lastMaxInFlightParts = maxInFlightParts;
+            }
+            if (metricPublishers.isEmpty()) {
+                return;
+            }
+
+            long durationNanos = System.nanoTime() - startNanos;
+            MetricCollector collector = MetricCollector.create("MultipartTransfer");
+            collector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+            collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+            collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofNanos(durationNanos));
+            collector.reportMetric(MultipartTransferMetric.PART_SIZE_IN_BYTES, partSize);
+            collector.reportMetric(MultipartTransferMetric.PART_COUNT, partCount);
+            collector.reportMetric(MultipartTransferMetric.INITIAL_MAX_IN_FLIGHT_PARTS, initialMaxInFlightParts);
+            collector.reportMetric(MultipartTransferMetric.MAX_IN_FLIGHT_PARTS, maxInFlightParts);
+            synchronized (this) {
+                collector.reportMetric(MultipartTransferMetric.IN_FLIGHT_PARTS_ADJUSTMENTS, adjustments);
+            }
+            double roundTrip = roundTripNanos.value();
+            if (!Double.isNaN(roundTrip)) {
+                collector.reportMetric(MultipartTransferMetric.ROUND_TRIP_TIME, Duration.ofNanos((long) roundTrip));
+            }
+            double throughput = connectionThroughput.value();
+            if (!Double.isNaN(throughput)) {
+                collector.reportMetric(MultipartTransferMetric.CONNECTION_THROUGHPUT, throughput);
+            }
+            if (successful) {
+                collector.reportMetric(MultipartTransferMetric.THROUGHPUT,
+                                       objectSize * NANOS_PER_SECOND / Math.max(1, durationNanos));
+            }
+            if (targetThroughput != null) {
+                collector.reportMetric(MultipartTransferMetric.TARGET_THROUGHPUT, targetThroughput);
+            }
+            MetricCollection metrics = collector.collect();
+            metricPublishers.forEach(p -> p.publish(metrics));
+        }
+    }
+
+    /**
+     * An exponentially weighted moving average, which is NaN until the first value is recorded.
+     */
+    private static final class MovingAverage {
+        private double value = Double.NaN;
+
+        synchronized void record(double sample) {
+            value = Double.isNaN(value) ? sample : value + SMOOTHING * (sample - value);
+        }
+
+        synchronized double value() {
+            return value;
+        }
+    }
+}
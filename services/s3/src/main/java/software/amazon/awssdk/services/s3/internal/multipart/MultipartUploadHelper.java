@@ -23,6 +23,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
@@ -49,11 +50,13 @@ public final class MultipartUploadHelper {
 
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
+    private final MultipartTransferTuner tuner;
 
     public MultipartUploadHelper(S3AsyncClient s3AsyncClient,
                                  long partSizeInBytes,
                                  long multipartUploadThresholdInBytes,
-                                 long maxMemoryUsageInBytes) {
+                                 long maxMemoryUsageInBytes,
+                                 MultipartTransferTuner tuner) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -61,13 +64,23 @@ public final class MultipartUploadHelper {
                                                                    SdkPojoConversionUtils::toPutObjectResponse);
         this.maxMemoryUsageInBytes = maxMemoryUsageInBytes;
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
+        this.tuner = tuner;
+    }
+
+    MultipartTransferTuner tuner() {
+        return tuner;
     }
 
     CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(PutObjectRequest putObjectRequest,
                                                                            CompletableFuture<PutObjectResponse> returnFuture) {
         CreateMultipartUploadRequest request = SdkPojoConversionUtils.toCreateMultipartUploadRequest(putObjectRequest);
+        long startNanos = System.nanoTime();
         CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
             s3AsyncClient.createMultipartUpload(request);
+        if (tuner.enabled()) {
+            // CreateMultipartUpload has no content, so its latency is the round-trip time to S3.
+            createMultipartUploadFuture.thenRun(() -> tuner.recordRoundTrip(System.nanoTime() - startNanos));
+        }
 
         // Ensure cancellations are forwarded to the createMultipartUploadFuture future
         CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
@@ -77,7 +90,18 @@ public final class MultipartUploadHelper {
     void completeMultipartUpload(CompletableFuture<PutObjectResponse> returnFuture,
                                  String uploadId,
                                  CompletedPart[] completedParts,
-                                 PutObjectRequest putObjectRequest) {
+                                 PutObjectRequest putObjectRequest,
+                                 FullObjectChecksumValidator checksumValidator) {
+        if (checksumValidator != null) {
+            try {
+                checksumValidator.validate(completedParts);
+            } catch (SdkClientException e) {
+                genericMultipartHelper.cleanUpParts(uploadId, toAbortMultipartUploadRequest(putObjectRequest));
+                genericMultipartHelper.handleException(returnFuture, () -> "Failed to validate the checksum of the object", e);
+                return;
+            }
+        }
+
         genericMultipartHelper.completeMultipartUpload(putObjectRequest,
                                                        uploadId,
                                                        completedParts)
@@ -93,18 +117,30 @@ public final class MultipartUploadHelper {
     CompletableFuture<CompletedPart> sendIndividualUploadPartRequest(String uploadId,
                                                                      Consumer<CompletedPart> completedPartsConsumer,
                                                                      Collection<CompletableFuture<CompletedPart>> futures,
-                                                                     Pair<UploadPartRequest, AsyncRequestBody> requestPair) {
+                                                                     Pair<UploadPartRequest, AsyncRequestBody> requestPair,
+                                                                     FullObjectChecksumValidator checksumValidator) {
         UploadPartRequest uploadPartRequest = requestPair.left();
         Integer partNumber = uploadPartRequest.partNumber();
         log.debug(() -> "Sending uploadPartRequest: " + uploadPartRequest.partNumber() + " uploadId: " + uploadId + " "
                         + "contentLength " + requestPair.right().contentLength());
 
+        long startNanos = System.nanoTime();
         CompletableFuture<UploadPartResponse> uploadPartFuture = s3AsyncClient.uploadPart(uploadPartRequest,
                                                                                           requestPair.right());
 
         CompletableFuture<CompletedPart> convertFuture =
-            uploadPartFuture.thenApply(uploadPartResponse -> convertUploadPartResponse(completedPartsConsumer, partNumber,
-                                                                                       uploadPartResponse));
+            uploadPartFuture.thenApply(uploadPartResponse -> {
+                if (tuner.enabled()) {
+                    requestPair.right().contentLength()
+                               .ifPresent(length -> tuner.recordPart(length, System.nanoTime() - startNanos));
+                }
+                if (checksumValidator != null) {
+                    // The part has been read by now, so its length is known even if the length of the object isn't.
+                    requestPair.right().contentLength()
+                               .ifPresent(length -> checksumValidator.recordPartLength(partNumber, length));
+                }
+                return convertUploadPartResponse(completedPartsConsumer, partNumber, uploadPartResponse);
+            });
         futures.add(convertFuture);
         CompletableFutureUtils.forwardExceptionTo(convertFuture, uploadPartFuture);
         return convertFuture;
@@ -115,10 +151,11 @@ public final class MultipartUploadHelper {
                                String uploadId,
                                CompletableFuture<PutObjectResponse> returnFuture,
                                PutObjectRequest putObjectRequest) {
-        genericMultipartHelper.handleException(returnFuture, () -> "Failed to send multipart upload requests", t);
+        // Send the abort request before failing the future, so that callers that observe the failure see the upload aborted.
         if (uploadId != null) {
             genericMultipartHelper.cleanUpParts(uploadId, toAbortMultipartUploadRequest(putObjectRequest));
         }
+        genericMultipartHelper.handleException(returnFuture, () -> "Failed to send multipart upload requests", t);
         cancelingOtherOngoingRequests(futures, t);
     }
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * Downloads the parts of an object concurrently, and publishes their content in order to an {@link AsyncResponseTransformer}.
+ * <p>
+ * Parts that are downloaded before the parts preceding them are buffered in memory until they can be published. A part is
+ * released once its content has been delivered to the subscriber of the transformer's stream, so at most the maximum number
+ * of parts in flight are held in memory.
+ */
+@SdkInternalApi
+final class OrderedMultipartDownload<ReturnT> extends MultipartDownload<ReturnT> {
+    private final AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer;
+    private final SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+
+    /**
+     * The parts that have been downloaded but not yet published, by part index.
+     */
+    private final Map<Integer, ByteBuffer> downloadedParts = new HashMap<>();
+    private int nextPartToPublish = 0;
+
+    OrderedMultipartDownload(Context context,
+                             AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer,
+                             CompletableFuture<ReturnT> returnFuture) {
+        super(context, returnFuture);
+        this.asyncResponseTransformer = asyncResponseTransformer;
+    }
+
+    @Override
+    void start(ResponseBytes<GetObjectResponse> firstPart) {
+        CompletableFuture<ReturnT> transformFuture = asyncResponseTransformer.prepare();
+        CompletableFutureUtils.forwardResultTo(transformFuture, returnFuture);
+
+        asyncResponseTransformer.onResponse(context.response());
+        asyncResponseTransformer.onStream(SdkPublisher.adapt(publisher));
+
+        onPartDownloaded(0, firstPart.asByteBuffer());
+        requestParts();
+    }
+
+    @Override
+    CompletableFuture<?> downloadPart(int partIndex, GetObjectRequest partRequest) {
+        return context.getObject(partRequest, AsyncResponseTransformer.toBytes())
+                      .thenAccept(part -> onPartDownloaded(partIndex, part.asByteBuffer()));
+    }
+
+    private synchronized void onPartDownloaded(int partIndex, ByteBuffer content) {
+        downloadedParts.put(partIndex, content);
+
+        // Parts are sent while holding the lock, so that they are sent to the publisher in order.
+        while (downloadedParts.containsKey(nextPartToPublish)) {
+            ByteBuffer part = downloadedParts.remove(nextPartToPublish++);
+            publisher.send(part).whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else {
+                    releasePart();
+                }
+            });
+        }
+
+        if (nextPartToPublish == context.partCount()) {
+            publisher.complete();
+        }
+    }
+
+    @Override
+    void onFailure(Throwable throwable) {
+        synchronized (this) {
+            downloadedParts.clear();
+        }
+        publisher.error(throwable);
+        asyncResponseTransformer.exceptionOccurred(throwable);
+    }
+}
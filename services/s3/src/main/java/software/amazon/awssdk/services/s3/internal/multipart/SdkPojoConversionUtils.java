@@ -58,6 +58,10 @@ public final class SdkPojoConversionUtils {
         UploadPartRequest.Builder builder = UploadPartRequest.builder();
 
         setSdkFields(builder, putObjectRequest, PUT_OBJECT_REQUEST_TO_UPLOAD_PART_FIELDS_TO_IGNORE);
+        if (putObjectRequest.checksumAlgorithm() == null) {
+            // Checksums of the whole object can't be sent with the parts, but are validated from the part checksums.
+            builder.checksumAlgorithm(FullObjectChecksumValidator.fullObjectChecksumAlgorithm(putObjectRequest));
+        }
 
         return builder.uploadId(uploadId).partNumber(partNumber).build();
     }
@@ -66,6 +70,9 @@ public final class SdkPojoConversionUtils {
 
         CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder();
         setSdkFields(builder, putObjectRequest);
+        if (putObjectRequest.checksumAlgorithm() == null) {
+            builder.checksumAlgorithm(FullObjectChecksumValidator.fullObjectChecksumAlgorithm(putObjectRequest));
+        }
         return builder.build();
     }
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.services.s3.internal.multipart;
 
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
@@ -41,6 +42,12 @@ public final class UploadObjectHelper {
 
     public UploadObjectHelper(S3AsyncClient s3AsyncClient,
                               MultipartConfigurationResolver resolver) {
+        this(s3AsyncClient, resolver, new MultipartTransferTuner(resolver, Collections.emptyList()));
+    }
+
+    public UploadObjectHelper(S3AsyncClient s3AsyncClient,
+                              MultipartConfigurationResolver resolver,
+                              MultipartTransferTuner tuner) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = resolver.minimalPartSizeInBytes();
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -51,11 +58,13 @@ public final class UploadObjectHelper {
         this.uploadWithKnownContentLength = new UploadWithKnownContentLengthHelper(s3AsyncClient,
                                                                                    partSizeInBytes,
                                                                                    multipartUploadThresholdInBytes,
-                                                                                   apiCallBufferSize);
+                                                                                   apiCallBufferSize,
+                                                                                   tuner);
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
-                                                                                       apiCallBufferSize);
+                                                                                       apiCallBufferSize,
+                                                                                       tuner);
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -51,11 +51,13 @@ public final class UploadWithKnownContentLengthHelper {
     private final long maxMemoryUsageInBytes;
     private final long multipartUploadThresholdInBytes;
     private final MultipartUploadHelper multipartUploadHelper;
+    private final MultipartTransferTuner tuner;
 
     public UploadWithKnownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                               long partSizeInBytes,
                                               long multipartUploadThresholdInBytes,
-                                              long maxMemoryUsageInBytes) {
+                                              long maxMemoryUsageInBytes,
+                                              MultipartTransferTuner tuner) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -64,7 +66,8 @@ public final class UploadWithKnownContentLengthHelper {
         this.maxMemoryUsageInBytes = maxMemoryUsageInBytes;
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
-                                                               maxMemoryUsageInBytes);
+                                                               maxMemoryUsageInBytes, tuner);
+        this.tuner = tuner;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -110,17 +113,20 @@ public final class UploadWithKnownContentLengthHelper {
                                  CompletableFuture<PutObjectResponse> returnFuture,
                                  String uploadId) {
 
-        long optimalPartSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
+        // Without auto-tuning, this is the configured part size, raised to respect the maximum number of parts.
+        long optimalPartSize = tuner.partSize(contentLength);
         int partCount = genericMultipartHelper.determinePartCount(contentLength, optimalPartSize);
         if (optimalPartSize > partSizeInBytes) {
             log.debug(() -> String.format("Configured partSize is %d, but using %d to prevent reaching maximum number of parts "
-                                          + "allowed", partSizeInBytes, optimalPartSize));
+                                          + "allowed or to reduce the share of round-trip time per part", partSizeInBytes,
+                                          optimalPartSize));
         }
 
         log.debug(() -> String.format("Starting multipart upload with partCount: %d, optimalPartSize: %d", partCount,
                                       optimalPartSize));
 
-        MpuRequestContext mpuRequestContext = new MpuRequestContext(request, contentLength, optimalPartSize, uploadId);
+        MpuRequestContext mpuRequestContext = new MpuRequestContext(request, contentLength, optimalPartSize, partCount,
+                                                                    uploadId);
 
         request.right()
                .split(b -> b.chunkSizeInBytes(mpuRequestContext.partSize)
@@ -133,16 +139,19 @@ public final class UploadWithKnownContentLengthHelper {
         private final Pair<PutObjectRequest, AsyncRequestBody> request;
         private final long contentLength;
         private final long partSize;
+        private final int partCount;
 
         private final String uploadId;
 
         private MpuRequestContext(Pair<PutObjectRequest, AsyncRequestBody> request,
                                   long contentLength,
                                   long partSize,
+                                  int partCount,
                                   String uploadId) {
             this.request = request;
             this.contentLength = contentLength;
             this.partSize = partSize;
+            this.partCount = partCount;
             this.uploadId = uploadId;
         }
     }
@@ -168,20 +177,29 @@ public final class UploadWithKnownContentLengthHelper {
         private final Collection<CompletableFuture<CompletedPart>> futures = new ConcurrentLinkedQueue<>();
 
         private final PutObjectRequest putObjectRequest;
+        private final FullObjectChecksumValidator checksumValidator;
         private final CompletableFuture<PutObjectResponse> returnFuture;
+        private final MultipartTransferTuner.Session tuningSession;
         private Subscription subscription;
 
+        /**
+         * The number of parts requested from the subscription but not received yet, when auto-tuning bounds the parts in
+         * flight. Guarded by this.
+         */
+        private int outstandingDemand;
+
         private volatile boolean isDone;
 
         KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
                                                      CompletableFuture<PutObjectResponse> returnFuture) {
-            long optimalPartSize = genericMultipartHelper.calculateOptimalPartSizeFor(mpuRequestContext.contentLength,
-                                                                                      partSizeInBytes);
-            int partCount = genericMultipartHelper.determinePartCount(mpuRequestContext.contentLength, optimalPartSize);
             this.putObjectRequest = mpuRequestContext.request.left();
+            this.checksumValidator = FullObjectChecksumValidator.create(putObjectRequest);
             this.returnFuture = returnFuture;
-            this.completedParts = new AtomicReferenceArray<>(partCount);
+            this.completedParts = new AtomicReferenceArray<>(mpuRequestContext.partCount);
             this.uploadId = mpuRequestContext.uploadId;
+            this.tuningSession = tuner.newSession("PutObject", mpuRequestContext.contentLength, mpuRequestContext.partSize,
+                                                  mpuRequestContext.partCount);
+            returnFuture.whenComplete((r, t) -> tuningSession.complete(t == null));
         }
 
         @Override
@@ -192,7 +210,7 @@ public final class UploadWithKnownContentLengthHelper {
                 return;
             }
             this.subscription = s;
-            s.request(1);
+            requestNextParts();
             returnFuture.whenComplete((r, t) -> {
                 if (t != null) {
                     s.cancel();
@@ -207,6 +225,11 @@ public final class UploadWithKnownContentLengthHelper {
         public void onNext(AsyncRequestBody asyncRequestBody) {
             log.trace(() -> "Received asyncRequestBody " + asyncRequestBody.contentLength());
             asyncRequestBodyInFlight.incrementAndGet();
+            if (tuner.enabled()) {
+                synchronized (this) {
+                    outstandingDemand--;
+                }
+            }
             UploadPartRequest uploadRequest =
                 SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
                                                            partNumber.getAndIncrement(),
@@ -215,7 +238,7 @@ public final class UploadWithKnownContentLengthHelper {
             Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
                                                                                                 completedPart);
             multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
-                                                                  Pair.of(uploadRequest, asyncRequestBody))
+                                                                  Pair.of(uploadRequest, asyncRequestBody), checksumValidator)
                                  .whenComplete((r, t) -> {
                                      if (t != null) {
                                          if (failureActionInitiated.compareAndSet(false, true)) {
@@ -223,10 +246,33 @@ public final class UploadWithKnownContentLengthHelper {
                                                                                          putObjectRequest);
                                          }
                                      } else {
+                                         asyncRequestBody.contentLength().ifPresent(tuningSession::partCompleted);
                                          completeMultipartUploadIfFinish(asyncRequestBodyInFlight.decrementAndGet());
+                                         if (tuner.enabled() && !isDone) {
+                                             requestNextParts();
+                                         }
                                      }
                                  });
-            subscription.request(1);
+            requestNextParts();
+        }
+
+        /**
+         * Request the next part, or, with auto-tuning, as many parts as the number of parts in flight allows.
+         */
+        private void requestNextParts() {
+            if (!tuner.enabled()) {
+                subscription.request(1);
+                return;
+            }
+            int parts;
+            synchronized (this) {
+                parts = tuningSession.maxInFlightParts() - asyncRequestBodyInFlight.get() - outstandingDemand;
+                if (parts <= 0) {
+                    return;
+                }
+                outstandingDemand += parts;
+            }
+            subscription.request(parts);
         }
 
         @Override
@@ -250,7 +296,8 @@ public final class UploadWithKnownContentLengthHelper {
                     IntStream.range(0, completedParts.length())
                              .mapToObj(completedParts::get)
                              .toArray(CompletedPart[]::new);
-                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
+                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest,
+                                                              checksumValidator);
             }
         }
 
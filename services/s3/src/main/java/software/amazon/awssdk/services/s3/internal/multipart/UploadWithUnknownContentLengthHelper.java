@@ -57,7 +57,8 @@ public final class UploadWithUnknownContentLengthHelper {
     public UploadWithUnknownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                                 long partSizeInBytes,
                                                 long multipartUploadThresholdInBytes,
-                                                long maxMemoryUsageInBytes) {
+                                                long maxMemoryUsageInBytes,
+                                                MultipartTransferTuner tuner) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -66,7 +67,7 @@ public final class UploadWithUnknownContentLengthHelper {
         this.maxMemoryUsageInBytes = maxMemoryUsageInBytes;
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
-                                                               maxMemoryUsageInBytes);
+                                                               maxMemoryUsageInBytes, tuner);
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -115,6 +116,7 @@ public final class UploadWithUnknownContentLengthHelper {
 
         private final long maximumChunkSizeInByte;
         private final PutObjectRequest putObjectRequest;
+        private final FullObjectChecksumValidator checksumValidator;
         private final CompletableFuture<PutObjectResponse> returnFuture;
         private Subscription subscription;
         private AsyncRequestBody firstRequestBody;
@@ -127,6 +129,7 @@ public final class UploadWithUnknownContentLengthHelper {
                                                        CompletableFuture<PutObjectResponse> returnFuture) {
             this.maximumChunkSizeInByte = maximumChunkSizeInByte;
             this.putObjectRequest = putObjectRequest;
+            this.checksumValidator = FullObjectChecksumValidator.create(putObjectRequest);
             this.returnFuture = returnFuture;
         }
 
@@ -193,7 +196,7 @@ public final class UploadWithUnknownContentLengthHelper {
 
         private void sendUploadPartRequest(String uploadId, AsyncRequestBody asyncRequestBody) {
             multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedParts::add, futures,
-                                                                  uploadPart(asyncRequestBody))
+                                                                  uploadPart(asyncRequestBody), checksumValidator)
                 .whenComplete((r, t) -> {
                     if (t != null) {
                         if (failureActionInitiated.compareAndSet(false, true)) {
@@ -242,7 +245,8 @@ public final class UploadWithUnknownContentLengthHelper {
                 CompletedPart[] parts = completedParts.stream()
                                                       .sorted(Comparator.comparingInt(CompletedPart::partNumber))
                                                       .toArray(CompletedPart[]::new);
-                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
+                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest,
+                                                              checksumValidator);
             }
         }
     }
@@ -32,9 +32,8 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * {@link S3AsyncClient#putObject(Consumer, AsyncRequestBody)}, {@link S3AsyncClient#copyObject(CopyObjectRequest)} to their
  * respective multipart operation.
  * <p>
- * <em>Note</em>: The multipart operation for {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} is
- * temporarily disabled and will result in throwing a {@link UnsupportedOperationException} if called when configured for
- * multipart operation.
+ * {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} downloads objects larger than the part size in
+ * parts, with concurrent ranged GET requests. Requests that specify a range or a part number are sent as they are.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -42,11 +41,15 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Boolean autoTuningEnabled;
+    private final Double targetThroughputInGbps;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.autoTuningEnabled = builder.autoTuningEnabled;
+        this.targetThroughputInGbps = builder.targetThroughputInGbps;
     }
 
     public static Builder builder() {
@@ -58,7 +61,9 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .autoTuningEnabled(autoTuningEnabled)
+            .targetThroughputInGbps(targetThroughputInGbps);
     }
 
     /**
@@ -87,6 +92,22 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * Whether the part size and the number of parts in flight are tuned from the measured throughput and latency.
+     * @return the value of the configured auto-tuning flag.
+     */
+    public Boolean autoTuningEnabled() {
+        return this.autoTuningEnabled;
+    }
+
+    /**
+     * The throughput, in gigabits per second, that auto-tuning aims for.
+     * @return the value of the configured target throughput.
+     */
+    public Double targetThroughputInGbps() {
+        return this.targetThroughputInGbps;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -120,7 +141,7 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
 
         /**
          * Configures the part size, in bytes, to be used in each individual part requests.
-         * Only used for putObject and copyObject operations.
+         * Used for putObject, copyObject and getObject operations.
          * <p>
          * When uploading large payload, the size of the payload of each individual part requests might actually be
          * bigger than
@@ -149,6 +170,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * Configures the maximum amount of memory, in bytes, the SDK will use to buffer content of requests in memory.
          * Increasing this value may lead to better performance at the cost of using more memory.
          * <p>
+         * For getObject, this also bounds the number of parts downloaded concurrently, to this value divided by the part size.
+         * <p>
          * Default value: If not specified, the SDK will use the equivalent of four parts worth of memory, so 32 Mib by default.
          *
          * @param apiCallBufferSizeInBytes the value of the maximum memory usage.
@@ -161,12 +184,56 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures whether the part size and the number of parts in flight of multipart uploads and downloads are tuned from
+         * the throughput and the round-trip time measured by the client.
+         * <p>
+         * When enabled, the part size is grown above {@link #minimumPartSizeInBytes(Long)} so that the round-trip time of a part
+         * request stays small compared to the time it takes to transfer the part, and the number of parts in flight is adjusted
+         * while the object is transferred, to reach {@link #targetThroughputInGbps(Double)}, or, if it isn't set, until adding
+         * parts in flight no longer increases the throughput. Both stay within {@link #apiCallBufferSizeInBytes(Long)} and the
+         * maximum number of parts of a multipart upload. The decisions are published as
+         * {@link MultipartTransferMetric}s to the metric publishers of the client.
+         * <p>
+         * Default value: false
+         *
+         * @param autoTuningEnabled whether to enable auto-tuning.
+         * @return an instance of this builder.
+         */
+        Builder autoTuningEnabled(Boolean autoTuningEnabled);
+
+        /**
+         * Indicates whether auto-tuning is enabled.
+         * @return the value of the auto-tuning flag.
+         */
+        Boolean autoTuningEnabled();
+
+        /**
+         * Configures the throughput, in gigabits per second, that auto-tuning aims for with each multipart transfer. Only used
+         * when {@link #autoTuningEnabled(Boolean)} is true.
+         * <p>
+         * Default value: If not specified, auto-tuning adds parts in flight for as long as it increases the throughput, to
+         * saturate the network interface.
+         *
+         * @param targetThroughputInGbps the value of the target throughput.
+         * @return an instance of this builder.
+         */
+        Builder targetThroughputInGbps(Double targetThroughputInGbps);
+
+        /**
+         * Indicates the value of the target throughput.
+         * @return the value of the target throughput.
+         */
+        Double targetThroughputInGbps();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Boolean autoTuningEnabled;
+        private Double targetThroughputInGbps;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -197,6 +264,28 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder autoTuningEnabled(Boolean autoTuningEnabled) {
+            this.autoTuningEnabled = autoTuningEnabled;
+            return this;
+        }
+
+        @Override
+        public Boolean autoTuningEnabled() {
+            return autoTuningEnabled;
+        }
+
+        @Override
+        public Builder targetThroughputInGbps(Double targetThroughputInGbps) {
+            this.targetThroughputInGbps = targetThroughputInGbps;
+            return this;
+        }
+
+        @Override
+        public Double targetThroughputInGbps() {
+            return targetThroughputInGbps;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
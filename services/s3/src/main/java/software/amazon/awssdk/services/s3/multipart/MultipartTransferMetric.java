@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics published for every multipart upload and multipart download of an {@code S3AsyncClient} with
+ * {@link MultipartConfiguration.Builder#autoTuningEnabled(Boolean)}, to the metric publishers of the client.
+ * <p>
+ * Each collection also holds the {@link CoreMetric#OPERATION_NAME} ({@code "PutObject"} or {@code "GetObject"}), and the
+ * {@link CoreMetric#API_CALL_SUCCESSFUL} and {@link CoreMetric#API_CALL_DURATION} of the transfer.
+ */
+@SdkPublicApi
+public final class MultipartTransferMetric {
+    /**
+     * The part size chosen for the transfer.
+     */
+    public static final SdkMetric<Long> PART_SIZE_IN_BYTES =
+        metric("PartSizeInBytes", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of parts of the transfer.
+     */
+    public static final SdkMetric<Integer> PART_COUNT =
+        metric("PartCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of parts in flight the transfer started with.
+     */
+    public static final SdkMetric<Integer> INITIAL_MAX_IN_FLIGHT_PARTS =
+        metric("InitialMaxInFlightParts", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of parts in flight the transfer ended with.
+     */
+    public static final SdkMetric<Integer> MAX_IN_FLIGHT_PARTS =
+        metric("MaxInFlightParts", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of times the number of parts in flight was changed during the transfer.
+     */
+    public static final SdkMetric<Integer> IN_FLIGHT_PARTS_ADJUSTMENTS =
+        metric("InFlightPartsAdjustments", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The round-trip time measured by the client when the transfer ended, from the time to the first byte of responses.
+     */
+    public static final SdkMetric<Duration> ROUND_TRIP_TIME =
+        metric("RoundTripTime", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The throughput of a single part request, in bytes per second, measured by the client when the transfer ended.
+     */
+    public static final SdkMetric<Double> CONNECTION_THROUGHPUT =
+        metric("ConnectionThroughput", Double.class, MetricLevel.INFO);
+
+    /**
+     * The throughput of the transfer, in bytes per second.
+     */
+    public static final SdkMetric<Double> THROUGHPUT =
+        metric("Throughput", Double.class, MetricLevel.INFO);
+
+    /**
+     * The configured target throughput, in bytes per second. Not reported when no target is configured.
+     */
+    public static final SdkMetric<Double> TARGET_THROUGHPUT =
+        metric("TargetThroughput", Double.class, MetricLevel.INFO);
+
+    private MultipartTransferMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
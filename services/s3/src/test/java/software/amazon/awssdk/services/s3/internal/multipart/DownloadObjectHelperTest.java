@@ -0,0 +1,349 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.multipart.MultipartTransferMetric;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+public class DownloadObjectHelperTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final String ETAG = "\"etag\"";
+    private static final long PART_SIZE = 8 * 1024;
+
+    // Should contain four parts: [8KB, 8KB, 8KB, 1KB]
+    private static final int OBJECT_SIZE = 25 * 1024;
+
+    private S3AsyncClient s3AsyncClient;
+    private DownloadObjectHelper downloadHelper;
+    private byte[] content;
+    private Path testDirectory;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        s3AsyncClient = Mockito.mock(S3AsyncClient.class);
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(PART_SIZE)
+                                                                     .apiCallBufferSizeInBytes(PART_SIZE * 2)
+                                                                     .build();
+        downloadHelper = new DownloadObjectHelper(s3AsyncClient, new MultipartConfigurationResolver(configuration));
+        testDirectory = Files.createTempDirectory("DownloadObjectHelperTest");
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        try (Stream<Path> files = Files.list(testDirectory)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(testDirectory);
+    }
+
+    @Test
+    void downloadObject_multipleParts_shouldReassembleContentInOrder() {
+        stubGetObjectCalls(OBJECT_SIZE);
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEqualTo(content);
+        assertThat(result.response().contentLength()).isEqualTo(OBJECT_SIZE);
+        assertThat(result.response().contentRange()).isNull();
+        assertThat(requestedRanges()).containsExactlyInAnyOrder("bytes=0-8191", "bytes=8192-16383", "bytes=16384-24575",
+                                                                "bytes=24576-25599");
+    }
+
+    @Test
+    void downloadObject_multipleParts_shouldRequestPartsForTheVersionOfTheFirstPart() {
+        stubGetObjectCalls(OBJECT_SIZE);
+
+        downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        List<GetObjectRequest> requests = requests();
+        assertThat(requests.get(0).ifMatch()).isNull();
+        assertThat(requests.subList(1, requests.size())).allSatisfy(r -> assertThat(r.ifMatch()).isEqualTo(ETAG));
+    }
+
+    @Test
+    void downloadObject_toFile_shouldWritePartsAtTheirOffsets() throws Exception {
+        stubGetObjectCalls(OBJECT_SIZE);
+        Path file = testDirectory.resolve("object");
+
+        GetObjectResponse response =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toFile(file)).get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        assertThat(response.contentLength()).isEqualTo(OBJECT_SIZE);
+        verify(s3AsyncClient, times(4)).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+    }
+
+    @Test
+    void downloadObject_toFileWithListener_shouldWritePartsAtTheirOffsetsAndNotifyListener() throws Exception {
+        stubGetObjectCalls(OBJECT_SIZE);
+        Path file = testDirectory.resolve("object");
+        AtomicLong bytesTransferred = new AtomicLong();
+        AtomicReference<GetObjectResponse> response = new AtomicReference<>();
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+            AsyncResponseTransformerListener.wrap(AsyncResponseTransformer.toFile(file),
+                                                  new AsyncResponseTransformerListener<GetObjectResponse>() {
+                                                      @Override
+                                                      public void transformerOnResponse(GetObjectResponse r) {
+                                                          response.set(r);
+                                                      }
+
+                                                      @Override
+                                                      public void subscriberOnNext(ByteBuffer byteBuffer) {
+                                                          bytesTransferred.addAndGet(byteBuffer.remaining());
+                                                      }
+                                                  });
+
+        downloadHelper.downloadObject(getObjectRequest(), transformer).get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        assertThat(bytesTransferred).hasValue(OBJECT_SIZE);
+        assertThat(response.get().contentLength()).isEqualTo(OBJECT_SIZE);
+    }
+
+    @Test
+    void downloadObject_toFileWithListenerPartRetried_shouldNotifyListenerOfEachByteOnce() throws Exception {
+        stubGetObjectCalls(OBJECT_SIZE);
+        Mockito.doAnswer(this::getObjectAfterFailedAttempt)
+               .when(s3AsyncClient).getObject(Mockito.<GetObjectRequest>argThat(r -> "bytes=8192-16383".equals(r.range())),
+                                              any(AsyncResponseTransformer.class));
+        Path file = testDirectory.resolve("object");
+        AtomicLong bytesTransferred = new AtomicLong();
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+            AsyncResponseTransformerListener.wrap(AsyncResponseTransformer.toFile(file),
+                                                  new AsyncResponseTransformerListener<GetObjectResponse>() {
+                                                      @Override
+                                                      public void subscriberOnNext(ByteBuffer byteBuffer) {
+                                                          bytesTransferred.addAndGet(byteBuffer.remaining());
+                                                      }
+                                                  });
+
+        downloadHelper.downloadObject(getObjectRequest(), transformer).get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        assertThat(bytesTransferred).hasValue(OBJECT_SIZE);
+    }
+
+    @Test
+    void downloadObject_toFilePartFailed_shouldLeaveContentWrittenContiguouslyFromStart() throws Exception {
+        stubGetObjectCalls(OBJECT_SIZE);
+        S3Exception exception = (S3Exception) S3Exception.builder().statusCode(500).message("part failed").build();
+        doReturn(CompletableFutureUtils.failedFuture(exception))
+            .when(s3AsyncClient).getObject(Mockito.<GetObjectRequest>argThat(r -> "bytes=16384-24575".equals(r.range())),
+                                           any(AsyncResponseTransformer.class));
+        Path file = testDirectory.resolve("object");
+
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer =
+            AsyncResponseTransformer.toFile(file, FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+
+        CompletableFuture<GetObjectResponse> future = downloadHelper.downloadObject(getObjectRequest(), transformer);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCause(exception);
+        byte[] written = Files.readAllBytes(file);
+        assertThat(written.length % PART_SIZE).isZero();
+        assertThat((long) written.length).isLessThanOrEqualTo(2 * PART_SIZE);
+        assertThat(written).isEqualTo(Arrays.copyOf(content, written.length));
+    }
+
+    @Test
+    void downloadObject_objectSmallerThanPart_shouldDownloadWithOneRequest() {
+        stubGetObjectCalls((int) PART_SIZE - 1);
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEqualTo(content);
+        assertThat(requestedRanges()).containsExactly("bytes=0-8191");
+    }
+
+    @Test
+    void downloadObject_emptyObject_shouldFallBackToSingleRequest() {
+        stubGetObjectCalls(0);
+
+        ResponseBytes<GetObjectResponse> result =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEmpty();
+        assertThat(requestedRanges()).containsExactly("bytes=0-8191", null);
+    }
+
+    @Test
+    void downloadObject_rangeSpecified_shouldNotDownloadInParts() {
+        stubGetObjectCalls(OBJECT_SIZE);
+
+        GetObjectRequest request = getObjectRequest().toBuilder().range("bytes=0-20000").build();
+        ResponseBytes<GetObjectResponse> result = downloadHelper.downloadObject(request, AsyncResponseTransformer.toBytes())
+                                                                .join();
+
+        assertThat(result.asByteArray()).hasSize(20001);
+        assertThat(requestedRanges()).containsExactly("bytes=0-20000");
+    }
+
+    @Test
+    void downloadObject_onePartFailed_shouldFailDownload() {
+        stubGetObjectCalls(OBJECT_SIZE);
+        S3Exception exception = (S3Exception) S3Exception.builder().statusCode(500).message("part failed").build();
+        doReturn(CompletableFutureUtils.failedFuture(exception))
+            .when(s3AsyncClient).getObject(Mockito.<GetObjectRequest>argThat(r -> "bytes=8192-16383".equals(r.range())),
+                                           any(AsyncResponseTransformer.class));
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> future =
+            downloadHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes());
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCause(exception);
+    }
+
+    @Test
+    void downloadObject_autoTuningEnabled_shouldDownloadAllPartsAndPublishMetrics() {
+        stubGetObjectCalls(OBJECT_SIZE);
+        List<MetricCollection> published = new ArrayList<>();
+        MultipartConfigurationResolver resolver =
+            new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(PART_SIZE)
+                                                                     .apiCallBufferSizeInBytes(PART_SIZE * 2)
+                                                                     .autoTuningEnabled(true)
+                                                                     .build());
+        MetricPublisher publisher = Mockito.mock(MetricPublisher.class);
+        Mockito.doAnswer(i -> published.add(i.getArgument(0))).when(publisher).publish(any(MetricCollection.class));
+        DownloadObjectHelper tunedHelper =
+            new DownloadObjectHelper(s3AsyncClient, resolver,
+                                     new MultipartTransferTuner(resolver, Collections.singletonList(publisher)));
+
+        ResponseBytes<GetObjectResponse> result =
+            tunedHelper.downloadObject(getObjectRequest(), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(result.asByteArray()).isEqualTo(content);
+        // The memory budget only leaves room for parts of the minimum part size
+        assertThat(requestedRanges()).containsExactlyInAnyOrder("bytes=0-8191", "bytes=8192-16383", "bytes=16384-24575",
+                                                                "bytes=24576-25599");
+        assertThat(published).hasSize(1);
+        assertThat(published.get(0).metricValues(MultipartTransferMetric.PART_COUNT)).containsExactly(4);
+        assertThat(published.get(0).metricValues(MultipartTransferMetric.ROUND_TRIP_TIME)).hasSize(1);
+    }
+
+    private void stubGetObjectCalls(int objectSize) {
+        content = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class)))
+            .thenAnswer(this::getObject);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> getObject(InvocationOnMock invocation) {
+        GetObjectRequest request = invocation.getArgument(0);
+        AsyncResponseTransformer<GetObjectResponse, Object> transformer = invocation.getArgument(1);
+
+        int start = 0;
+        int end = content.length - 1;
+        GetObjectResponse.Builder response = GetObjectResponse.builder().eTag(ETAG);
+        if (request.range() != null) {
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            start = Integer.parseInt(range[0]);
+            if (start >= content.length) {
+                return CompletableFutureUtils.failedFuture(S3Exception.builder().statusCode(416).build());
+            }
+            end = Math.min(Integer.parseInt(range[1]), content.length - 1);
+            response.contentRange(String.format("bytes %d-%d/%d", start, end, content.length));
+        }
+        byte[] body = Arrays.copyOfRange(content, start, end + 1);
+
+        CompletableFuture<Object> future = transformer.prepare();
+        transformer.onResponse(response.contentLength((long) body.length).build());
+        transformer.onStream(SdkPublisher.adapt(AsyncRequestBody.fromBytes(body)));
+        return future;
+    }
+
+    /**
+     * Stream half of the part in an attempt that fails, then retry the request, as the SDK does with the same transformer.
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> getObjectAfterFailedAttempt(InvocationOnMock invocation) {
+        GetObjectRequest request = invocation.getArgument(0);
+        AsyncResponseTransformer<GetObjectResponse, Object> transformer = invocation.getArgument(1);
+        int start = Integer.parseInt(request.range().substring("bytes=".length()).split("-")[0]);
+
+        transformer.prepare();
+        transformer.onResponse(GetObjectResponse.builder().eTag(ETAG).contentLength(PART_SIZE).build());
+        SimplePublisher<ByteBuffer> failedAttempt = new SimplePublisher<>();
+        transformer.onStream(SdkPublisher.adapt(failedAttempt));
+        failedAttempt.send(ByteBuffer.wrap(Arrays.copyOfRange(content, start, start + (int) PART_SIZE / 2)));
+        failedAttempt.error(new RuntimeException("Connection reset"));
+
+        return getObject(invocation);
+    }
+
+    private List<GetObjectRequest> requests() {
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3AsyncClient, Mockito.atLeastOnce()).getObject(captor.capture(), any(AsyncResponseTransformer.class));
+        return captor.getAllValues();
+    }
+
+    private List<String> requestedRanges() {
+        return requests().stream().map(GetObjectRequest::range).collect(Collectors.toList());
+    }
+
+    private static GetObjectRequest getObjectRequest() {
+        return GetObjectRequest.builder().bucket(BUCKET).key(KEY).build();
+    }
+}
@@ -80,4 +80,23 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
     }
+
+    @Test
+    void autoTuning_valueNotProvided_shouldBeDisabled() {
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                                           .build());
+        assertThat(resolver.autoTuningEnabled()).isFalse();
+        assertThat(resolver.targetThroughputInBytesPerSecond()).isNull();
+    }
+
+    @Test
+    void targetThroughput_valueProvided_shouldConvertToBytesPerSecond() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .autoTuningEnabled(true)
+                                                                     .targetThroughputInGbps(10.0)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.autoTuningEnabled()).isTrue();
+        assertThat(resolver.targetThroughputInBytesPerSecond()).isEqualTo(1_250_000_000.0);
+    }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.multipart.MultipartTransferMetric;
+
+public class MultipartTransferTunerTest {
+    private static final long MIB = 1024 * 1024;
+    private static final long PART_SIZE = 8 * MIB;
+
+    @Test
+    void partSize_autoTuningDisabled_shouldUseMinimumPartSizeWithinMaximumNumberOfParts() {
+        MultipartTransferTuner tuner = tuner(MultipartConfiguration.builder().minimumPartSizeInBytes(PART_SIZE));
+        recordHighLatency(tuner);
+
+        assertThat(tuner.partSize(100 * MIB)).isEqualTo(PART_SIZE);
+        assertThat(tuner.partSize(200_000 * MIB)).isEqualTo(20 * MIB);
+    }
+
+    @Test
+    void partSize_noMeasurement_shouldUseMinimumPartSize() {
+        MultipartTransferTuner tuner = tuner(autoTuning());
+
+        assertThat(tuner.partSize(100 * MIB)).isEqualTo(PART_SIZE);
+    }
+
+    @Test
+    void partSize_highLatency_shouldGrowPartSoRoundTripIsATenthOfPartTime() {
+        MultipartTransferTuner tuner = tuner(autoTuning().apiCallBufferSizeInBytes(512 * MIB));
+        recordHighLatency(tuner);
+
+        // 100 MB/s for 9 round trips of 100 ms is 90 MB, rounded up to whole MiB
+        assertThat(tuner.partSize(1024 * MIB)).isEqualTo(86 * MIB);
+    }
+
+    @Test
+    void partSize_highLatency_shouldLeaveRoomForTwoPartsInMemoryBudget() {
+        MultipartTransferTuner tuner = tuner(autoTuning().apiCallBufferSizeInBytes(64 * MIB));
+        recordHighLatency(tuner);
+
+        assertThat(tuner.partSize(1024 * MIB)).isEqualTo(32 * MIB);
+    }
+
+    @Test
+    void partSize_objectTooLargeForTunedPartSize_shouldRespectMaximumNumberOfParts() {
+        MultipartTransferTuner tuner = tuner(autoTuning().apiCallBufferSizeInBytes(64 * MIB));
+        recordHighLatency(tuner);
+
+        long objectSize = 1_000_000 * MIB;
+        assertThat(tuner.partSize(objectSize)).isEqualTo(objectSize / MultipartTransferTuner.MAX_PARTS);
+    }
+
+    @Test
+    void session_autoTuningDisabled_shouldAllowPartsThatFitInMemoryBudget() {
+        MultipartTransferTuner tuner = tuner(MultipartConfiguration.builder()
+                                                                   .minimumPartSizeInBytes(PART_SIZE)
+                                                                   .apiCallBufferSizeInBytes(PART_SIZE * 4));
+        MultipartTransferTuner.Session session = tuner.newSession("PutObject", 100 * MIB, PART_SIZE, 13);
+        for (int i = 0; i < 8; i++) {
+            session.partCompleted(PART_SIZE);
+        }
+
+        assertThat(session.maxInFlightParts()).isEqualTo(4);
+    }
+
+    @Test
+    void session_targetThroughput_shouldStartWithPartsNeededForTarget() {
+        MultipartTransferTuner tuner = tuner(autoTuning().targetThroughputInGbps(2.0)
+                                                         .apiCallBufferSizeInBytes(PART_SIZE * 16));
+        recordHighLatency(tuner);
+
+        MultipartTransferTuner.Session session = tuner.newSession("GetObject", 100 * MIB, PART_SIZE, 13);
+
+        // 250 MB/s at 100 MB/s per part request
+        assertThat(session.maxInFlightParts()).isEqualTo(3);
+    }
+
+    @Test
+    void session_targetThroughputBeyondMemoryBudget_shouldStartWithinMemoryBudget() {
+        MultipartTransferTuner tuner = tuner(autoTuning().targetThroughputInGbps(100.0)
+                                                         .apiCallBufferSizeInBytes(PART_SIZE * 4));
+        recordHighLatency(tuner);
+
+        MultipartTransferTuner.Session session = tuner.newSession("GetObject", 100 * MIB, PART_SIZE, 13);
+
+        assertThat(session.maxInFlightParts()).isEqualTo(4);
+    }
+
+    @Test
+    void session_roundAboveTargetThroughput_shouldRemovePartsInFlight() {
+        MultipartTransferTuner tuner = tuner(autoTuning().targetThroughputInGbps(2.0)
+                                                         .apiCallBufferSizeInBytes(PART_SIZE * 16));
+        recordHighLatency(tuner);
+        MultipartTransferTuner.Session session = tuner.newSession("GetObject", 100 * MIB, PART_SIZE, 13);
+
+        // Parts completing at once are far above the target throughput
+        for (int i = 0; i < 3; i++) {
+            session.partCompleted(PART_SIZE);
+        }
+
+        assertThat(session.maxInFlightParts()).isEqualTo(2);
+    }
+
+    @Test
+    void session_noTargetThroughput_shouldAddPartsInFlightAfterFirstRound() {
+        MultipartTransferTuner tuner = tuner(autoTuning().apiCallBufferSizeInBytes(PART_SIZE * 8));
+        MultipartTransferTuner.Session session = tuner.newSession("PutObject", 100 * MIB, PART_SIZE, 13);
+        assertThat(session.maxInFlightParts()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            session.partCompleted(PART_SIZE);
+        }
+
+        assertThat(session.maxInFlightParts()).isEqualTo(5);
+    }
+
+    @Test
+    void session_noTargetThroughput_shouldStartWithPartsInFlightOfLastTransfer() {
+        MultipartTransferTuner tuner = tuner(autoTuning().apiCallBufferSizeInBytes(PART_SIZE * 8));
+        MultipartTransferTuner.Session first = tuner.newSession("PutObject", 100 * MIB, PART_SIZE, 13);
+        for (int i = 0; i < 4; i++) {
+            first.partCompleted(PART_SIZE);
+        }
+        first.complete(true);
+
+        MultipartTransferTuner.Session second = tuner.newSession("PutObject", 100 * MIB, PART_SIZE, 13);
+
+        assertThat(second.maxInFlightParts()).isEqualTo(5);
+    }
+
+    @Test
+    void complete_autoTuningEnabled_shouldPublishDecisions() {
+        List<MetricCollection> published = new ArrayList<>();
+        MetricPublisher publisher = new MetricPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                published.add(metricCollection);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        MultipartConfiguration configuration = autoTuning().targetThroughputInGbps(2.0)
+                                                           .apiCallBufferSizeInBytes(PART_SIZE * 16)
+                                                           .build();
+        MultipartTransferTuner tuner = new MultipartTransferTuner(new MultipartConfigurationResolver(configuration),
+                                                                  Collections.singletonList(publisher));
+        recordHighLatency(tuner);
+
+        MultipartTransferTuner.Session session = tuner.newSession("GetObject", 100 * MIB, PART_SIZE, 13);
+        session.complete(true);
+        session.complete(true);
+
+        assertThat(published).hasSize(1);
+        MetricCollection metrics = published.get(0);
+        assertThat(metrics.metricValues(CoreMetric.OPERATION_NAME)).containsExactly("GetObject");
+        assertThat(metrics.metricValues(CoreMetric.API_CALL_SUCCESSFUL)).containsExactly(true);
+        assertThat(metrics.metricValues(MultipartTransferMetric.PART_SIZE_IN_BYTES)).containsExactly(PART_SIZE);
+        assertThat(metrics.metricValues(MultipartTransferMetric.PART_COUNT)).containsExactly(13);
+        assertThat(metrics.metricValues(MultipartTransferMetric.INITIAL_MAX_IN_FLIGHT_PARTS)).containsExactly(3);
+        assertThat(metrics.metricValues(MultipartTransferMetric.MAX_IN_FLIGHT_PARTS)).containsExactly(3);
+        assertThat(metrics.metricValues(MultipartTransferMetric.ROUND_TRIP_TIME)).containsExactly(Duration.ofMillis(100));
+        assertThat(metrics.metricValues(MultipartTransferMetric.CONNECTION_THROUGHPUT)).containsExactly(100_000_000.0);
+        assertThat(metrics.metricValues(MultipartTransferMetric.TARGET_THROUGHPUT)).containsExactly(250_000_000.0);
+    }
+
+    private static MultipartConfiguration.Builder autoTuning() {
+        return MultipartConfiguration.builder()
+                                     .minimumPartSizeInBytes(PART_SIZE)
+                                     .autoTuningEnabled(true);
+    }
+
+    private static MultipartTransferTuner tuner(MultipartConfiguration.Builder configuration) {
+        return new MultipartTransferTuner(new MultipartConfigurationResolver(configuration.build()), Collections.emptyList());
+    }
+
+    /**
+     * Record a round-trip time of 100 ms and a part of 10 MB transferred in 100 ms after its first byte.
+     */
+    private static void recordHighLatency(MultipartTransferTuner tuner) {
+        tuner.recordRoundTrip(TimeUnit.MILLISECONDS.toNanos(100));
+        tuner.recordPart(10_000_000, TimeUnit.MILLISECONDS.toNanos(200));
+    }
+}
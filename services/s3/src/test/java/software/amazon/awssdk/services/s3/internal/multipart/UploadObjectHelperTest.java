@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,11 +29,15 @@ import static software.amazon.awssdk.services.s3.internal.multipart.MpuTestUtils
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -50,10 +55,13 @@ import org.mockito.stubbing.OngoingStubbing;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
@@ -64,6 +72,7 @@ import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 public class UploadObjectHelperTest {
@@ -170,6 +179,30 @@ public class UploadObjectHelperTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncRequestBody")
+    void uploadObject_autoTuningEnabled_shouldUploadAllParts(AsyncRequestBody asyncRequestBody) {
+        MultipartConfigurationResolver resolver =
+            new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(PART_SIZE)
+                                                                     .thresholdInBytes(PART_SIZE * 2)
+                                                                     .apiCallBufferSizeInBytes(PART_SIZE * 2)
+                                                                     .autoTuningEnabled(true)
+                                                                     .build());
+        UploadObjectHelper tunedHelper = new UploadObjectHelper(s3AsyncClient, resolver,
+                                                                new MultipartTransferTuner(resolver, Collections.emptyList()));
+        MpuTestUtils.stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubSuccessfulUploadPartCalls();
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        tunedHelper.uploadObject(putObjectRequest(null), asyncRequestBody).join();
+
+        ArgumentCaptor<UploadPartRequest> requestArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(4)).uploadPart(requestArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(requestArgumentCaptor.getAllValues()).extracting(UploadPartRequest::partNumber)
+                                                        .containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
     /**
      * The second part failed, it should cancel ongoing part(first part).
      */
@@ -306,6 +339,55 @@ public class UploadObjectHelperTest {
                                         .hasStackTraceContaining("Failed to send multipart requests");
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncRequestBody")
+    void uploadObject_fullObjectChecksumMatchesParts_shouldUploadPartsWithChecksumAndComplete(AsyncRequestBody asyncRequestBody)
+        throws IOException {
+        PutObjectRequest putObjectRequest = putObjectRequest(null).toBuilder()
+                                                                  .checksumCRC32(crc32(Files.readAllBytes(testFile.toPath())))
+                                                                  .build();
+
+        MpuTestUtils.stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubUploadPartCallsWithChecksums();
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        uploadHelper.uploadObject(putObjectRequest, asyncRequestBody).join();
+
+        ArgumentCaptor<CreateMultipartUploadRequest> createRequestCaptor =
+            ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+        verify(s3AsyncClient).createMultipartUpload(createRequestCaptor.capture());
+        assertThat(createRequestCaptor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32);
+
+        ArgumentCaptor<UploadPartRequest> uploadPartRequestCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(4)).uploadPart(uploadPartRequestCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartRequestCaptor.getAllValues()).allSatisfy(r -> {
+            assertThat(r.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32);
+            assertThat(r.checksumCRC32()).isNull();
+        });
+
+        verify(s3AsyncClient).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncRequestBody")
+    void uploadObject_fullObjectChecksumDoesNotMatchParts_shouldFailAndAbort(AsyncRequestBody asyncRequestBody) {
+        PutObjectRequest putObjectRequest = putObjectRequest(null).toBuilder()
+                                                                  .checksumCRC32C(encodeCrc(0))
+                                                                  .build();
+
+        MpuTestUtils.stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        stubUploadPartCallsWithChecksums();
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        CompletableFuture<PutObjectResponse> future = uploadHelper.uploadObject(putObjectRequest, asyncRequestBody);
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(SdkClientException.class)
+                                        .hasMessageContaining("different checksum than expected");
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3AsyncClient, atLeastOnce()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
     @ParameterizedTest()
     @ValueSource(booleans = {false, true})
     void uploadObject_requestBodyOnError_shouldFailAndAbort(boolean contentLengthKnown) {
@@ -354,6 +436,36 @@ public class UploadObjectHelperTest {
             });
     }
 
+    /**
+     * Stub uploadPart calls to return the checksums S3 calculates for the part that was sent.
+     */
+    private void stubUploadPartCallsWithChecksums() {
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenAnswer(invocationOnMock -> {
+                AsyncRequestBody asyncRequestBody = invocationOnMock.getArgument(1);
+                CRC32 crc32 = new CRC32();
+                Checksum crc32c = SdkChecksum.forAlgorithm(Algorithm.CRC32C);
+                return asyncRequestBody.subscribe(b -> {
+                    byte[] bytes = BinaryUtils.copyBytesFrom(b);
+                    crc32.update(bytes, 0, bytes.length);
+                    crc32c.update(bytes, 0, bytes.length);
+                }).thenApply(ignored -> UploadPartResponse.builder()
+                                                          .checksumCRC32(encodeCrc(crc32.getValue()))
+                                                          .checksumCRC32C(encodeCrc(crc32c.getValue()))
+                                                          .build());
+            });
+    }
+
+    private static String crc32(byte[] content) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(content, 0, content.length);
+        return encodeCrc(crc32.getValue());
+    }
+
+    private static String encodeCrc(long crc) {
+        return BinaryUtils.toBase64(ByteBuffer.allocate(4).putInt((int) crc).array());
+    }
+
     private OngoingStubbing<CompletableFuture<UploadPartResponse>> stubFailedUploadPartCalls(OngoingStubbing<CompletableFuture<UploadPartResponse>> stubbing, Exception exception) {
         return stubbing.thenAnswer(new Answer<CompletableFuture<UploadPartResponse>>() {
 
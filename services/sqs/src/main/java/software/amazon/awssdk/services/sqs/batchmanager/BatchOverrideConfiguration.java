@@ -0,0 +1,231 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of how a {@link SqsAsyncBatchManager} batches requests and prefetches messages.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    private final Integer maxBatchSize;
+    private final Long maxBatchSizeInBytes;
+    private final Duration maxBatchOpenDuration;
+    private final Integer maxPrefetchedMessages;
+    private final List<MetricPublisher> metricPublishers;
+
+    private BatchOverrideConfiguration(DefaultBuilder builder) {
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxBatchSizeInBytes = builder.maxBatchSizeInBytes;
+        this.maxBatchOpenDuration = builder.maxBatchOpenDuration;
+        this.maxPrefetchedMessages = builder.maxPrefetchedMessages;
+        this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().maxBatchSize(maxBatchSize)
+                        .maxBatchSizeInBytes(maxBatchSizeInBytes)
+                        .maxBatchOpenDuration(maxBatchOpenDuration)
+                        .maxPrefetchedMessages(maxPrefetchedMessages)
+                        .metricPublishers(metricPublishers);
+    }
+
+    /**
+     * @return the maximum number of entries of a batch request.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum total size, in bytes, of the messages of a {@code SendMessageBatch} request.
+     */
+    public Long maxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    /**
+     * @return the maximum duration a batch request is buffered before it is sent.
+     */
+    public Duration maxBatchOpenDuration() {
+        return maxBatchOpenDuration;
+    }
+
+    /**
+     * @return the maximum number of messages prefetched for each queue.
+     */
+    public Integer maxPrefetchedMessages() {
+        return maxPrefetchedMessages;
+    }
+
+    /**
+     * @return the metric publishers the batch metrics are published to.
+     */
+    public List<MetricPublisher> metricPublishers() {
+        return metricPublishers;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("maxBatchSizeInBytes", maxBatchSizeInBytes)
+                       .add("maxBatchOpenDuration", maxBatchOpenDuration)
+                       .add("maxPrefetchedMessages", maxPrefetchedMessages)
+                       .add("metricPublishers", metricPublishers)
+                       .build();
+    }
+
+    /**
+     * Builder for a {@link BatchOverrideConfiguration}.
+     */
+    public interface Builder extends CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        /**
+         * Configures the maximum number of entries of a batch request. A batch is sent as soon as it holds this many entries.
+         * <p>
+         * Default value: 10, which is the maximum allowed by Amazon SQS.
+         *
+         * @param maxBatchSize the maximum number of entries, between 1 and 10.
+         * @return an instance of this builder.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * Configures the maximum total size, in bytes, of the bodies and attributes of the messages of a
+         * {@code SendMessageBatch} request. A message that would make a batch exceed this size is sent in the next batch.
+         * <p>
+         * Default value: 256 KiB, which is the maximum allowed by Amazon SQS.
+         *
+         * @param maxBatchSizeInBytes the maximum batch size in bytes.
+         * @return an instance of this builder.
+         */
+        Builder maxBatchSizeInBytes(Long maxBatchSizeInBytes);
+
+        /**
+         * Configures how long a batch request that is not full is buffered, after its first entry was added, before it is
+         * sent. Increasing this value fills batches better under low load, at the cost of latency.
+         * <p>
+         * Default value: 200 milliseconds.
+         *
+         * @param maxBatchOpenDuration the maximum time a batch is buffered.
+         * @return an instance of this builder.
+         */
+        Builder maxBatchOpenDuration(Duration maxBatchOpenDuration);
+
+        /**
+         * Configures the maximum number of messages prefetched for each queue. When greater than zero, the batch manager
+         * receives messages ahead of the {@code ReceiveMessage} requests sent through it and answers them from a local buffer.
+         * <p>
+         * The visibility timeout of a prefetched message starts when it is prefetched, not when it is handed to a caller, so
+         * this should stay small compared to the visibility timeout of the queue. Messages whose visibility timeout expires
+         * while they are buffered are dropped, and the messages still buffered when the batch manager is closed are made
+         * visible in their queue again.
+         * <p>
+         * Default value: 0, which disables prefetching.
+         *
+         * @param maxPrefetchedMessages the maximum number of buffered messages per queue.
+         * @return an instance of this builder.
+         */
+        Builder maxPrefetchedMessages(Integer maxPrefetchedMessages);
+
+        /**
+         * Configures the metric publishers to publish a {@code MetricCollection} to for every batch request sent, and for
+         * every prefetching {@code ReceiveMessage} request. See {@link SqsBatchManagerMetric} for the metrics reported.
+         *
+         * @param metricPublishers the metric publishers.
+         * @return an instance of this builder.
+         */
+        Builder metricPublishers(List<MetricPublisher> metricPublishers);
+
+        /**
+         * Adds a metric publisher to publish the batch metrics to.
+         *
+         * @param metricPublisher the metric publisher to add.
+         * @return an instance of this builder.
+         * @see #metricPublishers(List)
+         */
+        Builder addMetricPublisher(MetricPublisher metricPublisher);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxBatchSize;
+        private Long maxBatchSizeInBytes;
+        private Duration maxBatchOpenDuration;
+        private Integer maxPrefetchedMessages;
+        private List<MetricPublisher> metricPublishers = new ArrayList<>();
+
+        @Override
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchSizeInBytes(Long maxBatchSizeInBytes) {
+            this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchOpenDuration(Duration maxBatchOpenDuration) {
+            this.maxBatchOpenDuration = maxBatchOpenDuration;
+            return this;
+        }
+
+        @Override
+        public Builder maxPrefetchedMessages(Integer maxPrefetchedMessages) {
+            this.maxPrefetchedMessages = maxPrefetchedMessages;
+            return this;
+        }
+
+        @Override
+        public Builder metricPublishers(List<MetricPublisher> metricPublishers) {
+            this.metricPublishers = new ArrayList<>();
+            if (metricPublishers != null) {
+                this.metricPublishers.addAll(metricPublishers);
+            }
+            return this;
+        }
+
+        @Override
+        public Builder addMetricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublishers.add(metricPublisher);
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batches the requests sent to Amazon SQS through an {@link SqsAsyncClient}.
+ * <p>
+ * {@code SendMessage}, {@code DeleteMessage} and {@code ChangeMessageVisibility} requests to the same queue are buffered
+ * and sent together as one {@code SendMessageBatch}, {@code DeleteMessageBatch} or {@code ChangeMessageVisibilityBatch}
+ * request. A batch is sent once it holds the maximum number of entries, once its messages reach the maximum batch size in
+ * bytes, or once its first request has been buffered for the maximum batch open duration, whichever comes first. The result
+ * of each entry of a batch completes the future of the request it was created from, and failed entries complete their future
+ * exceptionally with an {@code SqsException}.
+ * <p>
+ * Messages can also be prefetched into a local buffer, from which {@code ReceiveMessage} requests are answered. See
+ * {@link BatchOverrideConfiguration.Builder#maxPrefetchedMessages(Integer)}.
+ * <p>
+ * Requests with an override configuration are sent as they are, without being batched. Closing the batch manager sends
+ * the buffered requests and makes the prefetched messages visible in their queue again, but does not close the client.
+ *
+ * @see SqsAsyncClient#batchManager()
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SqsAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Buffers a message to be sent in a {@code SendMessageBatch} request.
+     *
+     * @param request the message to send.
+     * @return a future that completes with the result of the entry of the batch the message was sent in.
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a message to be sent in a {@code SendMessageBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link SendMessageRequest} builder, avoiding the need to
+     * create one manually via {@link SendMessageRequest#builder()}.
+     *
+     * @param request the consumer that will configure the message to send.
+     * @return a future that completes with the result of the entry of the batch the message was sent in.
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers the deletion of a message, to be sent in a {@code DeleteMessageBatch} request.
+     *
+     * @param request the message to delete.
+     * @return a future that completes with the result of the entry of the batch the deletion was sent in.
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers the deletion of a message, to be sent in a {@code DeleteMessageBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link DeleteMessageRequest} builder, avoiding the need to
+     * create one manually via {@link DeleteMessageRequest#builder()}.
+     *
+     * @param request the consumer that will configure the message to delete.
+     * @return a future that completes with the result of the entry of the batch the deletion was sent in.
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(Consumer<DeleteMessageRequest.Builder> request) {
+        return deleteMessage(DeleteMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers a change of the visibility timeout of a message, to be sent in a {@code ChangeMessageVisibilityBatch} request.
+     *
+     * @param request the visibility change.
+     * @return a future that completes with the result of the entry of the batch the change was sent in.
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a change of the visibility timeout of a message, to be sent in a {@code ChangeMessageVisibilityBatch} request.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link ChangeMessageVisibilityRequest} builder, avoiding
+     * the need to create one manually via {@link ChangeMessageVisibilityRequest#builder()}.
+     *
+     * @param request the consumer that will configure the visibility change.
+     * @return a future that completes with the result of the entry of the batch the change was sent in.
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+        Consumer<ChangeMessageVisibilityRequest.Builder> request) {
+        return changeMessageVisibility(ChangeMessageVisibilityRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Receives messages from the local buffer of prefetched messages of the queue, or sends the request to the client if
+     * prefetching is disabled or the request asks for specific attributes, a visibility timeout or a receive request attempt
+     * id.
+     *
+     * @param request the receive request.
+     * @return a future that completes with the received messages.
+     */
+    default CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Receives messages from the local buffer of prefetched messages of the queue.
+     * <p>
+     * This is a convenience method that creates an instance of the {@link ReceiveMessageRequest} builder, avoiding the need
+     * to create one manually via {@link ReceiveMessageRequest#builder()}.
+     *
+     * @param request the consumer that will configure the receive request.
+     * @return a future that completes with the received messages.
+     * @see #receiveMessage(ReceiveMessageRequest)
+     */
+    default CompletableFuture<ReceiveMessageResponse> receiveMessage(Consumer<ReceiveMessageRequest.Builder> request) {
+        return receiveMessage(ReceiveMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link SqsAsyncBatchManager}.
+     *
+     * @return a builder
+     */
+    static Builder builder() {
+        return DefaultSqsAsyncBatchManager.builder();
+    }
+
+    interface Builder {
+
+        /**
+         * Defines the {@link SqsAsyncClient} the batched requests are sent with. This is required.
+         *
+         * @param client the client
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * Defines the {@link ScheduledExecutorService} used to send the batches that are not full once their maximum open
+         * duration elapsed. The executor is not closed with the batch manager. If no executor is provided, the batch manager
+         * creates a single thread executor of its own.
+         *
+         * @param scheduledExecutor the scheduled executor
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Defines overrides to the default batching configuration.
+         *
+         * @param overrideConfiguration the override configuration
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * This is a convenient method to pass the override configuration without the need to create an instance manually via
+         * {@link BatchOverrideConfiguration#builder()}.
+         *
+         * @param overrideConfiguration the consumer that will configure the {@link BatchOverrideConfiguration}
+         * @return a reference to this object so that method calls can be chained together.
+         * @see #overrideConfiguration(BatchOverrideConfiguration)
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            BatchOverrideConfiguration.Builder builder = BatchOverrideConfiguration.builder();
+            overrideConfiguration.accept(builder);
+            return overrideConfiguration(builder.build());
+        }
+
+        /**
+         * Builds an instance of {@link SqsAsyncBatchManager} based on the configurations supplied to this builder.
+         *
+         * @return An initialized {@link SqsAsyncBatchManager}
+         */
+        SqsAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics published by a {@link SqsAsyncBatchManager} for every batch request it sends and every {@code ReceiveMessage}
+ * request it sends to prefetch messages, to the publishers of
+ * {@link BatchOverrideConfiguration.Builder#metricPublishers(java.util.List)}.
+ * <p>
+ * Each collection also holds the {@link CoreMetric#OPERATION_NAME}, {@link CoreMetric#API_CALL_SUCCESSFUL} and
+ * {@link CoreMetric#API_CALL_DURATION} of the request. The batch fill ratio is {@link #BATCH_SIZE} divided by the configured
+ * maximum batch size, and the throughput is the sum of {@link #BATCH_SIZE} over time.
+ */
+@SdkPublicApi
+public final class SqsBatchManagerMetric {
+    /**
+     * The number of entries of the batch request, or the number of messages received by a prefetching request.
+     */
+    public static final SdkMetric<Integer> BATCH_SIZE =
+        metric("BatchSize", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The total size, in bytes, of the messages of a {@code SendMessageBatch} request.
+     */
+    public static final SdkMetric<Long> BATCH_SIZE_IN_BYTES =
+        metric("BatchSizeInBytes", Long.class, MetricLevel.INFO);
+
+    /**
+     * Why the batch request was sent: {@code "MaxBatchSize"} when it was full, {@code "MaxBatchSizeInBytes"} when the next
+     * message did not fit into it, {@code "MaxBatchOpenDuration"} when it had been buffered for the maximum duration, or
+     * {@code "Close"} when the batch manager was closed.
+     */
+    public static final SdkMetric<String> FLUSH_REASON =
+        metric("FlushReason", String.class, MetricLevel.INFO);
+
+    /**
+     * The number of entries of the batch request that failed, including when the whole batch request failed.
+     */
+    public static final SdkMetric<Integer> FAILED_ENTRY_COUNT =
+        metric("FailedEntryCount", Integer.class, MetricLevel.ERROR);
+
+    private SqsBatchManagerMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The {@link BatchOverrideConfiguration} of a batch manager, with the defaults applied to the values that were not set.
+ */
+@SdkInternalApi
+final class BatchConfiguration {
+    static final int MAX_SQS_BATCH_SIZE = 10;
+    static final long MAX_SQS_BATCH_SIZE_IN_BYTES = 256 * 1024L;
+    static final Duration DEFAULT_MAX_BATCH_OPEN_DURATION = Duration.ofMillis(200);
+
+    private final int maxBatchSize;
+    private final long maxBatchSizeInBytes;
+    private final Duration maxBatchOpenDuration;
+    private final int maxPrefetchedMessages;
+    private final List<MetricPublisher> metricPublishers;
+
+    BatchConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+        BatchOverrideConfiguration config = overrideConfiguration != null ? overrideConfiguration
+                                                                         : BatchOverrideConfiguration.builder().build();
+        this.maxBatchSize = config.maxBatchSize() != null ? config.maxBatchSize() : MAX_SQS_BATCH_SIZE;
+        Validate.isTrue(maxBatchSize >= 1 && maxBatchSize <= MAX_SQS_BATCH_SIZE,
+                        "maxBatchSize must be between 1 and %s, but was %s", MAX_SQS_BATCH_SIZE, maxBatchSize);
+        this.maxBatchSizeInBytes = config.maxBatchSizeInBytes() != null ? config.maxBatchSizeInBytes()
+                                                                        : MAX_SQS_BATCH_SIZE_IN_BYTES;
+        Validate.isTrue(maxBatchSizeInBytes >= 1 && maxBatchSizeInBytes <= MAX_SQS_BATCH_SIZE_IN_BYTES,
+                        "maxBatchSizeInBytes must be between 1 and %s, but was %s", MAX_SQS_BATCH_SIZE_IN_BYTES,
+                        maxBatchSizeInBytes);
+        this.maxBatchOpenDuration = config.maxBatchOpenDuration() != null ? config.maxBatchOpenDuration()
+                                                                          : DEFAULT_MAX_BATCH_OPEN_DURATION;
+        Validate.isNotNegative(maxBatchOpenDuration, "maxBatchOpenDuration");
+        this.maxPrefetchedMessages = config.maxPrefetchedMessages() != null ? config.maxPrefetchedMessages() : 0;
+        Validate.isNotNegative(maxPrefetchedMessages, "maxPrefetchedMessages");
+        this.metricPublishers = config.metricPublishers();
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    long maxBatchSizeInBytes() {
+        return maxBatchSizeInBytes;
+    }
+
+    Duration maxBatchOpenDuration() {
+        return maxBatchOpenDuration;
+    }
+
+    int maxPrefetchedMessages() {
+        return maxPrefetchedMessages;
+    }
+
+    List<MetricPublisher> metricPublishers() {
+        return metricPublishers;
+    }
+
+    void publishMetrics(MetricCollection metrics) {
+        metricPublishers.forEach(publisher -> publisher.publish(metrics));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+
+/**
+ * Batches {@code ChangeMessageVisibility} requests into {@code ChangeMessageVisibilityBatch} requests.
+ */
+@SdkInternalApi
+final class ChangeMessageVisibilityBatcher
+    extends RequestBatcher<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResponse,
+    ChangeMessageVisibilityBatchResponse> {
+
+    ChangeMessageVisibilityBatcher(SqsAsyncClient client, ScheduledExecutorService scheduledExecutor,
+                                   BatchConfiguration configuration) {
+        super("ChangeMessageVisibilityBatch", client, scheduledExecutor, configuration);
+    }
+
+    @Override
+    protected String queueUrl(ChangeMessageVisibilityRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    protected CompletableFuture<ChangeMessageVisibilityResponse> sendUnbatched(ChangeMessageVisibilityRequest request) {
+        return client.changeMessageVisibility(request);
+    }
+
+    @Override
+    protected CompletableFuture<ChangeMessageVisibilityBatchResponse> sendBatch(
+        String queueUrl, Map<String, ChangeMessageVisibilityRequest> requestsById) {
+        List<ChangeMessageVisibilityBatchRequestEntry> entries =
+            requestsById.entrySet()
+                        .stream()
+                        .map(e -> ChangeMessageVisibilityBatchRequestEntry.builder()
+                                  .id(e.getKey())
+                                  .receiptHandle(e.getValue().receiptHandle())
+                                  .visibilityTimeout(e.getValue().visibilityTimeout())
+                                  .build())
+                        .collect(toList());
+        return client.changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest.builder()
+                                                                                      .queueUrl(queueUrl)
+                                                                                      .entries(entries)
+                                                                                      .build());
+    }
+
+    @Override
+    protected int completeEntries(ChangeMessageVisibilityBatchResponse batchResponse,
+                                  Map<String, CompletableFuture<ChangeMessageVisibilityResponse>> futuresById) {
+        for (ChangeMessageVisibilityBatchResultEntry result : batchResponse.successful()) {
+            CompletableFuture<ChangeMessageVisibilityResponse> future = futuresById.get(result.id());
+            if (future != null) {
+                future.complete(withBatchMetadata(ChangeMessageVisibilityResponse.builder(), batchResponse).build());
+            }
+        }
+        int failed = 0;
+        for (BatchResultErrorEntry error : batchResponse.failed()) {
+            CompletableFuture<ChangeMessageVisibilityResponse> future = futuresById.get(error.id());
+            if (future != null && future.completeExceptionally(entryException(error))) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
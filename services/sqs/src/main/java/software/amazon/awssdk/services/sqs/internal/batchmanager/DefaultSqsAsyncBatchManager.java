@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
+    private final ScheduledExecutorService ownedScheduledExecutor;
+    private final SendMessageBatcher sendMessageBatcher;
+    private final DeleteMessageBatcher deleteMessageBatcher;
+    private final ChangeMessageVisibilityBatcher changeMessageVisibilityBatcher;
+    private final ReceiveMessageBatcher receiveMessageBatcher;
+
+    private DefaultSqsAsyncBatchManager(DefaultBuilder builder) {
+        SqsAsyncClient client = Validate.paramNotNull(builder.client, "client");
+        BatchConfiguration configuration = new BatchConfiguration(builder.overrideConfiguration);
+
+        ScheduledExecutorService scheduledExecutor = builder.scheduledExecutor;
+        if (scheduledExecutor == null) {
+            scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sqs-batch-manager").daemonThreads(true).build());
+            this.ownedScheduledExecutor = scheduledExecutor;
+        } else {
+            this.ownedScheduledExecutor = null;
+        }
+
+        this.sendMessageBatcher = new SendMessageBatcher(client, scheduledExecutor, configuration);
+        this.deleteMessageBatcher = new DeleteMessageBatcher(client, scheduledExecutor, configuration);
+        this.changeMessageVisibilityBatcher = new ChangeMessageVisibilityBatcher(client, scheduledExecutor, configuration);
+        this.receiveMessageBatcher = new ReceiveMessageBatcher(client, scheduledExecutor, configuration);
+    }
+
+    public static SqsAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
+        return sendMessageBatcher.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request) {
+        return deleteMessageBatcher.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return changeMessageVisibilityBatcher.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        return receiveMessageBatcher.receiveMessage(request);
+    }
+
+    @Override
+    public void close() {
+        sendMessageBatcher.close();
+        deleteMessageBatcher.close();
+        changeMessageVisibilityBatcher.close();
+        receiveMessageBatcher.close();
+        if (ownedScheduledExecutor != null) {
+            ownedScheduledExecutor.shutdownNow();
+        }
+    }
+
+    private static final class DefaultBuilder implements SqsAsyncBatchManager.Builder {
+        private SqsAsyncClient client;
+        private ScheduledExecutorService scheduledExecutor;
+        private BatchOverrideConfiguration overrideConfiguration;
+
+        @Override
+        public SqsAsyncBatchManager.Builder client(SqsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public SqsAsyncBatchManager build() {
+            return new DefaultSqsAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+
+/**
+ * Batches {@code DeleteMessage} requests into {@code DeleteMessageBatch} requests.
+ */
+@SdkInternalApi
+final class DeleteMessageBatcher
+    extends RequestBatcher<DeleteMessageRequest, DeleteMessageResponse, DeleteMessageBatchResponse> {
+
+    DeleteMessageBatcher(SqsAsyncClient client, ScheduledExecutorService scheduledExecutor,
+                         BatchConfiguration configuration) {
+        super("DeleteMessageBatch", client, scheduledExecutor, configuration);
+    }
+
+    @Override
+    protected String queueUrl(DeleteMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    protected CompletableFuture<DeleteMessageResponse> sendUnbatched(DeleteMessageRequest request) {
+        return client.deleteMessage(request);
+    }
+
+    @Override
+    protected CompletableFuture<DeleteMessageBatchResponse> sendBatch(String queueUrl,
+                                                                      Map<String, DeleteMessageRequest> requestsById) {
+        List<DeleteMessageBatchRequestEntry> entries =
+            requestsById.entrySet()
+                        .stream()
+                        .map(e -> DeleteMessageBatchRequestEntry.builder()
+                                  .id(e.getKey())
+                                  .receiptHandle(e.getValue().receiptHandle())
+                                  .build())
+                        .collect(toList());
+        return client.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                                                                  .queueUrl(queueUrl)
+                                                                  .entries(entries)
+                                                                  .build());
+    }
+
+    @Override
+    protected int completeEntries(DeleteMessageBatchResponse batchResponse,
+                                  Map<String, CompletableFuture<DeleteMessageResponse>> futuresById) {
+        for (DeleteMessageBatchResultEntry result : batchResponse.successful()) {
+            CompletableFuture<DeleteMessageResponse> future = futuresById.get(result.id());
+            if (future != null) {
+                future.complete(withBatchMetadata(DeleteMessageResponse.builder(), batchResponse).build());
+            }
+        }
+        int failed = 0;
+        for (BatchResultErrorEntry error : batchResponse.failed()) {
+            CompletableFuture<DeleteMessageResponse> future = futuresById.get(error.id());
+            if (future != null && future.completeExceptionally(entryException(error))) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
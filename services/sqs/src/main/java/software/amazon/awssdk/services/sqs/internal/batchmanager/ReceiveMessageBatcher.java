@@ -0,0 +1,457 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static software.amazon.awssdk.services.sqs.internal.batchmanager.BatchConfiguration.MAX_SQS_BATCH_SIZE;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsBatchManagerMetric;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Prefetches messages of each queue into a local buffer, from which {@code ReceiveMessage} requests are answered.
+ * <p>
+ * At most one prefetching request is in flight per queue. A request that finds the buffer empty waits until messages are
+ * prefetched or its wait time elapses, and prefetching requests long poll for as long as the waiting requests still have to
+ * wait. A request that does not wait for messages is answered without messages if the buffer is empty while a long poll is
+ * in flight. Otherwise, the buffer is refilled without long polling whenever messages are taken from it, and after a prefetching
+ * request that returned messages, until it holds the maximum number of prefetched messages.
+ * <p>
+ * The visibility timeout of the queue, read once per queue with {@code GetQueueAttributes}, starts when a prefetching request
+ * is sent. Buffered messages whose visibility timeout expired may already have been received by another consumer, so they
+ * are dropped instead of being returned.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ReceiveMessageBatcher implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ReceiveMessageBatcher.class);
+    private static final int MAX_SQS_RECEIVE_MESSAGES = 10;
+    private static final int MAX_SQS_WAIT_TIME_SECONDS = 20;
+
+    private final SqsAsyncClient client;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final BatchConfiguration configuration;
+    private final Map<String, QueueReceiveBuffer> buffers = new ConcurrentHashMap<>();
+
+    ReceiveMessageBatcher(SqsAsyncClient client, ScheduledExecutorService scheduledExecutor, BatchConfiguration configuration) {
+        this.client = client;
+        this.scheduledExecutor = scheduledExecutor;
+        this.configuration = configuration;
+    }
+
+    CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        if (!canBeAnsweredFromBuffer(request)) {
+            return client.receiveMessage(request);
+        }
+        return buffers.computeIfAbsent(request.queueUrl(), QueueReceiveBuffer::new).receive(request);
+    }
+
+    /**
+     * Fails the requests waiting for messages, and makes the buffered messages visible in their queue again.
+     */
+    @Override
+    public void close() {
+        buffers.values().forEach(QueueReceiveBuffer::close);
+    }
+
+    /**
+     * Prefetched messages are received with the default attributes and visibility timeout of the queue, so only requests that
+     * ask for these can be answered from the buffer.
+     */
+    private boolean canBeAnsweredFromBuffer(ReceiveMessageRequest request) {
+        return configuration.maxPrefetchedMessages() > 0
+               && !request.overrideConfiguration().isPresent()
+               && !request.hasAttributeNames()
+               && !request.hasMessageAttributeNames()
+               && request.visibilityTimeout() == null
+               && request.receiveRequestAttemptId() == null;
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("The batch manager has been closed.");
+    }
+
+    private final class QueueReceiveBuffer {
+        private final String queueUrl;
+        private final Deque<BufferedMessage> messages = new ArrayDeque<>();
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+        private CompletableFuture<QueueAttributes> attributes;
+        private boolean fetching;
+        private boolean longPolling;
+        private boolean closed;
+
+        private QueueReceiveBuffer(String queueUrl) {
+            this.queueUrl = queueUrl;
+        }
+
+        private CompletableFuture<ReceiveMessageResponse> receive(ReceiveMessageRequest request) {
+            return attributes().thenCompose(queueAttributes -> receive(request, queueAttributes));
+        }
+
+        /**
+         * Reads the attributes of the queue the first time they are needed, and again after a failure to read them.
+         */
+        private CompletableFuture<QueueAttributes> attributes() {
+            CompletableFuture<QueueAttributes> loaded = new CompletableFuture<>();
+            synchronized (this) {
+                if (closed) {
+                    return CompletableFutureUtils.failedFuture(closedException());
+                }
+                if (attributes != null && !attributes.isCompletedExceptionally()) {
+                    return attributes;
+                }
+                attributes = loaded;
+            }
+
+            GetQueueAttributesRequest request =
+                GetQueueAttributesRequest.builder()
+                                         .queueUrl(queueUrl)
+                                         .attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT,
+                                                         QueueAttributeName.RECEIVE_MESSAGE_WAIT_TIME_SECONDS)
+                                         .build();
+            CompletableFuture<GetQueueAttributesResponse> response;
+            try {
+                response = client.getQueueAttributes(request);
+            } catch (Throwable t) {
+                response = CompletableFutureUtils.failedFuture(t);
+            }
+            response.whenComplete((r, e) -> {
+                if (e != null) {
+                    loaded.completeExceptionally(e);
+                } else {
+                    loaded.complete(new QueueAttributes(r));
+                }
+            });
+            return loaded;
+        }
+
+        private CompletableFuture<ReceiveMessageResponse> receive(ReceiveMessageRequest request,
+                                                                  QueueAttributes queueAttributes) {
+            Waiter waiter = new Waiter(request, queueAttributes.receiveMessageWaitTimeSeconds);
+            List<Message> received = null;
+            synchronized (this) {
+                if (closed) {
+                    return CompletableFutureUtils.failedFuture(closedException());
+                }
+                dropExpiredMessages();
+                if (waiters.isEmpty() && !messages.isEmpty()) {
+                    received = take(waiter.maxNumberOfMessages);
+                } else if (waiter.waitTimeSeconds == 0 && longPolling) {
+                    // A short poll must not wait for the long poll in flight to return.
+                    received = new ArrayList<>();
+                } else {
+                    waiters.addLast(waiter);
+                }
+            }
+
+            if (received != null) {
+                waiter.complete(received);
+            } else if (waiter.waitTimeSeconds > 0) {
+                waiter.timeout = scheduledExecutor.schedule(() -> timeOut(waiter), waiter.waitTimeSeconds, TimeUnit.SECONDS);
+            }
+            fetchIfNeeded(queueAttributes);
+            return waiter.future;
+        }
+
+        private void fetchIfNeeded(QueueAttributes queueAttributes) {
+            int maxNumberOfMessages;
+            int waitTimeSeconds;
+            synchronized (this) {
+                if (fetching || closed) {
+                    return;
+                }
+                dropExpiredMessages();
+                int missing = configuration.maxPrefetchedMessages() - messages.size();
+                if (waiters.isEmpty() && missing <= 0) {
+                    return;
+                }
+                maxNumberOfMessages = Math.min(MAX_SQS_RECEIVE_MESSAGES, Math.max(1, missing));
+                waitTimeSeconds = remainingWaitTimeSeconds();
+                fetching = true;
+                longPolling = waitTimeSeconds > 0;
+            }
+
+            long start = System.nanoTime();
+            CompletableFuture<ReceiveMessageResponse> response;
+            try {
+                response = client.receiveMessage(ReceiveMessageRequest.builder()
+                                                                      .queueUrl(queueUrl)
+                                                                      .maxNumberOfMessages(maxNumberOfMessages)
+                                                                      .waitTimeSeconds(waitTimeSeconds)
+                                                                      .build());
+            } catch (Throwable t) {
+                response = CompletableFutureUtils.failedFuture(t);
+            }
+            response.whenComplete((r, e) -> onFetched(r, e, queueAttributes, start));
+        }
+
+        private void onFetched(ReceiveMessageResponse response, Throwable error, QueueAttributes queueAttributes, long start) {
+            long durationNanos = System.nanoTime() - start;
+            List<Waiter> completed = new ArrayList<>();
+            List<List<Message>> received = new ArrayList<>();
+            List<Message> released = new ArrayList<>();
+            boolean gotMessages = error == null && response.hasMessages() && !response.messages().isEmpty();
+            boolean stillWaiting;
+            synchronized (this) {
+                fetching = false;
+                longPolling = false;
+                if (error != null) {
+                    // Requests still waiting get the failure of the poll.
+                    completed.addAll(waiters);
+                    waiters.clear();
+                } else if (closed) {
+                    released.addAll(response.messages());
+                } else {
+                    long expiresAt = start + queueAttributes.visibilityTimeout.toNanos();
+                    response.messages().forEach(m -> messages.addLast(new BufferedMessage(m, expiresAt)));
+                    dropExpiredMessages();
+                    while (!waiters.isEmpty() && !messages.isEmpty()) {
+                        Waiter waiter = waiters.removeFirst();
+                        completed.add(waiter);
+                        received.add(take(waiter.maxNumberOfMessages));
+                    }
+
+                    // Requests whose wait time elapsed get the result of the poll: no messages. The others keep waiting.
+                    long now = System.nanoTime();
+                    for (Iterator<Waiter> i = waiters.iterator(); i.hasNext(); ) {
+                        Waiter waiter = i.next();
+                        if (waiter.waitTimeElapsed(now)) {
+                            i.remove();
+                            completed.add(waiter);
+                            received.add(new ArrayList<>());
+                        }
+                    }
+                }
+                stillWaiting = !waiters.isEmpty();
+            }
+
+            for (int i = 0; i < completed.size(); i++) {
+                Waiter waiter = completed.get(i);
+                if (error != null) {
+                    waiter.fail(error);
+                } else {
+                    waiter.complete(received.get(i));
+                }
+            }
+            publishMetrics(response, error, durationNanos);
+            release(released);
+
+            // Keep prefetching while the queue returns messages or requests wait for messages; an empty queue is otherwise
+            // only polled again when asked for.
+            if (gotMessages || stillWaiting) {
+                fetchIfNeeded(queueAttributes);
+            }
+        }
+
+        private void timeOut(Waiter waiter) {
+            synchronized (this) {
+                if (!waiters.remove(waiter)) {
+                    return;
+                }
+            }
+            waiter.complete(new ArrayList<>());
+        }
+
+        private void close() {
+            List<Waiter> pending;
+            List<Message> released = new ArrayList<>();
+            synchronized (this) {
+                closed = true;
+                dropExpiredMessages();
+                messages.forEach(m -> released.add(m.message));
+                messages.clear();
+                pending = new ArrayList<>(waiters);
+                waiters.clear();
+            }
+            pending.forEach(w -> w.fail(closedException()));
+            release(released);
+        }
+
+        /**
+         * Makes messages that will not be returned visible in the queue again right away, instead of once their visibility
+         * timeout expires.
+         */
+        private void release(List<Message> released) {
+            for (int from = 0; from < released.size(); from += MAX_SQS_BATCH_SIZE) {
+                List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(MAX_SQS_BATCH_SIZE);
+                for (int i = from; i < Math.min(from + MAX_SQS_BATCH_SIZE, released.size()); i++) {
+                    entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                        .id(Integer.toString(i - from))
+                                                                        .receiptHandle(released.get(i).receiptHandle())
+                                                                        .visibilityTimeout(0)
+                                                                        .build());
+                }
+
+                CompletableFuture<?> response;
+                try {
+                    response = client.changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest.builder()
+                                                                                                      .queueUrl(queueUrl)
+                                                                                                      .entries(entries)
+                                                                                                      .build());
+                } catch (Throwable t) {
+                    response = CompletableFutureUtils.failedFuture(t);
+                }
+                response.whenComplete((r, e) -> {
+                    if (e != null) {
+                        log.debug(() -> "Failed to make prefetched messages of " + queueUrl + " visible again. They will "
+                                        + "become visible once their visibility timeout expires.", e);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Buffered messages are ordered by the time they were received at, so the expired ones are at the front.
+         */
+        private void dropExpiredMessages() {
+            long now = System.nanoTime();
+            while (!messages.isEmpty() && now - messages.peekFirst().expiresAtNanos >= 0) {
+                messages.removeFirst();
+            }
+        }
+
+        /**
+         * @return the time, in seconds, a prefetching request can long poll for without delaying the waiting requests.
+         */
+        private int remainingWaitTimeSeconds() {
+            if (waiters.isEmpty()) {
+                return 0;
+            }
+            long now = System.nanoTime();
+            long remainingNanos = Long.MAX_VALUE;
+            for (Waiter waiter : waiters) {
+                remainingNanos = Math.min(remainingNanos, waiter.deadlineNanos - now);
+            }
+            if (remainingNanos <= 0) {
+                return 0;
+            }
+            long oneSecond = TimeUnit.SECONDS.toNanos(1);
+            return (int) Math.min(MAX_SQS_WAIT_TIME_SECONDS, (remainingNanos - 1) / oneSecond + 1);
+        }
+
+        private List<Message> take(int maxNumberOfMessages) {
+            List<Message> taken = new ArrayList<>(Math.min(maxNumberOfMessages, messages.size()));
+            while (taken.size() < maxNumberOfMessages && !messages.isEmpty()) {
+                taken.add(messages.removeFirst().message);
+            }
+            return taken;
+        }
+    }
+
+    private void publishMetrics(ReceiveMessageResponse response, Throwable error, long durationNanos) {
+        if (configuration.metricPublishers().isEmpty()) {
+            return;
+        }
+        MetricCollector collector = MetricCollector.create("SqsBatchManager");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, "ReceiveMessage");
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, error == null);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofNanos(durationNanos));
+        collector.reportMetric(SqsBatchManagerMetric.BATCH_SIZE, error == null ? response.messages().size() : 0);
+        configuration.publishMetrics(collector.collect());
+    }
+
+    /**
+     * The attributes of a queue that prefetched messages are received with.
+     */
+    private static final class QueueAttributes {
+        private static final String DEFAULT_VISIBILITY_TIMEOUT_SECONDS = "30";
+        private static final String DEFAULT_RECEIVE_MESSAGE_WAIT_TIME_SECONDS = "0";
+
+        private final Duration visibilityTimeout;
+        private final int receiveMessageWaitTimeSeconds;
+
+        private QueueAttributes(GetQueueAttributesResponse response) {
+            Map<QueueAttributeName, String> attributes = response.attributes();
+            this.visibilityTimeout = Duration.ofSeconds(Long.parseLong(
+                attributes.getOrDefault(QueueAttributeName.VISIBILITY_TIMEOUT, DEFAULT_VISIBILITY_TIMEOUT_SECONDS)));
+            this.receiveMessageWaitTimeSeconds = Integer.parseInt(
+                attributes.getOrDefault(QueueAttributeName.RECEIVE_MESSAGE_WAIT_TIME_SECONDS,
+                                        DEFAULT_RECEIVE_MESSAGE_WAIT_TIME_SECONDS));
+        }
+    }
+
+    private static final class BufferedMessage {
+        private final Message message;
+        private final long expiresAtNanos;
+
+        private BufferedMessage(Message message, long expiresAtNanos) {
+            this.message = message;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    private static final class Waiter {
+        private final int maxNumberOfMessages;
+        private final int waitTimeSeconds;
+        private final long deadlineNanos;
+        private final CompletableFuture<ReceiveMessageResponse> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private Waiter(ReceiveMessageRequest request, int defaultWaitTimeSeconds) {
+            this.maxNumberOfMessages = request.maxNumberOfMessages() != null ? request.maxNumberOfMessages() : 1;
+            this.waitTimeSeconds = Math.max(0, request.waitTimeSeconds() != null ? request.waitTimeSeconds()
+                                                                                 : defaultWaitTimeSeconds);
+            this.deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitTimeSeconds);
+        }
+
+        private boolean waitTimeElapsed(long now) {
+            return now - deadlineNanos >= 0;
+        }
+
+        private void complete(List<Message> messages) {
+            cancelTimeout();
+            future.complete(ReceiveMessageResponse.builder().messages(messages).build());
+        }
+
+        private void fail(Throwable error) {
+            cancelTimeout();
+            future.completeExceptionally(error);
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> scheduledTimeout = timeout;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.SqsBatchManagerMetric;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.services.sqs.model.SqsResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers the requests of one operation by queue, and sends them in batch requests.
+ * <p>
+ * Each queue has its own buffer, guarded by its own lock, which is only held to add a request or take the buffered requests.
+ * Batch requests are sent, and their results dispatched to the futures of the buffered requests, outside of the lock.
+ *
+ * @param <RequestT> the type of the requests that are batched
+ * @param <ResponseT> the type of the responses to the requests that are batched
+ * @param <BatchResponseT> the type of the response to the batch request
+ */
+@SdkInternalApi
+@ThreadSafe
+abstract class RequestBatcher<RequestT extends SqsRequest, ResponseT, BatchResponseT extends SqsResponse>
+    implements SdkAutoCloseable {
+    static final String FLUSH_MAX_BATCH_SIZE = "MaxBatchSize";
+    static final String FLUSH_MAX_BATCH_SIZE_IN_BYTES = "MaxBatchSizeInBytes";
+    static final String FLUSH_MAX_BATCH_OPEN_DURATION = "MaxBatchOpenDuration";
+    static final String FLUSH_CLOSE = "Close";
+
+    protected final SqsAsyncClient client;
+    private final String batchOperationName;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final BatchConfiguration configuration;
+    private final Map<String, QueueBuffer> buffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    RequestBatcher(String batchOperationName,
+                   SqsAsyncClient client,
+                   ScheduledExecutorService scheduledExecutor,
+                   BatchConfiguration configuration) {
+        this.batchOperationName = batchOperationName;
+        this.client = client;
+        this.scheduledExecutor = scheduledExecutor;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Buffers a request, and sends the batch it is added to if the batch is full.
+     */
+    CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        if (request.overrideConfiguration().isPresent()) {
+            return sendUnbatched(request);
+        }
+        BatchEntry<RequestT, ResponseT> entry = new BatchEntry<>(request, sizeInBytes(request));
+        QueueBuffer buffer = buffers.computeIfAbsent(queueUrl(request), QueueBuffer::new);
+        List<BatchEntry<RequestT, ResponseT>> previousBatch = null;
+        List<BatchEntry<RequestT, ResponseT>> fullBatch = null;
+        synchronized (buffer) {
+            if (closed) {
+                return CompletableFutureUtils.failedFuture(new IllegalStateException("The batch manager has been closed."));
+            }
+            if (!buffer.entries.isEmpty() && buffer.sizeInBytes + entry.sizeInBytes > configuration.maxBatchSizeInBytes()) {
+                previousBatch = buffer.take();
+            }
+            buffer.add(entry);
+            if (buffer.entries.size() >= configuration.maxBatchSize()
+                || buffer.sizeInBytes >= configuration.maxBatchSizeInBytes()) {
+                fullBatch = buffer.take();
+            } else if (buffer.entries.size() == 1) {
+                buffer.scheduleFlush(configuration.maxBatchOpenDuration());
+            }
+        }
+
+        if (previousBatch != null) {
+            sendBatch(buffer.queueUrl, previousBatch, FLUSH_MAX_BATCH_SIZE_IN_BYTES);
+        }
+        if (fullBatch != null) {
+            sendBatch(buffer.queueUrl, fullBatch, FLUSH_MAX_BATCH_SIZE);
+        }
+        return entry.future;
+    }
+
+    /**
+     * Sends the buffered requests of all queues, and fails the requests buffered afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        buffers.values().forEach(buffer -> flush(buffer, FLUSH_CLOSE));
+    }
+
+    /**
+     * @return the URL of the queue the request is sent to, by which requests are batched.
+     */
+    protected abstract String queueUrl(RequestT request);
+
+    /**
+     * @return the size of the request, which counts towards the maximum batch size in bytes.
+     */
+    protected long sizeInBytes(RequestT request) {
+        return 0;
+    }
+
+    /**
+     * Sends a request on its own, without batching it.
+     */
+    protected abstract CompletableFuture<ResponseT> sendUnbatched(RequestT request);
+
+    /**
+     * Sends a batch request made of the given requests, each identified by its key of the map.
+     */
+    protected abstract CompletableFuture<BatchResponseT> sendBatch(String queueUrl, Map<String, RequestT> requestsById);
+
+    /**
+     * Completes the futures of the entries of the batch request, each identified by its key of the map, from the response
+     * to the batch request. Entries the response has no result for are failed afterwards.
+     *
+     * @return the number of entries that failed.
+     */
+    protected abstract int completeEntries(BatchResponseT batchResponse, Map<String, CompletableFuture<ResponseT>> futuresById);
+
+    /**
+     * Sets the metadata of the batch response on the response to one of its entries.
+     */
+    protected static <B extends SqsResponse.Builder> B withBatchMetadata(B builder, SqsResponse batchResponse) {
+        builder.responseMetadata(batchResponse.responseMetadata());
+        builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        return builder;
+    }
+
+    /**
+     * @return the exception a failed entry of a batch request completes its future with.
+     */
+    protected static SqsException entryException(BatchResultErrorEntry error) {
+        boolean senderFault = Boolean.TRUE.equals(error.senderFault());
+        return (SqsException) SqsException.builder()
+                                          .message(error.message())
+                                          .statusCode(senderFault ? 400 : 500)
+                                          .awsErrorDetails(AwsErrorDetails.builder()
+                                                                          .errorCode(error.code())
+                                                                          .errorMessage(error.message())
+                                                                          .serviceName("Sqs")
+                                                                          .build())
+                                          .build();
+    }
+
+    private void flush(QueueBuffer buffer, String reason) {
+        List<BatchEntry<RequestT, ResponseT>> batch;
+        synchronized (buffer) {
+            batch = buffer.take();
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(buffer.queueUrl, batch, reason);
+        }
+    }
+
+    private void sendBatch(String queueUrl, List<BatchEntry<RequestT, ResponseT>> batch, String reason) {
+        Map<String, RequestT> requestsById = new HashMap<>(batch.size());
+        Map<String, CompletableFuture<ResponseT>> futuresById = new HashMap<>(batch.size());
+        long batchSizeInBytes = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            BatchEntry<RequestT, ResponseT> entry = batch.get(i);
+            String id = Integer.toString(i);
+            requestsById.put(id, entry.request);
+            futuresById.put(id, entry.future);
+            batchSizeInBytes += entry.sizeInBytes;
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<BatchResponseT> response;
+        try {
+            response = sendBatch(queueUrl, requestsById);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+
+        long sizeInBytes = batchSizeInBytes;
+        response.whenComplete((batchResponse, error) -> {
+            int failedEntries;
+            if (error != null) {
+                futuresById.values().forEach(f -> f.completeExceptionally(error));
+                failedEntries = futuresById.size();
+            } else {
+                failedEntries = completeEntries(batchResponse, futuresById);
+                for (CompletableFuture<ResponseT> future : futuresById.values()) {
+                    if (future.completeExceptionally(SdkClientException.create("The " + batchOperationName + " response has "
+                                                                               + "no result for this entry."))) {
+                        failedEntries++;
+                    }
+                }
+            }
+            publishMetrics(batch.size(), sizeInBytes, reason, failedEntries, error == null, System.nanoTime() - start);
+        });
+    }
+
+    private void publishMetrics(int batchSize, long sizeInBytes, String reason, int failedEntries, boolean successful,
+                                long durationNanos) {
+        if (configuration.metricPublishers().isEmpty()) {
+            return;
+        }
+        MetricCollector collector = MetricCollector.create("SqsBatchManager");
+        collector.reportMetric(CoreMetric.OPERATION_NAME, batchOperationName);
+        collector.reportMetric(CoreMetric.API_CALL_SUCCESSFUL, successful);
+        collector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofNanos(durationNanos));
+        collector.reportMetric(SqsBatchManagerMetric.BATCH_SIZE, batchSize);
+        if (sizeInBytes > 0) {
+            collector.reportMetric(SqsBatchManagerMetric.BATCH_SIZE_IN_BYTES, sizeInBytes);
+        }
+        collector.reportMetric(SqsBatchManagerMetric.FLUSH_REASON, reason);
+        collector.reportMetric(SqsBatchManagerMetric.FAILED_ENTRY_COUNT, failedEntries);
+        configuration.publishMetrics(collector.collect());
+    }
+
+    private static final class BatchEntry<RequestT, ResponseT> {
+        private final RequestT request;
+        private final long sizeInBytes;
+        private final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+
+        private BatchEntry(RequestT request, long sizeInBytes) {
+            this.request = request;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
+    /**
+     * The requests buffered for one queue. All fields are guarded by the buffer itself.
+     */
+    private final class QueueBuffer {
+        private final String queueUrl;
+        private List<BatchEntry<RequestT, ResponseT>> entries = new ArrayList<>();
+        private long sizeInBytes;
+        private ScheduledFuture<?> scheduledFlush;
+
+        private QueueBuffer(String queueUrl) {
+            this.queueUrl = queueUrl;
+        }
+
+        private void add(BatchEntry<RequestT, ResponseT> entry) {
+            entries.add(entry);
+            sizeInBytes += entry.sizeInBytes;
+        }
+
+        private List<BatchEntry<RequestT, ResponseT>> take() {
+            List<BatchEntry<RequestT, ResponseT>> batch = entries;
+            entries = new ArrayList<>(configuration.maxBatchSize());
+            sizeInBytes = 0;
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            return batch;
+        }
+
+        private void scheduleFlush(Duration delay) {
+            scheduledFlush = scheduledExecutor.schedule(() -> flush(this, FLUSH_MAX_BATCH_OPEN_DURATION),
+                                                        delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static java.util.stream.Collectors.toList;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * Batches {@code SendMessage} requests into {@code SendMessageBatch} requests.
+ */
+@SdkInternalApi
+final class SendMessageBatcher extends RequestBatcher<SendMessageRequest, SendMessageResponse, SendMessageBatchResponse> {
+
+    SendMessageBatcher(SqsAsyncClient client, ScheduledExecutorService scheduledExecutor, BatchConfiguration configuration) {
+        super("SendMessageBatch", client, scheduledExecutor, configuration);
+    }
+
+    @Override
+    protected String queueUrl(SendMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    /**
+     * The size of a message, as counted by SQS: the size of its body, and the size of the name, type and value of each of its
+     * message attributes.
+     */
+    @Override
+    protected long sizeInBytes(SendMessageRequest request) {
+        long size = utf8Length(request.messageBody());
+        if (request.hasMessageAttributes()) {
+            for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+                MessageAttributeValue value = attribute.getValue();
+                size += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+                if (value.binaryValue() != null) {
+                    size += value.binaryValue().asByteArrayUnsafe().length;
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    protected CompletableFuture<SendMessageResponse> sendUnbatched(SendMessageRequest request) {
+        return client.sendMessage(request);
+    }
+
+    @Override
+    protected CompletableFuture<SendMessageBatchResponse> sendBatch(String queueUrl,
+                                                                    Map<String, SendMessageRequest> requestsById) {
+        List<SendMessageBatchRequestEntry> entries =
+            requestsById.entrySet()
+                        .stream()
+                        .map(e -> SendMessageBatchRequestEntry.builder()
+                                                              .id(e.getKey())
+                                                              .messageBody(e.getValue().messageBody())
+                                                              .delaySeconds(e.getValue().delaySeconds())
+                                                              .messageAttributes(e.getValue().messageAttributes())
+                                                              .messageSystemAttributesWithStrings(
+                                                                  e.getValue().messageSystemAttributesAsStrings())
+                                                              .messageDeduplicationId(e.getValue().messageDeduplicationId())
+                                                              .messageGroupId(e.getValue().messageGroupId())
+                                                              .build())
+                        .collect(toList());
+        return client.sendMessageBatch(SendMessageBatchRequest.builder()
+                                                              .queueUrl(queueUrl)
+                                                              .entries(entries)
+                                                              .build());
+    }
+
+    @Override
+    protected int completeEntries(SendMessageBatchResponse batchResponse,
+                                  Map<String, CompletableFuture<SendMessageResponse>> futuresById) {
+        for (SendMessageBatchResultEntry result : batchResponse.successful()) {
+            CompletableFuture<SendMessageResponse> future = futuresById.get(result.id());
+            if (future != null) {
+                SendMessageResponse.Builder response =
+                    SendMessageResponse.builder()
+                                       .messageId(result.messageId())
+                                       .md5OfMessageBody(result.md5OfMessageBody())
+                                       .md5OfMessageAttributes(result.md5OfMessageAttributes())
+                                       .md5OfMessageSystemAttributes(result.md5OfMessageSystemAttributes())
+                                       .sequenceNumber(result.sequenceNumber());
+                future.complete(withBatchMetadata(response, batchResponse).build());
+            }
+        }
+        int failed = 0;
+        for (BatchResultErrorEntry error : batchResponse.failed()) {
+            CompletableFuture<SendMessageResponse> future = futuresById.get(error.id());
+            if (future != null && future.completeExceptionally(entryException(error))) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static long utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.utils.ImmutableMap;
+
+public class SqsAsyncBatchManagerTest {
+    private static final String QUEUE_URL = "https://sqs.us-west-2.amazonaws.com/123456789012/queue";
+    private static final String OTHER_QUEUE_URL = "https://sqs.us-west-2.amazonaws.com/123456789012/other-queue";
+
+    private SqsAsyncClient client;
+    private RecordingMetricPublisher metricPublisher;
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        metricPublisher = new RecordingMetricPublisher();
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(i -> {
+            SendMessageBatchRequest request = i.getArgument(0);
+            List<SendMessageBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> SendMessageBatchResultEntry.builder().id(e.id()).messageId("id-" + e.messageBody()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(results).build());
+        });
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(i -> {
+            DeleteMessageBatchRequest request = i.getArgument(0);
+            List<DeleteMessageBatchResultEntry> results =
+                request.entries().stream()
+                       .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(results).build());
+        });
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ChangeMessageVisibilityBatchResponse.builder().build()));
+        queueAttributes("30", "0");
+        batchManager = batchManager(c -> c.maxBatchSize(3).maxBatchOpenDuration(Duration.ofMillis(50)));
+    }
+
+    @AfterEach
+    public void teardown() {
+        batchManager.close();
+    }
+
+    @Test
+    public void sendMessage_fullBatch_sentInOneBatchRequest() throws Exception {
+        List<CompletableFuture<SendMessageResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(batchManager.sendMessage(sendMessage(QUEUE_URL, "body" + i)));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(responses.get(i).get(1, TimeUnit.SECONDS).messageId()).isEqualTo("id-body" + i);
+        }
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, times(1)).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).extracting(SendMessageBatchRequestEntry::messageBody)
+                                               .containsExactly("body0", "body1", "body2");
+    }
+
+    @Test
+    public void sendMessage_batchNotFull_sentAfterMaxBatchOpenDuration() throws Exception {
+        SendMessageResponse response = batchManager.sendMessage(sendMessage(QUEUE_URL, "body")).get(1, TimeUnit.SECONDS);
+
+        assertThat(response.messageId()).isEqualTo("id-body");
+        verify(client, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        MetricCollection metrics = metricPublisher.awaitFirst();
+        assertThat(metrics.metricValues(SqsBatchManagerMetric.FLUSH_REASON)).containsExactly("MaxBatchOpenDuration");
+        assertThat(metrics.metricValues(SqsBatchManagerMetric.BATCH_SIZE)).containsExactly(1);
+        assertThat(metrics.metricValues(SqsBatchManagerMetric.FAILED_ENTRY_COUNT)).containsExactly(0);
+    }
+
+    @Test
+    public void sendMessage_batchExceedsMaxSizeInBytes_splitIntoSeparateBatches() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxBatchSize(10).maxBatchSizeInBytes(10L).maxBatchOpenDuration(Duration.ofMillis(50)));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(sendMessage(QUEUE_URL, "123456"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(sendMessage(QUEUE_URL, "789012"));
+        CompletableFuture.allOf(first, second).get(1, TimeUnit.SECONDS);
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, times(2)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(r -> assertThat(r.entries()).hasSize(1));
+    }
+
+    @Test
+    public void sendMessage_entryFails_completesEntryExceptionally() {
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(i -> {
+            SendMessageBatchRequest request = i.getArgument(0);
+            BatchResultErrorEntry error = BatchResultErrorEntry.builder()
+                                                               .id(request.entries().get(0).id())
+                                                               .code("InvalidMessageContents")
+                                                               .message("Invalid message")
+                                                               .senderFault(true)
+                                                               .build();
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().failed(error).build());
+        });
+
+        CompletableFuture<SendMessageResponse> response = batchManager.sendMessage(sendMessage(QUEUE_URL, "body"));
+
+        assertThatThrownBy(() -> response.get(1, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(SqsException.class)
+            .satisfies(e -> {
+                SqsException cause = (SqsException) e.getCause();
+                assertThat(cause.awsErrorDetails().errorCode()).isEqualTo("InvalidMessageContents");
+                assertThat(cause.statusCode()).isEqualTo(400);
+            });
+    }
+
+    @Test
+    public void sendMessage_batchRequestFails_failsAllEntries() {
+        CompletableFuture<SendMessageBatchResponse> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IllegalStateException("boom"));
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(failure);
+
+        List<CompletableFuture<SendMessageResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(batchManager.sendMessage(sendMessage(QUEUE_URL, "body" + i)));
+        }
+
+        assertThat(responses).allSatisfy(r -> assertThatThrownBy(() -> r.get(1, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void sendMessage_withOverrideConfiguration_notBatched() throws Exception {
+        when(client.sendMessage(any(SendMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(SendMessageResponse.builder().messageId("unbatched").build()));
+
+        SendMessageRequest request = sendMessage(QUEUE_URL, "body").toBuilder()
+                                                                   .overrideConfiguration(o -> o.putHeader("x", "y"))
+                                                                   .build();
+
+        assertThat(batchManager.sendMessage(request).get(1, TimeUnit.SECONDS).messageId()).isEqualTo("unbatched");
+        verify(client, never()).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    public void deleteMessage_differentQueues_batchedSeparately() throws Exception {
+        List<CompletableFuture<DeleteMessageResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle("handle")));
+            responses.add(batchManager.deleteMessage(r -> r.queueUrl(OTHER_QUEUE_URL).receiptHandle("handle")));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(client, times(2)).deleteMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(DeleteMessageBatchRequest::queueUrl)
+                                         .containsExactlyInAnyOrder(QUEUE_URL, OTHER_QUEUE_URL);
+        assertThat(captor.getAllValues()).allSatisfy(r -> assertThat(r.entries()).hasSize(3));
+    }
+
+    @Test
+    public void close_sendsBufferedRequests() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxBatchSize(10).maxBatchOpenDuration(Duration.ofMinutes(1)));
+
+        CompletableFuture<SendMessageResponse> response = batchManager.sendMessage(sendMessage(QUEUE_URL, "body"));
+        batchManager.close();
+
+        assertThat(response.get(1, TimeUnit.SECONDS).messageId()).isEqualTo("id-body");
+        assertThatThrownBy(() -> batchManager.sendMessage(sendMessage(QUEUE_URL, "late")).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void receiveMessage_prefetchDisabled_passesRequestThrough() throws Exception {
+        ReceiveMessageRequest request = ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).maxNumberOfMessages(5).build();
+        when(client.receiveMessage(request))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(message("m")).build()));
+
+        assertThat(batchManager.receiveMessage(request).get(1, TimeUnit.SECONDS).messages()).containsExactly(message("m"));
+        verify(client, times(1)).receiveMessage(request);
+    }
+
+    @Test
+    public void receiveMessage_prefetchEnabled_answersFromBuffer() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                                                                                .messages(message("a"), message("b"),
+                                                                                          message("c"), message("d"))
+                                                                                .build()))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        ReceiveMessageResponse first = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(1))
+                                                   .get(1, TimeUnit.SECONDS);
+        ReceiveMessageResponse second = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(2))
+                                                    .get(1, TimeUnit.SECONDS);
+
+        assertThat(first.messages()).containsExactly(message("a"));
+        assertThat(second.messages()).containsExactly(message("b"), message("c"));
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, times(3)).receiveMessage(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(r -> assertThat(r.queueUrl()).isEqualTo(QUEUE_URL));
+    }
+
+    @Test
+    public void receiveMessage_visibilityTimeoutExpiredInBuffer_messageDropped() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        queueAttributes("0", "0");
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(message("a")).build()))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        ReceiveMessageResponse response = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)).get(1, TimeUnit.SECONDS);
+
+        assertThat(response.messages()).isEmpty();
+        ArgumentCaptor<GetQueueAttributesRequest> captor = ArgumentCaptor.forClass(GetQueueAttributesRequest.class);
+        verify(client, times(1)).getQueueAttributes(captor.capture());
+        assertThat(captor.getValue().attributeNames()).contains(QueueAttributeName.VISIBILITY_TIMEOUT);
+    }
+
+    @Test
+    public void receiveMessage_longPollWhilePrefetchInFlight_keepsWaiting() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        CompletableFuture<ReceiveMessageResponse> prefetch = new CompletableFuture<>();
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(prefetch)
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(message("a")).build()))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        CompletableFuture<ReceiveMessageResponse> shortPoll = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL));
+        CompletableFuture<ReceiveMessageResponse> longPoll = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                                 .waitTimeSeconds(10));
+        prefetch.complete(ReceiveMessageResponse.builder().build());
+
+        assertThat(shortPoll.get(1, TimeUnit.SECONDS).messages()).isEmpty();
+        assertThat(longPoll.get(1, TimeUnit.SECONDS).messages()).containsExactly(message("a"));
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, times(3)).receiveMessage(captor.capture());
+        assertThat(captor.getAllValues().get(0).waitTimeSeconds()).isZero();
+        assertThat(captor.getAllValues().get(1).waitTimeSeconds()).isBetween(1, 10);
+    }
+
+    @Test
+    public void receiveMessage_shortPollWhileLongPollInFlight_completesWithoutMessages() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        CompletableFuture<ReceiveMessageResponse> longPollPrefetch = new CompletableFuture<>();
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(longPollPrefetch);
+
+        CompletableFuture<ReceiveMessageResponse> longPoll = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                                 .waitTimeSeconds(20));
+        CompletableFuture<ReceiveMessageResponse> shortPoll = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                                  .waitTimeSeconds(0));
+
+        assertThat(shortPoll.get(1, TimeUnit.SECONDS).messages()).isEmpty();
+        assertThat(longPoll).isNotDone();
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, times(1)).receiveMessage(captor.capture());
+        assertThat(captor.getValue().waitTimeSeconds()).isEqualTo(20);
+
+        longPollPrefetch.complete(ReceiveMessageResponse.builder().messages(message("a")).build());
+        assertThat(longPoll.get(1, TimeUnit.SECONDS).messages()).containsExactly(message("a"));
+    }
+
+    @Test
+    public void receiveMessage_waitTimeElapsed_completesWithoutMessages() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(new CompletableFuture<>());
+
+        CompletableFuture<ReceiveMessageResponse> response = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)
+                                                                                                 .waitTimeSeconds(1));
+
+        assertThat(response.get(3, TimeUnit.SECONDS).messages()).isEmpty();
+    }
+
+    @Test
+    public void close_makesBufferedMessagesVisibleAgain() throws Exception {
+        batchManager.close();
+        batchManager = batchManager(c -> c.maxPrefetchedMessages(4));
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder()
+                                                                                .messages(message("a"), message("b"),
+                                                                                          message("c"))
+                                                                                .build()))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+
+        assertThat(batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)).get(1, TimeUnit.SECONDS).messages())
+            .containsExactly(message("a"));
+        batchManager.close();
+
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> captor =
+            ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(client, times(1)).changeMessageVisibilityBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).extracting(ChangeMessageVisibilityBatchRequestEntry::receiptHandle)
+                                               .containsExactly("handle-b", "handle-c");
+        assertThat(captor.getValue().entries()).allSatisfy(e -> assertThat(e.visibilityTimeout()).isZero());
+    }
+
+    private SqsAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return SqsAsyncBatchManager.builder()
+                                   .client(client)
+                                   .overrideConfiguration(c -> configuration.accept(c.addMetricPublisher(metricPublisher)))
+                                   .build();
+    }
+
+    private static SendMessageRequest sendMessage(String queueUrl, String body) {
+        return SendMessageRequest.builder().queueUrl(queueUrl).messageBody(body).build();
+    }
+
+    private static Message message(String body) {
+        return Message.builder().body(body).receiptHandle("handle-" + body).build();
+    }
+
+    private void queueAttributes(String visibilityTimeout, String receiveMessageWaitTimeSeconds) {
+        GetQueueAttributesResponse response =
+            GetQueueAttributesResponse.builder()
+                                      .attributes(ImmutableMap.of(QueueAttributeName.VISIBILITY_TIMEOUT, visibilityTimeout,
+                                                                  QueueAttributeName.RECEIVE_MESSAGE_WAIT_TIME_SECONDS,
+                                                                  receiveMessageWaitTimeSeconds))
+                                      .build();
+        when(client.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
+    }
+
+    private static final class RecordingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            published.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private MetricCollection awaitFirst() throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (published.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(published).isNotEmpty();
+            return published.get(0);
+        }
+    }
+}
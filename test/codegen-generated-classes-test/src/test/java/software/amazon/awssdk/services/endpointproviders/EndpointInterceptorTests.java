@@ -18,6 +18,8 @@ package software.amazon.awssdk.services.endpointproviders;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -34,6 +36,7 @@ import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpoin
 import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpointProvidersAsyncClientBuilder;
 import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpointProvidersClient;
 import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpointProvidersClientBuilder;
+import software.amazon.awssdk.services.restjsonendpointproviders.endpoints.RestJsonEndpointProvidersEndpointParams;
 import software.amazon.awssdk.services.restjsonendpointproviders.endpoints.RestJsonEndpointProvidersEndpointProvider;
 
 public class EndpointInterceptorTests {
@@ -98,6 +101,84 @@ public class EndpointInterceptorTests {
         assertThat(endpoint).isNotNull();
     }
 
+    @Test
+    public void sync_endpointResolutionCacheEnabled_resolvesEndpointOnce() {
+        CountingEndpointProvider provider = new CountingEndpointProvider();
+        RestJsonEndpointProvidersClient client = syncClientBuilder()
+            .endpointProvider(provider)
+            .overrideConfiguration(o -> o.addExecutionInterceptor(new CapturingInterceptor())
+                                         .putAdvancedOption(SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE, 10))
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.operationWithNoInputOrOutput(r -> {
+            })).hasMessageContaining("stop");
+        }
+
+        assertThat(provider.resolveCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void async_endpointResolutionCacheEnabled_resolvesEndpointOnce() {
+        CountingEndpointProvider provider = new CountingEndpointProvider();
+        RestJsonEndpointProvidersAsyncClient client = asyncClientBuilder()
+            .endpointProvider(provider)
+            .overrideConfiguration(o -> o.addExecutionInterceptor(new CapturingInterceptor())
+                                         .putAdvancedOption(SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE, 10))
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.operationWithNoInputOrOutput(r -> {
+            }).join()).hasMessageContaining("stop");
+        }
+
+        assertThat(provider.resolveCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void sync_endpointResolutionCacheDisabled_resolvesEndpointPerRequest() {
+        CountingEndpointProvider provider = new CountingEndpointProvider();
+        RestJsonEndpointProvidersClient client = syncClientBuilder()
+            .endpointProvider(provider)
+            .overrideConfiguration(o -> o.addExecutionInterceptor(new CapturingInterceptor()))
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.operationWithNoInputOrOutput(r -> {
+            })).hasMessageContaining("stop");
+        }
+
+        assertThat(provider.resolveCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void sync_endpointResolutionCacheEnabled_requestOverridesEndpointProvider_bypassesCache() {
+        CountingEndpointProvider provider = new CountingEndpointProvider();
+        RestJsonEndpointProvidersClient client = syncClientBuilder()
+            .overrideConfiguration(o -> o.addExecutionInterceptor(new CapturingInterceptor())
+                                         .putAdvancedOption(SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE, 10))
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.operationWithNoInputOrOutput(r -> r.overrideConfiguration(
+                o -> o.endpointProvider(provider)))).hasMessageContaining("stop");
+        }
+
+        assertThat(provider.resolveCount.get()).isEqualTo(3);
+    }
+
+    private static class CountingEndpointProvider implements RestJsonEndpointProvidersEndpointProvider {
+        private final RestJsonEndpointProvidersEndpointProvider delegate =
+            RestJsonEndpointProvidersEndpointProvider.defaultProvider();
+        private final AtomicInteger resolveCount = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<Endpoint> resolveEndpoint(RestJsonEndpointProvidersEndpointParams endpointParams) {
+            resolveCount.incrementAndGet();
+            return delegate.resolveEndpoint(endpointParams);
+        }
+    }
+
     public static class CapturingInterceptor implements ExecutionInterceptor {
 
         private ExecutionAttributes executionAttributes;
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.BENCHMARK_ITERA
 import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.COPY_SUFFIX;
 import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.DEFAULT_TIMEOUT;
 import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.WARMUP_KEY;
+import static software.amazon.awssdk.transfer.s3.SizeConstant.KB;
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
@@ -34,6 +35,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
 import software.amazon.awssdk.services.s3.internal.crt.S3CrtAsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -72,10 +74,19 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
         if (config.maxConcurrency() != null) {
             builder.maxConcurrency(config.maxConcurrency());
         }
+        S3ClientBuilder syncBuilder = S3Client.builder();
+        if (config.endpoint() != null) {
+            builder.endpointOverride(config.endpoint()).forcePathStyle(true);
+            syncBuilder.endpointOverride(config.endpoint()).forcePathStyle(true);
+        }
         s3 = builder.build();
-        s3Sync = S3Client.builder().build();
+        s3Sync = syncBuilder.build();
+        Integer smallObjectThreshold = config.smallObjectThresholdInKb() == null ? null :
+                                       config.smallObjectThresholdInKb() * (int) KB;
         transferManager = S3TransferManager.builder()
                                            .s3Client(s3)
+                                           .uploadDirectoryTraversalParallelism(config.uploadDirectoryTraversalParallelism())
+                                           .directoryTransferSmallObjectThresholdInBytes(smallObjectThreshold)
                                            .build();
         bucket = config.bucket();
         key = config.key();
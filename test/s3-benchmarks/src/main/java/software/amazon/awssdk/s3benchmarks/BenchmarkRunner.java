@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.s3benchmarks;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.EnumMap;
 import java.util.Locale;
@@ -49,6 +50,11 @@ public final class BenchmarkRunner {
 
     private static final String FORCE_CRT_HTTP_CLIENT = "crtHttp";
     private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String ENDPOINT = "endpoint";
+    private static final String UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM = "uploadDirectoryTraversalParallelism";
+    private static final String SMALL_OBJECT_THRESHOLD_IN_KB = "smallObjectThresholdInKB";
+    private static final String GENERATE_FILE_COUNT = "generateFileCount";
+    private static final String GENERATED_FILE_SIZE_IN_KB = "generatedFileSizeInKB";
 
     private static final Map<TransferManagerOperation, Function<TransferManagerBenchmarkConfig, TransferManagerBenchmark>>
         OPERATION_TO_BENCHMARK_V1 = new EnumMap<>(TransferManagerOperation.class);
@@ -104,6 +110,17 @@ public final class BenchmarkRunner {
                           "Force the CRT http client to be used in JavaBased benchmarks");
         options.addOption(null, MAX_CONCURRENCY, true,
                           "The Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections.");
+        options.addOption(null, ENDPOINT, true, "The endpoint of the S3 service, for example of a local S3-compatible server. "
+                                                + "Path style addressing is used when specified. Optional, defaults to S3.");
+        options.addOption(null, UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM, true,
+                          "The maximum number of directories listed at the same time in upload_directory");
+        options.addOption(null, SMALL_OBJECT_THRESHOLD_IN_KB, true,
+                          "The size in KB at or below which files of upload_directory and download_directory are transferred "
+                          + "through the lightweight path of the transfer manager, 0 to disable it. Optional, defaults to 64");
+        options.addOption(null, GENERATE_FILE_COUNT, true,
+                          "The number of files to generate in the directory of upload_directory before running it");
+        options.addOption(null, GENERATED_FILE_SIZE_IN_KB, true,
+                          "The size in KB of the files generated with generateFileCount. Optional, defaults to 4");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -189,6 +206,21 @@ public final class BenchmarkRunner {
         Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
                                  Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
 
+        URI endpoint = cmd.getOptionValue(ENDPOINT) == null ? null : URI.create(cmd.getOptionValue(ENDPOINT));
+
+        String traversalParallelism = cmd.getOptionValue(UPLOAD_DIRECTORY_TRAVERSAL_PARALLELISM);
+        Integer uploadDirectoryTraversalParallelism = traversalParallelism == null ? null :
+                                                      Integer.parseInt(traversalParallelism);
+
+        Integer smallObjectThresholdInKb = cmd.getOptionValue(SMALL_OBJECT_THRESHOLD_IN_KB) == null ? null :
+                                           Integer.parseInt(cmd.getOptionValue(SMALL_OBJECT_THRESHOLD_IN_KB));
+
+        Integer generateFileCount = cmd.getOptionValue(GENERATE_FILE_COUNT) == null ? null :
+                                    Integer.parseInt(cmd.getOptionValue(GENERATE_FILE_COUNT));
+
+        Integer generatedFileSizeInKb = cmd.getOptionValue(GENERATED_FILE_SIZE_IN_KB) == null ? null :
+                                        Integer.parseInt(cmd.getOptionValue(GENERATED_FILE_SIZE_IN_KB));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
@@ -205,6 +237,11 @@ public final class BenchmarkRunner {
                                              .connectionAcquisitionTimeoutInSec(connAcqTimeoutInSec)
                                              .forceCrtHttpClient(forceCrtHttpClient)
                                              .maxConcurrency(maxConcurrency)
+                                             .endpoint(endpoint)
+                                             .uploadDirectoryTraversalParallelism(uploadDirectoryTraversalParallelism)
+                                             .smallObjectThresholdInKb(smallObjectThresholdInKb)
+                                             .generateFileCount(generateFileCount)
+                                             .generatedFileSizeInKb(generatedFileSizeInKb)
                                              .build();
     }
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.s3benchmarks;
 
+import java.net.URI;
 import java.time.Duration;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.utils.ToString;
@@ -33,6 +34,11 @@ public final class TransferManagerBenchmarkConfig {
     private final Long connectionAcquisitionTimeoutInSec;
     private final Boolean forceCrtHttpClient;
     private final Integer maxConcurrency;
+    private final URI endpoint;
+    private final Integer uploadDirectoryTraversalParallelism;
+    private final Integer smallObjectThresholdInKb;
+    private final Integer generateFileCount;
+    private final Integer generatedFileSizeInKb;
 
     private final Long readBufferSizeInMb;
     private final BenchmarkRunner.TransferManagerOperation operation;
@@ -55,6 +61,11 @@ public final class TransferManagerBenchmarkConfig {
         this.connectionAcquisitionTimeoutInSec = builder.connectionAcquisitionTimeoutInSec;
         this.forceCrtHttpClient = builder.forceCrtHttpClient;
         this.maxConcurrency = builder.maxConcurrency;
+        this.endpoint = builder.endpoint;
+        this.uploadDirectoryTraversalParallelism = builder.uploadDirectoryTraversalParallelism;
+        this.smallObjectThresholdInKb = builder.smallObjectThresholdInKb;
+        this.generateFileCount = builder.generateFileCount;
+        this.generatedFileSizeInKb = builder.generatedFileSizeInKb;
     }
 
     public String filePath() {
@@ -121,6 +132,26 @@ public final class TransferManagerBenchmarkConfig {
         return this.maxConcurrency;
     }
 
+    public URI endpoint() {
+        return this.endpoint;
+    }
+
+    public Integer uploadDirectoryTraversalParallelism() {
+        return this.uploadDirectoryTraversalParallelism;
+    }
+
+    public Integer smallObjectThresholdInKb() {
+        return this.smallObjectThresholdInKb;
+    }
+
+    public Integer generateFileCount() {
+        return this.generateFileCount;
+    }
+
+    public Integer generatedFileSizeInKb() {
+        return this.generatedFileSizeInKb;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -141,6 +172,11 @@ public final class TransferManagerBenchmarkConfig {
                        .add("connectionAcquisitionTimeoutInSec", connectionAcquisitionTimeoutInSec)
                        .add("forceCrtHttpClient", forceCrtHttpClient)
                        .add("maxConcurrency", maxConcurrency)
+                       .add("endpoint", endpoint)
+                       .add("uploadDirectoryTraversalParallelism", uploadDirectoryTraversalParallelism)
+                       .add("smallObjectThresholdInKb", smallObjectThresholdInKb)
+                       .add("generateFileCount", generateFileCount)
+                       .add("generatedFileSizeInKb", generatedFileSizeInKb)
                        .add("readBufferSizeInMb", readBufferSizeInMb)
                        .add("operation", operation)
                        .add("prefix", prefix)
@@ -160,6 +196,11 @@ public final class TransferManagerBenchmarkConfig {
         private Long connectionAcquisitionTimeoutInSec;
         private Boolean forceCrtHttpClient;
         private Integer maxConcurrency;
+        private URI endpoint;
+        private Integer uploadDirectoryTraversalParallelism;
+        private Integer smallObjectThresholdInKb;
+        private Integer generateFileCount;
+        private Integer generatedFileSizeInKb;
 
         private Integer iteration;
         private BenchmarkRunner.TransferManagerOperation operation;
@@ -247,6 +288,31 @@ public final class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder endpoint(URI endpoint) {
+            this.endpoint = endpoint;
+            return this;
+        }
+
+        public Builder uploadDirectoryTraversalParallelism(Integer uploadDirectoryTraversalParallelism) {
+            this.uploadDirectoryTraversalParallelism = uploadDirectoryTraversalParallelism;
+            return this;
+        }
+
+        public Builder smallObjectThresholdInKb(Integer smallObjectThresholdInKb) {
+            this.smallObjectThresholdInKb = smallObjectThresholdInKb;
+            return this;
+        }
+
+        public Builder generateFileCount(Integer generateFileCount) {
+            this.generateFileCount = generateFileCount;
+            return this;
+        }
+
+        public Builder generatedFileSizeInKb(Integer generatedFileSizeInKb) {
+            this.generatedFileSizeInKb = generatedFileSizeInKb;
+            return this;
+        }
+
         public TransferManagerBenchmarkConfig build() {
             return new TransferManagerBenchmarkConfig(this);
         }
@@ -19,10 +19,13 @@ import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.printOutResult;
 import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import software.amazon.awssdk.testutils.FileUtils;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryDownload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryDownload;
@@ -51,16 +54,28 @@ public class TransferManagerDownloadDirectoryBenchmark extends BaseTransferManag
 
     private void downloadDirectory(int count, boolean printoutResult) throws Exception {
         List<Double> metrics = new ArrayList<>();
+        AtomicLong objectCount = new AtomicLong();
         logger.info(() -> "Starting to download to file");
         for (int i = 0; i < count; i++) {
-            downloadOnce(metrics);
+            downloadOnce(metrics, objectCount);
         }
         if (printoutResult) {
             printOutResult(metrics, "TM v2 Download Directory");
+            printOutObjectRate(metrics, objectCount.get());
         }
     }
 
-    private void downloadOnce(List<Double> latencies) throws Exception {
+    /**
+     * Directories of many small objects are bound by the number of objects rather than bytes downloaded per second.
+     */
+    private void printOutObjectRate(List<Double> latencies, long objectCount) {
+        double averageLatency = latencies.stream().mapToDouble(a -> a).average().orElse(0.0);
+        logger.info(() -> "Small object threshold in KB: " + config.smallObjectThresholdInKb());
+        logger.info(() -> "Object count: " + objectCount);
+        logger.info(() -> "Average objects per second: " + objectCount / averageLatency);
+    }
+
+    private void downloadOnce(List<Double> latencies, AtomicLong objectCount) throws Exception {
         Path downloadPath = new File(this.path).toPath();
         long start = System.currentTimeMillis();
         DirectoryDownload download =
@@ -72,6 +87,9 @@ public class TransferManagerDownloadDirectoryBenchmark extends BaseTransferManag
         if (completedDirectoryDownload.failedTransfers().isEmpty()) {
             long end = System.currentTimeMillis();
             latencies.add((end - start) / 1000.0);
+            try (Stream<Path> files = Files.walk(downloadPath)) {
+                objectCount.set(files.filter(Files::isRegularFile).count());
+            }
         } else {
             logger.error(() -> "Some transfers failed: " + completedDirectoryDownload.failedTransfers());
         }
@@ -16,12 +16,17 @@
 package software.amazon.awssdk.s3benchmarks;
 
 import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.printOutResult;
+import static software.amazon.awssdk.transfer.s3.SizeConstant.KB;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
 import software.amazon.awssdk.utils.Logger;
@@ -29,6 +34,8 @@ import software.amazon.awssdk.utils.Validate;
 
 public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManagerBenchmark {
     private static final Logger logger = Logger.loggerFor("TransferManagerUploadDirectoryBenchmark");
+    private static final int GENERATED_FILES_PER_DIRECTORY = 1_000;
+    private static final int DEFAULT_GENERATED_FILE_SIZE_IN_KB = 4;
     private final TransferManagerBenchmarkConfig config;
 
     public TransferManagerUploadDirectoryBenchmark(TransferManagerBenchmarkConfig config) {
@@ -41,6 +48,9 @@ public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManager
     protected void doRunBenchmark() {
 
         try {
+            if (config.generateFileCount() != null) {
+                generateFiles(config.generateFileCount());
+            }
             uploadDirectory(iteration, true);
         } catch (Exception exception) {
             logger.error(() -> "Request failed: ", exception);
@@ -55,9 +65,46 @@ public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManager
         }
         if (printoutResult) {
             printOutResult(metrics, "TM v2 Upload Directory");
+            printOutFileRate(metrics);
         }
     }
 
+    /**
+     * Generate files of the same size in the directory to upload, spread across subdirectories, for example 100,000 files of
+     * 4 KB to measure the number of small objects uploaded per second.
+     */
+    private void generateFiles(int fileCount) throws IOException {
+        int fileSizeInKb = config.generatedFileSizeInKb() == null ? DEFAULT_GENERATED_FILE_SIZE_IN_KB
+                                                                   : config.generatedFileSizeInKb();
+        byte[] content = new byte[fileSizeInKb * (int) KB];
+        ThreadLocalRandom.current().nextBytes(content);
+        Path directory = new File(this.path).toPath();
+        logger.info(() -> String.format("Generating %d files of %d KB in %s", fileCount, fileSizeInKb, directory));
+        for (int i = 0; i < fileCount; i++) {
+            Path subdirectory = directory.resolve("dir-" + i / GENERATED_FILES_PER_DIRECTORY);
+            if (i % GENERATED_FILES_PER_DIRECTORY == 0) {
+                Files.createDirectories(subdirectory);
+            }
+            Files.write(subdirectory.resolve("file-" + i), content);
+        }
+    }
+
+    /**
+     * Directories of many small files are bound by the number of files rather than bytes uploaded per second, which also
+     * measures how fast the file tree is traversed.
+     */
+    private void printOutFileRate(List<Double> latencies) throws IOException {
+        long fileCount;
+        try (Stream<Path> files = Files.walk(new File(this.path).toPath())) {
+            fileCount = files.filter(Files::isRegularFile).count();
+        }
+        double averageLatency = latencies.stream().mapToDouble(a -> a).average().orElse(0.0);
+        logger.info(() -> "Traversal parallelism: " + config.uploadDirectoryTraversalParallelism());
+        logger.info(() -> "Small object threshold in KB: " + config.smallObjectThresholdInKb());
+        logger.info(() -> "File count: " + fileCount);
+        logger.info(() -> "Average files per second: " + fileCount / averageLatency);
+    }
+
     private void uploadOnce(List<Double> latencies) throws Exception {
         Path uploadPath = new File(this.path).toPath();
         long start = System.currentTimeMillis();
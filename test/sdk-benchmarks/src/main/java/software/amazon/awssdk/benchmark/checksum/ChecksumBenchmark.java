@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.CrcCombiner;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+import software.amazon.awssdk.core.internal.checksums.factory.JdkCrc32C;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc64Nvme;
+
+/**
+ * Compares the pure Java CRC32C implementation ({@code sdkCrc32C}) against the JDK-backed implementation used on Java 9+
+ * ({@code jdkCrc32C}), and measures CRC64NVME and combining the checksums of parts.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChecksumBenchmark {
+
+    @Param({"1024", "65536", "8388608"})
+    private int size;
+
+    private byte[] data;
+
+    @Setup
+    public void setup() {
+        data = new byte[size];
+        new Random(0).nextBytes(data);
+    }
+
+    @Benchmark
+    public long sdkCrc32C() {
+        return checksum(SdkCrc32C.create());
+    }
+
+    @Benchmark
+    public long jdkCrc32C() {
+        return checksum(JdkCrc32C.create());
+    }
+
+    @Benchmark
+    public long crc32CChecksum() {
+        return checksum(SdkChecksum.forAlgorithm(Algorithm.CRC32C));
+    }
+
+    @Benchmark
+    public long sdkCrc64Nvme() {
+        return checksum(SdkCrc64Nvme.create());
+    }
+
+    @Benchmark
+    public long combineCrc32C() {
+        return CrcCombiner.combineCrc32C(0x12345678L, 0x9ABCDEF0L, size);
+    }
+
+    @Benchmark
+    public long combineCrc64Nvme() {
+        return CrcCombiner.combineCrc64Nvme(0x123456789ABCDEF0L, 0x0FEDCBA987654321L, size);
+    }
+
+    private long checksum(Checksum checksum) {
+        checksum.update(data, 0, data.length);
+        return checksum.getValue();
+    }
+}
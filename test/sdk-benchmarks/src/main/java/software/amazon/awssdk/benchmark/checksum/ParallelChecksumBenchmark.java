@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.CrcCombiner;
+import software.amazon.awssdk.core.checksums.SdkChecksum;
+
+/**
+ * Measures how the throughput of calculating the checksum of a whole object scales with the number of threads, when the
+ * object is split into parts whose checksums are calculated in parallel and then combined, as done for multipart uploads.
+ * {@code serial} calculates the checksum of the whole object on one thread for comparison.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ParallelChecksumBenchmark {
+    private static final int OBJECT_SIZE = 64 * 1024 * 1024;
+    private static final int PART_SIZE = 8 * 1024 * 1024;
+
+    @Param({"CRC32", "CRC32C"})
+    private Algorithm algorithm;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private byte[] data;
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        data = new byte[OBJECT_SIZE];
+        new Random(0).nextBytes(data);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long serial() {
+        return checksum(0, data.length);
+    }
+
+    @Benchmark
+    public long parallel() throws Exception {
+        List<Future<Long>> partChecksums = new ArrayList<>();
+        for (int offset = 0; offset < data.length; offset += PART_SIZE) {
+            int partOffset = offset;
+            partChecksums.add(executor.submit(() -> checksum(partOffset, Math.min(PART_SIZE, data.length - partOffset))));
+        }
+
+        long crc = 0;
+        for (int i = 0; i < partChecksums.size(); i++) {
+            long partLength = Math.min(PART_SIZE, data.length - (long) i * PART_SIZE);
+            crc = CrcCombiner.combine(algorithm, crc, partChecksums.get(i).get(), partLength);
+        }
+        return crc;
+    }
+
+    private long checksum(int offset, int length) {
+        Checksum checksum = SdkChecksum.forAlgorithm(algorithm);
+        checksum.update(data, offset, length);
+        return checksum.getValue();
+    }
+}
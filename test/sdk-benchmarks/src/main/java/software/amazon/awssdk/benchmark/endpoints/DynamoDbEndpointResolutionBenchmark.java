@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoints;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.AwsEndpointProviderUtils;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.DefaultRuleEngine;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.EndpointRuleset;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.Identifier;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.RuleEngine;
+import software.amazon.awssdk.services.dynamodb.endpoints.internal.Value;
+
+/**
+ * Compares endpoint resolution using the compiled DynamoDB endpoint provider against evaluating the same rule set with the
+ * rules engine interpreter.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DynamoDbEndpointResolutionBenchmark {
+    /**
+     * The rule set the DynamoDB endpoint provider is generated from. The build copies it from the codegen resources of the
+     * DynamoDB module, since the service jar does not package it.
+     */
+    private static final String RULE_SET = "dynamodb/endpoint-rule-set.json";
+
+    @Param({"us-west-2", "us-gov-east-1", "cn-north-1"})
+    private String region;
+
+    @Param({"false", "true"})
+    private boolean useFips;
+
+    private DynamoDbEndpointProvider compiledProvider;
+    private DynamoDbEndpointParams params;
+
+    private RuleEngine ruleEngine;
+    private EndpointRuleset ruleSet;
+    private Map<Identifier, Value> ruleArgs;
+
+    @Setup
+    public void setup() {
+        compiledProvider = DynamoDbEndpointProvider.defaultProvider();
+        params = DynamoDbEndpointParams.builder()
+                                       .region(Region.of(region))
+                                       .useFips(useFips)
+                                       .build();
+
+        ruleEngine = new DefaultRuleEngine();
+        ruleSet = loadRuleSet();
+        ruleArgs = new HashMap<>();
+        ruleArgs.put(Identifier.of("Region"), Value.fromStr(region));
+        ruleArgs.put(Identifier.of("UseFIPS"), Value.fromBool(useFips));
+        ruleArgs.put(Identifier.of("UseDualStack"), Value.fromBool(false));
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        blackhole.consume(compiledProvider.resolveEndpoint(params).join());
+    }
+
+    @Benchmark
+    public void interpreted(Blackhole blackhole) {
+        Value result = ruleEngine.evaluate(ruleSet, ruleArgs);
+        Endpoint endpoint = AwsEndpointProviderUtils.valueAsEndpointOrThrow(result);
+        blackhole.consume(endpoint);
+    }
+
+    private static EndpointRuleset loadRuleSet() {
+        try (InputStream ruleSet = DynamoDbEndpointResolutionBenchmark.class.getResourceAsStream(RULE_SET)) {
+            if (ruleSet == null) {
+                throw new IllegalStateException("Rule set not found on the classpath: " + RULE_SET);
+            }
+            return EndpointRuleset.fromNode(JsonNode.parser().parse(ruleSet));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
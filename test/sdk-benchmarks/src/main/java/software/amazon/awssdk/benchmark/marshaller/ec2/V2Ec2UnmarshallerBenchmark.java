@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.ec2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * Measures unmarshalling a DescribeInstances response, which is unmarshalled as it's read, against the DOM-based unmarshalling
+ * used before streaming. The {@code unmarshallDom} benchmark builds the {@code XmlElement} tree of the same document and
+ * unmarshalls the response from it, and the {@code parseDom} benchmark measures only building the tree. Run with
+ * {@code -prof gc} to compare allocation rates.
+ */
+public class V2Ec2UnmarshallerBenchmark {
+
+    private static final AwsEc2ProtocolFactory PROTOCOL_FACTORY = AwsEc2ProtocolFactory.builder().build();
+
+    private static final HttpResponseHandler<DescribeInstancesResponse> DESCRIBE_INSTANCES_RESPONSE_HANDLER =
+        PROTOCOL_FACTORY.createResponseHandler(DescribeInstancesResponse::builder);
+
+    /**
+     * EC2 responses have no result wrapper, as configured by {@link AwsEc2ProtocolFactory}.
+     */
+    private static final QueryProtocolUnmarshaller DOM_UNMARSHALLER = QueryProtocolUnmarshaller.builder()
+                                                                                              .hasResultWrapper(false)
+                                                                                              .build();
+
+    @Benchmark
+    public Object unmarshall(UnmarshallerState s) throws Exception {
+        return DESCRIBE_INSTANCES_RESPONSE_HANDLER.handle(fullResponse(s.testItem), new ExecutionAttributes());
+    }
+
+    @Benchmark
+    public Object unmarshallDom(UnmarshallerState s) {
+        SdkHttpFullResponse response = fullResponse(s.testItem);
+        XmlElement document = XmlDomParser.parse(response.content().get());
+        DescribeInstancesResponse result = DOM_UNMARSHALLER.unmarshall(DescribeInstancesResponse.builder(), document, response);
+        // The response handler also reads the request ID from the document
+        return Pair.of(result, document.getElementByName("requestId"));
+    }
+
+    @Benchmark
+    public Object parseDom(UnmarshallerState s) {
+        return XmlDomParser.parse(new ByteArrayInputStream(s.testItem.utf8()));
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnmarshallerState {
+        @Param({"TINY", "SMALL", "HUGE"})
+        private TestItem testItem;
+    }
+
+    public enum TestItem {
+        TINY(1),
+        SMALL(10),
+        HUGE(1000);
+
+        private final byte[] utf8;
+
+        TestItem(int reservations) {
+            this.utf8 = describeInstancesResponse(reservations).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public byte[] utf8() {
+            return utf8;
+        }
+    }
+
+    private static SdkHttpFullResponse fullResponse(TestItem item) {
+        AbortableInputStream abortableInputStream = AbortableInputStream.create(new ByteArrayInputStream(item.utf8()));
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(abortableInputStream)
+                                  .build();
+    }
+
+    private static String describeInstancesResponse(int reservations) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">")
+           .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId>")
+           .append("<reservationSet>");
+        for (int i = 0; i < reservations; i++) {
+            xml.append("<item>")
+               .append("<reservationId>r-").append(i).append("</reservationId>")
+               .append("<ownerId>123456789012</ownerId>")
+               .append("<groupSet/>")
+               .append("<instancesSet>")
+               .append("<item>")
+               .append("<instanceId>i-").append(i).append("</instanceId>")
+               .append("<imageId>ami-0abcdef1234567890</imageId>")
+               .append("<instanceState><code>16</code><name>running</name></instanceState>")
+               .append("<privateDnsName>ip-10-0-0-").append(i).append(".us-west-2.compute.internal</privateDnsName>")
+               .append("<instanceType>t2.micro</instanceType>")
+               .append("<launchTime>2023-01-01T00:00:00.000Z</launchTime>")
+               .append("<placement><availabilityZone>us-west-2a</availabilityZone><tenancy>default</tenancy></placement>")
+               .append("<monitoring><state>disabled</state></monitoring>")
+               .append("<privateIpAddress>10.0.0.").append(i % 256).append("</privateIpAddress>")
+               .append("<blockDeviceMapping><item>")
+               .append("<deviceName>/dev/xvda</deviceName>")
+               .append("<ebs><volumeId>vol-").append(i).append("</volumeId><status>attached</status>")
+               .append("<attachTime>2023-01-01T00:00:01.000Z</attachTime>")
+               .append("<deleteOnTermination>true</deleteOnTermination></ebs>")
+               .append("</item></blockDeviceMapping>")
+               .append("<tagSet>")
+               .append("<item><key>Name</key><value>instance-").append(i).append("</value></item>")
+               .append("<item><key>Environment</key><value>benchmark</value></item>")
+               .append("</tagSet>")
+               .append("<ebsOptimized>false</ebsOptimized>")
+               .append("</item>")
+               .append("</instancesSet>")
+               .append("</item>");
+        }
+        return xml.append("</reservationSet>")
+                  .append("</DescribeInstancesResponse>")
+                  .toString();
+    }
+}
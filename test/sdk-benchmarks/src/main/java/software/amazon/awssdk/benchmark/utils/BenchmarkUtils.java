@@ -30,6 +30,7 @@ import org.apache.commons.math3.stat.inference.TestUtils;
 import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.util.Statistics;
 import software.amazon.awssdk.benchmark.stats.SdkBenchmarkStatistics;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
 
@@ -83,6 +84,23 @@ public final class BenchmarkUtils {
         return AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true);
     }
 
+    /**
+     * Returns a builder of the async HTTP client built on the JDK {@code java.net.http.HttpClient}. That client requires Java 11,
+     * so it is loaded reflectively to keep the benchmarks compiling for Java 8.
+     */
+    public static SdkAsyncHttpClient.Builder<?> jdkAsyncHttpClientBuilder() {
+        // The JDK client verifies host names even when all certificates are trusted, and the certificate of the mock server is
+        // not issued for localhost.
+        System.setProperty("jdk.internal.httpclient.disableHostnameVerification", "true");
+        try {
+            return (SdkAsyncHttpClient.Builder<?>) Class.forName("software.amazon.awssdk.http.jdk.JdkAsyncHttpClient")
+                                                        .getMethod("builder")
+                                                        .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The JDK HttpClient-based client requires Java 11 or later", e);
+        }
+    }
+
     /**
      * Returns an unused port in the localhost.
      */